@@ -2,6 +2,8 @@ package com.pi4j.library.gpiod.internal;
 
 import com.pi4j.library.gpiod.util.NativeLibraryLoader;
 
+import java.util.Arrays;
+
 /**
  * <p>GpioD interface.</p>
  *
@@ -258,6 +260,45 @@ public class GpioD {
 
     private static native int c_gpiod_line_set_value(long linePtr, int value);
 
+    static void lineRequestBulkInputFlags(long[] linePtrs, String consumer, int flags) {
+        int result = c_gpiod_line_request_bulk_input_flags(linePtrs, consumer, flags);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_request_bulk_input_flags failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_request_bulk_input_flags(long[] linePtrs, String consumer, int flags);
+
+    static void lineRequestBulkOutputFlags(long[] linePtrs, String consumer, int flags, int[] defaultVals) {
+        int result = c_gpiod_line_request_bulk_output_flags(linePtrs, consumer, flags, defaultVals);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_request_bulk_output_flags failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_request_bulk_output_flags(long[] linePtrs, String consumer, int flags,
+        int[] defaultVals);
+
+    static void lineReleaseBulk(long[] linePtrs) {
+        c_gpiod_line_release_bulk(linePtrs);
+    }
+
+    private static native void c_gpiod_line_release_bulk(long[] linePtrs);
+
+    static void lineGetValueBulk(long[] linePtrs, int[] values) {
+        int result = c_gpiod_line_get_value_bulk(linePtrs, values);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_get_value_bulk failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_get_value_bulk(long[] linePtrs, int[] values);
+
+    static void lineSetValueBulk(long[] linePtrs, int[] values) {
+        int result = c_gpiod_line_set_value_bulk(linePtrs, values);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_set_value_bulk failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_set_value_bulk(long[] linePtrs, int[] values);
+
     static void lineSetConfig(long linePtr, LineRequest direction, int flags, int value) {
         int result = c_gpiod_line_set_config(linePtr, direction.val, flags, value);
         if (result < 0)
@@ -400,5 +441,33 @@ public class GpioD {
 
     private static native String c_gpiod_version_string();
 
+    static int lineEventGetFd(long linePtr) {
+        int fd = c_gpiod_line_event_get_fd(linePtr);
+        if (fd < 0)
+            throw new GpioDException("c_gpiod_line_event_get_fd failed: " + fd + " (" + c_gpiod_strerror() + ")");
+        return fd;
+    }
+
+    private static native int c_gpiod_line_event_get_fd(long linePtr);
+
+    /**
+     * Wait with ppoll for any of the first <code>count</code> file descriptors to become readable.
+     *
+     * @param revents receives the returned events of each descriptor; all 0 unless a descriptor is ready
+     * @return number of ready descriptors, 0 on timeout or when interrupted by a signal
+     */
+    static int poll(int[] fds, int count, int[] revents, long timeoutNs) {
+        // the native call only stores the returned events when ppoll succeeds
+        Arrays.fill(revents, 0, count, 0);
+        int result = c_poll(fds, count, revents, timeoutNs);
+        if (result == -4) // EINTR
+            return 0;
+        if (result < 0)
+            throw new GpioDException("c_poll failed: " + result);
+        return result;
+    }
+
+    private static native int c_poll(int[] fds, int count, int[] revents, long timeoutNs);
+
     private static native String c_gpiod_strerror();
 }
@@ -1,19 +1,35 @@
 package com.pi4j.library.gpiod.internal;
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.library.linuxfs.LinuxWakeup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 public class GpioDContext implements Closeable {
 
+    /**
+     * Receives the debounced edge events of a line registered with
+     * {@link #addLineEventListener(GpioLine, long, LineEventListener)}; called on the shared monitor thread.
+     */
+    @FunctionalInterface
+    public interface LineEventListener {
+        void onLineEvent(GpioLine line, LineEvent event);
+    }
+
     private static final Logger logger = LoggerFactory.getLogger(GpioDContext.class);
 
+    // consecutive poll failures after which the monitor thread stops; the next registration starts a new one
+    private static final int MAX_POLL_FAILURES = 3;
+    private static final long POLL_RETRY_DELAY_MS = 100;
+
     private static final GpioDContext instance;
 
     static {
@@ -29,6 +45,13 @@ public class GpioDContext implements Closeable {
 
     private final Set<Long> openLineEvents;
 
+    // lines watched by the monitor thread; guarded by this
+    private final Map<GpioLine, LineEventRegistration> lineEventListeners = new LinkedHashMap<>();
+    private volatile boolean lineEventListenersChanged;
+    // the current monitor thread; a monitor runs until it is no longer the current one
+    private volatile Thread lineEventMonitor;
+    private LinuxWakeup lineEventWakeup;
+
     public GpioDContext() {
         this.openLines = new HashMap<>();
         this.openLineEvents = new HashSet<>();
@@ -100,8 +123,193 @@ public class GpioDContext implements Closeable {
         }
     }
 
+    /**
+     * Watch a line requested for edge events on the shared monitor thread, which waits on the event file
+     * descriptors of all registered lines at once and is woken immediately on registration changes. A line
+     * whose event cannot be read is no longer watched.
+     *
+     * @param line       a line requested for edge events
+     * @param debounceNs an edge is only reported once no further edge followed within this time; 0 to report
+     *                   every edge
+     * @param listener   receives the events on the monitor thread
+     */
+    public synchronized void addLineEventListener(GpioLine line, long debounceNs, LineEventListener listener) {
+        if (this.lineEventMonitor == null) {
+            LinuxWakeup wakeup;
+            try {
+                wakeup = new LinuxWakeup();
+            } catch (IOException e) {
+                throw new GpioDException("Failed to create the line event wakeup: " + e.getMessage());
+            }
+            // the monitor takes the lock before it reads the registrations, so it sees the one added below
+            Thread monitor = new Thread(() -> monitorLineEvents(wakeup), "Pi4J.GPIOD-EVENTS");
+            monitor.setDaemon(true);
+            this.lineEventWakeup = wakeup;
+            this.lineEventMonitor = monitor;
+            monitor.start();
+        }
+        LineEventRegistration registration = new LineEventRegistration(line, line.getEventFd(), debounceNs, listener);
+        LineEventRegistration previous = this.lineEventListeners.put(line, registration);
+        if (previous != null)
+            previous.active = false;
+        this.lineEventListenersChanged = true;
+        this.lineEventWakeup.signal();
+    }
+
+    /**
+     * Stop watching a line; no events are dispatched for it once this method returns, apart from one that may
+     * already be running on the monitor thread.
+     */
+    public synchronized void removeLineEventListener(GpioLine line) {
+        LineEventRegistration registration = this.lineEventListeners.remove(line);
+        if (registration == null)
+            return;
+        registration.active = false;
+        this.lineEventListenersChanged = true;
+        if (this.lineEventWakeup != null)
+            this.lineEventWakeup.signal();
+    }
+
+    private void monitorLineEvents(LinuxWakeup wakeup) {
+        Thread self = Thread.currentThread();
+        GpioLineEvent lineEvent = null;
+        LineEventRegistration[] registrations = new LineEventRegistration[0];
+        int[] fds = new int[] { wakeup.getPosixFD() };
+        int[] revents = new int[1];
+        int failures = 0;
+        try {
+            lineEvent = openLineEvent();
+            // also picks up the lines left by a monitor that stopped on its own
+            this.lineEventListenersChanged = true;
+            while (this.lineEventMonitor == self) {
+                if (this.lineEventListenersChanged) {
+                    synchronized (this) {
+                        this.lineEventListenersChanged = false;
+                        registrations = this.lineEventListeners.values().toArray(new LineEventRegistration[0]);
+                        fds = new int[registrations.length + 1];
+                        revents = new int[registrations.length + 1];
+                        fds[0] = wakeup.getPosixFD();
+                        for (int i = 0; i < registrations.length; i++)
+                            fds[i + 1] = registrations[i].fd;
+                    }
+                }
+
+                // sleep until an event, a registration change, or the earliest pending debounce deadline
+                long now = System.nanoTime();
+                long timeoutNs = -1;
+                for (LineEventRegistration registration : registrations) {
+                    if (registration.pending != null) {
+                        long remaining = Math.max(0, registration.deadline - now);
+                        timeoutNs = timeoutNs < 0 ? remaining : Math.min(timeoutNs, remaining);
+                    }
+                }
+                int ready;
+                try {
+                    ready = GpioD.poll(fds, fds.length, revents, timeoutNs);
+                    failures = 0;
+                } catch (GpioDException e) {
+                    if (++failures >= MAX_POLL_FAILURES) {
+                        logger.error("Line event monitor failed: " + e.getMessage(), e);
+                        return;
+                    }
+                    logger.warn("Line event poll failed, retrying: " + e.getMessage());
+                    try {
+                        Thread.sleep(POLL_RETRY_DELAY_MS);
+                    } catch (InterruptedException ie) {
+                        return;
+                    }
+                    continue;
+                }
+                if (ready > 0 && revents[0] != 0)
+                    wakeup.clear();
+
+                for (int i = 0; i < registrations.length; i++) {
+                    LineEventRegistration registration = registrations[i];
+                    if (!registration.active)
+                        continue;
+                    if (ready > 0 && revents[i + 1] != 0) {
+                        try {
+                            registration.line.eventRead(lineEvent);
+                            // a later edge within the debounce time replaces the pending one; the debounce time
+                            // runs from the kernel timestamp of the edge, not from when it was read (kernels before
+                            // 5.7 stamp events with the realtime clock, which is never earlier than the read)
+                            registration.pending = lineEvent.getType();
+                            registration.deadline = Math.min(lineEvent.getTimeNs(), System.nanoTime())
+                                + registration.debounceNs;
+                        } catch (GpioDException e) {
+                            // the descriptor stays ready after a failed read (e.g. POLLERR or POLLNVAL); stop
+                            // watching it instead of spinning on it
+                            logger.error("Failed to read event of line " + registration.line.getOffset()
+                                + ", no longer watching it: " + e.getMessage());
+                            dropLineEventListener(registration);
+                            continue;
+                        }
+                    }
+                    if (registration.pending != null && registration.deadline - System.nanoTime() <= 0) {
+                        LineEvent event = registration.pending;
+                        registration.pending = null;
+                        try {
+                            registration.listener.onLineEvent(registration.line, event);
+                        } catch (Exception e) {
+                            logger.error("Line event listener failed: " + e.getMessage(), e);
+                        }
+                    }
+                }
+            }
+        } finally {
+            if (lineEvent != null)
+                closeLineEvent(lineEvent);
+            // a monitor that stopped on its own hands over to the next registration, which starts a new one
+            synchronized (this) {
+                if (this.lineEventMonitor == self) {
+                    this.lineEventMonitor = null;
+                    this.lineEventWakeup = null;
+                }
+                // the wakeup belongs to this monitor; it is no longer signalled once the monitor has been replaced
+                // or stopped, so it is only closed here, once nothing polls it anymore
+                wakeup.close();
+            }
+        }
+    }
+
+    private synchronized void dropLineEventListener(LineEventRegistration registration) {
+        registration.active = false;
+        if (this.lineEventListeners.remove(registration.line, registration))
+            this.lineEventListenersChanged = true;
+    }
+
+    private void stopLineEventMonitor() {
+        Thread monitor;
+        synchronized (this) {
+            monitor = this.lineEventMonitor;
+            LinuxWakeup wakeup = this.lineEventWakeup;
+            if (monitor == null)
+                return;
+            this.lineEventMonitor = null;
+            this.lineEventWakeup = null;
+            for (LineEventRegistration registration : this.lineEventListeners.values())
+                registration.active = false;
+            this.lineEventListeners.clear();
+            wakeup.signal();
+        }
+        // join outside the lock; the monitor takes it to refresh its registrations, and closes its wakeup itself
+        // when it exits, also if that is only after the join gave up
+        if (Thread.currentThread() != monitor) {
+            try {
+                monitor.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     @Override
-    public synchronized void close() {
+    public void close() {
+        stopLineEventMonitor();
+        closeChip();
+    }
+
+    private synchronized void closeChip() {
         if (this.gpioChip == null)
             return;
 
@@ -120,4 +328,22 @@ public class GpioDContext implements Closeable {
             GpioD.chipClose(this.gpioChip.getCPointer());
         this.gpioChip = null;
     }
+
+    private static final class LineEventRegistration {
+        final GpioLine line;
+        final int fd;
+        final long debounceNs;
+        final LineEventListener listener;
+        volatile boolean active = true;
+        // owned by the monitor thread
+        LineEvent pending;
+        long deadline;
+
+        LineEventRegistration(GpioLine line, int fd, long debounceNs, LineEventListener listener) {
+            this.line = line;
+            this.fd = fd;
+            this.debounceNs = debounceNs;
+            this.listener = listener;
+        }
+    }
 }
@@ -138,6 +138,14 @@ public class GpioLine extends CWrapper {
         return GpioD.lineEventWait(getCPointer(), timeoutNs);
     }
 
+    /**
+     * @return the file descriptor which becomes readable when an edge event is pending; the line must be
+     *     requested for events
+     */
+    public int getEventFd() {
+        return GpioD.lineEventGetFd(getCPointer());
+    }
+
     public GpioLineEvent eventRead(GpioLineEvent lineEvent) {
         GpioD.lineEventRead(getCPointer(), lineEvent.getCPointer());
         return lineEvent;
@@ -0,0 +1,72 @@
+package com.pi4j.library.gpiod.internal;
+
+/**
+ * <p>A group of lines of one chip that is requested, read and written together, so a whole group is updated
+ * with a single ioctl and all lines change at the same time.</p>
+ */
+public class GpioLineBulk {
+
+    /** Maximum number of lines in one bulk (<code>GPIOD_LINE_BULK_MAX_LINES</code>). */
+    public static final int MAX_LINES = 64;
+
+    private final GpioLine[] lines;
+    private final long[] linePtrs;
+
+    public GpioLineBulk(GpioLine... lines) {
+        if (lines.length < 1 || lines.length > MAX_LINES)
+            throw new IllegalArgumentException("A line bulk holds 1 to " + MAX_LINES + " lines, got " + lines.length);
+        this.lines = lines.clone();
+        this.linePtrs = new long[lines.length];
+        for (int i = 0; i < lines.length; i++)
+            this.linePtrs[i] = lines[i].getCPointer();
+    }
+
+    public int size() {
+        return this.lines.length;
+    }
+
+    public GpioLine getLine(int index) {
+        return this.lines[index];
+    }
+
+    public void requestInputFlags(String consumer, int flags) {
+        GpioD.lineRequestBulkInputFlags(this.linePtrs, consumer, flags);
+    }
+
+    /**
+     * @param defaultValues initial value of each line, in line order
+     */
+    public void requestOutputFlags(String consumer, int flags, int[] defaultValues) {
+        checkLength(defaultValues);
+        GpioD.lineRequestBulkOutputFlags(this.linePtrs, consumer, flags, defaultValues);
+    }
+
+    public void release() {
+        GpioD.lineReleaseBulk(this.linePtrs);
+    }
+
+    /**
+     * Read all line values with one ioctl.
+     *
+     * @param values receives the value of each line, in line order
+     */
+    public void getValues(int[] values) {
+        checkLength(values);
+        GpioD.lineGetValueBulk(this.linePtrs, values);
+    }
+
+    /**
+     * Set all line values with one ioctl.
+     *
+     * @param values the value of each line, in line order
+     */
+    public void setValues(int[] values) {
+        checkLength(values);
+        GpioD.lineSetValueBulk(this.linePtrs, values);
+    }
+
+    private void checkLength(int[] values) {
+        if (values.length < this.lines.length)
+            throw new IllegalArgumentException("Expected " + this.lines.length + " values, got " + values.length);
+    }
+}
@@ -31,6 +31,7 @@ module com.pi4j.library.gpiod {
 
     // PI4J
     requires com.pi4j;
+    requires com.pi4j.library.linuxfs;
 
 
     // EXPORTS
@@ -1,8 +1,13 @@
 
+// ppoll
+#define _GNU_SOURCE
 #include <gpiod.h>
 #include <stdint.h>
+#include <stdlib.h>
 #include <errno.h>
 #include <string.h>
+#include <poll.h>
+#include <time.h>
 #include "com_pi4j_library_gpiod_internal_GpioD.h"
 
 // Compile using:
@@ -627,4 +632,156 @@ JNIEXPORT jstring JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1v
 JNIEXPORT jstring JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1strerror
   (JNIEnv* env, jclass javaClass) {
   return (*env)->NewStringUTF(env, strerror(errno));
-}
\ No newline at end of file
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_get_fd
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1get_1fd
+  (JNIEnv* env, jclass javaClass, jlong linePtr) {
+    return gpiod_line_event_get_fd((struct gpiod_line*) (uintptr_t) linePtr);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_poll
+ * Signature: ([II[IJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1poll
+  (JNIEnv* env, jclass javaClass, jintArray fds, jint count, jintArray revents, jlong timeoutNs) {
+    struct pollfd* pollFds;
+    struct timespec timeout;
+    jint* values;
+    int result, i;
+
+    pollFds = calloc(count, sizeof(struct pollfd));
+    if(pollFds == NULL) {
+      return -ENOMEM;
+    }
+    values = (*env)->GetIntArrayElements(env, fds, NULL);
+    for(i = 0; i < count; i++) {
+      pollFds[i].fd = values[i];
+      pollFds[i].events = POLLIN | POLLPRI;
+    }
+    (*env)->ReleaseIntArrayElements(env, fds, values, JNI_ABORT);
+
+    timeout.tv_sec = timeoutNs / 1000000000;
+    timeout.tv_nsec = timeoutNs % 1000000000;
+    result = ppoll(pollFds, count, timeoutNs < 0 ? NULL : &timeout, NULL);
+    if(result < 0) {
+      result = -errno;
+    } else {
+      values = (*env)->GetIntArrayElements(env, revents, NULL);
+      for(i = 0; i < count; i++) {
+        values[i] = pollFds[i].revents;
+      }
+      (*env)->ReleaseIntArrayElements(env, revents, values, 0);
+    }
+    free(pollFds);
+    return result;
+}
+
+// fill a line bulk from an array of line pointers; all lines must belong to the same chip
+static int bulk_from_array(JNIEnv* env, jlongArray linePtrs, struct gpiod_line_bulk* bulk) {
+    jlong lines[GPIOD_LINE_BULK_MAX_LINES];
+    jsize count = (*env)->GetArrayLength(env, linePtrs);
+    int i;
+
+    if(count < 1 || count > GPIOD_LINE_BULK_MAX_LINES) {
+      errno = EINVAL;
+      return -1;
+    }
+    (*env)->GetLongArrayRegion(env, linePtrs, 0, count, lines);
+    gpiod_line_bulk_init(bulk);
+    for(i = 0; i < count; i++) {
+      gpiod_line_bulk_add(bulk, (struct gpiod_line*) (uintptr_t) lines[i]);
+    }
+    return 0;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_request_bulk_input_flags
+ * Signature: ([JLjava/lang/String;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1request_1bulk_1input_1flags
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jstring consumer, jint flags) {
+    struct gpiod_line_bulk bulk;
+    if(bulk_from_array(env, linePtrs, &bulk) < 0) {
+      return -1;
+    }
+    const char* c_consumer = (*env)->GetStringUTFChars(env, consumer, NULL);
+    int result = gpiod_line_request_bulk_input_flags(&bulk, c_consumer, flags);
+    (*env)->ReleaseStringUTFChars(env, consumer, c_consumer);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_request_bulk_output_flags
+ * Signature: ([JLjava/lang/String;I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1request_1bulk_1output_1flags
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jstring consumer, jint flags, jintArray defaultVals) {
+    struct gpiod_line_bulk bulk;
+    int values[GPIOD_LINE_BULK_MAX_LINES];
+    if(bulk_from_array(env, linePtrs, &bulk) < 0) {
+      return -1;
+    }
+    (*env)->GetIntArrayRegion(env, defaultVals, 0, gpiod_line_bulk_num_lines(&bulk), (jint*) values);
+    const char* c_consumer = (*env)->GetStringUTFChars(env, consumer, NULL);
+    int result = gpiod_line_request_bulk_output_flags(&bulk, c_consumer, flags, values);
+    (*env)->ReleaseStringUTFChars(env, consumer, c_consumer);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_release_bulk
+ * Signature: ([J)V
+ */
+JNIEXPORT void JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1release_1bulk
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs) {
+    struct gpiod_line_bulk bulk;
+    if(bulk_from_array(env, linePtrs, &bulk) < 0) {
+      return;
+    }
+    gpiod_line_release_bulk(&bulk);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_get_value_bulk
+ * Signature: ([J[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1get_1value_1bulk
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jintArray values) {
+    struct gpiod_line_bulk bulk;
+    int c_values[GPIOD_LINE_BULK_MAX_LINES];
+    if(bulk_from_array(env, linePtrs, &bulk) < 0) {
+      return -1;
+    }
+    int result = gpiod_line_get_value_bulk(&bulk, c_values);
+    if(result == 0) {
+      (*env)->SetIntArrayRegion(env, values, 0, gpiod_line_bulk_num_lines(&bulk), (jint*) c_values);
+    }
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_set_value_bulk
+ * Signature: ([J[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1set_1value_1bulk
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jintArray values) {
+    struct gpiod_line_bulk bulk;
+    int c_values[GPIOD_LINE_BULK_MAX_LINES];
+    if(bulk_from_array(env, linePtrs, &bulk) < 0) {
+      return -1;
+    }
+    (*env)->GetIntArrayRegion(env, values, 0, gpiod_line_bulk_num_lines(&bulk), (jint*) c_values);
+    return gpiod_line_set_value_bulk(&bulk, c_values);
+}
@@ -0,0 +1,45 @@
+package com.pi4j.library.gpiod.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Argument validation of {@link GpioLineBulk}; every failing call is rejected before reaching the native library.
+ */
+class GpioLineBulkTest {
+
+    private static GpioLine[] lines(int count) {
+        GpioLine[] lines = new GpioLine[count];
+        for (int i = 0; i < count; i++)
+            lines[i] = new GpioLine(i, 0);
+        return lines;
+    }
+
+    @Test
+    void testLineCount() {
+        assertThrows(IllegalArgumentException.class, GpioLineBulk::new);
+        assertThrows(IllegalArgumentException.class, () -> new GpioLineBulk(lines(GpioLineBulk.MAX_LINES + 1)));
+
+        assertEquals(1, new GpioLineBulk(lines(1)).size());
+        GpioLineBulk bulk = new GpioLineBulk(lines(GpioLineBulk.MAX_LINES));
+        assertEquals(GpioLineBulk.MAX_LINES, bulk.size());
+        assertEquals(GpioLineBulk.MAX_LINES - 1, bulk.getLine(GpioLineBulk.MAX_LINES - 1).getOriginalOffset());
+    }
+
+    @Test
+    void testLinesAreCopied() {
+        GpioLine[] lines = lines(2);
+        GpioLineBulk bulk = new GpioLineBulk(lines);
+        lines[0] = new GpioLine(7, 0);
+        assertEquals(0, bulk.getLine(0).getOriginalOffset());
+    }
+
+    @Test
+    void testValueLength() {
+        GpioLineBulk bulk = new GpioLineBulk(lines(3));
+        assertThrows(IllegalArgumentException.class, () -> bulk.getValues(new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> bulk.setValues(new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> bulk.requestOutputFlags("test", 0, new int[2]));
+    }
+}
@@ -0,0 +1,244 @@
+package com.pi4j.library.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for LinuxFS Library
+ * FILENAME      :  LinuxEventLoop.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.linuxfs.util.NativeLibraryLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A single thread waiting with epoll(7) on any number of registered {@link LinuxFile}s and dispatching their
+ * events to listeners, so the number of threads and context switches does not grow with the number of
+ * watched files (e.g. sysfs GPIO <code>value</code> attributes).
+ *
+ * Listeners run on the loop thread; they should read what they need and return promptly, as a slow listener
+ * delays every other file registered with the same loop.
+ */
+public class LinuxEventLoop implements AutoCloseable {
+
+    /** epoll(7) event: there is data to read */
+    public static final int EPOLLIN = 0x001;
+    /** epoll(7) event: there is exceptional data to read; raised by sysfs attributes such as a GPIO value */
+    public static final int EPOLLPRI = 0x002;
+    /** epoll(7) event: error condition; sysfs raises it together with {@link #EPOLLPRI} */
+    public static final int EPOLLERR = 0x008;
+    /** epoll(7) flag: report each readiness change once instead of while the file stays ready */
+    public static final int EPOLLET = 1 << 31;
+
+    private static final int EPOLL_CTL_ADD = 1;
+    private static final int EPOLL_CTL_DEL = 2;
+    private static final int EINTR = 4;
+    private static final int MAX_EVENTS = 64;
+
+    private static final Logger logger = LoggerFactory.getLogger(LinuxEventLoop.class);
+
+    static {
+        // Load the platform library
+        NativeLibraryLoader.load("libpi4j-linuxfs.so", "pi4j-linuxfs");
+    }
+
+    /**
+     * Receives the epoll events of a registered file.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * @param events
+         *     the returned epoll events, e.g. {@link #EPOLLPRI} | {@link #EPOLLERR}
+         */
+        void onEvent(int events);
+    }
+
+    private final String name;
+    private final int epollFd;
+    private final LinuxWakeup wakeup;
+    private final Map<Integer, Listener> listeners = new ConcurrentHashMap<>();
+    // pairs of native ints (fd, events) filled by epollWait
+    private final ByteBuffer events = ByteBuffer.allocateDirect(MAX_EVENTS * 8).order(ByteOrder.nativeOrder());
+    private final Thread thread;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates the epoll instance and starts the loop thread.
+     *
+     * @param name
+     *     name of the loop thread
+     *
+     * @throws IOException
+     *     when the epoll instance cannot be created
+     */
+    public LinuxEventLoop(String name) throws IOException {
+        this.name = name;
+        int epoll = epollCreate();
+        if (epoll < 0)
+            throw new LinuxFile.LinuxFileException(-epoll);
+        LinuxWakeup wakeup;
+        try {
+            wakeup = new LinuxWakeup();
+        } catch (IOException e) {
+            LinuxWakeup.closeFd(epoll);
+            throw e;
+        }
+        int response = epollCtl(epoll, EPOLL_CTL_ADD, wakeup.getPosixFD(), EPOLLIN);
+        if (response < 0) {
+            wakeup.close();
+            LinuxWakeup.closeFd(epoll);
+            throw new LinuxFile.LinuxFileException(-response);
+        }
+        this.epollFd = epoll;
+        this.wakeup = wakeup;
+        this.thread = new Thread(this::run, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Starts watching a file for the given events.
+     *
+     * @param file
+     *     file to watch; must be unregistered before it is closed
+     * @param events
+     *     epoll events to wait for, e.g. {@link #EPOLLPRI} | {@link #EPOLLERR} | {@link #EPOLLET}
+     * @param listener
+     *     receives the events on the loop thread
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public void register(LinuxFile file, int events, Listener listener) throws IOException {
+        if (closed)
+            throw new IOException("event loop " + name + " is closed");
+        int fd = file.getPosixFD();
+        listeners.put(fd, listener);
+        int response = epollCtl(epollFd, EPOLL_CTL_ADD, fd, events);
+        if (response < 0) {
+            listeners.remove(fd);
+            throw new LinuxFile.LinuxFileException(-response);
+        }
+    }
+
+    /**
+     * Stops watching a file; no events are dispatched for it once this method returns, apart from one that
+     * may already be running on the loop thread.
+     *
+     * @param file
+     *     a registered file
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public void unregister(LinuxFile file) throws IOException {
+        int fd = file.getPosixFD();
+        if (listeners.remove(fd) == null || closed)
+            return;
+        int response = epollCtl(epollFd, EPOLL_CTL_DEL, fd, 0);
+        if (response < 0)
+            throw new LinuxFile.LinuxFileException(-response);
+    }
+
+    /**
+     * @return number of registered files
+     */
+    public int size() {
+        return listeners.size();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops the loop thread and releases the epoll instance; registered files are not closed.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        wakeup.signal();
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        logger.trace("event loop {} started", name);
+        try {
+            while (!closed) {
+                int count = epollWait(epollFd, events, MAX_EVENTS, -1);
+                if (count < 0) {
+                    if (count == -EINTR)
+                        continue;
+                    logger.error("event loop " + name + " failed; " + LinuxFile.strerror(-count));
+                    break;
+                }
+                for (int i = 0; i < count && !closed; i++) {
+                    int fd = events.getInt(i * 8);
+                    int returned = events.getInt(i * 8 + 4);
+                    if (fd == wakeup.getPosixFD()) {
+                        wakeup.clear();
+                        continue;
+                    }
+                    Listener listener = listeners.get(fd);
+                    if (listener == null)
+                        continue;
+                    try {
+                        listener.onEvent(returned);
+                    } catch (Throwable t) {
+                        logger.error("event listener on " + name + " failed; " + t.getMessage(), t);
+                    }
+                }
+            }
+        } finally {
+            closed = true;
+            listeners.clear();
+            wakeup.close();
+            LinuxWakeup.closeFd(epollFd);
+            logger.trace("event loop {} stopped", name);
+        }
+    }
+
+    /** @return the epoll file descriptor or the negated errno */
+    protected static native int epollCreate();
+
+    /** @return 0 or the negated errno */
+    protected static native int epollCtl(int epollFd, int operation, int fd, int events);
+
+    /** @return number of (fd, events) int pairs stored in the direct buffer or the negated errno */
+    protected static native int epollWait(int epollFd, ByteBuffer events, int maxEvents, int timeout);
+}
@@ -53,6 +53,15 @@ public class LinuxFile extends RandomAccessFile {
     public static final int wordSize = getWordSize();
     public static final int localBufferSize = 2048; //about 1 page
 
+    /** poll(2) event: there is data to read */
+    public static final int POLLIN = 0x001;
+    /** poll(2) event: there is exceptional data to read; raised by sysfs attributes such as a GPIO value */
+    public static final int POLLPRI = 0x002;
+    /** poll(2) event: error condition; sysfs raises it together with {@link #POLLPRI} */
+    public static final int POLLERR = 0x008;
+
+    private static final int EINTR = 4;
+
     public static final ThreadLocal<ByteBuffer> localDataBuffer = new ThreadLocal<>();
     public static final ThreadLocal<IntBuffer> localOffsetsBuffer = new ThreadLocal<>();
 
@@ -183,6 +192,84 @@ public class LinuxFile extends RandomAccessFile {
         }
     }
 
+    /**
+     * Waits with poll(2) for any of the given events on this file.
+     *
+     * For a sysfs GPIO <code>value</code> attribute with an interrupt edge configured, wait for
+     * {@link #POLLPRI} | {@link #POLLERR}; the attribute has to be read (see {@link #pread(ByteBuffer, long)})
+     * before each wait to re-arm the notification.
+     *
+     * @param events
+     *     poll events to wait for, e.g. {@link #POLLPRI} | {@link #POLLERR}
+     * @param timeout
+     *     timeout in milliseconds; negative to wait indefinitely
+     *
+     * @return the returned events, or 0 if the timeout expired or the wait was interrupted by a signal
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public int poll(int events, int timeout) throws IOException {
+        final int response = directPoll(this.fdHandle, events, timeout);
+        if (response == -EINTR)
+            return 0;
+        if (response < 0)
+            throw new LinuxFileException(-response);
+        return response;
+    }
+
+    /**
+     * Waits with poll(2) for any of the given events on this file, or until the wakeup is signalled.
+     *
+     * @param events
+     *     poll events to wait for, e.g. {@link #POLLPRI} | {@link #POLLERR}
+     * @param timeout
+     *     timeout in milliseconds; negative to wait indefinitely
+     * @param wakeup
+     *     ends the wait when signalled by another thread
+     *
+     * @return the returned events of this file, or 0 if the timeout expired, the wait was interrupted by a signal
+     *     or only the wakeup was signalled
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public int poll(int events, int timeout, LinuxWakeup wakeup) throws IOException {
+        final int response = directPollWakeup(this.fdHandle, events, wakeup.getPosixFD(), timeout);
+        if (response == -EINTR)
+            return 0;
+        if (response < 0)
+            throw new LinuxFileException(-response);
+        return response;
+    }
+
+    /**
+     * Reads from the given file offset with pread(2) straight into a direct buffer, without copying through a
+     * Java array and without moving the file pointer.
+     *
+     * Bytes are stored from the buffer's position up to its limit; the position is advanced by the number of
+     * bytes read.
+     *
+     * @param buffer
+     *     direct buffer to read into
+     * @param position
+     *     file offset to read from
+     *
+     * @return number of bytes read; 0 at end of file
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public int pread(ByteBuffer buffer, long position) throws IOException {
+        if (!buffer.isDirect())
+            throw new IllegalArgumentException("buffer must be direct!");
+        final int response = directPread(this.fdHandle, buffer, buffer.position(), buffer.remaining(), position);
+        if (response < 0)
+            throw new LinuxFileException(-response);
+        buffer.position(buffer.position() + response);
+        return response;
+    }
+
     /**
      * Gets the real POSIX file descriptor for use by custom jni calls.
      *
@@ -299,4 +386,13 @@ public class LinuxFile extends RandomAccessFile {
 
     protected static native int directIOCTLStructure(int fd, long command, ByteBuffer data, int dataOffset,
         IntBuffer offsetMap, int offsetMapOffset, int offsetCapacity);
+
+    /** @return the returned events, 0 on timeout or the negated errno */
+    protected static native int directPoll(int fd, int events, int timeout);
+
+    /** @return the returned events of fd, 0 on timeout or wakeup, or the negated errno */
+    protected static native int directPollWakeup(int fd, int events, int wakeupFd, int timeout);
+
+    /** @return number of bytes read or the negated errno */
+    protected static native int directPread(int fd, ByteBuffer data, int dataOffset, int length, long position);
 }
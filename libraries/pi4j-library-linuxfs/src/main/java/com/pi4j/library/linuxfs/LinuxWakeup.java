@@ -0,0 +1,110 @@
+package com.pi4j.library.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for LinuxFS Library
+ * FILENAME      :  LinuxWakeup.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.linuxfs.util.NativeLibraryLoader;
+
+import java.io.IOException;
+
+/**
+ * An eventfd(2) another thread can signal to end a wait in {@link LinuxFile#poll(int, int, LinuxWakeup)}, or any
+ * other poll(2) or epoll(7) wait on its {@link #getPosixFD() file descriptor}, so a thread waiting for file events
+ * does not have to wake up periodically to notice that it should stop or that its work changed.
+ *
+ * Once signalled the wakeup stays readable until it is {@link #clear() cleared}.
+ */
+public class LinuxWakeup implements AutoCloseable {
+
+    static {
+        // Load the platform library
+        NativeLibraryLoader.load("libpi4j-linuxfs.so", "pi4j-linuxfs");
+    }
+
+    private final int fd;
+    private boolean closed = false;
+
+    /**
+     * Creates the eventfd.
+     *
+     * @throws IOException
+     *     when the eventfd cannot be created
+     */
+    public LinuxWakeup() throws IOException {
+        int response = eventfdCreate();
+        if (response < 0)
+            throw new LinuxFile.LinuxFileException(-response);
+        this.fd = response;
+    }
+
+    /**
+     * @return the POSIX file descriptor of the eventfd
+     */
+    public int getPosixFD() {
+        return fd;
+    }
+
+    /**
+     * Ends any current and future wait on this wakeup; does nothing once the wakeup is closed.
+     */
+    public synchronized void signal() {
+        if (!closed)
+            eventfdSignal(fd);
+    }
+
+    /**
+     * Consumes the signals received so far, so the next wait lasts until the wakeup is signalled again; called by
+     * the waiting thread after its wait was ended by the wakeup.
+     */
+    public synchronized void clear() {
+        if (!closed)
+            eventfdClear(fd);
+    }
+
+    /**
+     * Releases the eventfd; must not be called while another thread is still waiting on it.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed)
+            return;
+        closed = true;
+        closeFd(fd);
+    }
+
+    /** @return the eventfd file descriptor or the negated errno */
+    protected static native int eventfdCreate();
+
+    /** @return 0 or the negated errno */
+    protected static native int eventfdSignal(int fd);
+
+    /** @return 0 or the negated errno */
+    protected static native int eventfdClear(int fd);
+
+    /** @return 0 or the negated errno */
+    protected static native int closeFd(int fd);
+}
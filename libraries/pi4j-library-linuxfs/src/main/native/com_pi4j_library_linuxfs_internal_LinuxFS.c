@@ -36,6 +36,9 @@
 #include <errno.h>
 #include <stdint.h>
 #include <sys/mman.h>
+#include <poll.h>
+#include <sys/epoll.h>
+#include <sys/eventfd.h>
 #include <linux/i2c-dev.h>
 
 
@@ -109,6 +112,121 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directIOCTLStruct
     return directIOCTLStructure(fd, command, dataBuffer, (size_t)dataOffset, offsetBuffer + offsetMapOffset, offsetCapacity);
 }
 
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directPoll
+  (JNIEnv *env, jclass obj, jint fd, jint events, jint timeout) {
+    struct pollfd pfd;
+    int result;
+
+    pfd.fd = fd;
+    pfd.events = (short)events;
+    pfd.revents = 0;
+
+    // errno is returned directly; it may be clobbered before a separate errno() call
+    result = poll(&pfd, 1, timeout);
+    if(result < 0)
+        return -errno;
+    if(result == 0)
+        return 0;
+    return pfd.revents & 0xFFFF;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directPollWakeup
+  (JNIEnv *env, jclass obj, jint fd, jint events, jint wakeupFd, jint timeout) {
+    struct pollfd pfd[2];
+    int result;
+
+    pfd[0].fd = fd;
+    pfd[0].events = (short)events;
+    pfd[0].revents = 0;
+    pfd[1].fd = wakeupFd;
+    pfd[1].events = POLLIN;
+    pfd[1].revents = 0;
+
+    result = poll(pfd, 2, timeout);
+    if(result < 0)
+        return -errno;
+    // only the events of the file are reported; a signalled wakeup alone returns 0
+    return pfd[0].revents & 0xFFFF;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directPread
+  (JNIEnv *env, jclass obj, jint fd, jobject data, jint dataOffset, jint length, jlong position) {
+    uint8_t *dataBuffer = (uint8_t *)((*env)->GetDirectBufferAddress(env, data));
+    ssize_t result;
+
+    if(dataBuffer == NULL)
+        return -EINVAL;
+
+    result = pread(fd, dataBuffer + dataOffset, (size_t)length, (off_t)position);
+    if(result < 0)
+        return -errno;
+    return (jint)result;
+}
+
+#define EVENT_LOOP_MAX_EVENTS 64
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxEventLoop_epollCreate
+  (JNIEnv *env, jclass obj) {
+    int fd = epoll_create1(EPOLL_CLOEXEC);
+    return fd < 0 ? -errno : fd;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxEventLoop_epollCtl
+  (JNIEnv *env, jclass obj, jint epollFd, jint operation, jint fd, jint events) {
+    struct epoll_event event;
+
+    memset(&event, 0, sizeof(event));
+    event.events = (uint32_t)events;
+    event.data.fd = fd;
+    return epoll_ctl(epollFd, operation, fd, &event) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxEventLoop_epollWait
+  (JNIEnv *env, jclass obj, jint epollFd, jobject events, jint maxEvents, jint timeout) {
+    struct epoll_event ready[EVENT_LOOP_MAX_EVENTS];
+    int32_t *eventBuffer = (int32_t *)((*env)->GetDirectBufferAddress(env, events));
+    int count, i;
+
+    if(eventBuffer == NULL)
+        return -EINVAL;
+    if(maxEvents > EVENT_LOOP_MAX_EVENTS)
+        maxEvents = EVENT_LOOP_MAX_EVENTS;
+
+    count = epoll_wait(epollFd, ready, maxEvents, timeout);
+    if(count < 0)
+        return -errno;
+
+    // flatten to (fd, events) int pairs; struct epoll_event is packed on some architectures only
+    for(i = 0 ; i < count ; i++) {
+        eventBuffer[i * 2] = ready[i].data.fd;
+        eventBuffer[i * 2 + 1] = (int32_t)ready[i].events;
+    }
+    return count;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxWakeup_eventfdCreate
+  (JNIEnv *env, jclass obj) {
+    int fd = eventfd(0, EFD_CLOEXEC | EFD_NONBLOCK);
+    return fd < 0 ? -errno : fd;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxWakeup_eventfdSignal
+  (JNIEnv *env, jclass obj, jint fd) {
+    uint64_t value = 1;
+    return write(fd, &value, sizeof(value)) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxWakeup_eventfdClear
+  (JNIEnv *env, jclass obj, jint fd) {
+    uint64_t value;
+    return read(fd, &value, sizeof(value)) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxWakeup_closeFd
+  (JNIEnv *env, jclass obj, jint fd) {
+    return close(fd) < 0 ? -errno : 0;
+}
+
 int directIOCTLStructure (int fd, unsigned long command, void *data, size_t headOffset, uint32_t *offsetMap, uint32_t offsetSize) {
     uint32_t i;
 
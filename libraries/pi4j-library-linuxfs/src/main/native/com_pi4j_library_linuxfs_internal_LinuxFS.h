@@ -53,6 +53,36 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_munmapDirect
 JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directIOCTLStructure
   (JNIEnv *env, jclass obj, jint fd, jlong command, jobject data, jint dataOffset, jobject offsetMap, jint offsetMapOffset, jint offsetCapacity);
 
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directPoll
+  (JNIEnv *env, jclass obj, jint fd, jint events, jint timeout);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directPollWakeup
+  (JNIEnv *env, jclass obj, jint fd, jint events, jint wakeupFd, jint timeout);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directPread
+  (JNIEnv *env, jclass obj, jint fd, jobject data, jint dataOffset, jint length, jlong position);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxEventLoop_epollCreate
+  (JNIEnv *env, jclass obj);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxEventLoop_epollCtl
+  (JNIEnv *env, jclass obj, jint epollFd, jint operation, jint fd, jint events);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxEventLoop_epollWait
+  (JNIEnv *env, jclass obj, jint epollFd, jobject events, jint maxEvents, jint timeout);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxWakeup_eventfdCreate
+  (JNIEnv *env, jclass obj);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxWakeup_eventfdSignal
+  (JNIEnv *env, jclass obj, jint fd);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxWakeup_eventfdClear
+  (JNIEnv *env, jclass obj, jint fd);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxWakeup_closeFd
+  (JNIEnv *env, jclass obj, jint fd);
+
 #ifdef __cplusplus
 }
 #endif
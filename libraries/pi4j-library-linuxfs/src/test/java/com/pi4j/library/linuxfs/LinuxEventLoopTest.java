@@ -0,0 +1,155 @@
+package com.pi4j.library.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for LinuxFS Library
+ * FILENAME      :  LinuxEventLoopTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests of {@link LinuxEventLoop} with a named pipe standing in for a sysfs attribute; skipped when the native
+ * LinuxFS library cannot be loaded on this platform.
+ */
+public class LinuxEventLoopTest {
+
+    private Path directory;
+    private LinuxFile fifo;
+    private LinuxEventLoop loop;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        try {
+            loop = new LinuxEventLoop("pi4j-test-loop");
+        } catch (LinkageError e) {
+            assumeTrue(false, "native LinuxFS library unavailable; " + e.getMessage());
+        }
+        directory = Files.createTempDirectory("pi4j-loop");
+        Path path = directory.resolve("fifo");
+        int exit;
+        try {
+            exit = new ProcessBuilder("mkfifo", path.toString()).start().waitFor();
+        } catch (IOException e) {
+            exit = -1;
+        }
+        assumeTrue(exit == 0, "unable to create a named pipe");
+        // opened read-write so neither end blocks waiting for the other
+        fifo = new LinuxFile(path.toString(), "rw");
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        if (loop != null) loop.close();
+        if (fifo != null) fifo.close();
+        if (directory != null) {
+            Files.deleteIfExists(directory.resolve("fifo"));
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testDispatchesEventsOnLoopThread() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger returned = new AtomicInteger();
+        loop.register(fifo, LinuxEventLoop.EPOLLIN | LinuxEventLoop.EPOLLET, events -> {
+            returned.set(events);
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        assertEquals(1, loop.size());
+
+        fifo.write('1');
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue((returned.get() & LinuxEventLoop.EPOLLIN) != 0);
+        assertEquals(List.of("pi4j-test-loop"), threads);
+    }
+
+    @Test
+    public void testUnregisterStopsEvents() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        loop.register(fifo, LinuxEventLoop.EPOLLIN | LinuxEventLoop.EPOLLET, events -> count.incrementAndGet());
+        loop.unregister(fifo);
+        assertEquals(0, loop.size());
+
+        fifo.write('1');
+        Thread.sleep(100);
+
+        assertEquals(0, count.get());
+        // unregistering twice is harmless
+        loop.unregister(fifo);
+    }
+
+    @Test
+    public void testFailingListenerKeepsLoopRunning() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(2);
+        loop.register(fifo, LinuxEventLoop.EPOLLIN | LinuxEventLoop.EPOLLET, events -> {
+            latch.countDown();
+            if (count.incrementAndGet() == 1)
+                throw new IllegalStateException("listener failure");
+        });
+
+        fifo.write('1');
+        long deadline = System.currentTimeMillis() + 5000;
+        while (count.get() == 0) {
+            assertTrue(System.currentTimeMillis() < deadline, "first event was not dispatched");
+            Thread.sleep(10);
+        }
+        fifo.write('0');
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertFalse(loop.isClosed());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        loop.register(fifo, LinuxEventLoop.EPOLLIN | LinuxEventLoop.EPOLLET, events -> { });
+
+        loop.close();
+
+        assertTrue(loop.isClosed());
+        assertEquals(0, loop.size());
+        assertThrows(IOException.class, () -> loop.register(fifo, LinuxEventLoop.EPOLLIN, events -> { }));
+        // closing twice is harmless
+        loop.close();
+    }
+}
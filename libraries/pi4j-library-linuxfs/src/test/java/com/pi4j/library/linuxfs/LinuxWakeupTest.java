@@ -0,0 +1,124 @@
+package com.pi4j.library.linuxfs;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for LinuxFS Library
+ * FILENAME      :  LinuxWakeupTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests of {@link LinuxWakeup} ending a {@link LinuxFile#poll(int, int, LinuxWakeup)} on an idle named pipe;
+ * skipped when the native LinuxFS library cannot be loaded on this platform.
+ */
+public class LinuxWakeupTest {
+
+    private Path directory;
+    private LinuxFile fifo;
+    private LinuxWakeup wakeup;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        try {
+            wakeup = new LinuxWakeup();
+        } catch (LinkageError e) {
+            assumeTrue(false, "native LinuxFS library unavailable; " + e.getMessage());
+        }
+        directory = Files.createTempDirectory("pi4j-wakeup");
+        Path path = directory.resolve("fifo");
+        int exit;
+        try {
+            exit = new ProcessBuilder("mkfifo", path.toString()).start().waitFor();
+        } catch (IOException e) {
+            exit = -1;
+        }
+        assumeTrue(exit == 0, "unable to create a named pipe");
+        // opened read-write so neither end blocks waiting for the other
+        fifo = new LinuxFile(path.toString(), "rw");
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        if (wakeup != null) wakeup.close();
+        if (fifo != null) fifo.close();
+        if (directory != null) {
+            Files.deleteIfExists(directory.resolve("fifo"));
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testSignalEndsWait() throws Exception {
+        Thread signaller = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) { /* do nothing */ }
+            wakeup.signal();
+        });
+        signaller.start();
+
+        long start = System.nanoTime();
+        assertEquals(0, fifo.poll(LinuxFile.POLLIN, 10000, wakeup));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+        signaller.join();
+
+        // the wakeup stays signalled until it is cleared
+        assertEquals(0, fifo.poll(LinuxFile.POLLIN, 10000, wakeup));
+    }
+
+    @Test
+    public void testClearRearmsWait() throws Exception {
+        wakeup.signal();
+        wakeup.signal();
+        wakeup.clear();
+
+        long start = System.nanoTime();
+        assertEquals(0, fifo.poll(LinuxFile.POLLIN, 100, wakeup));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 90);
+
+        // events of the file itself are still reported
+        fifo.write('1');
+        assertTrue((fifo.poll(LinuxFile.POLLIN, 1000, wakeup) & LinuxFile.POLLIN) != 0);
+    }
+
+    @Test
+    public void testClose() {
+        wakeup.close();
+        // signalling or clearing a closed wakeup is harmless, as is closing it twice
+        wakeup.signal();
+        wakeup.clear();
+        wakeup.close();
+    }
+}
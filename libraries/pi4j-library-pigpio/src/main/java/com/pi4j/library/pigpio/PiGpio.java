@@ -42,7 +42,10 @@ public interface PiGpio extends
         PiGpio_PWM,
         PiGpio_Serial,
         PiGpio_SPI,
-        PiGpio_Servo {
+        PiGpio_Servo,
+        PiGpio_Script,
+        PiGpio_Wave,
+        PiGpio_Async {
 
     /**
      * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
@@ -68,6 +71,22 @@ public interface PiGpio extends
         return PiGpioSocketImpl.newInstance(host, port);
     }
 
+    /**
+     * Creates a PiGpio instance using a pool of TCP Socket connections for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port.
+     *
+     * Stateless commands are distributed across the pooled connections while
+     * I2C, SPI and serial handles remain pinned to the connection that opened them.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param connections number of pooled TCP/IP socket connections to the PiGpio daemon.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    static PiGpio newSocketInstance(String host, int port, int connections) {
+        return PiGpioSocketImpl.newInstance(host, port, connections);
+    }
+
     /**
      * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
      * Connects to a user specified socket hostname/ip address using the default port (8888).
@@ -102,6 +121,41 @@ public interface PiGpio extends
         return PiGpioNativeImpl.newInstance();
     }
 
+    /**
+     * Creates a PiGpio instance using direct (native) JNI access to the
+     * libpigpio.so shared library, delivering GPIO state change notifications
+     * using the given notification mode.
+     *
+     * @param mode how GPIO state change notifications are delivered.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    static PiGpio newNativeInstance(PiGpioNotificationMode mode) {
+        return PiGpioNativeImpl.newInstance(mode);
+    }
+
+    /**
+     * Create a new (empty) batch of commands to be executed together by this PiGpio instance.
+     *
+     * @return a new {@link com.pi4j.library.pigpio.PiGpioBatch} object.
+     */
+    default PiGpioBatch batch() {
+        return new PiGpioBatch(this);
+    }
+
+    /**
+     * Execute all commands of a batch.
+     *
+     * The default implementation calls the single-command methods one after another and takes the
+     * result of a failed command from the {@link PiGpioException#error() error code} of its exception.
+     * Commands without a single-command method are rejected before anything is executed.
+     *
+     * @param batch the {@link com.pi4j.library.pigpio.PiGpioBatch} to execute.
+     * @return the result of each command (in order); negative values are PiGpio error codes.
+     */
+    default int[] execute(PiGpioBatch batch) {
+        return batch.invokeEach();
+    }
+
     /**
      * Get the initialized state of the PiGpio library
      * @return true or false based on initialized state.
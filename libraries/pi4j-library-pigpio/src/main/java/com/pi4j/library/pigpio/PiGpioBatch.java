@@ -0,0 +1,384 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioBatch.java  
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static com.pi4j.library.pigpio.PiGpioCmd.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>Collects a sequence of PiGpio commands to be executed together.</p>
+ *
+ * <p>When executed using the socket transport all commands of the batch are transmitted
+ * to the PiGpio daemon with a single socket write and their responses are collected
+ * afterwards; this replaces a network round trip per command with a single round trip
+ * for the whole batch.  Using the native (JNI) implementation, the commands are simply
+ * executed one after another.</p>
+ *
+ * <pre>
+ * int[] results = piGpio.batch()
+ *     .gpioSetMode(17, PiGpioMode.OUTPUT)
+ *     .gpioSetPullUpDown(18, PiGpioPud.UP)
+ *     .gpioSetPWMrange(12, 1000)
+ *     .execute();
+ * </pre>
+ *
+ * <p>The batch is cleared once it has been executed and may then be reused to build a new batch.
+ * This class is not thread-safe.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioBatch {
+
+    protected final PiGpio piGpio;
+    protected final List<PiGpioPacket> commands = new ArrayList<>();
+    protected boolean stopOnError = false;
+
+    /**
+     * <p>Constructor for PiGpioBatch.</p>
+     *
+     * @param piGpio the {@link com.pi4j.library.pigpio.PiGpio} instance to execute this batch with.
+     */
+    public PiGpioBatch(PiGpio piGpio) {
+        this.piGpio = piGpio;
+    }
+
+    /**
+     * Stop executing the batch at the first command that returns an error.
+     *
+     * Since the PiGpio daemon executes every command that it has received, this option
+     * requires each command to be acknowledged before the next command is transmitted and
+     * therefore gives up the single round trip for the batch.
+     *
+     * @param stopOnError true to stop executing the batch at the first error.
+     * @return this batch.
+     */
+    public PiGpioBatch stopOnError(boolean stopOnError) {
+        this.stopOnError = stopOnError;
+        return this;
+    }
+
+    /**
+     * <p>stopOnError.</p>
+     *
+     * @return true if the batch stops executing at the first error.
+     */
+    public boolean stopOnError() {
+        return this.stopOnError;
+    }
+
+    /**
+     * <p>commands.</p>
+     *
+     * @return an unmodifiable list of the command packets in this batch (in order).
+     */
+    public List<PiGpioPacket> commands() {
+        return Collections.unmodifiableList(commands);
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return the number of commands in this batch.
+     */
+    public int size() {
+        return commands.size();
+    }
+
+    /**
+     * Remove all commands from this batch.
+     *
+     * @return this batch.
+     */
+    public PiGpioBatch clear() {
+        commands.clear();
+        return this;
+    }
+
+    /**
+     * Add a raw command to this batch.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @return this batch.
+     */
+    public PiGpioBatch command(PiGpioCmd cmd, int p1, int p2) {
+        commands.add(new PiGpioPacket(cmd, p1, p2));
+        return this;
+    }
+
+    /**
+     * Sets the GPIO mode, typically input or output.
+     *
+     * @param pin a int.
+     * @param mode a {@link com.pi4j.library.pigpio.PiGpioMode} object.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetMode">PIGPIO::gpioSetMode</a>
+     */
+    public PiGpioBatch gpioSetMode(int pin, PiGpioMode mode) {
+        return command(MODES, pin, mode.value());
+    }
+
+    /**
+     * Sets or clears resistor pull ups or downs on the GPIO.
+     *
+     * @param pin a int.
+     * @param pud a {@link com.pi4j.library.pigpio.PiGpioPud} object.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetPullUpDown">PIGPIO::gpioSetPullUpDown</a>
+     */
+    public PiGpioBatch gpioSetPullUpDown(int pin, PiGpioPud pud) {
+        return command(PUD, pin, pud.value());
+    }
+
+    /**
+     * Sets the GPIO level, on or off.
+     *
+     * @param pin a int.
+     * @param state a {@link com.pi4j.library.pigpio.PiGpioState} object.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite">PIGPIO::gpioWrite</a>
+     */
+    public PiGpioBatch gpioWrite(int pin, PiGpioState state) {
+        return command(WRITE, pin, state.value());
+    }
+
+    /**
+     * Starts PWM on the GPIO, dutycycle between 0 (off) and range (fully on).
+     *
+     * @param pin a int.
+     * @param dutyCycle a int.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioPWM">PIGPIO::gpioPWM</a>
+     */
+    public PiGpioBatch gpioPWM(int pin, int dutyCycle) {
+        return command(PWM, pin, dutyCycle);
+    }
+
+    /**
+     * Selects the dutycycle range to be used for the GPIO.
+     *
+     * @param pin a int.
+     * @param range a int.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetPWMrange">PIGPIO::gpioSetPWMrange</a>
+     */
+    public PiGpioBatch gpioSetPWMrange(int pin, int range) {
+        return command(PRS, pin, range);
+    }
+
+    /**
+     * Sets the frequency in hertz to be used for the GPIO.
+     *
+     * @param pin a int.
+     * @param frequency a int.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetPWMfrequency">PIGPIO::gpioSetPWMfrequency</a>
+     */
+    public PiGpioBatch gpioSetPWMfrequency(int pin, int frequency) {
+        return command(PFS, pin, frequency);
+    }
+
+    /**
+     * Starts hardware PWM on a GPIO at the specified frequency and dutycycle.
+     *
+     * @param pin a int.
+     * @param frequency a int.
+     * @param dutyCycle a int.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioHardwarePWM">PIGPIO::gpioHardwarePWM</a>
+     */
+    public PiGpioBatch gpioHardwarePWM(int pin, int frequency, int dutyCycle) {
+        commands.add(new PiGpioPacket(HP, pin, frequency).data(dutyCycle));
+        return this;
+    }
+
+    /**
+     * Starts servo pulses on the GPIO, 0 (off), 500 (most anti-clockwise) to 2500 (most clockwise).
+     *
+     * @param pin a int.
+     * @param pulseWidth a int.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioServo">PIGPIO::gpioServo</a>
+     */
+    public PiGpioBatch gpioServo(int pin, int pulseWidth) {
+        return command(SERVO, pin, pulseWidth);
+    }
+
+    /**
+     * Sets a glitch filter on a GPIO.
+     *
+     * @param pin a int.
+     * @param steady a int.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioGlitchFilter">PIGPIO::gpioGlitchFilter</a>
+     */
+    public PiGpioBatch gpioGlitchFilter(int pin, int steady) {
+        return command(FG, pin, steady);
+    }
+
+    /**
+     * Sets a noise filter on a GPIO.
+     *
+     * @param pin a int.
+     * @param steady a int.
+     * @param active a int.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioNoiseFilter">PIGPIO::gpioNoiseFilter</a>
+     */
+    public PiGpioBatch gpioNoiseFilter(int pin, int steady, int active) {
+        commands.add(new PiGpioPacket(FN, pin, steady).data(active));
+        return this;
+    }
+
+    /**
+     * Sets a watchdog for a GPIO.
+     *
+     * @param pin a int.
+     * @param timeout a int.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetWatchdog">PIGPIO::gpioSetWatchdog</a>
+     */
+    public PiGpioBatch gpioSetWatchdog(int pin, int timeout) {
+        return command(WDOG, pin, timeout);
+    }
+
+    /**
+     * Sets the pad drive strength.
+     *
+     * @param pad a int.
+     * @param strength a int.
+     * @return this batch.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetPad">PIGPIO::gpioSetPad</a>
+     */
+    public PiGpioBatch gpioSetPad(int pad, int strength) {
+        return command(PADS, pad, strength);
+    }
+
+    /** Commands that {@link #invoke(PiGpioPacket)} maps onto a single-command method. */
+    private static final Set<PiGpioCmd> SINGLE_COMMANDS = EnumSet.of(MODES, PUD, WRITE, PWM, PRS, PFS, HP,
+        SERVO, FG, FN, WDOG, PADS);
+
+    /**
+     * Execute the commands of this batch one after another using the single-command methods of its
+     * PiGpio instance, taking the result of a failed command from the
+     * {@link PiGpioException#error() error code} of its exception.  Commands without a single-command
+     * method are rejected before anything is executed.  The batch is not cleared.
+     *
+     * @return the result of each command (in order); negative values are PiGpio error codes.
+     * @see PiGpio#execute(PiGpioBatch)
+     */
+    public int[] invokeEach() {
+        requireSupported(SINGLE_COMMANDS);
+        int[] results = new int[commands.size()];
+        for(int index = 0; index < commands.size(); index++) {
+            try {
+                results[index] = invoke(commands.get(index));
+            } catch (PiGpioException e) {
+                // a failure without a pigpio error code (e.g. a lost connection) is not a command result
+                if(e.error() >= 0) throw e;
+                results[index] = e.error();
+                if(stopOnError) return Arrays.copyOf(results, index + 1);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Execute a single batched command packet by calling the matching single-command method.
+     */
+    private int invoke(PiGpioPacket command) {
+        int p1 = command.p1();
+        int p2 = command.p2();
+        switch (command.cmd()) {
+            case MODES: piGpio.gpioSetMode(p1, PiGpioMode.from(p2)); return 0;
+            case PUD:   piGpio.gpioSetPullUpDown(p1, PiGpioPud.from(p2)); return 0;
+            case WRITE: piGpio.gpioWrite(p1, PiGpioState.from(p2)); return 0;
+            case PWM:   piGpio.gpioPWM(p1, p2); return 0;
+            case PRS:   return piGpio.gpioSetPWMrange(p1, p2);
+            case PFS:   return piGpio.gpioSetPWMfrequency(p1, p2);
+            case HP:    piGpio.gpioHardwarePWM(p1, p2, extension(command)); return 0;
+            case SERVO: piGpio.gpioServo(p1, p2); return 0;
+            case FG:    piGpio.gpioGlitchFilter(p1, p2); return 0;
+            case FN:    piGpio.gpioNoiseFilter(p1, p2, extension(command)); return 0;
+            case WDOG:  piGpio.gpioSetWatchdog(p1, p2); return 0;
+            case PADS:  piGpio.gpioSetPad(p1, p2); return 0;
+            default:
+                throw new PiGpioException("PIGPIO BATCH COMMAND NOT SUPPORTED: " + command.cmd().name());
+        }
+    }
+
+    /**
+     * Get the 32-bit (little endian) extension parameter of a command packet.
+     */
+    private static int extension(PiGpioPacket command) {
+        if(command.dataLength() < 4) return 0;
+        return ByteBuffer.wrap(command.data()).order(ByteOrder.LITTLE_ENDIAN).getInt();
+    }
+
+    /**
+     * Check that every command of this batch is supported, before any of them is executed,
+     * so an unsupported command cannot abort a batch halfway through.
+     *
+     * @param supported the commands an implementation can execute.
+     * @throws PiGpioException naming the unsupported commands.
+     */
+    public void requireSupported(Set<PiGpioCmd> supported) {
+        Set<PiGpioCmd> unsupported = new LinkedHashSet<>();
+        for(PiGpioPacket command : commands) {
+            if(!supported.contains(command.cmd())) unsupported.add(command.cmd());
+        }
+        if(!unsupported.isEmpty())
+            throw new PiGpioException("PIGPIO BATCH COMMANDS NOT SUPPORTED: " + unsupported);
+    }
+
+    /**
+     * Execute all commands in this batch and clear the batch.
+     *
+     * @return the result of each command (in order); negative values are PiGpio error codes.
+     *         If {@link #stopOnError()} is enabled and a command fails, only the results up to
+     *         and including the failed command are returned.
+     */
+    public int[] execute() {
+        try {
+            return piGpio.execute(this);
+        } finally {
+            commands.clear();
+        }
+    }
+}
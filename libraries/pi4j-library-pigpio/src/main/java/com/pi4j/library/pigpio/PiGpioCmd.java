@@ -78,9 +78,9 @@ public enum PiGpioCmd {
     PROCR (40),
     PROCS (41),
     SLRO  (42),
-    SLR   (43),
+    SLR   (43, true),
     SLRC  (44),
-    PROCP (45),
+    PROCP (45, true),
     MICS  (46),
     MILS  (47),
     PARSE (48),
@@ -91,7 +91,7 @@ public enum PiGpioCmd {
     WVNEW (53),
     I2CO  (54),
     I2CC  (55),
-    I2CRD (56),
+    I2CRD (56, true),
     I2CWD (57),
     I2CWQ (58),
     I2CRS (59),
@@ -100,22 +100,22 @@ public enum PiGpioCmd {
     I2CWB (62),
     I2CRW (63),
     I2CWW (64),
-    I2CRK (65),
+    I2CRK (65, true),
     I2CWK (66),
-    I2CRI (67),
+    I2CRI (67, true),
     I2CWI (68),
     I2CPC (69),
-    I2CPK (70),
+    I2CPK (70, true),
     SPIO  (71),
     SPIC  (72),
-    SPIR  (73),
+    SPIR  (73, true),
     SPIW  (74),
-    SPIX  (75),
+    SPIX  (75, true),
     SERO  (76),
     SERC  (77),
     SERRB (78),
     SERWB (79),
-    SERR  (80),
+    SERR  (80, true),
     SERW  (81),
     SERDA (82),
     GDC   (83),
@@ -123,11 +123,11 @@ public enum PiGpioCmd {
     HC    (85),
     HP    (86),
     CF1   (87),
-    CF2   (88),
+    CF2   (88, true),
     BI2CC (89),
     BI2CO (90),
-    BI2CZ (91),
-    I2CZ  (92),
+    BI2CZ (91, true),
+    I2CZ  (92, true),
     WVCHA (93),
     SLRI  (94),
     CGI   (95),
@@ -141,24 +141,39 @@ public enum PiGpioCmd {
     PADG  (103),
     FO    (104),
     FC    (105),
-    FR    (106),
+    FR    (106, true),
     FW    (107),
     FS    (108),
-    FL    (109),
+    FL    (109, true),
     SHELL (110),
     BSPIC (111),
     BSPIO (112),
-    BSPIX (113),
-    BSCX  (114),
+    BSPIX (113, true),
+    BSCX  (114, true),
     EVM   (115),
     EVT   (116),
     PROCU (117);
 
 
     private int value;
+    private boolean extended;
+
+    // command lookup table indexed by command value; avoids the array copy of values() on every decode
+    private static final PiGpioCmd[] LOOKUP;
+    static {
+        int max = 0;
+        for(PiGpioCmd c : values()) max = Math.max(max, c.value);
+        LOOKUP = new PiGpioCmd[max + 1];
+        for(PiGpioCmd c : values()) if(c.value >= 0) LOOKUP[c.value] = c;
+    }
 
     PiGpioCmd(int value){
-        this.value  =value;
+        this(value, false);
+    }
+
+    PiGpioCmd(int value, boolean extended){
+        this.value = value;
+        this.extended = extended;
     }
 
     /**
@@ -170,6 +185,16 @@ public enum PiGpioCmd {
         return this.value;
     }
 
+    /**
+     * Commands with an extended response are followed by a payload of 'P3' bytes
+     * when the command succeeds; all other commands respond with only the 16-byte header.
+     *
+     * @return true if the response to this command may carry a data payload.
+     */
+    public boolean extended(){
+        return this.extended;
+    }
+
     /**
      * <p>from.</p>
      *
@@ -177,10 +202,18 @@ public enum PiGpioCmd {
      * @return a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
      */
     public static PiGpioCmd from(Number value){
-        for(PiGpioCmd c : PiGpioCmd.values()){
-            if(c.value() == value.intValue()) return c;
-        }
-        return UNKNOWN;
+        return from(value.intValue());
+    }
+
+    /**
+     * <p>from.</p>
+     *
+     * @param value a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     */
+    public static PiGpioCmd from(int value){
+        if(value < 0 || value >= LOOKUP.length || LOOKUP[value] == null) return UNKNOWN;
+        return LOOKUP[value];
     }
 
 
@@ -41,6 +41,8 @@ public interface PiGpioConst {
     int DEFAULT_PORT    = 8888;
     /** Constant <code>DEFAULT_HOST="127.0.0.1"</code> */
     String DEFAULT_HOST = "127.0.0.1";
+    /** Constant <code>DEFAULT_CONNECTIONS=1</code> */
+    int DEFAULT_CONNECTIONS = 1;
 
     // ----------------------------------
     // PIGPIO PIN RANGE
@@ -316,6 +318,9 @@ public interface PiGpioConst {
     /** Constant <code>PI_CMD_PROCU=117</code> */
     int PI_CMD_PROCU = 117;
 
+    /** Constant <code>PI_CMD_MAX_EXTENSION=65536</code>; largest extension (in bytes) the daemon accepts for a command */
+    int PI_CMD_MAX_EXTENSION = 65536;
+
     // ----------------------------------
     // GPIO PIN MODES
     // ----------------------------------
@@ -404,6 +409,66 @@ public interface PiGpioConst {
     int PI_TIME_RELATIVE            = 0;
     int PI_TIME_ABSOLUTE            = 1;
 
+    // ----------------------------------
+    // SCRIPTS
+    // ----------------------------------
+    /** Constant <code>PI_MAX_SCRIPTS=32</code> */
+    int PI_MAX_SCRIPTS        = 32;
+    /** Constant <code>PI_MAX_SCRIPT_PARAMS=10</code> */
+    int PI_MAX_SCRIPT_PARAMS  = 10;
+
+    /* script status */
+    /** Constant <code>PI_SCRIPT_INITING=0</code> */
+    int PI_SCRIPT_INITING = 0;
+    /** Constant <code>PI_SCRIPT_HALTED=1</code> */
+    int PI_SCRIPT_HALTED  = 1;
+    /** Constant <code>PI_SCRIPT_RUNNING=2</code> */
+    int PI_SCRIPT_RUNNING = 2;
+    /** Constant <code>PI_SCRIPT_WAITING=3</code> */
+    int PI_SCRIPT_WAITING = 3;
+    /** Constant <code>PI_SCRIPT_FAILED=4</code> */
+    int PI_SCRIPT_FAILED  = 4;
+
+    // ----------------------------------
+    // WAVES
+    // ----------------------------------
+    /** Constant <code>PI_WAVE_MAX_PULSES=12000</code> */
+    int PI_WAVE_MAX_PULSES = 12000;
+    /** Constant <code>PI_WAVE_MAX_CHARS=680</code> */
+    int PI_WAVE_MAX_CHARS  = 680;
+    /** Constant <code>PI_WAVE_PULSE_SIZE=12</code>; size (in bytes) of each pulse sent to the daemon */
+    int PI_WAVE_PULSE_SIZE = 12;
+    /** Constant <code>PI_MAX_WAVES=250</code> */
+    int PI_MAX_WAVES       = 250;
+
+    /* wave tx mode */
+    /** Constant <code>PI_WAVE_MODE_ONE_SHOT=0</code> */
+    int PI_WAVE_MODE_ONE_SHOT      = 0;
+    /** Constant <code>PI_WAVE_MODE_REPEAT=1</code> */
+    int PI_WAVE_MODE_REPEAT        = 1;
+    /** Constant <code>PI_WAVE_MODE_ONE_SHOT_SYNC=2</code> */
+    int PI_WAVE_MODE_ONE_SHOT_SYNC = 2;
+    /** Constant <code>PI_WAVE_MODE_REPEAT_SYNC=3</code> */
+    int PI_WAVE_MODE_REPEAT_SYNC   = 3;
+
+    /* wave tx at */
+    /** Constant <code>PI_NO_TX_WAVE=9999</code> */
+    int PI_NO_TX_WAVE      = 9999;
+    /** Constant <code>PI_WAVE_NOT_FOUND=9998</code> */
+    int PI_WAVE_NOT_FOUND  = 9998;
+
+    // ----------------------------------
+    // NOTIFICATIONS
+    // ----------------------------------
+    /** Constant <code>PI_NOTIFY_REPORT_SIZE=12</code>; size (in bytes) of each notification report */
+    int PI_NOTIFY_REPORT_SIZE   = 12;
+    /** Constant <code>PI_NTFY_FLAGS_EVENT=(1 &lt;&lt; 7)</code> */
+    int PI_NTFY_FLAGS_EVENT     = (1 << 7);
+    /** Constant <code>PI_NTFY_FLAGS_ALIVE=(1 &lt;&lt; 6)</code> */
+    int PI_NTFY_FLAGS_ALIVE     = (1 << 6);
+    /** Constant <code>PI_NTFY_FLAGS_WDOG=(1 &lt;&lt; 5)</code> */
+    int PI_NTFY_FLAGS_WDOG      = (1 << 5);
+
     // ----------------------------------
     // SIGNAL NUMBERS
     // ----------------------------------
@@ -53,15 +53,36 @@ package com.pi4j.library.pigpio;
  * @version $Id: $Id
  */
 public class PiGpioException extends RuntimeException {
+    private final int error;
+
     public PiGpioException(String message) {
+        this(0, message);
+    }
+
+    /**
+     * @param error the (negative) pigpio error code of the failed command.
+     * @param message the detail message.
+     */
+    public PiGpioException(int error, String message) {
         super(message);
+        this.error = error;
     }
 
     public PiGpioException(Throwable cause) {
         super(cause);
+        this.error = 0;
     }
 
     public PiGpioException(String message, Throwable cause) {
         super(message, cause);
+        this.error = 0;
+    }
+
+    /**
+     * @return the (negative) pigpio error code of the failed command, or 0 if this exception was not
+     *         caused by a pigpio command result.
+     */
+    public int error() {
+        return error;
     }
 }
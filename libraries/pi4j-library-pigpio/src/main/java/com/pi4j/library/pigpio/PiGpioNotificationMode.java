@@ -0,0 +1,51 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioNotificationMode.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>How GPIO state change notifications are delivered by the native PiGpio library.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public enum PiGpioNotificationMode {
+    /** each edge is delivered by a JNI upcall from the PiGpio alert thread (gpioSetAlertFunc) */
+    CALLBACK,
+    /** edges are read in bulk from a PiGpio notification pipe (gpioNotifyOpen) by a single Java thread */
+    PIPE;
+
+    /**
+     * <p>from.</p>
+     *
+     * @param mode the (case insensitive) name of a notification mode.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioNotificationMode} object.
+     */
+    public static PiGpioNotificationMode from(String mode) {
+        return PiGpioNotificationMode.valueOf(mode.trim().toUpperCase());
+    }
+}
@@ -31,6 +31,7 @@ import com.pi4j.library.pigpio.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -60,11 +61,17 @@ public class PiGpioPacket {
 
     private static final Logger logger = LoggerFactory.getLogger(PiGpioPacket.class);
 
+    /** Constant <code>HEADER_SIZE=16</code>; size of the packet header (CMD, P1, P2, P3) in bytes */
+    public static final int HEADER_SIZE = 16;
+
+    // shared (immutable) empty payload
+    private static final byte[] EMPTY = new byte[0];
+
     private PiGpioCmd cmd;
     private int p1 = 0;
     private int p2 = 0;
     private int p3 = 0;
-    private byte[] data = new byte[0];
+    private byte[] data = EMPTY;
 
     /**
      * <p>Constructor for PiGpioPacket.</p>
@@ -200,6 +207,15 @@ public class PiGpioPacket {
     public int result(){
         return p3();
     }
+    /**
+     * <p>result.</p>
+     *
+     * @param result the result value (stored in P3).
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     */
+    public PiGpioPacket result(int result){
+        return p3(result);
+    }
     /**
      * <p>success.</p>
      *
@@ -284,7 +300,7 @@ public class PiGpioPacket {
         }
         else{
             this.p3 = 0;
-            this.data = new byte[0];
+            this.data = EMPTY;
         }
         return this;
     }
@@ -299,14 +315,11 @@ public class PiGpioPacket {
         // check for valid value
         if(value > 0) {
             this.p3 = 4; // 4 bytes length
-            ByteBuffer buffer = ByteBuffer.allocate(4);
-            buffer.order(ByteOrder.LITTLE_ENDIAN);
-            buffer.putInt(value);
-            this.data = buffer.array();
+            this.data = new byte[] { (byte)value, (byte)(value >> 8), (byte)(value >> 16), (byte)(value >> 24) }; // little endian
         }
         else{
             this.p3 = 0;
-            this.data = new byte[0];
+            this.data = EMPTY;
         }
         return this;
     }
@@ -326,7 +339,7 @@ public class PiGpioPacket {
         }
         else{
             this.p3 = 0;
-            this.data = new byte[0];
+            this.data = EMPTY;
         }
         return this;
     }
@@ -352,6 +365,8 @@ public class PiGpioPacket {
     public static PiGpioPacket decode(InputStream stream) throws IOException {
         // read only header bytes
         byte[] header = stream.readNBytes(16);
+        if(header.length < 16)
+            throw new EOFException("PIGPIO socket stream ended while reading packet header.");
 
         ByteBuffer rx = ByteBuffer.wrap(header);
         rx.order(ByteOrder.LITTLE_ENDIAN);
@@ -366,10 +381,12 @@ public class PiGpioPacket {
         PiGpioPacket packet = new PiGpioPacket(cmd, p1, p2)
             .p3(p3); // set RAW P3 value
 
-        int remaining = bytesToRead(packet, stream);
+        int remaining = bytesToRead(packet);
 
         if(remaining > 0) {
             var temp = stream.readNBytes(remaining);
+            if(temp.length < remaining)
+                throw new EOFException("PIGPIO socket stream ended while reading packet payload.");
             packet.data(temp);
         }
         return packet;
@@ -378,21 +395,19 @@ public class PiGpioPacket {
     /**
      * The packet may indicate the number of bytes to expect from the stream.
      *
-     * E.g. I2C packets provide this value via {@link PiGpioPacket#p3}
+     * Only commands with an extended response (see {@link PiGpioCmd#extended()}) carry a
+     * payload; its length is provided via {@link PiGpioPacket#p3} when the command succeeded.
+     * The exact length must be known so that pipelined responses on the same socket are
+     * never consumed as part of a previous packet.
      *
      * @param packet the packet being read
-     * @param stream incoming data
      * @return the number of bytes to expect to read from the input stream
-     * @throws IOException
-     */
-    static int bytesToRead(PiGpioPacket packet, InputStream stream) throws IOException {
-        switch (packet.cmd) {
-            case I2CRI:
-            case I2CRD:
-                return packet.p3;
-            default:
-                return stream.available();
+     */
+    static int bytesToRead(PiGpioPacket packet) {
+        if(packet.cmd.extended() && packet.p3 > 0) {
+            return packet.p3;
         }
+        return 0;
     }
 
     /**
@@ -420,6 +435,81 @@ public class PiGpioPacket {
         return bytes;
     }
 
+    /**
+     * <p>size.</p>
+     *
+     * @param packet a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return the number of bytes required to encode the packet (header and payload).
+     */
+    public static int size(PiGpioPacket packet){
+        return HEADER_SIZE + packet.dataLength();
+    }
+
+    /**
+     * Encode the packet into the given buffer at its current position without
+     * allocating any intermediate byte arrays.
+     *
+     * The buffer must use LITTLE ENDIAN byte order and must have at least
+     * {@link #size(PiGpioPacket)} bytes remaining.
+     *
+     * @param packet a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @param buffer the (reusable) buffer to encode the packet into.
+     */
+    public static void encode(PiGpioPacket packet, ByteBuffer buffer){
+        buffer.putInt(packet.cmd().value());  // CMD
+        buffer.putInt(packet.p1());           // <P1>
+        buffer.putInt(packet.p2());           // <P2>
+        buffer.putInt(packet.p3());           // <P3>
+        if(packet.data != null && packet.data.length > 0) {
+            buffer.put(packet.data);          // <DATA>
+        }
+    }
+
+    /**
+     * Get the total length (header and payload) of the next packet in the buffer.
+     *
+     * If the buffer does not yet hold a complete header, then only the header
+     * size is returned; the buffer position is not modified.
+     *
+     * @param buffer a LITTLE ENDIAN buffer of received bytes.
+     * @return number of bytes that must be available to decode the next packet.
+     */
+    public static int frameLength(ByteBuffer buffer){
+        if(buffer.remaining() < HEADER_SIZE) return HEADER_SIZE;
+        int position = buffer.position();
+        PiGpioCmd cmd = PiGpioCmd.from(buffer.getInt(position));
+        int p3 = buffer.getInt(position + 12);
+        return (cmd.extended() && p3 > 0) ? HEADER_SIZE + p3 : HEADER_SIZE;
+    }
+
+    /**
+     * Decode the next packet from the buffer into an existing packet instance.
+     *
+     * No header arrays are allocated while decoding; only a response payload, if present,
+     * requires a new byte array.
+     * The caller must ensure that at least {@link #frameLength(ByteBuffer)} bytes are
+     * remaining in the buffer.
+     *
+     * @param buffer a LITTLE ENDIAN buffer of received bytes.
+     * @param packet the packet instance to decode into.
+     * @return the decoded packet instance.
+     */
+    public static PiGpioPacket decode(ByteBuffer buffer, PiGpioPacket packet){
+        packet.cmd = PiGpioCmd.from(buffer.getInt()); // CMD <4 bytes :: 0-3>
+        packet.p1 = buffer.getInt();                  // P1  <4 bytes :: 4-7>
+        packet.p2 = buffer.getInt();                  // P2  <4 bytes :: 8-11>
+        packet.p3 = buffer.getInt();                  // P3  <4 bytes :: 12-15>
+
+        int remaining = bytesToRead(packet);
+        if(remaining > 0) {
+            packet.data = new byte[remaining];
+            buffer.get(packet.data);
+        } else {
+            packet.data = EMPTY;
+        }
+        return packet;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString(){
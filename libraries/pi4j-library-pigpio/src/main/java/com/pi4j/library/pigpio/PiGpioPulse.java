@@ -0,0 +1,92 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioPulse.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>A single pulse of a waveform.</p>
+ *
+ * The GPIO in the 'on' bit mask are switched on at the start of the pulse, the GPIO in the
+ * 'off' bit mask are switched off at the start of the pulse, and the pulse lasts for the given
+ * delay (in microseconds) before the next pulse starts.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioPulse_t">PIGPIO::gpioPulse_t</a>
+ */
+public class PiGpioPulse {
+
+    private final int gpioOn;
+    private final int gpioOff;
+    private final int delay;
+
+    /**
+     * <p>Constructor for PiGpioPulse.</p>
+     *
+     * @param gpioOn bit mask of the GPIO (0-31) to switch on.
+     * @param gpioOff bit mask of the GPIO (0-31) to switch off.
+     * @param delay pulse length in microseconds.
+     */
+    public PiGpioPulse(int gpioOn, int gpioOff, int delay) {
+        this.gpioOn = gpioOn;
+        this.gpioOff = gpioOff;
+        this.delay = delay;
+    }
+
+    /**
+     * <p>gpioOn.</p>
+     *
+     * @return bit mask of the GPIO (0-31) to switch on.
+     */
+    public int gpioOn() {
+        return gpioOn;
+    }
+
+    /**
+     * <p>gpioOff.</p>
+     *
+     * @return bit mask of the GPIO (0-31) to switch off.
+     */
+    public int gpioOff() {
+        return gpioOff;
+    }
+
+    /**
+     * <p>delay.</p>
+     *
+     * @return pulse length in microseconds.
+     */
+    public int delay() {
+        return delay;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("PULSE; ON=[%s]; OFF=[%s]; DELAY=%d us", Integer.toBinaryString(gpioOn), Integer.toBinaryString(gpioOff), delay);
+    }
+}
@@ -0,0 +1,152 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioWaveChain.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * <p>Builds the chain buffer used to transmit a sequence of waveforms.</p>
+ *
+ * <pre>
+ * // wave 'a' once, then wave 'b' 200 times, a 5ms pause, and wave 'c' forever
+ * piGpio.waveChain()
+ *     .wave(a)
+ *     .loopStart().wave(b).loopEnd(200)
+ *     .delay(5000)
+ *     .loopStart().wave(c).loopForever()
+ *     .send();
+ * </pre>
+ *
+ * This class is not thread-safe.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+ */
+public class PiGpioWaveChain {
+
+    // chain command codes
+    private static final int COMMAND = 255;
+    private static final int LOOP_START = 0;
+    private static final int LOOP_END = 1;
+    private static final int DELAY = 2;
+    private static final int LOOP_FOREVER = 3;
+
+    protected final PiGpio_Wave piGpio;
+    protected final ByteArrayOutputStream chain = new ByteArrayOutputStream();
+
+    /**
+     * <p>Constructor for PiGpioWaveChain.</p>
+     *
+     * @param piGpio the PiGpio instance used to transmit the chain.
+     */
+    public PiGpioWaveChain(PiGpio_Wave piGpio) {
+        this.piGpio = piGpio;
+    }
+
+    /**
+     * Transmit a waveform.
+     *
+     * @param waveId wave id: 0-249, as returned by gpioWaveCreate
+     * @return this chain.
+     */
+    public PiGpioWaveChain wave(int waveId) {
+        if(waveId < 0 || waveId >= COMMAND)
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID CHAIN WAVE ID [" + waveId + "]; Valid range: 0-254");
+        chain.write(waveId);
+        return this;
+    }
+
+    /**
+     * Mark the start of a loop; loops may be nested up to 20 levels deep.
+     *
+     * @return this chain.
+     */
+    public PiGpioWaveChain loopStart() {
+        chain.write(COMMAND);
+        chain.write(LOOP_START);
+        return this;
+    }
+
+    /**
+     * Mark the end of a loop and repeat the loop section the given number of times.
+     *
+     * @param count 0-65535
+     * @return this chain.
+     */
+    public PiGpioWaveChain loopEnd(int count) {
+        return command(LOOP_END, count);
+    }
+
+    /**
+     * Delay between waveforms.
+     *
+     * @param micros delay in microseconds: 0-65535
+     * @return this chain.
+     */
+    public PiGpioWaveChain delay(int micros) {
+        return command(DELAY, micros);
+    }
+
+    /**
+     * Mark the end of a loop which is repeated until the transmission is stopped.
+     *
+     * @return this chain.
+     */
+    public PiGpioWaveChain loopForever() {
+        chain.write(COMMAND);
+        chain.write(LOOP_FOREVER);
+        return this;
+    }
+
+    /**
+     * <p>toArray.</p>
+     *
+     * @return the chain buffer.
+     */
+    public byte[] toArray() {
+        return chain.toByteArray();
+    }
+
+    /**
+     * Transmit the chain of waveforms.
+     */
+    public void send() {
+        piGpio.gpioWaveChain(toArray());
+    }
+
+    private PiGpioWaveChain command(int code, int value) {
+        if(value < 0 || value > 0xFFFF)
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID CHAIN VALUE [" + value + "]; Valid range: 0-65535");
+        chain.write(COMMAND);
+        chain.write(code);
+        chain.write(value & 0xFF);          // x (low byte)
+        chain.write((value >> 8) & 0xFF);   // y (high byte)
+        return this;
+    }
+}
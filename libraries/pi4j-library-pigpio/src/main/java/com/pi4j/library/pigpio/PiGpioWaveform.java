@@ -0,0 +1,176 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioWaveform.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * <p>Builds a hardware (DMA) timed waveform from a sequence of pulses.</p>
+ *
+ * <pre>
+ * // 10 step pulses of 20us on GPIO 17 with a period of 500us
+ * int waveId = piGpio.waveform()
+ *     .repeat(10, w -&gt; w.high(17, 20).low(17, 480))
+ *     .sendOnce();
+ * </pre>
+ *
+ * <p>The pulses describe the transitions of all GPIO (0-31) used by the waveform
+ * over time; each pulse lasts for its delay before the next pulse starts.
+ * This class is not thread-safe.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioWaveform {
+
+    protected final PiGpio_Wave piGpio;
+    protected final List<PiGpioPulse> pulses = new ArrayList<>();
+
+    /**
+     * <p>Constructor for PiGpioWaveform.</p>
+     *
+     * @param piGpio the PiGpio instance used to create and transmit the waveform.
+     */
+    public PiGpioWaveform(PiGpio_Wave piGpio) {
+        this.piGpio = piGpio;
+    }
+
+    /**
+     * Append a pulse to the waveform.
+     *
+     * @param gpioOn bit mask of the GPIO (0-31) to switch on.
+     * @param gpioOff bit mask of the GPIO (0-31) to switch off.
+     * @param delay pulse length in microseconds.
+     * @return this waveform.
+     */
+    public PiGpioWaveform pulse(int gpioOn, int gpioOff, int delay) {
+        pulses.add(new PiGpioPulse(gpioOn, gpioOff, delay));
+        return this;
+    }
+
+    /**
+     * Switch a GPIO on (HIGH) and hold it for the given time.
+     *
+     * @param pin user_gpio: 0-31
+     * @param micros time in microseconds before the next pulse starts.
+     * @return this waveform.
+     */
+    public PiGpioWaveform high(int pin, int micros) {
+        return pulse(1 << pin, 0, micros);
+    }
+
+    /**
+     * Switch a GPIO off (LOW) and hold it for the given time.
+     *
+     * @param pin user_gpio: 0-31
+     * @param micros time in microseconds before the next pulse starts.
+     * @return this waveform.
+     */
+    public PiGpioWaveform low(int pin, int micros) {
+        return pulse(0, 1 << pin, micros);
+    }
+
+    /**
+     * Append a pause without changing any GPIO.
+     *
+     * @param micros time in microseconds before the next pulse starts.
+     * @return this waveform.
+     */
+    public PiGpioWaveform delay(int micros) {
+        return pulse(0, 0, micros);
+    }
+
+    /**
+     * Append the pulses added by the given builder function a number of times.
+     *
+     * @param count number of repetitions.
+     * @param pattern adds the pulses to repeat.
+     * @return this waveform.
+     */
+    public PiGpioWaveform repeat(int count, Consumer<PiGpioWaveform> pattern) {
+        int start = pulses.size();
+        pattern.accept(this);
+        List<PiGpioPulse> cycle = new ArrayList<>(pulses.subList(start, pulses.size()));
+        for(int i = 1; i < count; i++) pulses.addAll(cycle);
+        return this;
+    }
+
+    /**
+     * <p>pulses.</p>
+     *
+     * @return an unmodifiable list of the pulses in this waveform (in order).
+     */
+    public List<PiGpioPulse> pulses() {
+        return Collections.unmodifiableList(pulses);
+    }
+
+    /**
+     * Create the waveform in the PiGpio library.
+     *
+     * @return the new waveform id (&gt;=0).
+     */
+    public int create() {
+        piGpio.gpioWaveAddNew();
+        piGpio.gpioWaveAddGeneric(pulses);
+        return piGpio.gpioWaveCreate();
+    }
+
+    /**
+     * Create the waveform and transmit it once.
+     *
+     * @return the waveform id; delete it using gpioWaveDelete once it is no longer needed.
+     */
+    public int sendOnce() {
+        return send(PiGpioWaveMode.ONE_SHOT);
+    }
+
+    /**
+     * Create the waveform and transmit it repeatedly until gpioWaveTxStop is called
+     * or another waveform is sent.
+     *
+     * @return the waveform id; delete it using gpioWaveDelete once it is no longer needed.
+     */
+    public int sendRepeat() {
+        return send(PiGpioWaveMode.REPEAT);
+    }
+
+    /**
+     * Create the waveform and transmit it using the given mode.
+     *
+     * @param mode a {@link com.pi4j.library.pigpio.PiGpioWaveMode} object.
+     * @return the waveform id; delete it using gpioWaveDelete once it is no longer needed.
+     */
+    public int send(PiGpioWaveMode mode) {
+        int waveId = create();
+        piGpio.gpioWaveTxSend(waveId, mode);
+        return waveId;
+    }
+}
@@ -0,0 +1,398 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_Async.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>PiGpio_Async interface.</p>
+ *
+ * <p>Non-blocking variants of the most frequently used GPIO, PWM, I2C, SPI and SERIAL functions.
+ * Implementations that communicate with a remote PiGpio daemon transmit each command immediately
+ * and complete the returned future when the response arrives, so many commands can be in flight
+ * at the same time.  The default implementations simply invoke the blocking function and return
+ * an already completed future.</p>
+ *
+ * <p>Unlike some of their blocking counterparts, the returned futures are completed exceptionally
+ * with a {@link PiGpioException} whenever PiGpio reports an error result.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface PiGpio_Async extends
+        PiGpio_GPIO,
+        PiGpio_PWM,
+        PiGpio_I2C,
+        PiGpio_SPI,
+        PiGpio_Serial {
+
+    // *****************************************************************************************************
+    // GPIO
+    // *****************************************************************************************************
+
+    /**
+     * Sets or clears resistor pull ups or downs on the GPIO.
+     *
+     * @param pin gpio pin address
+     * @param pud pull-up, pull-down, pull-off
+     * @return a future completed when the command has been acknowledged
+     * @see #gpioSetPullUpDown(int, PiGpioPud)
+     */
+    default CompletableFuture<Void> gpioSetPullUpDownAsync(int pin, PiGpioPud pud) {
+        return invoke(() -> { gpioSetPullUpDown(pin, pud); return null; });
+    }
+
+    /**
+     * Gets the GPIO mode.
+     *
+     * @param pin gpio pin address
+     * @return a future completed with the pin mode
+     * @see #gpioGetMode(int)
+     */
+    default CompletableFuture<PiGpioMode> gpioGetModeAsync(int pin) {
+        return invoke(() -> gpioGetMode(pin));
+    }
+
+    /**
+     * Sets the GPIO mode, typically input or output.
+     *
+     * @param pin gpio pin address
+     * @param mode pin mode: input, output, etc.
+     * @return a future completed when the command has been acknowledged
+     * @see #gpioSetMode(int, PiGpioMode)
+     */
+    default CompletableFuture<Void> gpioSetModeAsync(int pin, PiGpioMode mode) {
+        return invoke(() -> { gpioSetMode(pin, mode); return null; });
+    }
+
+    /**
+     * Reads the GPIO level, on (HIGH) or off (LOW).
+     *
+     * @param pin gpio pin address
+     * @return a future completed with the pin state
+     * @see #gpioRead(int)
+     */
+    default CompletableFuture<PiGpioState> gpioReadAsync(int pin) {
+        return invoke(() -> gpioRead(pin));
+    }
+
+    /**
+     * Sets the GPIO level, on (HIGH) or off (LOW).
+     *
+     * @param pin gpio pin address
+     * @param state HIGH or LOW
+     * @return a future completed when the command has been acknowledged
+     * @see #gpioWrite(int, PiGpioState)
+     */
+    default CompletableFuture<Void> gpioWriteAsync(int pin, PiGpioState state) {
+        return invoke(() -> { gpioWrite(pin, state); return null; });
+    }
+
+    /**
+     * Starts PWM on the GPIO, dutycycle between 0 (off) and range (fully on).
+     *
+     * @param pin user gpio pin address
+     * @param dutyCycle duty-cycle value between 0 (off) and range (fully on)
+     * @return a future completed when the command has been acknowledged
+     * @see #gpioPWM(int, int)
+     */
+    default CompletableFuture<Void> gpioPWMAsync(int pin, int dutyCycle) {
+        return invoke(() -> { gpioPWM(pin, dutyCycle); return null; });
+    }
+
+    // *****************************************************************************************************
+    // I2C
+    // *****************************************************************************************************
+
+    /**
+     * This sends a single byte to the device associated with handle.
+     *
+     * @param handle the open I2C device handle
+     * @param value raw byte value (0-0xFF) to write to I2C device
+     * @return a future completed with the PiGpio result code
+     * @see #i2cWriteByte(int, byte)
+     */
+    default CompletableFuture<Integer> i2cWriteByteAsync(int handle, byte value) {
+        return invoke(() -> check(i2cWriteByte(handle, value)));
+    }
+
+    /**
+     * This reads a single byte from the device associated with handle.
+     *
+     * @param handle the open I2C device handle
+     * @return a future completed with the byte read
+     * @see #i2cReadByte(int)
+     */
+    default CompletableFuture<Integer> i2cReadByteAsync(int handle) {
+        return invoke(() -> check(i2cReadByte(handle)));
+    }
+
+    /**
+     * This writes a single byte to the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C device handle
+     * @param register the I2C register address to write to. (0-255)
+     * @param value raw byte value (0-0xFF) to write to I2C device
+     * @return a future completed with the PiGpio result code
+     * @see #i2cWriteByteData(int, int, byte)
+     */
+    default CompletableFuture<Integer> i2cWriteByteDataAsync(int handle, int register, byte value) {
+        return invoke(() -> check(i2cWriteByteData(handle, register, value)));
+    }
+
+    /**
+     * This reads a single byte from the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C device handle
+     * @param register the I2C register address to read from. (0-255)
+     * @return a future completed with the byte read
+     * @see #i2cReadByteData(int, int)
+     */
+    default CompletableFuture<Integer> i2cReadByteDataAsync(int handle, int register) {
+        return invoke(() -> check(i2cReadByteData(handle, register)));
+    }
+
+    /**
+     * This writes a single 16 bit word to the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C device handle
+     * @param register the I2C register address to write to. (0-255)
+     * @param value raw word value (0-0xFFFF) to write to I2C device
+     * @return a future completed with the PiGpio result code
+     * @see #i2cWriteWordData(int, int, int)
+     */
+    default CompletableFuture<Integer> i2cWriteWordDataAsync(int handle, int register, int value) {
+        return invoke(() -> check(i2cWriteWordData(handle, register, value)));
+    }
+
+    /**
+     * This reads a single 16 bit word from the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C device handle
+     * @param register the I2C register address to read from. (0-255)
+     * @return a future completed with the word read
+     * @see #i2cReadWordData(int, int)
+     */
+    default CompletableFuture<Integer> i2cReadWordDataAsync(int handle, int register) {
+        return invoke(() -> check(i2cReadWordData(handle, register)));
+    }
+
+    /**
+     * This writes 1 to 32 bytes to the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C device handle
+     * @param register the I2C register address to write to. (0-255)
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from.
+     * @param length the number of bytes to write (maximum 32 bytes supported)
+     * @return a future completed with the PiGpio result code
+     * @see #i2cWriteI2CBlockData(int, int, byte[], int, int)
+     */
+    default CompletableFuture<Integer> i2cWriteI2CBlockDataAsync(int handle, int register, byte[] data, int offset, int length) {
+        return invoke(() -> check(i2cWriteI2CBlockData(handle, register, data, offset, length)));
+    }
+
+    /**
+     * This reads count bytes from the specified register of the device associated with handle.
+     *
+     * @param handle the open I2C device handle
+     * @param register the I2C register address to read from. (0-255)
+     * @param length the number of bytes to read (1-32)
+     * @return a future completed with the bytes actually read
+     * @see #i2cReadI2CBlockData(int, int, byte[], int, int)
+     */
+    default CompletableFuture<byte[]> i2cReadI2CBlockDataAsync(int handle, int register, int length) {
+        return read(length, buffer -> i2cReadI2CBlockData(handle, register, buffer, 0, length));
+    }
+
+    /**
+     * This writes the length of bytes from the provided data array to the raw I2C device.
+     *
+     * @param handle the open I2C device handle
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from.
+     * @param length the number of bytes to write
+     * @return a future completed with the PiGpio result code
+     * @see #i2cWriteDevice(int, byte[], int, int)
+     */
+    default CompletableFuture<Integer> i2cWriteDeviceAsync(int handle, byte[] data, int offset, int length) {
+        return invoke(() -> check(i2cWriteDevice(handle, data, offset, length)));
+    }
+
+    /**
+     * This reads count bytes from the raw I2C device.
+     *
+     * @param handle the open I2C device handle
+     * @param length the number of bytes to read
+     * @return a future completed with the bytes actually read
+     * @see #i2cReadDevice(int, byte[], int, int)
+     */
+    default CompletableFuture<byte[]> i2cReadDeviceAsync(int handle, int length) {
+        return read(length, buffer -> i2cReadDevice(handle, buffer, 0, length));
+    }
+
+    // *****************************************************************************************************
+    // SPI
+    // *****************************************************************************************************
+
+    /**
+     * This function writes multiple bytes from the byte array ('data') to the SPI device associated with the handle.
+     *
+     * @param handle the open SPI device handle
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from.
+     * @param length the number of bytes to write
+     * @return a future completed with the number of bytes transferred
+     * @see #spiWrite(int, byte[], int, int)
+     */
+    default CompletableFuture<Integer> spiWriteAsync(int handle, byte[] data, int offset, int length) {
+        return invoke(() -> check(spiWrite(handle, data, offset, length)));
+    }
+
+    /**
+     * This function reads a number of bytes from the SPI device associated with the handle.
+     *
+     * @param handle the open SPI device handle
+     * @param length the number of bytes to read
+     * @return a future completed with the bytes actually read
+     * @see #spiRead(int, byte[], int, int)
+     */
+    default CompletableFuture<byte[]> spiReadAsync(int handle, int length) {
+        return read(length, buffer -> spiRead(handle, buffer, 0, length));
+    }
+
+    /**
+     * This function transfers (writes/reads simultaneously) multiple bytes with the SPI device associated with the handle.
+     *
+     * @param handle the open SPI device handle
+     * @param write the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from.
+     * @param length the number of bytes to transfer
+     * @return a future completed with the bytes read during the transfer
+     * @see #spiXfer(int, byte[], int, byte[], int, int)
+     */
+    default CompletableFuture<byte[]> spiXferAsync(int handle, byte[] write, int offset, int length) {
+        return read(length, buffer -> spiXfer(handle, write, offset, buffer, 0, length));
+    }
+
+    // *****************************************************************************************************
+    // SERIAL
+    // *****************************************************************************************************
+
+    /**
+     * This function writes a single byte "value" to the serial port associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @param value byte value to write to serial port
+     * @return a future completed with the PiGpio result code
+     * @see #serWriteByte(int, byte)
+     */
+    default CompletableFuture<Integer> serWriteByteAsync(int handle, byte value) {
+        return invoke(() -> check(serWriteByte(handle, value)));
+    }
+
+    /**
+     * This function reads a byte from the serial port associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @return a future completed with the byte read
+     * @see #serReadByte(int)
+     */
+    default CompletableFuture<Integer> serReadByteAsync(int handle) {
+        return invoke(() -> check(serReadByte(handle)));
+    }
+
+    /**
+     * This function writes multiple bytes from the buffer array ('data') to the serial port associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @param data the array of bytes to write
+     * @param offset the starting offset position in the provided array to start writing from.
+     * @param length the number of bytes to write
+     * @return a future completed with the PiGpio result code
+     * @see #serWrite(int, byte[], int, int)
+     */
+    default CompletableFuture<Integer> serWriteAsync(int handle, byte[] data, int offset, int length) {
+        return invoke(() -> check(serWrite(handle, data, offset, length)));
+    }
+
+    /**
+     * This function reads up to 'length' bytes from the serial port associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @param length the maximum number of bytes to read
+     * @return a future completed with the bytes actually read
+     * @see #serRead(int, byte[], int, int)
+     */
+    default CompletableFuture<byte[]> serReadAsync(int handle, int length) {
+        return read(length, buffer -> serRead(handle, buffer, 0, length));
+    }
+
+    /**
+     * This function returns the number of bytes available to be read from the device associated with handle.
+     *
+     * @param handle the open serial device handle
+     * @return a future completed with the number of bytes available
+     * @see #serDataAvailable(int)
+     */
+    default CompletableFuture<Integer> serDataAvailableAsync(int handle) {
+        return invoke(() -> check(serDataAvailable(handle)));
+    }
+
+    // *****************************************************************************************************
+    // SUPPORT
+    // *****************************************************************************************************
+
+    private static <T> CompletableFuture<T> invoke(Callable<T> call) {
+        try {
+            return CompletableFuture.completedFuture(call.call());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static CompletableFuture<byte[]> read(int length, ToIntFunction<byte[]> reader) {
+        return invoke(() -> {
+            byte[] buffer = new byte[length];
+            int actual = check(reader.applyAsInt(buffer));
+            return (actual < length) ? Arrays.copyOf(buffer, actual) : buffer;
+        });
+    }
+
+    private static int check(int result) {
+        if(result < 0) {
+            PiGpioError err = PiGpioError.from(result);
+            throw new PiGpioException("PIGPIO ERROR: " + err.name() + "; " + err.message());
+        }
+        return result;
+    }
+}
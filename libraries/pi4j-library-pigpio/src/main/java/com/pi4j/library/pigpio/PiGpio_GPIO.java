@@ -102,6 +102,32 @@ public interface PiGpio_GPIO {
         gpioWrite(pin, PiGpioState.from(state));
     }
 
+    /**
+     * Returns the current level of GPIO 0-31.
+     *
+     * @return bit mask of the levels of GPIO 0-31 (bit 0 = GPIO 0)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    int gpioRead_Bits_0_31();
+
+    /**
+     * Sets GPIO 0-31 if the corresponding bit in bits is set.  All GPIO are set
+     * with a single command.
+     *
+     * @param bits a bit mask of GPIO to set (bit 0 = GPIO 0)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    void gpioWrite_Bits_0_31_Set(int bits);
+
+    /**
+     * Clears GPIO 0-31 if the corresponding bit in bits is set.  All GPIO are cleared
+     * with a single command.
+     *
+     * @param bits a bit mask of GPIO to clear (bit 0 = GPIO 0)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    void gpioWrite_Bits_0_31_Clear(int bits);
+
     /**
      * Sets a glitch filter on a GPIO.  (AKA Debounce)
      *
@@ -150,4 +176,22 @@ public interface PiGpio_GPIO {
      * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioGlitchFilter">PIGPIO::gpioGlitchFilter</a>
      */
     void gpioNoiseFilter(int pin, int steady, int active);
+
+    /**
+     * Sets a watchdog for a GPIO. A timeout of 0 cancels the watchdog.
+     *
+     * @param pin gpio pin address (valid pins are 0-31)
+     * @param timeout interval in milliseconds (valid range: 0-60000)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetWatchdog">PIGPIO::gpioSetWatchdog</a>
+     */
+    void gpioSetWatchdog(int pin, int timeout);
+
+    /**
+     * Sets the drive strength of a pad (group of GPIO).
+     *
+     * @param pad pad number (valid pads are 0-2)
+     * @param strength drive strength in milliamps (valid range: 1-16)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioSetPad">PIGPIO::gpioSetPad</a>
+     */
+    void gpioSetPad(int pad, int strength);
 }
@@ -0,0 +1,114 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_Script.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpio_Script interface.</p>
+ *
+ * Scripts are stored and executed by the PiGpio library (or daemon) itself, so a sequence
+ * of commands (for example a tight bit-bang or polling loop) runs with microsecond timing
+ * without a round trip from Java for every step.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface PiGpio_Script {
+
+    /**
+     * This function stores a null terminated script for later execution.
+     *
+     * See <a href="http://abyz.me.uk/rpi/pigpio/pigs.html#Scripts">http://abyz.me.uk/rpi/pigpio/pigs.html#Scripts</a>
+     * for details.
+     *
+     * The function returns a script id if the script is valid, otherwise PI_BAD_SCRIPT.
+     *
+     * @param script the text of the script.
+     * @return script id (&gt;=0) of the stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    int gpioStoreScript(String script);
+
+    /**
+     * This function runs a stored script.
+     *
+     * @param scriptId script id: &gt;=0, as returned by {@link #gpioStoreScript(String)}
+     * @param params 0-10, the parameters for the script (p0-p9)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    void gpioRunScript(int scriptId, int ... params);
+
+    /**
+     * This function sets the parameters of a script.  The script may or may not be running.
+     * The first 'params.length' parameters of the script are overwritten with the new values.
+     *
+     * @param scriptId script id: &gt;=0, as returned by {@link #gpioStoreScript(String)}
+     * @param params 0-10, the parameters for the script (p0-p9)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    void gpioUpdateScript(int scriptId, int ... params);
+
+    /**
+     * This function returns the run status of a script as well as the current values of parameters 0 to 9.
+     *
+     * The current value of the script parameters (p0-p9) are copied into the 'params' array
+     * (up to its length); the array may be null if the parameters are not needed.
+     *
+     * @param scriptId script id: &gt;=0, as returned by {@link #gpioStoreScript(String)}
+     * @param params an array to receive the current values of the script parameters (p0-p9), may be null.
+     * @return the script status: INITING, HALTED, RUNNING, WAITING or FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    PiGpioScriptState gpioScriptStatus(int scriptId, int[] params);
+
+    /**
+     * This function returns the run status of a script.
+     *
+     * @param scriptId script id: &gt;=0, as returned by {@link #gpioStoreScript(String)}
+     * @return the script status: INITING, HALTED, RUNNING, WAITING or FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    default PiGpioScriptState gpioScriptStatus(int scriptId){
+        return gpioScriptStatus(scriptId, null);
+    }
+
+    /**
+     * This function stops a running script.
+     *
+     * @param scriptId script id: &gt;=0, as returned by {@link #gpioStoreScript(String)}
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    void gpioStopScript(int scriptId);
+
+    /**
+     * This function deletes a stored script.
+     *
+     * @param scriptId script id: &gt;=0, as returned by {@link #gpioStoreScript(String)}
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    void gpioDeleteScript(int scriptId);
+}
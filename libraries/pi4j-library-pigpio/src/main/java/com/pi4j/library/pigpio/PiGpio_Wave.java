@@ -0,0 +1,188 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_Wave.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Collection;
+
+/**
+ * <p>PiGpio_Wave interface.</p>
+ *
+ * Waveforms are transmitted by the PiGpio library using DMA, which allows pulse trains
+ * on any combination of GPIO (0-31) with microsecond timing independent of the JVM.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface PiGpio_Wave {
+
+    /**
+     * Create a new waveform builder for this PiGpio instance.
+     *
+     * @return a new {@link com.pi4j.library.pigpio.PiGpioWaveform} object.
+     */
+    default PiGpioWaveform waveform() {
+        return new PiGpioWaveform(this);
+    }
+
+    /**
+     * Create a new wave chain builder for this PiGpio instance.
+     *
+     * @return a new {@link com.pi4j.library.pigpio.PiGpioWaveChain} object.
+     */
+    default PiGpioWaveChain waveChain() {
+        return new PiGpioWaveChain(this);
+    }
+
+    /**
+     * This function clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    void gpioWaveClear();
+
+    /**
+     * This function starts a new empty waveform.
+     *
+     * You wouldn't normally need to call this function as it is automatically called after a waveform is created with
+     * the gpioWaveCreate function.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    void gpioWaveAddNew();
+
+    /**
+     * This function adds a number of pulses to the current waveform.
+     *
+     * The pulses are interleaved in time order within the existing waveform (if any).
+     * Merging allows the waveform to be built in parts, that is the settings for GPIO#1
+     * can be added, and then GPIO#2 etc.  If the added waveform is intended to start after
+     * or within the existing waveform then the first pulse should consist of a delay.
+     *
+     * @param pulses the pulses to add to the current waveform.
+     * @return the new total number of pulses in the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    int gpioWaveAddGeneric(Collection<PiGpioPulse> pulses);
+
+    /**
+     * This function creates a waveform from the data provided by the prior calls to the gpioWaveAdd* functions.
+     *
+     * The data provided by the gpioWaveAdd* functions is consumed by this function.  As many waveforms may
+     * be created as there is space available.  The wave id is passed to gpioWaveTxSend to specify the
+     * waveform to transmit.
+     *
+     * @return the new waveform id (&gt;=0).
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    int gpioWaveCreate();
+
+    /**
+     * This function deletes the waveform with id wave_id.
+     *
+     * The wave is flagged for deletion.  The resources used by the wave will only be reused
+     * when either of the following apply: all waves with higher numbered wave ids have been
+     * deleted or have been flagged for deletion, or a new wave is created which uses exactly
+     * the same resources as the current wave.
+     *
+     * @param waveId wave id: &gt;=0, as returned by {@link #gpioWaveCreate()}
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    void gpioWaveDelete(int waveId);
+
+    /**
+     * This function transmits the waveform with id wave_id.  The mode determines whether
+     * the waveform is sent once or cycles endlessly.  The SYNC variants wait for the current
+     * waveform to reach the end of a cycle or finish before starting the new waveform.
+     *
+     * @param waveId wave id: &gt;=0, as returned by {@link #gpioWaveCreate()}
+     * @param mode ONE_SHOT, REPEAT, ONE_SHOT_SYNC or REPEAT_SYNC
+     * @return the number of DMA control blocks in the waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    int gpioWaveTxSend(int waveId, PiGpioWaveMode mode);
+
+    /**
+     * This function transmits a chain of waveforms.
+     *
+     * The waves to be transmitted are specified by the contents of the chain buffer which
+     * contains the wave ids and optional command codes and related data.  Use a
+     * {@link com.pi4j.library.pigpio.PiGpioWaveChain} to build the chain buffer.
+     *
+     * @param chain the chain buffer (wave ids and command codes).
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    void gpioWaveChain(byte[] chain);
+
+    /**
+     * This function returns the id of the waveform currently being transmitted.
+     *
+     * @return the waveform id or one of the following special values: PI_WAVE_NOT_FOUND (9998) - transmitted
+     *         wave not found, PI_NO_TX_WAVE (9999) - no wave being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    int gpioWaveTxAt();
+
+    /**
+     * This function checks to see if a waveform is currently being transmitted.
+     *
+     * @return true if a waveform is currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    boolean gpioWaveTxBusy();
+
+    /**
+     * This function aborts the transmission of the current waveform.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    void gpioWaveTxStop();
+
+    /**
+     * This function returns the length in microseconds of the current waveform.
+     *
+     * @return the length in microseconds of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    int gpioWaveGetMicros();
+
+    /**
+     * This function returns the length in pulses of the current waveform.
+     *
+     * @return the length in pulses of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    int gpioWaveGetPulses();
+
+    /**
+     * This function returns the length in DMA control blocks of the current waveform.
+     *
+     * @return the length in DMA control blocks of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    int gpioWaveGetCbs();
+}
@@ -262,7 +262,7 @@ public abstract class PiGpioBase implements PiGpio {
             PiGpioError err = PiGpioError.from(value);
             logger.warn("PIGPIO ERROR: " + err.name() + "; " + err.message());
             if(throwException) {
-                throw new PiGpioException("PIGPIO ERROR: " + err.name() + "; " + err.message());
+                throw new PiGpioException((int) value, "PIGPIO ERROR: " + err.name() + "; " + err.message());
             }
         }
     }
@@ -355,6 +355,55 @@ public abstract class PiGpioBase implements PiGpio {
         }
     }
 
+    /**
+     * <p>validateScriptId.</p>
+     *
+     * @param scriptId a int.
+     */
+    protected void validateScriptId(int scriptId) {
+        // validate script id :: >=0
+        if(scriptId < 0) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID SCRIPT ID [" + scriptId + "]; Valid range: >=0");
+        }
+    }
+
+    /**
+     * <p>validateScriptParams.</p>
+     *
+     * @param params an array of {@link int} objects.
+     */
+    protected void validateScriptParams(int[] params) {
+        // validate number of script parameters :: 0-10
+        if(params != null && params.length > PI_MAX_SCRIPT_PARAMS) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID NUMBER OF SCRIPT PARAMETERS [" + params.length + "]; Valid range: 0-" + PI_MAX_SCRIPT_PARAMS);
+        }
+    }
+
+    /**
+     * <p>validateWaveId.</p>
+     *
+     * @param waveId a int.
+     */
+    protected void validateWaveId(int waveId) {
+        // validate wave id :: 0-249
+        if(waveId < 0 || waveId >= PI_MAX_WAVES) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID WAVE ID [" + waveId + "]; Valid range: 0-" + (PI_MAX_WAVES - 1));
+        }
+    }
+
+    /**
+     * <p>validateWavePulses.</p>
+     *
+     * @param pulses a {@link java.util.Collection} object.
+     */
+    protected void validateWavePulses(Collection<PiGpioPulse> pulses) {
+        // validate number of pulses :: 1-12000
+        Objects.requireNonNull(pulses, "Wave pulses may not be null");
+        if(pulses.isEmpty() || pulses.size() > PI_WAVE_MAX_PULSES) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID NUMBER OF WAVE PULSES [" + pulses.size() + "]; Valid range: 1-" + PI_WAVE_MAX_PULSES);
+        }
+    }
+
 
     /**
      * Get the initialized state of the PiGpio library
@@ -33,12 +33,18 @@ import com.pi4j.library.pigpio.internal.PiGpioAlertCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import static com.pi4j.library.pigpio.PiGpioConst.PI_IF_DISABLE_FIFO;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
 import static com.pi4j.library.pigpio.PiGpioConst.PI_IF_DISABLE_SOCK;
 import static com.pi4j.library.pigpio.PiGpioConst.PI_TIME_RELATIVE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_WAVE_MAX_CHARS;
 
 /**
  * <p>PiGpioNativeImpl class.</p>
@@ -70,6 +76,21 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return instance;
     }
 
+    /**
+     * <p>Get the (singleton) native PiGpio instance using the given notification mode.</p>
+     *
+     * @param mode how GPIO state change notifications are delivered; must be configured
+     *             before any notifications are enabled.
+     * @return the {@link PiGpio} instance
+     */
+    public static PiGpio newInstance(PiGpioNotificationMode mode) {
+        instance.notificationMode(mode);
+        return instance;
+    }
+
+    protected PiGpioNotificationMode notificationMode = PiGpioNotificationMode.CALLBACK;
+    protected final PiGpioNotifyPipe notifyPipe = new PiGpioNotifyPipe(this);
+
     /**
      * DEFAULT PRIVATE CONSTRUCTOR
      */
@@ -131,6 +152,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         if(this.initialized) {
             // close all open SPI, SERIAL, I2C handles
             closeAllOpenHandles();
+
+            // close the notification pipe (if open)
+            notifyPipe.close();
         }
 
         // terminate PiGPio library
@@ -278,6 +302,53 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the current level of GPIO 0-31.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioRead_Bits_0_31() {
+        logger.trace("[GPIO::GET-BANK] -> BANK: 1 (0-31)");
+        validateReady();
+        int result = PIGPIO.gpioRead_Bits_0_31();
+        // Returns the current level of GPIO 0-31; the result is an (unsigned) bit mask and cannot fail,
+        // so it is not validated (GPIO 31 sets the sign bit).
+        logger.trace("[GPIO::GET-BANK] <- BANK: 1 (0-31) is {}", Integer.toBinaryString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets GPIO 0-31 if the corresponding bit in bits is set.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Set(int bits) {
+        logger.trace("[GPIO::SET-BANK] -> BANK: 1 (0-31); BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        int result = PIGPIO.gpioWrite_Bits_0_31_Set(bits);
+        logger.trace("[GPIO::SET-BANK] <- BANK: 1 (0-31); SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clears GPIO 0-31 if the corresponding bit in bits is set.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Clear(int bits) {
+        logger.trace("[GPIO::CLEAR-BANK] -> BANK: 1 (0-31); BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        int result = PIGPIO.gpioWrite_Bits_0_31_Clear(bits);
+        logger.trace("[GPIO::CLEAR-BANK] <- BANK: 1 (0-31); SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -339,6 +410,35 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_BAD_FILTER.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Sets a watchdog for a GPIO.
+     */
+    @Override
+    public void gpioSetWatchdog(int pin, int timeout) {
+        logger.trace("[GPIO::WDOG] -> PIN: {}; TIMEOUT: {};", pin, timeout);
+        validateReady();
+        validateUserPin(pin);
+        int result = PIGPIO.gpioSetWatchdog(pin, timeout);
+        logger.trace("[GPIO::WDOG] <- PIN: {}; SUCCESS={}", pin, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_WDOG_TIMEOUT.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets the pad drive strength.
+     */
+    @Override
+    public void gpioSetPad(int pad, int strength) {
+        logger.trace("[GPIO::PADS] -> PAD: {}; STRENGTH: {};", pad, strength);
+        validateReady();
+        int result = PIGPIO.gpioSetPad(pad, strength);
+        logger.trace("[GPIO::PADS] <- PAD: {}; SUCCESS={}", pad, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_PAD or PI_BAD_STRENGTH.
+    }
+
 
     // *****************************************************************************************************
     // *****************************************************************************************************
@@ -586,8 +686,37 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateResult(result);  // Returns the numerically closest frequency if OK, otherwise PI_BAD_USER_GPIO.
     }
 
+    /**
+     * <p>notificationMode.</p>
+     *
+     * @return how GPIO state change notifications are delivered.
+     */
+    public PiGpioNotificationMode notificationMode() {
+        return notificationMode;
+    }
+
+    /**
+     * Configure how GPIO state change notifications are delivered.
+     *
+     * @param mode a {@link com.pi4j.library.pigpio.PiGpioNotificationMode} object.
+     */
+    public synchronized void notificationMode(PiGpioNotificationMode mode) {
+        Objects.requireNonNull(mode, "Notification mode may not be null");
+        if(mode != notificationMode && notifyPipe.isOpen())
+            throw new PiGpioException("PIGPIO notification mode cannot be changed while notifications are enabled");
+        this.notificationMode = mode;
+    }
+
     @Override
     public void gpioNotifications(int pin, boolean enabled) {
+        // read the level changes in bulk from a notification pipe
+        if(notificationMode == PiGpioNotificationMode.PIPE) {
+            validateReady();
+            validateUserPin(pin);
+            notifyPipe.enable(pin, enabled);
+            return;
+        }
+
         if(enabled)
             PIGPIO.gpioSetAlertFunc(pin, gpioAlertCallbackHandler);
         else
@@ -1509,4 +1638,342 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateResult(result, false);
         return result;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stores a null terminated script for later execution.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    @Override
+    public int gpioStoreScript(String script) {
+        logger.trace("[SCRIPT::STORE] -> [{} bytes]", script.length());
+        validateReady();
+        int result = PIGPIO.gpioStoreScript(script);
+        logger.trace("[SCRIPT::STORE] <- SCRIPT-ID={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns a script id if OK, otherwise PI_BAD_SCRIPT.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function runs a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    @Override
+    public void gpioRunScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::RUN] -> SCRIPT-ID={}; PARAMS={}", scriptId, (params == null) ? 0 : params.length);
+        validateReady();
+        validateScriptId(scriptId);
+        validateScriptParams(params);
+        int result = PIGPIO.gpioRunScript(scriptId, (params == null) ? 0 : params.length, params);
+        logger.trace("[SCRIPT::RUN] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function sets the parameters of a script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    @Override
+    public void gpioUpdateScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::UPDATE] -> SCRIPT-ID={}; PARAMS={}", scriptId, (params == null) ? 0 : params.length);
+        validateReady();
+        validateScriptId(scriptId);
+        validateScriptParams(params);
+        int result = PIGPIO.gpioUpdateScript(scriptId, (params == null) ? 0 : params.length, params);
+        logger.trace("[SCRIPT::UPDATE] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the run status of a script as well as the current values of parameters 0 to 9.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    @Override
+    public PiGpioScriptState gpioScriptStatus(int scriptId, int[] params) {
+        logger.trace("[SCRIPT::STATUS] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        // the native library always copies all (10) script parameters
+        int[] current = new int[PI_MAX_SCRIPT_PARAMS];
+        int result = PIGPIO.gpioScriptStatus(scriptId, current);
+        validateResult(result);  // Returns the script status if OK, otherwise PI_BAD_SCRIPT_ID.
+        if(params != null) System.arraycopy(current, 0, params, 0, Math.min(params.length, current.length));
+        PiGpioScriptState state = PiGpioScriptState.from(result);
+        logger.trace("[SCRIPT::STATUS] <- SCRIPT-ID={}; STATUS={}", scriptId, state);
+        return state;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops a running script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    @Override
+    public void gpioStopScript(int scriptId) {
+        logger.trace("[SCRIPT::STOP] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        int result = PIGPIO.gpioStopScript(scriptId);
+        logger.trace("[SCRIPT::STOP] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    @Override
+    public void gpioDeleteScript(int scriptId) {
+        logger.trace("[SCRIPT::DELETE] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        int result = PIGPIO.gpioDeleteScript(scriptId);
+        logger.trace("[SCRIPT::DELETE] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    @Override
+    public void gpioWaveClear() {
+        logger.trace("[WAVE::CLEAR] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveClear();
+        logger.trace("[WAVE::CLEAR] <- SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function starts a new empty waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    @Override
+    public void gpioWaveAddNew() {
+        logger.trace("[WAVE::NEW] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveAddNew();
+        logger.trace("[WAVE::NEW] <- SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function adds a number of pulses to the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    @Override
+    public int gpioWaveAddGeneric(Collection<PiGpioPulse> pulses) {
+        logger.trace("[WAVE::ADD] -> [{} pulses]", (pulses == null) ? 0 : pulses.size());
+        validateReady();
+        validateWavePulses(pulses);
+
+        // the pulses are passed to the native library as three parallel arrays (gpioOn, gpioOff, usDelay)
+        int count = pulses.size();
+        int[] gpioOn = new int[count];
+        int[] gpioOff = new int[count];
+        int[] usDelay = new int[count];
+        int index = 0;
+        for(PiGpioPulse pulse : pulses) {
+            gpioOn[index] = pulse.gpioOn();
+            gpioOff[index] = pulse.gpioOff();
+            usDelay[index++] = pulse.delay();
+        }
+        int result = PIGPIO.gpioWaveAddGeneric(count, gpioOn, gpioOff, usDelay);
+        logger.trace("[WAVE::ADD] <- PULSES={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns the new total number of pulses in the current waveform if OK, otherwise PI_TOO_MANY_PULSES.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function creates a waveform from the data provided by the prior calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    @Override
+    public int gpioWaveCreate() {
+        logger.trace("[WAVE::CREATE] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveCreate();
+        logger.trace("[WAVE::CREATE] <- WAVE-ID={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns the new waveform id if OK, otherwise PI_EMPTY_WAVEFORM, PI_TOO_MANY_CBS, PI_TOO_MANY_OOL, or PI_NO_WAVEFORM_ID.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes the waveform with id wave_id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    @Override
+    public void gpioWaveDelete(int waveId) {
+        logger.trace("[WAVE::DELETE] -> WAVE-ID={}", waveId);
+        validateReady();
+        validateWaveId(waveId);
+        int result = PIGPIO.gpioWaveDelete(waveId);
+        logger.trace("[WAVE::DELETE] <- WAVE-ID={}; SUCCESS={}", waveId, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_WAVE_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits the waveform with id wave_id using the given mode.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    @Override
+    public int gpioWaveTxSend(int waveId, PiGpioWaveMode mode) {
+        logger.trace("[WAVE::SEND] -> WAVE-ID={}; MODE={}", waveId, mode);
+        validateReady();
+        validateWaveId(waveId);
+        int result = PIGPIO.gpioWaveTxSend(waveId, mode.value());
+        logger.trace("[WAVE::SEND] <- WAVE-ID={}; CBS={}; SUCCESS={}", waveId, result, (result>=0));
+        validateResult(result);  // Returns the number of DMA control blocks in the waveform if OK, otherwise PI_BAD_WAVE_ID, or PI_BAD_WAVE_MODE.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits a chain of waveforms.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    @Override
+    public void gpioWaveChain(byte[] chain) {
+        logger.trace("[WAVE::CHAIN] -> [{} bytes]", (chain == null) ? 0 : chain.length);
+        validateReady();
+        Objects.requireNonNull(chain, "Wave chain may not be null");
+        if(chain.length > PI_WAVE_MAX_CHARS)
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID WAVE CHAIN LENGTH [" + chain.length + "]; Valid range: 0-" + PI_WAVE_MAX_CHARS);
+        int result = PIGPIO.gpioWaveChain(chain, chain.length);
+        logger.trace("[WAVE::CHAIN] <- SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_CHAIN_NESTING, PI_CHAIN_LOOP_CNT, PI_BAD_CHAIN_LOOP, PI_BAD_CHAIN_CMD, PI_CHAIN_COUNTER, PI_BAD_CHAIN_DELAY, PI_CHAIN_TOO_BIG, or PI_BAD_WAVE_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the id of the waveform currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    @Override
+    public int gpioWaveTxAt() {
+        logger.trace("[WAVE::AT] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxAt();
+        logger.trace("[WAVE::AT] <- WAVE-ID={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns the waveform id or one of the following special values: PI_WAVE_NOT_FOUND or PI_NO_TX_WAVE.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function checks to see if a waveform is currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    @Override
+    public boolean gpioWaveTxBusy() {
+        logger.trace("[WAVE::BUSY] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxBusy();
+        logger.trace("[WAVE::BUSY] <- BUSY={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns 1 if a waveform is currently being transmitted, otherwise 0.
+        return result == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function aborts the transmission of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    @Override
+    public void gpioWaveTxStop() {
+        logger.trace("[WAVE::STOP] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxStop();
+        logger.trace("[WAVE::STOP] <- SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the length in microseconds of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    @Override
+    public int gpioWaveGetMicros() {
+        logger.trace("[WAVE::MICROS] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetMicros();
+        logger.trace("[WAVE::MICROS] <- MICROS={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns the length in microseconds of the current waveform.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the length in pulses of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    @Override
+    public int gpioWaveGetPulses() {
+        logger.trace("[WAVE::PULSES] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetPulses();
+        logger.trace("[WAVE::PULSES] <- PULSES={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns the length in pulses of the current waveform.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the length in DMA control blocks of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    @Override
+    public int gpioWaveGetCbs() {
+        logger.trace("[WAVE::CBS] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveGetCbs();
+        logger.trace("[WAVE::CBS] <- CBS={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns the length in DMA control blocks of the current waveform.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The commands of the batch are executed one after another using the native library.
+     */
+    @Override
+    public int[] execute(PiGpioBatch batch) {
+        logger.trace("[BATCH] -> EXECUTE [{} commands]; STOP-ON-ERROR={}", batch.size(), batch.stopOnError());
+        validateReady();
+        int[] results = batch.invokeEach();
+        logger.trace("[BATCH] <- EXECUTED [{} of {} commands]", results.length, batch.size());
+        return results;
+    }
 }
@@ -0,0 +1,266 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioNotifyPipe.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NOTIFY_REPORT_SIZE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_ALIVE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_EVENT;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.internal.PIGPIO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Reads GPIO state change notifications from a native PiGpio notification pipe.</p>
+ *
+ * <p>Instead of a JNI upcall from the PiGpio alert thread for every single edge, the
+ * PiGpio library writes a 12 byte report for each level change into a notification
+ * pipe (/dev/pigpioN) and a single Java thread reads and decodes the reports in bulk.
+ * Only the monitored pins whose level actually changed are dispatched.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioNotifyOpen">PIGPIO::gpioNotifyOpen</a>
+ */
+public class PiGpioNotifyPipe {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioNotifyPipe.class);
+
+    /** Constant <code>NAME="pigpio-notify"</code> */
+    public static String NAME = "pigpio-notify";
+
+    /** Constant <code>PIPE_PATH="/dev/pigpio"</code>; the notification handle is appended to the path */
+    public static String PIPE_PATH = "/dev/pigpio";
+
+    // number of notification reports read per pipe read
+    protected static final int BUFFER_REPORTS = 256;
+
+    // maximum time (in milliseconds) to wait for the reader thread to end when closing the pipe
+    protected static final long CLOSE_TIMEOUT = 1000;
+
+    protected final PiGpioNativeImpl piGpio;
+    protected int handle = -1;
+    protected FileChannel pipe = null;
+    protected Thread reader = null;
+
+    // 32 bits are used to store the last known states of pins 0-31; 'pinState' is only accessed by the reader thread
+    protected int pinState = 0;
+    protected volatile int pinMonitor = 0;
+
+    /**
+     * <p>Constructor for PiGpioNotifyPipe.</p>
+     *
+     * @param piGpio a {@link com.pi4j.library.pigpio.impl.PiGpioNativeImpl} object.
+     */
+    public PiGpioNotifyPipe(PiGpioNativeImpl piGpio) {
+        this.piGpio = piGpio;
+    }
+
+    /**
+     * Enable or disable notifications for a pin; the notification pipe is opened
+     * when the first pin is enabled and closed when the last pin is disabled.
+     *
+     * @param pin a int.
+     * @param enabled a boolean.
+     */
+    public void enable(int pin, boolean enabled) {
+        Thread stopped = null;
+        try {
+            synchronized (this) {
+                final int previous = pinMonitor;
+                final int monitor = enabled ? (previous | 1 << pin) : (previous & ~(1 << pin));
+                if(monitor == 0) {
+                    stopped = closePipe();
+                    return;
+                }
+
+                // the pin is only monitored once the notification pipe reports it
+                try {
+                    if(handle < 0) open();
+                    int result = PIGPIO.gpioNotifyBegin(handle, Integer.toUnsignedLong(monitor));
+                    logger.trace("[NOTIFY] pin notifications [BEGIN] <{}>; SUCCESS={}", Integer.toBinaryString(monitor), (result>=0));
+                    if(result < 0) throw new PiGpioException("PIGPIO ERROR: " + result + "; unable to begin notifications on handle [" + handle + "]");
+                } catch (PiGpioException e) {
+                    // do not leave a pipe open that was only opened for this pin
+                    if(previous == 0) stopped = closePipe();
+                    throw e;
+                }
+                pinMonitor = monitor;
+            }
+        } finally {
+            awaitReader(stopped);
+        }
+    }
+
+    /**
+     * <p>isOpen.</p>
+     *
+     * @return true if the notification pipe is open.
+     */
+    public synchronized boolean isOpen() {
+        return handle >= 0;
+    }
+
+    /**
+     * Stop notifications and close the notification pipe.
+     */
+    public void close() {
+        Thread stopped;
+        synchronized (this) {
+            stopped = closePipe();
+        }
+        awaitReader(stopped);
+    }
+
+    // close the pipe and return the reader thread to wait for, if any; caller must hold the lock
+    private Thread closePipe() {
+        pinMonitor = 0;
+        if(handle < 0) return null;
+
+        // closing the notification handle closes the pipe's write end, so the reader will read end-of-stream
+        logger.trace("[NOTIFY] close notification pipe; HANDLE={}", handle);
+        PIGPIO.gpioNotifyClose(handle);
+        handle = -1;
+        try {
+            pipe.close();
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+        pipe = null;
+
+        Thread thread = reader;
+        reader = null;
+        return thread;
+    }
+
+    // wait (bounded) for the reader to finish dispatching; called without holding the lock, so a listener on the
+    // reader thread that enables or disables a pin meanwhile does not stall the join
+    private void awaitReader(Thread thread) {
+        if(thread == null || thread == Thread.currentThread()) return;
+        try {
+            thread.join(CLOSE_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if(thread.isAlive()) logger.warn("[NOTIFY] reader thread [{}] did not end within {} ms", thread.getName(), CLOSE_TIMEOUT);
+    }
+
+    private void open() {
+        handle = PIGPIO.gpioNotifyOpen();
+        if(handle < 0) throw new PiGpioException("PIGPIO ERROR: " + handle + "; unable to open a notification pipe");
+        try {
+            pipe = FileChannel.open(Path.of(PIPE_PATH + handle), StandardOpenOption.READ);
+        } catch (IOException e) {
+            PiGpioException exception = new PiGpioException("PIGPIO unable to read notification pipe [" + PIPE_PATH + handle + "]", e);
+            PIGPIO.gpioNotifyClose(handle);
+            handle = -1;
+            throw exception;
+        }
+        logger.trace("[NOTIFY] opened notification pipe [{}{}]", PIPE_PATH, handle);
+
+        // get the current pin states for pins 0-31 before any report arrives
+        pinState = PIGPIO.gpioRead_Bits_0_31();
+
+        final FileChannel channel = pipe;
+        reader = new Thread(() -> read(channel), NAME + "-" + handle);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Reader thread; reads as many reports as are available with each read, decodes them in
+     * one pass and carries over any incomplete report to the next read.
+     */
+    private void read(FileChannel channel) {
+        logger.trace("[THREAD] STARTED");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(PI_NOTIFY_REPORT_SIZE * BUFFER_REPORTS).order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                decode(buffer);
+                buffer.compact();
+            }
+        } catch (IOException e) {
+            // the pipe was closed
+            logger.trace("[NOTIFY] notification pipe closed; {}", e.getMessage());
+        }
+        logger.trace("[THREAD] ENDED");
+    }
+
+    /**
+     * Decode and dispatch all complete notification reports available in the buffer.
+     *
+     * @param buffer a LITTLE ENDIAN buffer positioned at the first undecoded report.
+     */
+    protected void decode(ByteBuffer buffer) {
+        while (buffer.remaining() >= PI_NOTIFY_REPORT_SIZE) {
+            buffer.getShort(); // sequence number
+            final int flags = Short.toUnsignedInt(buffer.getShort());
+            final long tick = Integer.toUnsignedLong(buffer.getInt());
+            final int level = buffer.getInt();
+
+            // event and keep-alive reports do not carry GPIO levels
+            if((flags & (PI_NTFY_FLAGS_EVENT | PI_NTFY_FLAGS_ALIVE)) != 0) continue;
+            dispatch(level, tick);
+        }
+    }
+
+    /**
+     * Dispatch a change event for each monitored pin whose state differs from the last known state.
+     *
+     * @param newPinState the states of pins 0-31 as reported by the PiGpio library.
+     * @param tick the notification report tick (microseconds).
+     */
+    protected void dispatch(int newPinState, long tick) {
+        // only visit the bits of monitored pins that actually changed state
+        int changed = (pinState ^ newPinState) & pinMonitor;
+        while (changed != 0) {
+            final int pin = Integer.numberOfTrailingZeros(changed);
+            changed &= changed - 1; // clear lowest set bit
+            try {
+                piGpio.dispatchEvent(new PiGpioStateChangeEvent(pin, PiGpioState.from((newPinState >>> pin) & 1), tick));
+            }
+            catch (Exception e){
+                logger.error(e.getMessage(), e);
+            }
+        }
+
+        // cache the newly read pins states for future comparisons
+        pinState = newPinState;
+    }
+}
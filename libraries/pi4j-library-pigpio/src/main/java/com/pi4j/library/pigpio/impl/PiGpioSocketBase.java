@@ -33,6 +33,11 @@ import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_PORT;
 import java.io.IOException;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioCmd;
@@ -56,9 +61,15 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
     protected String host = DEFAULT_HOST;
     protected int port = DEFAULT_PORT;
     protected boolean connected = false;
-    protected Socket socket = null;
+    protected final PiGpioSocketPool pool;
 
-    // TODO :: IMPLEMENT CONNECTION MONITOR TO PROACTIVELY DETECT SOCKET DISCONNECTS AND AUTO-RETRY TO CONNECT IN BACKGROUND THREAD
+    protected final PiGpioSocketReconnector reconnector;
+
+    // maximum time (in milliseconds) a blocking call will wait for its response
+    protected int timeout = 500;
+
+    // set once the initial connection has been established; lost connections are then re-established in the background
+    protected volatile boolean established = false;
 
     /**
      * ALTERNATE CONSTRUCTOR
@@ -67,13 +78,27 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      *
      * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
      * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param connections number of pooled TCP/IP socket connections to the PiGpio daemon.
      */
-    protected PiGpioSocketBase(String host, int port) {
+    protected PiGpioSocketBase(String host, int port, int connections) {
         this.host = host;
         this.port = port;
+        this.pool = new PiGpioSocketPool(host, port, connections);
+        this.pool.timeout(timeout);
         this.connected = false;
         this.initialized = false;
         this.monitor = new PiGpioSocketMonitor(this);
+
+        // proactively re-establish lost connections in the background; once reconnected, the pool
+        // has re-opened its handles and the notification monitor is woken to restore its listener
+        this.reconnector = new PiGpioSocketReconnector(pool::connect, () -> {
+            this.connected = true;
+            monitor.wake();
+        });
+        this.pool.onDisconnect(() -> {
+            this.connected = false;
+            if(this.initialized) reconnector.reconnect();
+        });
     }
 
     /**
@@ -137,14 +162,11 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
                 monitor.shutdown();
         }
 
-        // shutdown connected socket
-        if(socket != null && socket.isConnected())
-            try {
-                socket.close();
-            }
-            catch (IOException e) {
-                throw new PiGpioException(e);
-            }
+        // stop reconnecting and shutdown all pooled socket connections
+        reconnector.cancel();
+        pool.close();
+        this.connected = false;
+        this.established = false;
 
         // clear initialized flag
         this.initialized = false;
@@ -154,47 +176,128 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
     /**
      * <p>sendCommand.</p>
      *
-     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
-     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object without an extended response.
+     * @return the result of the command.
      */
-    protected PiGpioPacket sendCommand(PiGpioCmd cmd) {
-        return sendPacket(new PiGpioPacket(cmd));
+    protected int sendCommand(PiGpioCmd cmd) {
+        return sendCommand(cmd, 0, 0);
     }
 
     /**
      * <p>sendCommand.</p>
      *
-     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object without an extended response.
      * @param p1 a int.
-     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return the result of the command.
      */
-    protected PiGpioPacket sendCommand(PiGpioCmd cmd, int p1) {
-        return sendPacket(new PiGpioPacket(cmd, p1));
+    protected int sendCommand(PiGpioCmd cmd, int p1) {
+        return sendCommand(cmd, p1, 0);
     }
     /**
      * <p>sendCommand.</p>
      *
+     * Transmits a command without a payload on the pipelined socket channel and blocks until its
+     * result is received or the configured timeout expires; no packet is allocated for the command.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object without an extended response.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @return the result of the command.
+     */
+    protected int sendCommand(PiGpioCmd cmd, int p1, int p2) {
+        validateReady();
+        return await(this.pool.send(cmd, p1, p2));
+    }
+    /**
+     * <p>sendCommandAsync.</p>
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @return a {@link java.util.concurrent.CompletableFuture} object.
+     */
+    protected CompletableFuture<PiGpioPacket> sendCommandAsync(PiGpioCmd cmd, int p1) {
+        return sendPacketAsync(new PiGpioPacket(cmd, p1));
+    }
+    /**
+     * <p>sendCommandAsync.</p>
+     *
      * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
      * @param p1 a int.
      * @param p2 a int.
-     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return a {@link java.util.concurrent.CompletableFuture} object.
      */
-    protected PiGpioPacket sendCommand(PiGpioCmd cmd, int p1, int p2) {
-        return sendPacket(new PiGpioPacket(cmd, p1, p2));
+    protected CompletableFuture<PiGpioPacket> sendCommandAsync(PiGpioCmd cmd, int p1, int p2) {
+        return sendPacketAsync(new PiGpioPacket(cmd, p1, p2));
     }
     /**
      * <p>sendPacket.</p>
      *
+     * Transmits the packet on the pipelined socket channel and blocks
+     * until its response is received or the configured timeout expires.
+     *
      * @param tx a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
      * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
      */
     protected PiGpioPacket sendPacket(PiGpioPacket tx) {
+        return await(sendPacketAsync(tx));
+    }
+    /**
+     * <p>sendPacketAsync.</p>
+     *
+     * Transmits the packet on a pooled pipelined socket channel without waiting for
+     * the response of this or any previously transmitted packet.  Commands operating
+     * on an I2C, SPI, serial or file handle are always sent on the connection that
+     * opened the handle.
+     *
+     * @param tx a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return a future completed with the response {@link com.pi4j.library.pigpio.PiGpioPacket}.
+     */
+    protected CompletableFuture<PiGpioPacket> sendPacketAsync(PiGpioPacket tx) {
+        validateReady();
+        return this.pool.send(tx);
+    }
+    /**
+     * <p>sendPacketsAsync.</p>
+     *
+     * Transmits a batch of packets on the pooled pipelined socket channels using a single
+     * socket write per connection, without waiting for any of the responses.
+     *
+     * @param batch the packets to transmit (in order).
+     * @return a future for each packet (in the same order) completed with the response {@link com.pi4j.library.pigpio.PiGpioPacket}.
+     */
+    protected List<CompletableFuture<PiGpioPacket>> sendPacketsAsync(List<PiGpioPacket> batch) {
         validateReady();
-        return sendPacket(tx, this.socket);
+        return this.pool.send(batch);
+    }
+    /**
+     * <p>await.</p>
+     *
+     * @param future a pending response from the socket channel.
+     * @param <T> the type of the response.
+     * @return the response.
+     */
+    protected <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof PiGpioException) throw (PiGpioException)e.getCause();
+            throw new PiGpioException(e.getCause());
+        } catch (TimeoutException e) {
+            // the request remains queued on the channel, so a late response
+            // is still matched to it and subsequent responses stay in order
+            throw new PiGpioException("PIGPIO TIMEOUT; no response received from [" + host + ":" + port + "] within " + timeout + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PiGpioException(e);
+        }
     }
     /**
      * <p>sendPacket.</p>
      *
+     * Transmits the packet on the given socket and blocks until its response is received.
+     * This is used for dedicated sockets (like the notification listener) that are not
+     * managed by the pipelined socket channel.
+     *
      * @param tx a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
      * @param sck a {@link java.net.Socket} object.
      * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
@@ -207,19 +310,17 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
                 var out = sck.getOutputStream();
 
                 // transmit packet
-                logger.trace("[TX] -> " + tx.toString());
+                logger.trace("[TX] -> {}", tx);
                 out.write(PiGpioPacket.encode(tx));
                 out.flush();
 
                 // read receive packet
                 PiGpioPacket rx = PiGpioPacket.decode(in);
-                logger.trace("[RX] <- " + rx.toString());
+                logger.trace("[RX] <- {}", rx);
                 return rx;
             } catch (SocketException se) {
                 // socket is no longer connected
-                this.connected = false;
-                socket.close();
-                socket = null;
+                sck.close();
                 throw new PiGpioException(se);
             }
         } catch (IOException e) {
@@ -256,23 +357,19 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
 
     /**
      * <p>validateConnection.</p>
+     *
+     * The initial connection to the PiGpio daemon is established on the calling thread.
+     * After that, a lost pool connection is re-established in the background; only the calls
+     * routed to it fail fast with a {@link com.pi4j.library.pigpio.PiGpioException} until it is
+     * restored, while the other pool connections remain in use.
      */
     protected void validateConnection() {
-        // if not connected, attempt to reconnect
-        if(socket == null || !this.connected){
-            // attempt to connect to PiGpio Daemon on remote Raspberry Pi
-            try {
-                this.socket = new Socket(host, port);
-                this.socket.setSoTimeout(500);
-            } catch (IOException e) {
-                throw new PiGpioException(e);
-            }
+        if(established) return;
 
-            // update connection status flag
-            this.connected = this.socket.isConnected();
-        }
-//            throw new IOException("PIGPIO NOT CONNECTED TO REMOTE HOST [" + this.host + ":" + this.port +
-//                    "]; make sure the PiGpio Daemon is running on the remote Raspberry Pi and the host is accessible.");
+        // establish the initial connection to PiGpio Daemon on remote Raspberry Pi
+        pool.connect();
+        this.established = true;
+        this.connected = true;
     }
 
 //    protected void enableNotifications() {
@@ -0,0 +1,381 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketChannel.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Pipelined command channel over a single PiGpio daemon socket connection.</p>
+ *
+ * <p>Commands are written to the socket as soon as they are submitted and are not required
+ * to wait for the response of a previous command.  The PiGpio daemon processes and answers
+ * the commands received on a socket strictly in order, so a dedicated receive thread can
+ * complete the pending requests in the same FIFO order in which they were transmitted.
+ * This allows many commands to be in flight at the same time instead of paying a full
+ * network round trip for each command.</p>
+ *
+ * <p>Packets are encoded into and decoded from reusable direct byte buffers over a
+ * blocking NIO {@link SocketChannel}, so no per-command header arrays are allocated.  A
+ * command sent using {@link #send(PiGpioCmd, int, int)} is encoded straight from its parameters
+ * and is completed with the result read straight from the receive buffer, so no packet is
+ * allocated for it at all.  Any other response is decoded into a fresh packet; the caller's
+ * request packet is never modified, so a request that timed out cannot be overwritten by its
+ * late response.</p>
+ *
+ * <p>Dependent stages attached to the returned futures using the non-async
+ * {@link CompletableFuture} methods are executed on the channel's receive thread
+ * and should therefore not block.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketChannel implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketChannel.class);
+
+    /** Constant <code>NAME="pigpio-channel"</code> */
+    public static String NAME = "pigpio-channel";
+
+    /** Constant <code>BUFFER_SIZE=4096</code>; initial size of the transmit and receive buffers */
+    public static int BUFFER_SIZE = 4096;
+
+    protected final String host;
+    protected final int port;
+    protected final SocketChannel socket;
+    protected final Thread receiver;
+    protected final Runnable disconnectListener;
+
+    // reusable buffers; 'txBuffer' is guarded by 'this', 'rxBuffer' is only accessed by the receive thread
+    protected ByteBuffer txBuffer = allocate(BUFFER_SIZE);
+    protected ByteBuffer rxBuffer = allocate(BUFFER_SIZE);
+
+    // requests awaiting a response in transmit order; guarded by 'this'
+    protected final Queue<CompletableFuture<?>> pending = new ArrayDeque<>();
+    protected volatile boolean closed = false;
+
+    /**
+     * Connects a new pipelined channel to the PiGpio daemon at the given host and port.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @throws IOException if the socket connection could not be established.
+     */
+    public PiGpioSocketChannel(String host, int port) throws IOException {
+        this(host, port, null);
+    }
+
+    /**
+     * Connects a new pipelined channel to the PiGpio daemon at the given host and port.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param disconnectListener invoked (on the receive thread) if the connection is unexpectedly lost; may be null.
+     * @throws IOException if the socket connection could not be established.
+     */
+    public PiGpioSocketChannel(String host, int port, Runnable disconnectListener) throws IOException {
+        this.host = host;
+        this.port = port;
+        this.disconnectListener = disconnectListener;
+        this.socket = SocketChannel.open(new InetSocketAddress(host, port));
+
+        // commands are small and latency sensitive; do not let the
+        // TCP stack hold them back waiting for more data to coalesce
+        this.socket.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+        // start the receive thread; it lives as long as the socket connection
+        this.receiver = new Thread(this::receive, NAME + "-" + host + ":" + port);
+        this.receiver.setDaemon(true);
+        this.receiver.start();
+    }
+
+    /**
+     * <p>isConnected.</p>
+     *
+     * @return true if the channel is open and its socket is connected.
+     */
+    public boolean isConnected() {
+        return !closed && socket.isConnected() && socket.isOpen();
+    }
+
+    /**
+     * Get the number of commands that have been transmitted but not yet answered.
+     *
+     * @return number of in-flight commands.
+     */
+    public synchronized int pending() {
+        return pending.size();
+    }
+
+    /**
+     * Transmit a command packet without waiting for the response.
+     *
+     * @param tx a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return a future which is completed with the response packet from the PiGpio daemon
+     *         or completed exceptionally if the channel is closed before a response arrives.
+     */
+    public CompletableFuture<PiGpioPacket> send(PiGpioPacket tx) {
+        CompletableFuture<PiGpioPacket> future = new CompletableFuture<>();
+        synchronized (this) {
+            if(closed) {
+                future.completeExceptionally(new PiGpioException("PIGPIO SOCKET CHANNEL IS CLOSED [" + host + ":" + port + "]"));
+                return future;
+            }
+            try {
+                reserve(PiGpioPacket.size(tx));
+                enqueue(tx, future);
+                transmit();
+            } catch (IOException e) {
+                close(e);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Transmit a command without a payload and without waiting for the response.
+     *
+     * Neither a request nor a response packet is allocated; the command is encoded straight
+     * into the transmit buffer and the result is read straight from the receive buffer.
+     *
+     * @param cmd a command without an extended response.
+     * @param p1 the first command parameter.
+     * @param p2 the second command parameter.
+     * @return a future which is completed with the result (P3) of the response from the PiGpio daemon
+     *         or completed exceptionally if the channel is closed before a response arrives.
+     */
+    public CompletableFuture<Integer> send(PiGpioCmd cmd, int p1, int p2) {
+        ResultFuture future = new ResultFuture();
+        synchronized (this) {
+            if(closed) {
+                future.completeExceptionally(new PiGpioException("PIGPIO SOCKET CHANNEL IS CLOSED [" + host + ":" + port + "]"));
+                return future;
+            }
+            try {
+                reserve(PiGpioPacket.HEADER_SIZE);
+                pending.add(future);
+                // guarded; the int parameters would otherwise be boxed even with tracing disabled
+                if(logger.isTraceEnabled()) logger.trace("[TX] -> {}; P1={}; P2={}", cmd, p1, p2);
+                this.txBuffer.putInt(cmd.value()).putInt(p1).putInt(p2).putInt(0);
+                transmit();
+            } catch (IOException e) {
+                close(e);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Transmit a batch of command packets using a single socket write without waiting for any response.
+     *
+     * @param batch the command packets to transmit (in order).
+     * @return a future for each command packet (in the same order) which is completed with the
+     *         response packet from the PiGpio daemon or completed exceptionally if the channel
+     *         is closed before a response arrives.
+     */
+    public List<CompletableFuture<PiGpioPacket>> send(List<PiGpioPacket> batch) {
+        List<CompletableFuture<PiGpioPacket>> futures = new ArrayList<>(batch.size());
+        for(int index = 0; index < batch.size(); index++) {
+            futures.add(new CompletableFuture<>());
+        }
+        synchronized (this) {
+            if(closed) {
+                PiGpioException exception = new PiGpioException("PIGPIO SOCKET CHANNEL IS CLOSED [" + host + ":" + port + "]");
+                futures.forEach(future -> future.completeExceptionally(exception));
+                return futures;
+            }
+            try {
+                // encode all packets into the transmit buffer and send them at once
+                int size = 0;
+                for(PiGpioPacket tx : batch) size += PiGpioPacket.size(tx);
+                reserve(size);
+                for(int index = 0; index < batch.size(); index++) {
+                    enqueue(batch.get(index), futures.get(index));
+                }
+                transmit();
+            } catch (IOException e) {
+                close(e);
+            }
+        }
+        return futures;
+    }
+
+    // clear the transmit buffer, growing it if needed; must hold 'this'
+    private void reserve(int size) {
+        if(size > this.txBuffer.capacity()) this.txBuffer = allocate(size);
+        this.txBuffer.clear();
+    }
+
+    // register a pending request and encode it into the transmit buffer; must hold 'this'
+    private void enqueue(PiGpioPacket tx, CompletableFuture<PiGpioPacket> future) {
+        // enqueue before writing so that the response can never arrive ahead of its request
+        pending.add(future);
+        logger.trace("[TX] -> {}", tx);
+        PiGpioPacket.encode(tx, this.txBuffer);
+    }
+
+    // write the encoded transmit buffer to the socket; must hold 'this'
+    private void transmit() throws IOException {
+        this.txBuffer.flip();
+        while(this.txBuffer.hasRemaining()) {
+            socket.write(this.txBuffer);
+        }
+    }
+
+    /**
+     * Receive thread; decodes the response packets in order and completes the
+     * pending request that was transmitted first.
+     */
+    private void receive() {
+        logger.trace("[THREAD] STARTED");
+        try {
+            while (!closed) {
+                // read as many bytes as are available; a single read may contain many responses
+                if(socket.read(rxBuffer) < 0)
+                    throw new EOFException("PIGPIO socket channel ended while reading packet.");
+                rxBuffer.flip();
+
+                // decode all complete packets in the buffer
+                int length;
+                while(rxBuffer.remaining() >= (length = PiGpioPacket.frameLength(rxBuffer))) {
+                    CompletableFuture<?> future;
+                    synchronized (this) {
+                        future = pending.poll();
+                    }
+                    if(future instanceof ResultFuture) {
+                        // only the result is wanted; skip the echoed header and any payload
+                        int result = rxBuffer.getInt(rxBuffer.position() + 12);
+                        rxBuffer.position(rxBuffer.position() + length);
+                        if(logger.isTraceEnabled()) logger.trace("[RX] <- RESULT={}", result);
+                        ((ResultFuture) future).complete(result);
+                        continue;
+                    }
+                    PiGpioPacket packet = PiGpioPacket.decode(rxBuffer, new PiGpioPacket());
+                    logger.trace("[RX] <- {}", packet);
+                    if(future == null) {
+                        logger.warn("[RX] received unsolicited packet; {}", packet);
+                        continue;
+                    }
+                    complete(future, packet);
+                }
+
+                // retain any partial packet; grow the buffer if the next packet does not fit
+                if(length > rxBuffer.capacity()) {
+                    ByteBuffer larger = allocate(length);
+                    larger.put(rxBuffer);
+                    rxBuffer = larger;
+                } else {
+                    rxBuffer.compact();
+                }
+            }
+        } catch (IOException e) {
+            close(e);
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage(), e);
+            close(new IOException(e));
+        }
+        logger.trace("[THREAD] ENDED");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void complete(CompletableFuture<?> future, PiGpioPacket packet) {
+        // every pending request other than a ResultFuture was registered as a packet future
+        ((CompletableFuture<PiGpioPacket>) future).complete(packet);
+    }
+
+    /**
+     * Close this channel and fail all pending requests.
+     */
+    @Override
+    public void close() {
+        close(null);
+    }
+
+    private void close(IOException cause) {
+        Queue<CompletableFuture<?>> failed;
+        synchronized (this) {
+            if(closed) return;
+            closed = true;
+            failed = new ArrayDeque<>(pending);
+            pending.clear();
+        }
+
+        // a socket error while not closing on purpose means the connection was lost
+        if(cause != null)
+            logger.warn("[SOCKET] channel disconnected from {}:{}; {}", host, port, cause.getMessage());
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+
+        // fail any requests still awaiting a response
+        PiGpioException exception = (cause != null)
+            ? new PiGpioException("PIGPIO SOCKET CHANNEL DISCONNECTED [" + host + ":" + port + "]", cause)
+            : new PiGpioException("PIGPIO SOCKET CHANNEL IS CLOSED [" + host + ":" + port + "]");
+        failed.forEach(future -> future.completeExceptionally(exception));
+
+        // notify the owner of this channel that the connection was lost
+        if(cause != null && disconnectListener != null) {
+            try {
+                disconnectListener.run();
+            } catch (RuntimeException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * A pending request that is completed with the result of its response only.
+     */
+    private static final class ResultFuture extends CompletableFuture<Integer> {
+    }
+
+    private static ByteBuffer allocate(int size) {
+        // direct buffers avoid an extra copy through a temporary native buffer on every socket read/write
+        return ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
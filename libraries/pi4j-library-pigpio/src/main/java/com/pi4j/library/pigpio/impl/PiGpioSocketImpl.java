@@ -31,11 +31,22 @@ import com.pi4j.library.pigpio.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import static com.pi4j.library.pigpio.PiGpioCmd.*;
+import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_CONNECTIONS;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_HOST;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_PORT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_CMD_MAX_EXTENSION;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_WAVE_MAX_CHARS;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_WAVE_PULSE_SIZE;
 
 /**
  * <p>PiGpioSocketImpl class.</p>
@@ -56,7 +67,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
      */
     public static PiGpio newInstance(String host, String port) {
-        return new PiGpioSocketImpl(host, Integer.parseInt(port));
+        return new PiGpioSocketImpl(host, Integer.parseInt(port), DEFAULT_CONNECTIONS);
     }
 
     /**
@@ -68,7 +79,20 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
      */
     public static PiGpio newInstance(String host, int port) {
-        return new PiGpioSocketImpl(host, port);
+        return new PiGpioSocketImpl(host, port, DEFAULT_CONNECTIONS);
+    }
+
+    /**
+     * Creates a PiGpio instance using a pool of TCP Socket connections for remote I/O access.
+     * Connects to a user specified socket hostname/ip address and port.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param connections number of pooled TCP/IP socket connections to the PiGpio daemon.
+     * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
+     */
+    public static PiGpio newInstance(String host, int port, int connections) {
+        return new PiGpioSocketImpl(host, port, connections);
     }
 
     /**
@@ -79,7 +103,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
      */
     public static PiGpio newInstance(String host) {
-        return new PiGpioSocketImpl(host, DEFAULT_PORT);
+        return new PiGpioSocketImpl(host, DEFAULT_PORT, DEFAULT_CONNECTIONS);
     }
 
     /**
@@ -89,7 +113,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      * @return a {@link com.pi4j.library.pigpio.PiGpio} object.
      */
     public static PiGpio newInstance() {
-        return new PiGpioSocketImpl(DEFAULT_HOST, DEFAULT_PORT);
+        return new PiGpioSocketImpl(DEFAULT_HOST, DEFAULT_PORT, DEFAULT_CONNECTIONS);
     }
 
     /**
@@ -99,9 +123,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      *
      * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
      * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param connections number of pooled TCP/IP socket connections to the PiGpio daemon.
      */
-    private PiGpioSocketImpl(String host, int port) {
-        super(host, port);
+    private PiGpioSocketImpl(String host, int port, int connections) {
+        super(host, port, connections);
     }
 
     /**
@@ -114,8 +139,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     public int gpioVersion() {
         logger.trace("[VERSION] -> GET VERSION");
         validateReady();
-        PiGpioPacket result = sendCommand(PIGPV);
-        int version = result.result();
+        int result = sendCommand(PIGPV);
+        int version = result;
         logger.trace("[VERSION] <- RESULT={}", version);
         return version;
     }
@@ -143,8 +168,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     public long gpioHardwareRevision() {
         logger.trace("[HARDWARE] -> GET REVISION");
         validateReady();
-        PiGpioPacket result = sendCommand(HWVER);
-        long revision = result.result();
+        int result = sendCommand(HWVER);
+        long revision = result;
         logger.trace("[HARDWARE] <- REVISION: {}", revision);
         if(revision <= 0) throw new PiGpioException("Hardware revision could not be determined.");
         return revision;
@@ -167,8 +192,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::PUD-SET] -> PIN: {}; PUD={}({});", pin, pud.name(), pud.value());
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(PUD, pin, pud.value());
-        logger.trace("[GPIO::PUD-SET] <- PIN: {}; PUD={}({}); SUCCESS={}", pud.name(), pud.value(), result.success());
+        int result = sendCommand(PUD, pin, pud.value());
+        logger.trace("[GPIO::PUD-SET] <- PIN: {}; PUD={}({}); SUCCESS={}", pud.name(), pud.value(), (result>=0));
         validateResult(result); // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_MODE.
     }
 
@@ -183,9 +208,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::MODE-GET] -> PIN: {};", pin);
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(MODEG, pin);
+        int result = sendCommand(MODEG, pin);
         validateResult(result); // Returns the GPIO mode if OK, otherwise PI_BAD_GPIO.
-        PiGpioMode mode = PiGpioMode.from(result.result());
+        PiGpioMode mode = PiGpioMode.from(result);
         logger.trace("[GPIO::MODE-GET] <- PIN: {}; MODE={}({})", pin, mode.name(), mode.value());
         return mode;
     }
@@ -204,8 +229,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::MODE-SET] -> PIN: {}; MODE={}({});", pin, mode.name(), mode.value());
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(MODES, pin, mode.value());
-        logger.trace("[GPIO::MODE-SET] <- PIN: {}; MODE={}({}); SUCCESS={}", mode.name(), mode.value(), result.success());
+        int result = sendCommand(MODES, pin, mode.value());
+        logger.trace("[GPIO::MODE-SET] <- PIN: {}; MODE={}({}); SUCCESS={}", mode.name(), mode.value(), (result>=0));
         validateResult(result); // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_PUD.
     }
 
@@ -220,9 +245,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::GET] -> PIN: {}", pin);
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(READ, pin);
+        int result = sendCommand(READ, pin);
         validateResult(result); // Returns the GPIO level if OK, otherwise PI_BAD_GPIO.
-        PiGpioState state = PiGpioState.from(result.p3()); // result value stored in P3
+        PiGpioState state = PiGpioState.from(result);
         logger.trace("[GPIO::GET] <- PIN: {} is {}({})", pin, state.name(), state.value());
         return state;
     }
@@ -238,11 +263,58 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[GPIO::SET] -> PIN: {}; {}({});", pin, state.name(), state.value());
         validateReady();
         validatePin(pin);
-        PiGpioPacket result = sendCommand(WRITE, pin, state.value());
-        logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), result.success());
+        int result = sendCommand(WRITE, pin, state.value());
+        logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the current level of GPIO 0-31.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioRead_Bits_0_31() {
+        logger.trace("[GPIO::GET-BANK] -> BANK: 1 (0-31)");
+        validateReady();
+        int result = sendCommand(BR1);
+        // Returns the current level of GPIO 0-31; the result is an (unsigned) bit mask and cannot fail,
+        // so it is not validated (GPIO 31 sets the sign bit).
+        logger.trace("[GPIO::GET-BANK] <- BANK: 1 (0-31) is {}", Integer.toBinaryString(result));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets GPIO 0-31 if the corresponding bit in bits is set.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Set(int bits) {
+        logger.trace("[GPIO::SET-BANK] -> BANK: 1 (0-31); BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        int result = sendCommand(BS1, bits);
+        logger.trace("[GPIO::SET-BANK] <- BANK: 1 (0-31); SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clears GPIO 0-31 if the corresponding bit in bits is set.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Clear(int bits) {
+        logger.trace("[GPIO::CLEAR-BANK] -> BANK: 1 (0-31); BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        int result = sendCommand(BC1, bits);
+        logger.trace("[GPIO::CLEAR-BANK] <- BANK: 1 (0-31); SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -268,8 +340,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validatePin(pin);
         validateGpioGlitchFilter(steady);
-        PiGpioPacket result = sendCommand(FG, pin, steady);
-        logger.trace("[GPIO::GLITCH] <- PIN: {}; SUCCESS={}",  pin, result.success());
+        int result = sendCommand(FG, pin, steady);
+        logger.trace("[GPIO::GLITCH] <- PIN: {}; SUCCESS={}",  pin, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_BAD_FILTER.
     }
 
@@ -299,11 +371,40 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validatePin(pin);
         validateGpioNoiseFilter(steady, active);
-        PiGpioPacket result = sendCommand(FN, pin, steady).data(active);
+        PiGpioPacket result = sendPacket(new PiGpioPacket(FN, pin, steady).data(active));
         logger.trace("[GPIO::NOISE] <- PIN: {}; SUCCESS={}",  pin, result.success());
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_BAD_FILTER.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Sets a watchdog for a GPIO.
+     */
+    @Override
+    public void gpioSetWatchdog(int pin, int timeout) {
+        logger.trace("[GPIO::WDOG] -> PIN: {}; TIMEOUT: {};", pin, timeout);
+        validateReady();
+        validateUserPin(pin);
+        int result = sendCommand(WDOG, pin, timeout);
+        logger.trace("[GPIO::WDOG] <- PIN: {}; SUCCESS={}", pin, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_WDOG_TIMEOUT.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets the pad drive strength.
+     */
+    @Override
+    public void gpioSetPad(int pad, int strength) {
+        logger.trace("[GPIO::PADS] -> PAD: {}; STRENGTH: {};", pad, strength);
+        validateReady();
+        int result = sendCommand(PADS, pad, strength);
+        logger.trace("[GPIO::PADS] <- PAD: {}; SUCCESS={}", pad, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_PAD or PI_BAD_STRENGTH.
+    }
+
 
     // *****************************************************************************************************
     // *****************************************************************************************************
@@ -326,8 +427,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         validateDutyCycle(dutyCycle);
-        PiGpioPacket result = sendCommand(PWM, pin, dutyCycle);
-        logger.trace("[PWM::SET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, result.success());
+        int result = sendCommand(PWM, pin, dutyCycle);
+        logger.trace("[PWM::SET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
@@ -348,9 +449,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[PWM::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
-        PiGpioPacket result = sendCommand(GDC, pin);
-        var dutyCycle = result.result();
-        logger.trace("[PWM::GET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, result.success());
+        int result = sendCommand(GDC, pin);
+        var dutyCycle = result;
+        logger.trace("[PWM::GET] <- PIN: {}; DUTY-CYCLE={}; SUCCESS={}",  pin, dutyCycle, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_NOT_PWM_GPIO.
         return dutyCycle;
     }
@@ -387,11 +488,11 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         //validateDutyCycleRange(range);
-        PiGpioPacket result = sendCommand(PRS, pin, range);
-        var readRange = result.result();
-        logger.trace("[PWM-RANGE::SET] <- PIN: {}; REAL-RANGE={}; SUCCESS={}",  pin, readRange, result.success());
+        int result = sendCommand(PRS, pin, range);
+        var readRange = result;
+        logger.trace("[PWM-RANGE::SET] <- PIN: {}; REAL-RANGE={}; SUCCESS={}",  pin, readRange, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_DUTYRANGE.
-        return result.result();
+        return result;
     }
 
     /**
@@ -406,9 +507,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[PWM-RANGE::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
-        PiGpioPacket result = sendCommand(PRG, pin);
-        var range = result.result();
-        logger.trace("[PWM-RANGE::GET] <- PIN: {}; RANGE={}; SUCCESS={}",  pin, range, result.success());
+        int result = sendCommand(PRG, pin);
+        var range = result;
+        logger.trace("[PWM-RANGE::GET] <- PIN: {}; RANGE={}; SUCCESS={}",  pin, range, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_DUTYRANGE.
         return range;
     }
@@ -427,9 +528,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[PWM-REAL-RANGE::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
-        PiGpioPacket result = sendCommand(PRRG, pin);
-        var range = result.result();
-        logger.trace("[PWM-REAL-RANGE::GET] <- PIN: {}; RANGE={}; SUCCESS={}",  pin, range, result.success());
+        int result = sendCommand(PRRG, pin);
+        var range = result;
+        logger.trace("[PWM-REAL-RANGE::GET] <- PIN: {}; RANGE={}; SUCCESS={}",  pin, range, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_DUTYRANGE.
         return range;
     }
@@ -479,9 +580,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         // validateFrequency(frequency); TODO :: IMPLEMENT 'validateFrequency()'
-        PiGpioPacket result = sendCommand(PFS, pin, frequency);
-        var actualRange = result.result();
-        logger.trace("[PWM-FREQ::SET] <- PIN: {}; FREQUENCY={}; SUCCESS={}",  pin, frequency, result.success());
+        int result = sendCommand(PFS, pin, frequency);
+        var actualRange = result;
+        logger.trace("[PWM-FREQ::SET] <- PIN: {}; FREQUENCY={}; SUCCESS={}",  pin, frequency, (result>=0));
         validateResult(result);  // Returns the numerically closest frequency if OK, otherwise PI_BAD_USER_GPIO.
         return actualRange;
     }
@@ -504,9 +605,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[PWM-FREQ::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
-        PiGpioPacket result = sendCommand(PFG, pin);
-        var frequency = result.result();
-        logger.trace("[PWM-FREQ::GET] <- PIN: {}; FREQUENCY={}; SUCCESS={}",  pin, frequency, result.success());
+        int result = sendCommand(PFG, pin);
+        var frequency = result;
+        logger.trace("[PWM-FREQ::GET] <- PIN: {}; FREQUENCY={}; SUCCESS={}",  pin, frequency, (result>=0));
         validateResult(result);  // Returns the frequency (in hertz) used for the GPIO if OK, otherwise PI_BAD_USER_GPIO.
         return frequency;
     }
@@ -605,8 +706,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         validatePulseWidth(pulseWidth);
-        PiGpioPacket result = sendCommand(SERVO, pin, pulseWidth);
-        logger.trace("[SERVO::SET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, result.success());
+        int result = sendCommand(SERVO, pin, pulseWidth);
+        logger.trace("[SERVO::SET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, (result>=0));
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_USER_GPIO or PI_BAD_PULSEWIDTH.
     }
 
@@ -620,9 +721,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[SERVO::GET] -> PIN: {}", pin);
         validateReady();
         validateUserPin(pin);
-        PiGpioPacket result = sendCommand(GPW, pin);
-        var pulseWidth = result.result();
-        logger.trace("[SERVO::GET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, result.success());
+        int result = sendCommand(GPW, pin);
+        var pulseWidth = result;
+        logger.trace("[SERVO::GET] <- PIN: {}; PULSE-WIDTH={}; SUCCESS={}",  pin, pulseWidth, (result>=0));
 
         // Returns 0 (off), 500 (most anti-clockwise) to 2500 (most clockwise)
         // if OK, otherwise PI_BAD_USER_GPIO or PI_NOT_SERVO_GPIO.
@@ -649,8 +750,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[DELAY] -> MICROS: {}", micros);
         validateReady();
         validateDelayMicroseconds(micros);
-        PiGpioPacket result = sendCommand(MICS, (int)micros);
-        logger.trace("[DELAY] <- MICROS: {}; SUCCESS={}",  micros, result.success());
+        int result = sendCommand(MICS, (int)micros);
+        logger.trace("[DELAY] <- MICROS: {}; SUCCESS={}",  micros, (result>=0));
         validateResult(result); // Upon success nothing is returned. On error a negative status code will be returned.
         return micros;
     }
@@ -666,8 +767,8 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[DELAY] -> MILLIS: {}", millis);
         validateReady();
         validateDelayMilliseconds(millis);
-        PiGpioPacket result = sendCommand(MILS, (int)millis);
-        logger.trace("[DELAY] <- MILLIS: {}; SUCCESS={}",  millis, result.success());
+        int result = sendCommand(MILS, (int)millis);
+        logger.trace("[DELAY] <- MILLIS: {}; SUCCESS={}",  millis, (result>=0));
         validateResult(result); // Upon success nothing is returned. On error a negative status code will be returned.
         return millis;
     }
@@ -1478,4 +1579,665 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         }
         return rx.result();
     }
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // SCRIPT IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stores a null terminated script for later execution.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    @Override
+    public int gpioStoreScript(String script) {
+        logger.trace("[SCRIPT::STORE] -> [{} bytes]", script.length());
+        validateReady();
+        PiGpioPacket tx = new PiGpioPacket(PROC).data(script);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[SCRIPT::STORE] <- SCRIPT-ID={}; SUCCESS={}", rx.result(), rx.success());
+        validateResult(rx);  // Returns a script id if OK, otherwise PI_BAD_SCRIPT.
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function runs a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    @Override
+    public void gpioRunScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::RUN] -> SCRIPT-ID={}; PARAMS={}", scriptId, (params == null) ? 0 : params.length);
+        validateReady();
+        validateScriptId(scriptId);
+        validateScriptParams(params);
+        PiGpioPacket tx = new PiGpioPacket(PROCR, scriptId).data(scriptParams(params));
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[SCRIPT::RUN] <- SCRIPT-ID={}; SUCCESS={}", scriptId, rx.success());
+        validateResult(rx);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function sets the parameters of a script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    @Override
+    public void gpioUpdateScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::UPDATE] -> SCRIPT-ID={}; PARAMS={}", scriptId, (params == null) ? 0 : params.length);
+        validateReady();
+        validateScriptId(scriptId);
+        validateScriptParams(params);
+        PiGpioPacket tx = new PiGpioPacket(PROCU, scriptId).data(scriptParams(params));
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[SCRIPT::UPDATE] <- SCRIPT-ID={}; SUCCESS={}", scriptId, rx.success());
+        validateResult(rx);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID, or PI_TOO_MANY_PARAM.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the run status of a script as well as the current values of parameters 0 to 9.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    @Override
+    public PiGpioScriptState gpioScriptStatus(int scriptId, int[] params) {
+        logger.trace("[SCRIPT::STATUS] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        PiGpioPacket rx = sendPacket(new PiGpioPacket(PROCP, scriptId));
+        validateResult(rx);  // Returns the script status if OK, otherwise PI_BAD_SCRIPT_ID.
+
+        // the response payload contains the script status followed by the script parameters (p0-p9)
+        ByteBuffer buffer = ByteBuffer.wrap(rx.data()).order(ByteOrder.LITTLE_ENDIAN);
+        PiGpioScriptState state = PiGpioScriptState.from(buffer.getInt());
+        for(int index = 0; params != null && index < params.length && buffer.remaining() >= 4; index++) {
+            params[index] = buffer.getInt();
+        }
+        logger.trace("[SCRIPT::STATUS] <- SCRIPT-ID={}; STATUS={}", scriptId, state);
+        return state;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops a running script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    @Override
+    public void gpioStopScript(int scriptId) {
+        logger.trace("[SCRIPT::STOP] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        int result = sendCommand(PROCS, scriptId);
+        logger.trace("[SCRIPT::STOP] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    @Override
+    public void gpioDeleteScript(int scriptId) {
+        logger.trace("[SCRIPT::DELETE] -> SCRIPT-ID={}", scriptId);
+        validateReady();
+        validateScriptId(scriptId);
+        int result = sendCommand(PROCD, scriptId);
+        logger.trace("[SCRIPT::DELETE] <- SCRIPT-ID={}; SUCCESS={}", scriptId, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_SCRIPT_ID.
+    }
+
+    /**
+     * Encode script parameters as the little endian uint32 array expected by the PiGpio daemon.
+     */
+    private static byte[] scriptParams(int[] params) {
+        if(params == null) return new byte[0];
+        ByteBuffer buffer = ByteBuffer.allocate(params.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for(int param : params) buffer.putInt(param);
+        return buffer.array();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * All commands of the batch are transmitted with a single socket write (per pooled
+     * connection) and the responses are collected afterwards.  If the batch is configured
+     * to stop on the first error, each command is instead sent only after the previous
+     * command succeeded.
+     */
+    @Override
+    public int[] execute(PiGpioBatch batch) {
+        logger.trace("[BATCH] -> EXECUTE [{} commands]; STOP-ON-ERROR={}", batch.size(), batch.stopOnError());
+        validateReady();
+        List<PiGpioPacket> commands = batch.commands();
+        int[] results = new int[commands.size()];
+        if(batch.stopOnError()) {
+            for(int index = 0; index < commands.size(); index++) {
+                results[index] = sendPacket(commands.get(index)).result();
+                if(results[index] < 0) {
+                    logger.trace("[BATCH] <- STOPPED AT COMMAND [{}]; RESULT={}", index, results[index]);
+                    return Arrays.copyOf(results, index + 1);
+                }
+            }
+        } else {
+            List<CompletableFuture<PiGpioPacket>> responses = sendPacketsAsync(commands);
+            for(int index = 0; index < responses.size(); index++) {
+                results[index] = await(responses.get(index)).result();
+            }
+        }
+        logger.trace("[BATCH] <- EXECUTED [{} commands]", results.length);
+        return results;
+    }
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // WAVE IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    @Override
+    public void gpioWaveClear() {
+        logger.trace("[WAVE::CLEAR] -> ");
+        validateReady();
+        int result = sendCommand(WVCLR);
+        logger.trace("[WAVE::CLEAR] <- SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function starts a new empty waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    @Override
+    public void gpioWaveAddNew() {
+        logger.trace("[WAVE::NEW] -> ");
+        validateReady();
+        int result = sendCommand(WVNEW);
+        logger.trace("[WAVE::NEW] <- SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function adds a number of pulses to the current waveform.
+     *
+     * The daemon accepts at most {@value PiGpioConst#PI_CMD_MAX_EXTENSION} bytes of pulses per command, so
+     * larger collections are sent as several WVAG commands, each appending to the current waveform.  If one
+     * of them fails the pulses of the preceding commands remain in the waveform; clear it using
+     * {@link #gpioWaveClear()} or start a new one using {@link #gpioWaveAddNew()}.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    @Override
+    public int gpioWaveAddGeneric(Collection<PiGpioPulse> pulses) {
+        logger.trace("[WAVE::ADD] -> [{} pulses]", (pulses == null) ? 0 : pulses.size());
+        validateReady();
+        validateWavePulses(pulses);
+
+        // each pulse is encoded as three little endian uint32 values (gpioOn, gpioOff, usDelay)
+        Iterator<PiGpioPulse> iterator = pulses.iterator();
+        int remaining = pulses.size();
+        PiGpioPacket rx = null;
+        while(remaining > 0) {
+            int count = Math.min(remaining, WAVE_PULSES_PER_COMMAND);
+            ByteBuffer buffer = ByteBuffer.allocate(count * PI_WAVE_PULSE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            for(int index = 0; index < count; index++) {
+                PiGpioPulse pulse = iterator.next();
+                buffer.putInt(pulse.gpioOn()).putInt(pulse.gpioOff()).putInt(pulse.delay());
+            }
+            rx = sendPacket(new PiGpioPacket(WVAG).data(buffer.array()));
+            logger.trace("[WAVE::ADD] <- PULSES={}; SUCCESS={}", rx.result(), rx.success());
+            validateResult(rx);  // Returns the new total number of pulses in the current waveform if OK, otherwise PI_TOO_MANY_PULSES.
+            remaining -= count;
+        }
+        return rx.result();
+    }
+
+    /** Number of pulses fitting in the extension of a single WVAG command. */
+    private static final int WAVE_PULSES_PER_COMMAND = PI_CMD_MAX_EXTENSION / PI_WAVE_PULSE_SIZE;
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function creates a waveform from the data provided by the prior calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    @Override
+    public int gpioWaveCreate() {
+        logger.trace("[WAVE::CREATE] -> ");
+        validateReady();
+        int result = sendCommand(WVCRE);
+        logger.trace("[WAVE::CREATE] <- WAVE-ID={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns the new waveform id if OK, otherwise PI_EMPTY_WAVEFORM, PI_TOO_MANY_CBS, PI_TOO_MANY_OOL, or PI_NO_WAVEFORM_ID.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes the waveform with id wave_id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    @Override
+    public void gpioWaveDelete(int waveId) {
+        logger.trace("[WAVE::DELETE] -> WAVE-ID={}", waveId);
+        validateReady();
+        validateWaveId(waveId);
+        int result = sendCommand(WVDEL, waveId);
+        logger.trace("[WAVE::DELETE] <- WAVE-ID={}; SUCCESS={}", waveId, (result>=0));
+        validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_WAVE_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits the waveform with id wave_id using the given mode.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    @Override
+    public int gpioWaveTxSend(int waveId, PiGpioWaveMode mode) {
+        logger.trace("[WAVE::SEND] -> WAVE-ID={}; MODE={}", waveId, mode);
+        validateReady();
+        validateWaveId(waveId);
+        int result = sendCommand(WVTXM, waveId, mode.value());
+        logger.trace("[WAVE::SEND] <- WAVE-ID={}; CBS={}; SUCCESS={}", waveId, result, (result>=0));
+        validateResult(result);  // Returns the number of DMA control blocks in the waveform if OK, otherwise PI_BAD_WAVE_ID, or PI_BAD_WAVE_MODE.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits a chain of waveforms.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    @Override
+    public void gpioWaveChain(byte[] chain) {
+        logger.trace("[WAVE::CHAIN] -> [{} bytes]", (chain == null) ? 0 : chain.length);
+        validateReady();
+        Objects.requireNonNull(chain, "Wave chain may not be null");
+        if(chain.length > PI_WAVE_MAX_CHARS)
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID WAVE CHAIN LENGTH [" + chain.length + "]; Valid range: 0-" + PI_WAVE_MAX_CHARS);
+        PiGpioPacket tx = new PiGpioPacket(WVCHA).data(chain);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[WAVE::CHAIN] <- SUCCESS={}", rx.success());
+        validateResult(rx);  // Returns 0 if OK, otherwise PI_CHAIN_NESTING, PI_CHAIN_LOOP_CNT, PI_BAD_CHAIN_LOOP, PI_BAD_CHAIN_CMD, PI_CHAIN_COUNTER, PI_BAD_CHAIN_DELAY, PI_CHAIN_TOO_BIG, or PI_BAD_WAVE_ID.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the id of the waveform currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    @Override
+    public int gpioWaveTxAt() {
+        logger.trace("[WAVE::AT] -> ");
+        validateReady();
+        int result = sendCommand(WVTAT);
+        logger.trace("[WAVE::AT] <- WAVE-ID={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns the waveform id or one of the following special values: PI_WAVE_NOT_FOUND or PI_NO_TX_WAVE.
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function checks to see if a waveform is currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    @Override
+    public boolean gpioWaveTxBusy() {
+        logger.trace("[WAVE::BUSY] -> ");
+        validateReady();
+        int result = sendCommand(WVBSY);
+        logger.trace("[WAVE::BUSY] <- BUSY={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);  // Returns 1 if a waveform is currently being transmitted, otherwise 0.
+        return result == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function aborts the transmission of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    @Override
+    public void gpioWaveTxStop() {
+        logger.trace("[WAVE::STOP] -> ");
+        validateReady();
+        int result = sendCommand(WVHLT);
+        logger.trace("[WAVE::STOP] <- SUCCESS={}", (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the length in microseconds of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    @Override
+    public int gpioWaveGetMicros() {
+        logger.trace("[WAVE::MICROS] -> ");
+        validateReady();
+        int result = sendCommand(WVSM, 0);  // p1 = 0 :: current waveform
+        logger.trace("[WAVE::MICROS] <- MICROS={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the length in pulses of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    @Override
+    public int gpioWaveGetPulses() {
+        logger.trace("[WAVE::PULSES] -> ");
+        validateReady();
+        int result = sendCommand(WVSP, 0);  // p1 = 0 :: current waveform
+        logger.trace("[WAVE::PULSES] <- PULSES={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the length in DMA control blocks of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    @Override
+    public int gpioWaveGetCbs() {
+        logger.trace("[WAVE::CBS] -> ");
+        validateReady();
+        int result = sendCommand(WVSC, 0);  // p1 = 0 :: current waveform
+        logger.trace("[WAVE::CBS] <- CBS={}; SUCCESS={}", result, (result>=0));
+        validateResult(result);
+        return result;
+    }
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // ASYNC (PIPELINED) IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioSetPullUpDownAsync(int pin, PiGpioPud pud) {
+        logger.trace("[GPIO::PUD-SET] -> (ASYNC) PIN: {}; PUD={}({});", pin, pud.name(), pud.value());
+        validateReady();
+        validatePin(pin);
+        return sendCommandAsync(PUD, pin, pud.value()).thenAccept(this::validateResult);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioMode> gpioGetModeAsync(int pin) {
+        logger.trace("[GPIO::MODE-GET] -> (ASYNC) PIN: {};", pin);
+        validateReady();
+        validatePin(pin);
+        return sendCommandAsync(MODEG, pin).thenApply(rx -> {
+            validateResult(rx);
+            return PiGpioMode.from(rx.result());
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioSetModeAsync(int pin, PiGpioMode mode) {
+        logger.trace("[GPIO::MODE-SET] -> (ASYNC) PIN: {}; MODE={}({});", pin, mode.name(), mode.value());
+        validateReady();
+        validatePin(pin);
+        return sendCommandAsync(MODES, pin, mode.value()).thenAccept(this::validateResult);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioState> gpioReadAsync(int pin) {
+        logger.trace("[GPIO::GET] -> (ASYNC) PIN: {}", pin);
+        validateReady();
+        validatePin(pin);
+        return sendCommandAsync(READ, pin).thenApply(rx -> {
+            validateResult(rx);
+            return PiGpioState.from(rx.p3()); // result value stored in P3
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioWriteAsync(int pin, PiGpioState state) {
+        logger.trace("[GPIO::SET] -> (ASYNC) PIN: {}; {}({});", pin, state.name(), state.value());
+        validateReady();
+        validatePin(pin);
+        return sendCommandAsync(WRITE, pin, state.value()).thenAccept(this::validateResult);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> gpioPWMAsync(int pin, int dutyCycle) {
+        logger.trace("[PWM::SET] -> (ASYNC) PIN: {}; DUTY-CYCLE={};", pin, dutyCycle);
+        validateReady();
+        validateUserPin(pin);
+        validateDutyCycle(dutyCycle);
+        return sendCommandAsync(PWM, pin, dutyCycle).thenAccept(this::validateResult);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteByteAsync(int handle, byte value) {
+        logger.trace("[I2C::WRITE] -> (ASYNC) HANDLE={}; Byte [{}]", handle, Byte.toUnsignedInt(value));
+        validateReady();
+        validateHandle(handle);
+        return sendCommandAsync(I2CWS, handle, Byte.toUnsignedInt(value)).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByteAsync(int handle) {
+        logger.trace("[I2C::READ] -> (ASYNC) [{}]; Byte", handle);
+        validateReady();
+        validateHandle(handle);
+        return sendCommandAsync(I2CRS, handle).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteByteDataAsync(int handle, int register, byte value) {
+        logger.trace("[I2C::WRITE] -> (ASYNC) [{}]; Register [{}]; Byte [{}]", handle, register, Byte.toUnsignedInt(value));
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        PiGpioPacket tx = new PiGpioPacket(I2CWB, handle, register).data(Byte.toUnsignedInt(value));
+        return sendPacketAsync(tx).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadByteDataAsync(int handle, int register) {
+        logger.trace("[I2C::READ] -> (ASYNC) [{}]; Register [{}]; Byte", handle, register);
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        return sendCommandAsync(I2CRB, handle, register).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteWordDataAsync(int handle, int register, int value) {
+        logger.trace("[I2C::WRITE] -> (ASYNC) [{}]; Register [{}]; Word [{}]", handle, register, value);
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        PiGpioPacket tx = new PiGpioPacket(I2CWW, handle, register).data(value);
+        return sendPacketAsync(tx).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cReadWordDataAsync(int handle, int register) {
+        logger.trace("[I2C::READ] -> (ASYNC) [{}]; Register [{}]; Word", handle, register);
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        return sendCommandAsync(I2CRW, handle, register).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteI2CBlockDataAsync(int handle, int register, byte[] data, int offset, int length) {
+        logger.trace("[I2C::WRITE] -> (ASYNC) [{}]; Register [{}]; I2C Block [{} bytes]; offset={}", handle ,register, length, offset);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, data.length);
+        validateHandle(handle);
+        validateI2cRegister(register);
+        validateI2cBlockLength(length);
+        PiGpioPacket tx = new PiGpioPacket(I2CWI, handle, register).data(data, offset, length);
+        return sendPacketAsync(tx).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<byte[]> i2cReadI2CBlockDataAsync(int handle, int register, int length) {
+        logger.trace("[I2C::READ] -> (ASYNC) [{}]; Register [{}]; I2C Block [{} bytes]", handle, register, length);
+        validateReady();
+        validateHandle(handle);
+        validateI2cRegister(register);
+        PiGpioPacket tx = new PiGpioPacket(I2CRI, handle, register).data(length);
+        return sendPacketAsync(tx).thenApply(this::payload);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> i2cWriteDeviceAsync(int handle, byte[] data, int offset, int length) {
+        logger.trace("[I2C::WRITE] -> (ASYNC) [{}]; I2C Raw Write [{} bytes]; offset={}", handle, length, offset);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, data.length);
+        validateHandle(handle);
+        PiGpioPacket tx = new PiGpioPacket(I2CWD, handle).data(data, offset, length);
+        return sendPacketAsync(tx).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<byte[]> i2cReadDeviceAsync(int handle, int length) {
+        logger.trace("[I2C::READ] -> (ASYNC) [{}]; I2C Raw Read [{} bytes]", handle, length);
+        validateReady();
+        validateHandle(handle);
+        return sendCommandAsync(I2CRD, handle, length).thenApply(this::payload);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> spiWriteAsync(int handle, byte[] data, int offset, int length) {
+        logger.trace("[SPI::WRITE] -> (ASYNC) [{}]; Serial Write [{} bytes]", handle, length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, data.length);
+        validateHandle(handle);
+        PiGpioPacket tx = new PiGpioPacket(SPIW, handle).data(data, offset, length);
+        return sendPacketAsync(tx).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<byte[]> spiReadAsync(int handle, int length) {
+        logger.trace("[SPI::READ] -> (ASYNC) [{}]; Serial Read [{} bytes]", handle, length);
+        validateReady();
+        validateHandle(handle);
+        return sendCommandAsync(SPIR, handle, length).thenApply(this::payload);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<byte[]> spiXferAsync(int handle, byte[] write, int offset, int length) {
+        logger.trace("[SPI::XFER] -> (ASYNC) [{}]; Serial Transfer [{} bytes]", handle, length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, write.length);
+        validateHandle(handle);
+        PiGpioPacket tx = new PiGpioPacket(SPIX, handle).data(write, offset, length);
+        return sendPacketAsync(tx).thenApply(this::payload);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serWriteByteAsync(int handle, byte value) {
+        logger.trace("[SERIAL::WRITE] -> (ASYNC) HANDLE={}; Byte [{}]", handle, Byte.toUnsignedInt(value));
+        validateReady();
+        validateHandle(handle);
+        return sendCommandAsync(SERWB, handle, Byte.toUnsignedInt(value)).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serReadByteAsync(int handle) {
+        logger.trace("[SERIAL::READ] -> (ASYNC) [{}]; Byte", handle);
+        validateReady();
+        validateHandle(handle);
+        return sendCommandAsync(SERRB, handle).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serWriteAsync(int handle, byte[] data, int offset, int length) {
+        logger.trace("[SERIAL::WRITE] -> (ASYNC) [{}]; Serial Write [{} bytes]", handle, length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, data.length);
+        validateHandle(handle);
+        PiGpioPacket tx = new PiGpioPacket(SERW, handle).data(data, offset, length);
+        return sendPacketAsync(tx).thenApply(this::result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<byte[]> serReadAsync(int handle, int length) {
+        logger.trace("[SERIAL::READ] -> (ASYNC) [{}]; Serial Read [{} bytes]", handle, length);
+        validateReady();
+        validateHandle(handle);
+        return sendCommandAsync(SERR, handle, length).thenApply(this::payload);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> serDataAvailableAsync(int handle) {
+        logger.trace("[SERIAL::AVAIL] -> (ASYNC) Get number of bytes available to read");
+        validateReady();
+        return sendCommandAsync(SERDA, handle).thenApply(this::result);
+    }
+
+    /**
+     * Validate a response packet and return its result value.
+     */
+    private int result(PiGpioPacket rx) {
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * Validate a response packet and return a copy of the payload bytes it actually carries.
+     */
+    private byte[] payload(PiGpioPacket rx) {
+        validateResult(rx);
+        int actual = rx.result();
+        if(rx.dataLength() < actual) actual = rx.dataLength();
+        return Arrays.copyOf(rx.data(), actual);
+    }
 }
@@ -60,9 +60,13 @@ public class PiGpioSocketMonitor  {
     protected Integer handle = null;
     protected Thread monitoringThread = null;
 
+    // size (in bytes) of each notification report and the number of reports buffered per read
+    protected static final int REPORT_SIZE = 12;
+    protected static final int BUFFER_REPORTS = 256;
+
     // 32 bits are used to store the last known states of pins 0-31
     protected int pinState = 0b00000000000000000000000000000000;
-    protected int pinMonitor = 0b00000000000000000000000000000000;
+    protected volatile int pinMonitor = 0b00000000000000000000000000000000;
 
 
     /**
@@ -79,6 +83,7 @@ public class PiGpioSocketMonitor  {
      */
     public void shutdown(){
         this.shutdown = true;
+        wake();
         try {
             disable();
         }
@@ -87,6 +92,17 @@ public class PiGpioSocketMonitor  {
         }
     }
 
+    /**
+     * Wake the monitoring thread if it is waiting to reconnect its listener socket, for
+     * example because the connection to the PiGpio daemon has just been re-established.
+     * The previously enabled pin notifications are restored once the listener reconnects.
+     */
+    public void wake(){
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
     /**
      * <p>isConnected.</p>
      *
@@ -148,8 +164,11 @@ public class PiGpioSocketMonitor  {
             public void run() {
                 logger.trace("[THREAD] STARTED");
 
+                // set once the listener has connected; pin changes missed while reconnecting are dispatched
+                boolean resumed = false;
+
                 // continue running this thread until this monitor is 'shutdown'
-                while (!shutdown && pinMonitor > 0){
+                while (!shutdown && pinMonitor != 0){
 
                     // create new listener socket instance
                     try {
@@ -165,7 +184,12 @@ public class PiGpioSocketMonitor  {
                             // get the current pin states for pins 0-31
                             PiGpioPacket tx = new PiGpioPacket(PiGpioCmd.BR1);
                             PiGpioPacket rx = piGpio.sendPacket(tx, listener);
+                            if(resumed) {
+                                // report monitored pins that changed state while the listener was disconnected
+                                dispatch(rx.p3(), 0, 0);
+                            }
                             pinState = rx.p3();
+                            resumed = true;
                             logger.trace("[GPIO] current pin states [BR1] <{}>", Integer.toBinaryString(pinState));
 
 //                        ByteBuffer b = ByteBuffer.allocate(4);
@@ -188,14 +212,19 @@ public class PiGpioSocketMonitor  {
                             var in = listener.getInputStream();
 
                             boolean disconnected = false;
-                            byte[] raw = new byte[12];
+
+                            // notification reports may arrive in bursts and may be split across reads;
+                            // read into a large buffer and carry over any incomplete report to the next read
+                            byte[] raw = new byte[REPORT_SIZE * BUFFER_REPORTS];
+                            ByteBuffer buffer = ByteBuffer.wrap(raw);
+                            buffer.order(ByteOrder.LITTLE_ENDIAN);
 
                             // continue reading from the socket until the socket has become disconnected,
                             // this monitor is being shutdown or until no pins are actively being monitored
                             while (!disconnected && !shutdown && pinMonitor != 0) {
 
                                 try {
-                                    int result = in.read(raw, 0, raw.length);
+                                    int result = in.read(raw, buffer.position(), buffer.remaining());
 
                                     // check for end of stream error code
                                     if(result == -1){
@@ -205,59 +234,11 @@ public class PiGpioSocketMonitor  {
                                         break;
                                     }
 
-                                    // process the data read buffer if we have a sufficient number of bytes
-                                    if (result >= 12) {
-                                        // wrap the raw data in a byte buffer to process/decode the results (Little Endian)
-                                        ByteBuffer buffer = ByteBuffer.wrap(raw);
-                                        buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-                                        // decode each event data element from the buffer
-                                        final long sequence = Integer.toUnsignedLong(buffer.getShort());
-                                        final long flags = Integer.toUnsignedLong(buffer.getShort());
-                                        final long tick = Integer.toUnsignedLong(buffer.getInt());
-                                        final int newPinState = buffer.getInt();
-
-//                        final BitSet levels = BitSet.valueOf(buffer.array());
-//                        logger.info("[BYTES] [0x" + StringUtil.toHexString(buffer) + "]");
-//                        logger.info("[SEQUE] " + sequence);
-//                        logger.info("[FLAGS] " + flags);
-//                        logger.info("[TICK ] " + tick);
-//                        logger.info("[LEVEL] " + Integer.toBinaryString(level));
-//                        logger.info("[STATE] " + BitSet.valueOf(raw).get(0));
-//                        logger.info("--------------------------------------------------------");
-                                        logger.trace("[NOTIFY] SEQ={}; FLAGS={}; TICK={}; STATES=[{}]",
-                                                sequence, flags, tick, Integer.toBinaryString(newPinState));
-
-                                        // iterate over the 32 bits in the level value
-                                        for (int i = 0; i < 32; i++) {
-                                            // determine if this pin is enabled for events
-                                            // if it is, then process the event; else ignore it
-                                            int pinNotify = (pinMonitor >> i) & 1;
-                                            if(pinNotify > 0) {
-                                                // get the states for this pin from the 32-bit value
-                                                int oldState = (pinState >> i) & 1;
-                                                int newState = (newPinState >> i) & 1;
-
-                                                // compare the old state value with the new state value to determine if there is a change
-                                                if (oldState != newState) {
-                                                    // if there is a change detected, then create a new change event and dispatch it
-                                                    final PiGpioState state = PiGpioState.from(newState);
-                                                    final PiGpioStateChangeEvent event = new PiGpioStateChangeEvent(i, state, tick);
-                                                    logger.trace("[DISPATCH] PiGpioStateChangeEvent(PIN={}; FLAGS={}; TICK={}; STATE=[{}]",
-                                                            i, flags, tick, Integer.toBinaryString(newPinState));
-                                                    try {
-                                                        piGpio.dispatchEvent(event);
-                                                    }
-                                                    catch (Exception e){
-                                                        logger.error(e.getMessage(), e);
-                                                    }
-                                                }
-                                            }
-                                        }
-
-                                        // cache the new;y read pins states for future comparisons
-                                        pinState = newPinState;
-                                    }
+                                    // decode all complete reports; retain any partial report for the next read
+                                    buffer.position(buffer.position() + result);
+                                    buffer.flip();
+                                    decode(buffer);
+                                    buffer.compact();
                                 }
                                 catch (SocketTimeoutException ste){
                                     // ignore this timeout and continue reading
@@ -293,7 +274,7 @@ public class PiGpioSocketMonitor  {
                     handle = null;
 
                     // make sure the listener is closed at this point
-                    if(!listener.isClosed()) {
+                    if(listener != null && !listener.isClosed()) {
                         try {
                             listener.close();
                         } catch (IOException e) {
@@ -301,16 +282,14 @@ public class PiGpioSocketMonitor  {
                         }
                     }
 
-                    // attempt to reconnect if we are not shutting down
-                    if(!shutdown && pinMonitor > 0) {
-                        // sleep for 5 seconds
+                    // attempt to reconnect if we are not shutting down; wait for 5 seconds
+                    // or until woken up because the daemon connection was re-established
+                    if(!shutdown && pinMonitor != 0) {
                         try {
                             logger.debug("[SOCKET] will attempt to reconnect in 5 seconds");
-                            for(int i = 0; i < 50; i++) {
-                                Thread.sleep(100);
-                                if(shutdown) break;
+                            synchronized (PiGpioSocketMonitor.this) {
+                                PiGpioSocketMonitor.this.wait(5000);
                             }
-
                         } catch (InterruptedException e) {
                             logger.error(e.getMessage(), e);
                         }
@@ -323,4 +302,51 @@ public class PiGpioSocketMonitor  {
         // start thread
         monitoringThread.start();
     }
+
+    /**
+     * Decode and dispatch all complete notification reports available in the buffer.
+     *
+     * @param buffer a LITTLE ENDIAN buffer positioned at the first undecoded report.
+     */
+    protected void decode(ByteBuffer buffer) {
+        while (buffer.remaining() >= REPORT_SIZE) {
+            // decode each event data element from the buffer
+            final long sequence = Short.toUnsignedLong(buffer.getShort());
+            final long flags = Short.toUnsignedLong(buffer.getShort());
+            final long tick = Integer.toUnsignedLong(buffer.getInt());
+            final int newPinState = buffer.getInt();
+            logger.trace("[NOTIFY] SEQ={}; FLAGS={}; TICK={}; STATES=[{}]", sequence, flags, tick, newPinState);
+            dispatch(newPinState, flags, tick);
+        }
+    }
+
+    /**
+     * Dispatch a change event for each monitored pin whose state differs from the last known state.
+     *
+     * @param newPinState the states of pins 0-31 as reported by the PiGpio daemon.
+     * @param flags the notification report flags.
+     * @param tick the notification report tick (microseconds).
+     */
+    protected void dispatch(int newPinState, long flags, long tick) {
+        // only visit the bits of monitored pins that actually changed state
+        int changed = (pinState ^ newPinState) & pinMonitor;
+        while (changed != 0) {
+            final int pin = Integer.numberOfTrailingZeros(changed);
+            changed &= changed - 1; // clear lowest set bit
+
+            // if there is a change detected, then create a new change event and dispatch it
+            final PiGpioState state = PiGpioState.from((newPinState >>> pin) & 1);
+            final PiGpioStateChangeEvent event = new PiGpioStateChangeEvent(pin, state, tick);
+            logger.trace("[DISPATCH] PiGpioStateChangeEvent(PIN={}; FLAGS={}; TICK={}; STATE={})", pin, flags, tick, state);
+            try {
+                piGpio.dispatchEvent(event);
+            }
+            catch (Exception e){
+                logger.error(e.getMessage(), e);
+            }
+        }
+
+        // cache the newly read pins states for future comparisons
+        pinState = newPinState;
+    }
 }
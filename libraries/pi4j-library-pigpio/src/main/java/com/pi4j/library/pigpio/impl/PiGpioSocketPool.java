@@ -0,0 +1,459 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketPool.java  
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static com.pi4j.library.pigpio.PiGpioCmd.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Fixed size pool of pipelined socket channels to the PiGpio daemon.</p>
+ *
+ * <p>Stateless commands (GPIO, PWM, servo, ...) are distributed round-robin across all
+ * connections in the pool.  The PiGpio daemon however associates I2C, SPI, serial and
+ * file handles with the socket connection that opened them, so every command that
+ * operates on such a handle is routed to the same connection that opened the handle.
+ * This also guarantees that the commands issued for a single handle are executed in
+ * the order in which they were submitted.</p>
+ *
+ * <p>All methods are thread-safe; each channel serializes its own writes, so frames
+ * from concurrent callers are never interleaved on the wire.</p>
+ *
+ * <p>Connections are only established by {@link #connect()}; a lost connection fails the
+ * commands sent on it immediately instead of reconnecting on the caller's thread.  When a
+ * lost connection is re-established, the handles it owned are opened again using the same
+ * parameters.  Callers are handed pool-assigned handle numbers, which stay valid across
+ * reconnects; the pool translates them to the handles currently assigned by the daemon.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketPool implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketPool.class);
+
+    /**
+     * Types of handles that the PiGpio daemon binds to the socket connection which opened them.
+     */
+    protected enum HandleType {
+        I2C(I2CO, I2CC, EnumSet.of(I2CRD, I2CWD, I2CWQ, I2CRS, I2CWS, I2CRB, I2CWB, I2CRW, I2CWW,
+                                   I2CRK, I2CWK, I2CRI, I2CWI, I2CPC, I2CPK, I2CZ)),
+        SPI(SPIO, SPIC, EnumSet.of(SPIR, SPIW, SPIX)),
+        SERIAL(SERO, SERC, EnumSet.of(SERRB, SERWB, SERR, SERW, SERDA)),
+        FILE(FO, FC, EnumSet.of(FR, FW, FS));
+
+        private final PiGpioCmd open;
+        private final PiGpioCmd close;
+        private final Set<PiGpioCmd> commands;
+
+        HandleType(PiGpioCmd open, PiGpioCmd close, Set<PiGpioCmd> commands) {
+            this.open = open;
+            this.close = close;
+            this.commands = commands;
+        }
+
+        static HandleType of(PiGpioCmd cmd) {
+            for(HandleType type : values()) {
+                if(type.open == cmd || type.close == cmd || type.commands.contains(cmd)) return type;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * An open handle and the request that opened it, so that it can be re-opened
+     * when the connection that owns it is re-established.
+     */
+    protected static class Handle {
+        protected final PiGpioPacket open;
+        protected volatile int owner;
+        protected volatile int daemon;
+        protected volatile boolean lost = false;
+
+        Handle(PiGpioPacket open, int owner, int daemon) {
+            this.open = open;
+            this.owner = owner;
+            this.daemon = daemon;
+        }
+    }
+
+    protected final String host;
+    protected final int port;
+    protected final PiGpioSocketChannel[] channels;
+    protected final AtomicInteger next = new AtomicInteger();
+    protected final Object connecting = new Object();
+
+    // source of the handle numbers returned to callers; unlike daemon handles these are never
+    // reused while the pool is open, so an open after a reconnect cannot collide with a restored handle
+    protected final AtomicInteger handleNumbers = new AtomicInteger();
+
+    // open handles (by the handle number returned to the caller) and the pooled channel that owns each of them
+    protected final Map<HandleType, Map<Integer, Handle>> handles = new EnumMap<>(HandleType.class);
+
+    // notified (on the channel's receive thread) when a connection is unexpectedly lost
+    protected volatile Runnable disconnectListener = null;
+
+    // maximum time (in milliseconds) to wait for a handle to be re-opened after reconnecting
+    protected int timeout = 500;
+
+    /**
+     * Create a new (not yet connected) pool of socket connections.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param size number of socket connections in the pool.
+     */
+    public PiGpioSocketPool(String host, int port, int size) {
+        if(size < 1) throw new IllegalArgumentException("PIGPIO SOCKET POOL SIZE MUST BE AT LEAST 1; (size=" + size + ")");
+        this.host = host;
+        this.port = port;
+        this.channels = new PiGpioSocketChannel[size];
+        for(HandleType type : HandleType.values())
+            handles.put(type, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return number of socket connections in the pool.
+     */
+    public int size() {
+        return channels.length;
+    }
+
+    /**
+     * Set the listener to notify when a pool connection is unexpectedly lost.
+     *
+     * @param listener invoked on the receive thread of the lost connection; must not block.
+     */
+    public void onDisconnect(Runnable listener) {
+        this.disconnectListener = listener;
+    }
+
+    /**
+     * Set the maximum time to wait for each handle to be re-opened after reconnecting.
+     *
+     * @param timeout time in milliseconds.
+     */
+    public void timeout(int timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Establish any pool connection that is not currently connected and re-open the
+     * handles that were owned by a lost connection.  This method blocks the calling
+     * thread while connecting, but does not prevent other threads from using (or
+     * querying the state of) the pool connections that are already connected.
+     *
+     * @throws com.pi4j.library.pigpio.PiGpioException if a connection could not be established.
+     */
+    public void connect() {
+        synchronized (connecting) {
+            for(int index = 0; index < channels.length; index++) {
+                if(!isConnected(index)) open(index);
+            }
+        }
+    }
+
+    /**
+     * <p>isConnected.</p>
+     *
+     * @return true if every connection in the pool is connected.
+     */
+    public synchronized boolean isConnected() {
+        for(PiGpioSocketChannel channel : channels) {
+            if(channel == null || !channel.isConnected()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Transmit a command packet on the pool connection selected for it.
+     *
+     * @param tx a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return a future which is completed with the response packet from the PiGpio daemon.
+     */
+    public CompletableFuture<PiGpioPacket> send(PiGpioPacket tx) {
+        HandleType type = HandleType.of(tx.cmd());
+        PiGpioPacket open = opening(tx, type);
+        int index = select(tx, type, nextIndex());
+        CompletableFuture<PiGpioPacket> future;
+        try {
+            future = channel(index).send(translate(tx, type));
+        } catch (PiGpioException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return track(type, open, tx.p1(), index, future);
+    }
+
+    /**
+     * Transmit a command without a payload on the pool connection selected for it.
+     *
+     * @param cmd a command without an extended response.
+     * @param p1 the first command parameter.
+     * @param p2 the second command parameter.
+     * @return a future which is completed with the result of the response from the PiGpio daemon.
+     */
+    public CompletableFuture<Integer> send(PiGpioCmd cmd, int p1, int p2) {
+        // handle based commands need routing and tracking, which operate on packets
+        if(HandleType.of(cmd) != null) return send(new PiGpioPacket(cmd, p1, p2)).thenApply(PiGpioPacket::result);
+        try {
+            return channel(nextIndex()).send(cmd, p1, p2);
+        } catch (PiGpioException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Transmit a batch of command packets using a single socket write per pool connection.
+     *
+     * All stateless commands of the batch are sent on the same connection.  Commands
+     * operating on a handle are sent on the connection that owns the handle; the order
+     * of commands is preserved per connection.
+     *
+     * @param batch the command packets to transmit (in order).
+     * @return a future for each command packet (in the same order) which is
+     *         completed with the response packet from the PiGpio daemon.
+     */
+    public List<CompletableFuture<PiGpioPacket>> send(List<PiGpioPacket> batch) {
+        // group the packets by the connection they must be sent on
+        final int stateless = nextIndex();
+        final int[] indexes = new int[batch.size()];
+        final PiGpioPacket[] opens = new PiGpioPacket[batch.size()];
+        final Map<Integer, List<PiGpioPacket>> groups = new LinkedHashMap<>();
+        for(int position = 0; position < batch.size(); position++) {
+            PiGpioPacket tx = batch.get(position);
+            HandleType type = HandleType.of(tx.cmd());
+            opens[position] = opening(tx, type);
+            indexes[position] = select(tx, type, stateless);
+            groups.computeIfAbsent(indexes[position], index -> new ArrayList<>()).add(translate(tx, type));
+        }
+
+        // transmit each group and collect the responses in the original order
+        final Map<Integer, Iterator<CompletableFuture<PiGpioPacket>>> responses = new HashMap<>();
+        groups.forEach((index, packets) -> responses.put(index, send(index, packets).iterator()));
+        final List<CompletableFuture<PiGpioPacket>> futures = new ArrayList<>(batch.size());
+        for(int position = 0; position < batch.size(); position++) {
+            PiGpioPacket tx = batch.get(position);
+            HandleType type = HandleType.of(tx.cmd());
+            futures.add(track(type, opens[position], tx.p1(), indexes[position], responses.get(indexes[position]).next()));
+        }
+        return futures;
+    }
+
+    /**
+     * Copy a request that opens a new handle, so it can be replayed after a reconnect.
+     */
+    private static PiGpioPacket opening(PiGpioPacket tx, HandleType type) {
+        if(type == null || tx.cmd() != type.open) return null;
+        return new PiGpioPacket(tx.cmd(), tx.p1(), tx.p2(), tx.data());
+    }
+
+    /**
+     * Select the pool connection to send a command packet on.
+     */
+    private int select(PiGpioPacket tx, HandleType type, int stateless) {
+        // stateless command or open a new handle; any connection can be used
+        if(type == null || tx.cmd() == type.open) {
+            return stateless;
+        }
+
+        // handle based command; route to the connection that owns the handle;
+        // an unknown handle will be reported as invalid by the daemon on any connection
+        Handle handle = handles.get(type).get(tx.p1());
+        if(handle == null) return 0;
+        return handle.owner;
+    }
+
+    /**
+     * Get the packet to transmit for a command; handle based commands are sent as a copy carrying
+     * the handle number currently assigned by the daemon (it may change after reconnecting), so
+     * the caller's packet is never modified.
+     */
+    private PiGpioPacket translate(PiGpioPacket tx, HandleType type) {
+        if(type == null || tx.cmd() == type.open) return tx;
+        Handle handle = handles.get(type).get(tx.p1());
+        if(handle == null) return tx;
+        return new PiGpioPacket(tx.cmd(), handle.daemon, tx.p2(), tx.data());
+    }
+
+    /**
+     * Pin newly opened handles to their connection (replacing the daemon handle in the response
+     * with a pool-assigned handle number) and unpin closed handles.
+     */
+    private CompletableFuture<PiGpioPacket> track(HandleType type, PiGpioPacket open, int number, int index, CompletableFuture<PiGpioPacket> future) {
+        if(type == null) return future;
+        if(open != null) {
+            return future.thenApply(rx -> {
+                if(rx.result() >= 0) {
+                    int assigned = nextHandleNumber(type);
+                    handles.get(type).put(assigned, new Handle(open, index, rx.result()));
+                    logger.trace("[POOL] {} HANDLE [{}] pinned to connection #{} (daemon handle [{}])", type, assigned, index, rx.result());
+                    rx.result(assigned);
+                }
+                return rx;
+            });
+        }
+        return future.thenApply(rx -> {
+            if(rx.cmd() == type.close && rx.result() >= 0) {
+                handles.get(type).remove(number);
+            }
+            return rx;
+        });
+    }
+
+    /**
+     * Allocate a handle number that is not in use by another open handle of the given type.
+     */
+    private int nextHandleNumber(HandleType type) {
+        Map<Integer, Handle> pinned = handles.get(type);
+        int number;
+        do {
+            number = handleNumbers.getAndUpdate(current -> current == Integer.MAX_VALUE ? 0 : current + 1);
+        } while(pinned.containsKey(number));
+        return number;
+    }
+
+    /**
+     * Close all pool connections and forget all pinned handles.
+     */
+    @Override
+    public synchronized void close() {
+        for(int index = 0; index < channels.length; index++) {
+            if(channels[index] != null) {
+                channels[index].close();
+                channels[index] = null;
+            }
+        }
+        handles.values().forEach(Map::clear);
+    }
+
+    private List<CompletableFuture<PiGpioPacket>> send(int index, List<PiGpioPacket> packets) {
+        try {
+            return channel(index).send(packets);
+        } catch (PiGpioException e) {
+            List<CompletableFuture<PiGpioPacket>> failed = new ArrayList<>(packets.size());
+            packets.forEach(tx -> failed.add(CompletableFuture.failedFuture(e)));
+            return failed;
+        }
+    }
+
+    private int nextIndex() {
+        // skip lost connections, so stateless commands keep flowing while they are re-established
+        int first = Math.floorMod(next.getAndIncrement(), channels.length);
+        for(int offset = 0; offset < channels.length; offset++) {
+            int index = (first + offset) % channels.length;
+            if(isConnected(index)) return index;
+        }
+        return first;
+    }
+
+    private synchronized boolean isConnected(int index) {
+        return channels[index] != null && channels[index].isConnected();
+    }
+
+    /**
+     * Get the pool connection at the given index; connections are never (re)established
+     * on the caller's thread, a missing or lost connection fails immediately.
+     */
+    private synchronized PiGpioSocketChannel channel(int index) {
+        PiGpioSocketChannel channel = channels[index];
+        if(channel == null || !channel.isConnected())
+            throw new PiGpioException("PIGPIO SOCKET POOL CONNECTION #" + index + " IS NOT CONNECTED [" + host + ":" + port + "]");
+        return channel;
+    }
+
+    /**
+     * Connect the pool connection at the given index and re-open the handles it owned; must hold 'connecting'.
+     * The connection is only published once its handles are restored, so no command can be routed to it
+     * while a handle it refers to is still being re-opened.
+     */
+    private void open(int index) {
+        PiGpioSocketChannel channel;
+        try {
+            channel = new PiGpioSocketChannel(host, port, () -> disconnected(index));
+        } catch (IOException e) {
+            throw new PiGpioException("PIGPIO SOCKET POOL UNABLE TO CONNECT [" + host + ":" + port + "]", e);
+        }
+        logger.trace("[POOL] connection #{} established to {}:{}", index, host, port);
+
+        // the daemon released all handles opened on the lost connection; open them again
+        for(HandleType type : HandleType.values()) {
+            handles.get(type).forEach((number, handle) -> {
+                if(handle.owner != index || !handle.lost) return;
+                try {
+                    PiGpioPacket tx = new PiGpioPacket(handle.open.cmd(), handle.open.p1(), handle.open.p2(), handle.open.data());
+                    PiGpioPacket rx = channel.send(tx).get(timeout, TimeUnit.MILLISECONDS);
+                    if(rx.result() < 0) throw new PiGpioException("PIGPIO ERROR: " + rx.result());
+                    handle.daemon = rx.result();
+                    handle.lost = false;
+                    logger.debug("[POOL] {} HANDLE [{}] restored on connection #{} (daemon handle [{}])", type, number, index, handle.daemon);
+                } catch (Exception e) {
+                    handles.get(type).remove(number);
+                    logger.warn("[POOL] unable to restore {} HANDLE [{}]; {}", type, number, e.getMessage());
+                }
+            });
+        }
+
+        synchronized (this) {
+            if(channels[index] != null) channels[index].close();
+            channels[index] = channel;
+        }
+    }
+
+    /**
+     * Invoked on the receive thread when the connection at the given index was lost.
+     */
+    private void disconnected(int index) {
+        handles.values().forEach(pinned -> pinned.values().forEach(handle -> {
+            if(handle.owner == index) handle.lost = true;
+        }));
+        Runnable listener = this.disconnectListener;
+        if(listener != null) listener.run();
+    }
+}
@@ -0,0 +1,156 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketReconnector.java  
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Background (re)connection manager for the PiGpio daemon socket connections.</p>
+ *
+ * <p>When a connection is lost, the reconnect attempts are made on a dedicated daemon
+ * thread using an exponential backoff (starting at {@link #initialDelay} and doubling
+ * after every failed attempt up to {@link #maxDelay}), so that callers never block on
+ * establishing a connection; while the link is down they fail fast instead.  Once the
+ * connection is re-established the 'restore' action is invoked on the reconnect thread.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class PiGpioSocketReconnector {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketReconnector.class);
+
+    /** Constant <code>NAME="pigpio-reconnect"</code> */
+    public static String NAME = "pigpio-reconnect";
+
+    protected final Runnable connect;
+    protected final Runnable restore;
+
+    // delay (in milliseconds) before the first reconnect attempt and the maximum delay between attempts
+    protected long initialDelay = 100;
+    protected long maxDelay = 10000;
+
+    // the reconnect thread and its cancellation flag; guarded by 'this'
+    protected Thread thread = null;
+    protected boolean cancelled = false;
+
+    /**
+     * <p>Constructor for PiGpioSocketReconnector.</p>
+     *
+     * @param connect establishes the connection; throws a {@link com.pi4j.library.pigpio.PiGpioException} on failure.
+     * @param restore invoked after the connection has been re-established.
+     */
+    public PiGpioSocketReconnector(Runnable connect, Runnable restore) {
+        this.connect = connect;
+        this.restore = restore;
+    }
+
+    /**
+     * Configure the reconnect backoff.
+     *
+     * @param initialDelay delay (in milliseconds) before the first reconnect attempt.
+     * @param maxDelay maximum delay (in milliseconds) between reconnect attempts.
+     * @return this reconnector.
+     */
+    public PiGpioSocketReconnector backoff(long initialDelay, long maxDelay) {
+        if(initialDelay < 1 || maxDelay < initialDelay)
+            throw new IllegalArgumentException("PIGPIO INVALID RECONNECT BACKOFF; (initial=" + initialDelay + "; max=" + maxDelay + ")");
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    /**
+     * <p>isReconnecting.</p>
+     *
+     * @return true while a background reconnect is in progress.
+     */
+    public synchronized boolean isReconnecting() {
+        return thread != null;
+    }
+
+    /**
+     * Start reconnecting in the background, unless a reconnect is already in progress.
+     * This method never blocks.
+     */
+    public synchronized void reconnect() {
+        if(thread != null) return;
+        cancelled = false;
+        thread = new Thread(this::run, NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stop any background reconnect in progress.
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        notifyAll();
+    }
+
+    private void run() {
+        logger.trace("[THREAD] STARTED");
+        long delay = initialDelay;
+        int attempt = 0;
+        try {
+            while(!isCancelled()) {
+                // wait before each attempt; a short initial delay lets the remote daemon settle
+                synchronized (this) {
+                    if(!cancelled) wait(delay);
+                    if(cancelled) break;
+                }
+                try {
+                    attempt++;
+                    connect.run();
+                    logger.info("[SOCKET] reconnected after {} attempt(s)", attempt);
+                    restore.run();
+                    break;
+                } catch (PiGpioException e) {
+                    delay = Math.min(delay * 2, maxDelay);
+                    logger.debug("[SOCKET] reconnect attempt {} failed; next attempt in {} ms; {}", attempt, delay, e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                thread = null;
+            }
+        }
+        logger.trace("[THREAD] ENDED");
+    }
+
+    private synchronized boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -335,24 +335,98 @@ public class PIGPIO {
      * @return a int.
      */
     public static native int gpioNotifyClose(int handle);
-//    public static native int gpioWaveClear();
-//    public static native int gpioWaveAddNew();
-//    public static native int gpioWaveAddGeneric(int numPulses, gpioPulse_t *pulses)
+    /**
+     * <p>gpioWaveClear.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveClear();
+    /**
+     * <p>gpioWaveAddNew.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveAddNew();
+    /**
+     * <p>gpioWaveAddGeneric.</p>
+     *
+     * @param numPulses a int.
+     * @param gpioOn an array of {@link int} objects.
+     * @param gpioOff an array of {@link int} objects.
+     * @param usDelay an array of {@link int} objects.
+     * @return a int.
+     */
+    public static native int gpioWaveAddGeneric(int numPulses, int[] gpioOn, int[] gpioOff, int[] usDelay);
 //    public static native int gpioWaveAddSerial(int user_gpio, int baud, int data_bits, int stop_bits, int offset, int numBytes, char *str);
-//    public static native int gpioWaveCreate();
-//    public static native int gpioWaveDelete(int wave_id);
-//    public static native int gpioWaveTxSend(int wave_id, int wave_mode);
-//    public static native int gpioWaveChain(byte[] buf, int bufSize);
-//    public static native int gpioWaveTxAt();
-//    public static native int gpioWaveTxBusy();
-//    public static native int gpioWaveTxStop();
-//    public static native int gpioWaveGetMicros();
+    /**
+     * <p>gpioWaveCreate.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveCreate();
+    /**
+     * <p>gpioWaveDelete.</p>
+     *
+     * @param wave_id a int.
+     * @return a int.
+     */
+    public static native int gpioWaveDelete(int wave_id);
+    /**
+     * <p>gpioWaveTxSend.</p>
+     *
+     * @param wave_id a int.
+     * @param wave_mode a int.
+     * @return a int.
+     */
+    public static native int gpioWaveTxSend(int wave_id, int wave_mode);
+    /**
+     * <p>gpioWaveChain.</p>
+     *
+     * @param buf an array of {@link byte} objects.
+     * @param bufSize a int.
+     * @return a int.
+     */
+    public static native int gpioWaveChain(byte[] buf, int bufSize);
+    /**
+     * <p>gpioWaveTxAt.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxAt();
+    /**
+     * <p>gpioWaveTxBusy.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxBusy();
+    /**
+     * <p>gpioWaveTxStop.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveTxStop();
+    /**
+     * <p>gpioWaveGetMicros.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetMicros();
 //    public static native int gpioWaveGetHighMicros();
 //    public static native int gpioWaveGetMaxMicros();
-//    public static native int gpioWaveGetPulses();
+    /**
+     * <p>gpioWaveGetPulses.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetPulses();
 //    public static native int gpioWaveGetHighPulses();
 //    public static native int gpioWaveGetMaxPulses();
-//    public static native int gpioWaveGetCbs();
+    /**
+     * <p>gpioWaveGetCbs.</p>
+     *
+     * @return a int.
+     */
+    public static native int gpioWaveGetCbs();
 //    public static native int gpioWaveGetHighCbs();
 //    public static native int gpioWaveGetMaxCbs();
     /**
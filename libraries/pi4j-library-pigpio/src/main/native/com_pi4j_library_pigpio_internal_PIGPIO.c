@@ -648,6 +648,72 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioNotifyCl
     return gpioNotifyClose((unsigned)handle);
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_0_31
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_10_131
+  (JNIEnv *env, jclass class)
+{
+    return (jint)gpioRead_Bits_0_31();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_32_53
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_132_153
+  (JNIEnv *env, jclass class)
+{
+    return (jint)gpioRead_Bits_32_53();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_0_31_Clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_10_131_1Clear
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_0_31_Clear((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_32_53_Clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_132_153_1Clear
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_32_53_Clear((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_0_31_Set
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_10_131_1Set
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_0_31_Set((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_32_53_Set
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_132_153_1Set
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_32_53_Set((uint32_t)bits);
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // GPIO ALERTS (and callbacks) IMPLEMENTATION
@@ -1960,6 +2026,350 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_serDrain
 }
 
 
+// *****************************************************************************************************
+// *****************************************************************************************************
+// SCRIPTS IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioStoreScript
+ * Signature: (Ljava/lang/String;)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioStoreScript
+  (JNIEnv *env, jclass class, jstring script)
+{
+    // obtain a (null terminated) native copy of the script text
+    const char *buffer = (*env)->GetStringUTFChars(env, script, 0);
+
+    // store the script
+    jint result = gpioStoreScript((char *)buffer);
+
+    // release the native copy of the script text
+    (*env)->ReleaseStringUTFChars(env, script, buffer);
+
+    // return the script id (or error code)
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRunScript
+ * Signature: (II[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRunScript
+  (JNIEnv *env, jclass class, jint script_id, jint numPar, jintArray param)
+{
+    // no parameters to pass to the script
+    if(param == NULL || numPar <= 0){
+        return gpioRunScript((unsigned)script_id, 0, NULL);
+    }
+
+	// obtain a pointer to the elements of the array and pin the memory
+    jint *buffer = (*env)->GetIntArrayElements(env, param, 0);
+
+    // bounds check to make sure parameter count does not exceed the array length
+    jsize max_length = (*env)->GetArrayLength(env, param);
+    int length = (numPar > max_length) ? max_length : numPar;
+
+    // run the script
+    jint result = gpioRunScript((unsigned)script_id, (unsigned)length, (uint32_t *)buffer);
+
+	// unpin the reserved memory for 'param'; abort preserving any changes back to the Java array
+	(*env)->ReleaseIntArrayElements(env, param, buffer, JNI_ABORT);
+
+    // return the result
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioUpdateScript
+ * Signature: (II[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioUpdateScript
+  (JNIEnv *env, jclass class, jint script_id, jint numPar, jintArray param)
+{
+    // no parameters to update
+    if(param == NULL || numPar <= 0){
+        return gpioUpdateScript((unsigned)script_id, 0, NULL);
+    }
+
+	// obtain a pointer to the elements of the array and pin the memory
+    jint *buffer = (*env)->GetIntArrayElements(env, param, 0);
+
+    // bounds check to make sure parameter count does not exceed the array length
+    jsize max_length = (*env)->GetArrayLength(env, param);
+    int length = (numPar > max_length) ? max_length : numPar;
+
+    // update the script parameters
+    jint result = gpioUpdateScript((unsigned)script_id, (unsigned)length, (uint32_t *)buffer);
+
+	// unpin the reserved memory for 'param'; abort preserving any changes back to the Java array
+	(*env)->ReleaseIntArrayElements(env, param, buffer, JNI_ABORT);
+
+    // return the result
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioScriptStatus
+ * Signature: (I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioScriptStatus
+  (JNIEnv *env, jclass class, jint script_id, jintArray param)
+{
+    // the native library always copies all script parameters
+    uint32_t current[PI_MAX_SCRIPT_PARAMS];
+
+    // get the script status and current parameters
+    jint result = gpioScriptStatus((unsigned)script_id, current);
+
+    // copy the current script parameters back to the Java array
+    if(result >= 0 && param != NULL){
+        jsize max_length = (*env)->GetArrayLength(env, param);
+        int length = (PI_MAX_SCRIPT_PARAMS > max_length) ? max_length : PI_MAX_SCRIPT_PARAMS;
+        (*env)->SetIntArrayRegion(env, param, 0, length, (jint *)current);
+    }
+
+    // return the script status (or error code)
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioStopScript
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioStopScript
+  (JNIEnv *env, jclass class, jint script_id)
+{
+    return gpioStopScript((unsigned)script_id);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioDeleteScript
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioDeleteScript
+  (JNIEnv *env, jclass class, jint script_id)
+{
+    return gpioDeleteScript((unsigned)script_id);
+}
+
+// *****************************************************************************************************
+// *****************************************************************************************************
+// WAVES IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveClear
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveClear
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveClear();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddNew
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddNew
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveAddNew();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddGeneric
+ * Signature: (I[I[I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddGeneric
+  (JNIEnv *env, jclass class, jint numPulses, jintArray gpioOn, jintArray gpioOff, jintArray usDelay)
+{
+    // no pulses to add
+    if(gpioOn == NULL || gpioOff == NULL || usDelay == NULL || numPulses <= 0){
+        return gpioWaveAddGeneric(0, NULL);
+    }
+
+    // bounds check to make sure the pulse count does not exceed the length of any array
+    jsize max_length = (*env)->GetArrayLength(env, gpioOn);
+    if((*env)->GetArrayLength(env, gpioOff) < max_length) max_length = (*env)->GetArrayLength(env, gpioOff);
+    if((*env)->GetArrayLength(env, usDelay) < max_length) max_length = (*env)->GetArrayLength(env, usDelay);
+    int length = (numPulses > max_length) ? max_length : numPulses;
+
+    // allocate the native pulse array
+    gpioPulse_t *pulses = (gpioPulse_t *)malloc(sizeof(gpioPulse_t) * length);
+    if(pulses == NULL){
+        return PI_TOO_MANY_PULSES;
+    }
+
+    // obtain a pointer to the elements of the arrays and pin the memory
+    jint *on = (*env)->GetIntArrayElements(env, gpioOn, 0);
+    jint *off = (*env)->GetIntArrayElements(env, gpioOff, 0);
+    jint *delay = (*env)->GetIntArrayElements(env, usDelay, 0);
+
+    // copy the (parallel) Java arrays into the native pulse structures
+    int index;
+    for(index = 0; index < length; index++){
+        pulses[index].gpioOn = (uint32_t)on[index];
+        pulses[index].gpioOff = (uint32_t)off[index];
+        pulses[index].usDelay = (uint32_t)delay[index];
+    }
+
+	// unpin the reserved memory for the arrays; abort preserving any changes back to the Java arrays
+	(*env)->ReleaseIntArrayElements(env, gpioOn, on, JNI_ABORT);
+	(*env)->ReleaseIntArrayElements(env, gpioOff, off, JNI_ABORT);
+	(*env)->ReleaseIntArrayElements(env, usDelay, delay, JNI_ABORT);
+
+    // add the pulses to the current waveform
+    jint result = gpioWaveAddGeneric((unsigned)length, pulses);
+
+    // release the native pulse array
+    free(pulses);
+
+    // return the new total number of pulses (or error code)
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveCreate
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveCreate
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveCreate();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveDelete
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveDelete
+  (JNIEnv *env, jclass class, jint wave_id)
+{
+    return gpioWaveDelete((unsigned)wave_id);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxSend
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxSend
+  (JNIEnv *env, jclass class, jint wave_id, jint wave_mode)
+{
+    return gpioWaveTxSend((unsigned)wave_id, (unsigned)wave_mode);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveChain
+ * Signature: ([BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveChain
+  (JNIEnv *env, jclass class, jbyteArray buf, jint bufSize)
+{
+    // empty chain
+    if(buf == NULL || bufSize <= 0){
+        return gpioWaveChain(NULL, 0);
+    }
+
+	// obtain a pointer to the elements of the array and pin the memory
+    jbyte *buffer = (*env)->GetByteArrayElements(env, buf, 0);
+
+    // bounds check to make sure the chain size does not exceed the array length
+    jsize max_length = (*env)->GetArrayLength(env, buf);
+    int length = (bufSize > max_length) ? max_length : bufSize;
+
+    // transmit the chain of waveforms
+    jint result = gpioWaveChain((char *)buffer, (unsigned)length);
+
+	// unpin the reserved memory for 'buf'; abort preserving any changes back to the Java array
+	(*env)->ReleaseByteArrayElements(env, buf, buffer, JNI_ABORT);
+
+    // return the result
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxAt
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxAt
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxAt();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxBusy
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxBusy
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxBusy();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxStop
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxStop
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxStop();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetCbs();
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // DELAY/SLEEP/TIMER IMPLEMENTATION
@@ -0,0 +1,103 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioBatchTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link PiGpioBatch#invokeEach()}, executing a batch against a PiGpio proxy that records the
+ * single-command methods called and fails the watchdog command with a pigpio error code.
+ */
+public class PiGpioBatchTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    @BeforeEach
+    public void beforeTest() {
+        calls.clear();
+    }
+
+    private PiGpio piGpio(RuntimeException watchdogFailure) {
+        return (PiGpio) Proxy.newProxyInstance(PiGpio.class.getClassLoader(), new Class<?>[] { PiGpio.class },
+            (proxy, method, args) -> {
+                calls.add(method.getName());
+                switch (method.getName()) {
+                    case "gpioSetWatchdog": throw watchdogFailure;
+                    case "gpioSetPWMrange": return 255;
+                    default: return null;
+                }
+            });
+    }
+
+    @Test
+    public void testFailedCommandYieldsErrorCode() {
+        PiGpioBatch batch = new PiGpioBatch(piGpio(new PiGpioException(PiGpioError.PI_BAD_WDOG_TIMEOUT.value(), "bad timeout")))
+            .gpioWrite(17, PiGpioState.HIGH)
+            .gpioSetWatchdog(17, 70000)
+            .gpioSetPWMrange(18, 255)
+            .gpioSetPad(0, 8);
+
+        assertArrayEquals(new int[] { 0, PiGpioError.PI_BAD_WDOG_TIMEOUT.value(), 255, 0 }, batch.invokeEach());
+        assertEquals(List.of("gpioWrite", "gpioSetWatchdog", "gpioSetPWMrange", "gpioSetPad"), calls);
+    }
+
+    @Test
+    public void testStopOnError() {
+        PiGpioBatch batch = new PiGpioBatch(piGpio(new PiGpioException(PiGpioError.PI_BAD_WDOG_TIMEOUT.value(), "bad timeout")))
+            .stopOnError(true)
+            .gpioSetWatchdog(17, 70000)
+            .gpioWrite(17, PiGpioState.HIGH);
+
+        assertArrayEquals(new int[] { PiGpioError.PI_BAD_WDOG_TIMEOUT.value() }, batch.invokeEach());
+        assertEquals(List.of("gpioSetWatchdog"), calls);
+    }
+
+    @Test
+    public void testFailureWithoutErrorCodeIsRethrown() {
+        PiGpioException lost = new PiGpioException("connection lost");
+        PiGpioBatch batch = new PiGpioBatch(piGpio(lost)).gpioSetWatchdog(17, 100);
+        assertSame(lost, assertThrows(PiGpioException.class, batch::invokeEach));
+    }
+
+    @Test
+    public void testUnsupportedCommandRejectsBatch() {
+        PiGpioBatch batch = new PiGpioBatch(piGpio(null))
+            .gpioWrite(17, PiGpioState.HIGH)
+            .command(PiGpioCmd.BR1, 0, 0);
+
+        assertThrows(PiGpioException.class, batch::invokeEach);
+        assertTrue(calls.isEmpty(), calls.toString());
+    }
+}
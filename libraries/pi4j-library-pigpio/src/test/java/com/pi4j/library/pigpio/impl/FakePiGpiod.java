@@ -0,0 +1,238 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  FakePiGpiod.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * A minimal stand-in for the PiGpio daemon's command socket, answering each request on the
+ * connection it was received on and in the order it was received, as the daemon does.
+ *
+ * <p>The result of each command is computed by a handler; requests are recorded with the
+ * number of the connection (in order of acceptance) they arrived on.  Responses can be held
+ * back to verify that requests are pipelined, connections can be dropped to simulate a
+ * lost link, and raw bytes (such as notification reports) can be sent on a connection.</p>
+ */
+class FakePiGpiod implements Closeable {
+
+    /** A request received by the fake daemon. */
+    static final class Request {
+        final int connection;
+        final PiGpioCmd cmd;
+        final int p1;
+        final int p2;
+        final byte[] data;
+
+        Request(int connection, PiGpioCmd cmd, int p1, int p2, byte[] data) {
+            this.connection = connection;
+            this.cmd = cmd;
+            this.p1 = p1;
+            this.p2 = p2;
+            this.data = data;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + connection + ":" + cmd + "(" + p1 + "," + p2 + ")";
+        }
+    }
+
+    private final ServerSocket server;
+    private final List<Socket> connections = new ArrayList<>();
+    private final List<BlockingQueue<Object>> outputs = new ArrayList<>();
+    private final List<Request> requests = new ArrayList<>();
+    private volatile ToIntFunction<Request> handler = request -> 0;
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    FakePiGpiod() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "fake-pigpiod");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    String host() {
+        return server.getInetAddress().getHostAddress();
+    }
+
+    int port() {
+        return server.getLocalPort();
+    }
+
+    /** Compute the result of each command using the given handler. */
+    void handler(ToIntFunction<Request> handler) {
+        this.handler = handler;
+    }
+
+    /** Receive requests without answering them until {@link #release()} is called. */
+    void hold() {
+        release = new CountDownLatch(1);
+    }
+
+    /** Answer all requests held since {@link #hold()}. */
+    void release() {
+        release.countDown();
+    }
+
+    /** Wait until the given number of requests has been received. */
+    boolean awaitRequests(int count, long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        synchronized (requests) {
+            while (requests.size() < count) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) return false;
+                requests.wait(remaining);
+            }
+        }
+        return true;
+    }
+
+    List<Request> requests() {
+        synchronized (requests) {
+            return new ArrayList<>(requests);
+        }
+    }
+
+    synchronized int connections() {
+        return connections.size();
+    }
+
+    /**
+     * Send raw bytes on the given connection once the requests it has received so far are answered.
+     */
+    synchronized void send(int connection, byte[] bytes) {
+        outputs.get(connection).add(bytes);
+    }
+
+    /** Close the given connection, as if the link to the daemon was lost. */
+    synchronized void drop(int connection) throws IOException {
+        connections.get(connection).close();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        server.close();
+        for (Socket connection : connections) connection.close();
+    }
+
+    private void accept() {
+        try {
+            while (!server.isClosed()) {
+                Socket socket = server.accept();
+                BlockingQueue<Object> output = new LinkedBlockingQueue<>();
+                int connection;
+                synchronized (this) {
+                    connection = connections.size();
+                    connections.add(socket);
+                    outputs.add(output);
+                }
+                Thread thread = new Thread(() -> serve(connection, socket, output), "fake-pigpiod-" + connection);
+                thread.setDaemon(true);
+                thread.start();
+            }
+        } catch (IOException e) {
+            // server closed
+        }
+    }
+
+    private void serve(int connection, Socket socket, BlockingQueue<Object> output) {
+        // requests are read as they arrive and answered in order by a separate thread,
+        // so held responses do not stop further requests from being received
+        Thread responder = new Thread(() -> respond(socket, output), "fake-pigpiod-responder-" + connection);
+        responder.setDaemon(true);
+        responder.start();
+        try (socket) {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            byte[] header = new byte[16];
+            while (true) {
+                in.readFully(header);
+                ByteBuffer rx = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+                PiGpioCmd cmd = PiGpioCmd.from(rx.getInt());
+                int p1 = rx.getInt();
+                int p2 = rx.getInt();
+                byte[] data = new byte[rx.getInt()];
+                in.readFully(data);
+
+                Request request = new Request(connection, cmd, p1, p2, data);
+                synchronized (requests) {
+                    requests.add(request);
+                    requests.notifyAll();
+                }
+                output.add(request);
+            }
+        } catch (IOException e) {
+            // connection closed
+        } finally {
+            responder.interrupt();
+        }
+    }
+
+    private void respond(Socket socket, BlockingQueue<Object> output) {
+        try {
+            OutputStream out = socket.getOutputStream();
+            while (true) {
+                Object next = output.take();
+                if (next instanceof byte[]) {
+                    out.write((byte[]) next);
+                    out.flush();
+                    continue;
+                }
+                Request request = (Request) next;
+                release.await(5, TimeUnit.SECONDS);
+
+                // the response echoes the command and its parameters; P3 holds the result,
+                // followed by a (zero filled) payload of that length for extended commands
+                int result = handler.applyAsInt(request);
+                int payload = (request.cmd.extended() && result > 0) ? result : 0;
+                ByteBuffer tx = ByteBuffer.allocate(16 + payload).order(ByteOrder.LITTLE_ENDIAN);
+                tx.putInt(request.cmd.value()).putInt(request.p1).putInt(request.p2).putInt(result);
+                out.write(tx.array());
+                out.flush();
+            }
+        } catch (IOException | InterruptedException e) {
+            // connection closed
+        }
+    }
+}
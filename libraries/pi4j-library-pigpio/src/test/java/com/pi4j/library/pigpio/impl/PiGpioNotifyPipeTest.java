@@ -0,0 +1,137 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioNotifyPipeTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.PiGpioStateChangeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NOTIFY_REPORT_SIZE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_ALIVE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_EVENT;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the report decoding and dispatching of {@link PiGpioNotifyPipe}; the reports are decoded from
+ * buffers filled by the test, so neither the native PiGpio library nor a notification pipe is needed.
+ */
+public class PiGpioNotifyPipeTest {
+
+    private PiGpioNativeImpl piGpio;
+    private PiGpioNotifyPipe pipe;
+    private final List<PiGpioStateChangeEvent> events = new ArrayList<>();
+    private final PiGpioStateChangeListener listener = events::add;
+
+    @BeforeEach
+    public void beforeTest() {
+        piGpio = (PiGpioNativeImpl) PiGpioNativeImpl.newInstance();
+        piGpio.addListener(listener);
+        pipe = new PiGpioNotifyPipe(piGpio);
+    }
+
+    @AfterEach
+    public void afterTest() {
+        piGpio.removeListener(listener);
+        events.clear();
+    }
+
+    private static ByteBuffer reports(int... flagsAndLevels) {
+        ByteBuffer buffer = ByteBuffer.allocate(PI_NOTIFY_REPORT_SIZE * flagsAndLevels.length / 2)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < flagsAndLevels.length; i += 2) {
+            buffer.putShort((short) (i / 2));         // sequence number
+            buffer.putShort((short) flagsAndLevels[i]);
+            buffer.putInt(1000 * (i / 2));             // tick
+            buffer.putInt(flagsAndLevels[i + 1]);
+        }
+        return buffer.flip();
+    }
+
+    @Test
+    public void testOnlyMonitoredChangedPinsAreDispatched() {
+        pipe.pinMonitor = 0b0110;
+        pipe.pinState = 0b0100;
+
+        // pin 0 is not monitored, pin 2 did not change
+        pipe.dispatch(0b0111, 42);
+
+        assertEquals(1, events.size());
+        assertEquals(1, events.get(0).pin());
+        assertEquals(PiGpioState.HIGH, events.get(0).state());
+        assertEquals(42, events.get(0).tick());
+        assertEquals(0b0111, pipe.pinState);
+    }
+
+    @Test
+    public void testEventAndAliveReportsAreSkipped() {
+        pipe.pinMonitor = 0b1;
+        pipe.pinState = 0;
+
+        pipe.decode(reports(PI_NTFY_FLAGS_EVENT, 0b1, PI_NTFY_FLAGS_ALIVE, 0b1, 0, 0b1));
+
+        // only the level report changes the state
+        assertEquals(1, events.size());
+        assertEquals(PiGpioState.HIGH, events.get(0).state());
+        assertEquals(2000, events.get(0).tick());
+    }
+
+    @Test
+    public void testPartialReportIsCarriedOver() {
+        pipe.pinMonitor = 0b1;
+        pipe.pinState = 0;
+        ByteBuffer all = reports(0, 0b1, 0, 0b0);
+
+        // the first read ends in the middle of the second report
+        ByteBuffer buffer = ByteBuffer.allocate(PI_NOTIFY_REPORT_SIZE * 4).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(all.slice().limit(PI_NOTIFY_REPORT_SIZE + 5));
+        buffer.flip();
+        pipe.decode(buffer);
+        assertEquals(5, buffer.remaining());
+        assertEquals(1, events.size());
+
+        // the next read completes it
+        buffer.compact();
+        buffer.put(all.position(PI_NOTIFY_REPORT_SIZE + 5));
+        buffer.flip();
+        pipe.decode(buffer);
+        assertEquals(0, buffer.remaining());
+
+        assertEquals(2, events.size());
+        assertEquals(PiGpioState.HIGH, events.get(0).state());
+        assertEquals(PiGpioState.LOW, events.get(1).state());
+        assertEquals(1000, events.get(1).tick());
+    }
+}
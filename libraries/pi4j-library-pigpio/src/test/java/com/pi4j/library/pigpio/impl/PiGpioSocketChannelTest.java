@@ -0,0 +1,104 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketChannelTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the response matching of {@link PiGpioSocketChannel} against a {@link FakePiGpiod}.
+ */
+public class PiGpioSocketChannelTest {
+
+    private FakePiGpiod daemon;
+    private PiGpioSocketChannel channel;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = new FakePiGpiod();
+        // the result identifies the request it answers
+        daemon.handler(request -> request.cmd.value() * 1000 + request.p1);
+        channel = new PiGpioSocketChannel(daemon.host(), daemon.port());
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        channel.close();
+        daemon.close();
+    }
+
+    @Test
+    public void testResultAndPacketResponsesAreMatchedInOrder() throws Exception {
+        // hold all responses back, so every request is in flight at the same time
+        daemon.hold();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        List<CompletableFuture<PiGpioPacket>> packets = new ArrayList<>();
+        PiGpioPacket request = new PiGpioPacket(PiGpioCmd.GDC, 7);
+        for (int index = 0; index < 50; index++) {
+            results.add(channel.send(PiGpioCmd.READ, index, 0));
+            packets.add(channel.send(request));
+        }
+        assertTrue(daemon.awaitRequests(100, 2000));
+        assertEquals(100, channel.pending());
+        daemon.release();
+
+        for (int index = 0; index < 50; index++) {
+            assertEquals(PiGpioCmd.READ.value() * 1000 + index, results.get(index).get(2, TimeUnit.SECONDS).intValue());
+            PiGpioPacket response = packets.get(index).get(2, TimeUnit.SECONDS);
+            assertNotSame(request, response);
+            assertEquals(PiGpioCmd.GDC, response.cmd());
+            assertEquals(PiGpioCmd.GDC.value() * 1000 + 7, response.result());
+        }
+        assertEquals(0, request.p3(), "the request packet must not be modified by its response");
+        assertEquals(0, channel.pending());
+    }
+
+    @Test
+    public void testPendingResultFailsWhenClosed() throws Exception {
+        daemon.hold();
+        CompletableFuture<Integer> result = channel.send(PiGpioCmd.READ, 4, 0);
+        assertTrue(daemon.awaitRequests(1, 2000));
+        channel.close();
+        daemon.release();
+
+        assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+        assertTrue(channel.send(PiGpioCmd.READ, 4, 0).isCompletedExceptionally());
+    }
+}
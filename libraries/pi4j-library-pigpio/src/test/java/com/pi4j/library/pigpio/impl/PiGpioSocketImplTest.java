@@ -0,0 +1,169 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketImplTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link PiGpioSocketImpl} against a {@link FakePiGpiod}.
+ */
+public class PiGpioSocketImplTest {
+
+    private static final int TIMEOUT = 2000;
+
+    private FakePiGpiod daemon;
+    private PiGpio piGpio;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = new FakePiGpiod();
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        if (piGpio != null) piGpio.gpioTerminate();
+        daemon.close();
+    }
+
+    private PiGpio connect(int connections) {
+        piGpio = PiGpioSocketImpl.newInstance(daemon.host(), daemon.port(), connections);
+        piGpio.gpioInitialise();
+        return piGpio;
+    }
+
+    @Test
+    public void testPipelinedResponsesAreMatchedInOrder() throws Exception {
+        // odd pins read HIGH, so each response identifies the request it answers
+        daemon.handler(request -> request.cmd == PiGpioCmd.READ ? request.p1 % 2 : 0);
+        connect(1);
+
+        // hold all responses back; every request is transmitted without waiting for a previous response
+        daemon.hold();
+        int requests = daemon.requests().size();
+        List<CompletableFuture<PiGpioState>> reads = new ArrayList<>();
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (int pin = 0; pin < 20; pin++) {
+            reads.add(piGpio.gpioReadAsync(pin));
+            writes.add(piGpio.gpioWriteAsync(pin, PiGpioState.HIGH));
+        }
+        assertTrue(daemon.awaitRequests(requests + 40, TIMEOUT), "requests are not pipelined");
+        reads.forEach(read -> assertFalse(read.isDone()));
+        daemon.release();
+
+        for (int pin = 0; pin < 20; pin++) {
+            assertEquals(PiGpioState.from(pin % 2), reads.get(pin).get(TIMEOUT, TimeUnit.MILLISECONDS));
+            writes.get(pin).get(TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+
+        // the requests went out in the order they were issued
+        List<FakePiGpiod.Request> received = daemon.requests().subList(requests, requests + 40);
+        for (int pin = 0; pin < 20; pin++) {
+            assertEquals(PiGpioCmd.READ, received.get(pin * 2).cmd);
+            assertEquals(pin, received.get(pin * 2).p1);
+            assertEquals(PiGpioCmd.WRITE, received.get(pin * 2 + 1).cmd);
+            assertEquals(pin, received.get(pin * 2 + 1).p1);
+        }
+    }
+
+    @Test
+    public void testBlockingCallsFromManyThreads() throws Exception {
+        daemon.handler(request -> request.cmd == PiGpioCmd.READ ? request.p1 % 2 : 0);
+        connect(1);
+
+        // the responses of concurrent blocking calls on one connection are not mixed up
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            int pin = thread;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int index = 0; index < 200; index++) {
+                        assertEquals(PiGpioState.from(pin % 2), piGpio.gpioRead(pin));
+                    }
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) thread.join(10 * TIMEOUT);
+        assertTrue(failures.isEmpty(), failures.toString());
+    }
+
+    @Test
+    public void testHandlesArePinnedToTheirConnection() throws Exception {
+        // every connection hands out daemon handles starting at 0, so the two handles collide
+        int[] opened = new int[4];
+        daemon.handler(request -> {
+            switch (request.cmd) {
+                case I2CO: return opened[request.connection]++;
+                case I2CRB: return request.connection * 100 + request.p1;
+                default: return 0;
+            }
+        });
+        connect(2);
+
+        int first = piGpio.i2cOpen(1, 0x40);
+        int second = piGpio.i2cOpen(1, 0x41);
+        assertNotEquals(first, second);
+        List<FakePiGpiod.Request> opens = new ArrayList<>();
+        daemon.requests().forEach(request -> { if (request.cmd == PiGpioCmd.I2CO) opens.add(request); });
+        assertEquals(2, opens.size());
+        int firstConnection = opens.get(0).connection;
+        int secondConnection = opens.get(1).connection;
+        assertNotEquals(firstConnection, secondConnection, "new handles are spread over the pool");
+
+        // each command is sent on the connection that opened its handle, with that connection's daemon handle
+        for (int index = 0; index < 4; index++) {
+            assertEquals(firstConnection * 100, piGpio.i2cReadByteData(first, index));
+            assertEquals(secondConnection * 100, piGpio.i2cReadByteData(second, index));
+        }
+
+        assertEquals(0, piGpio.i2cClose(first));
+        FakePiGpiod.Request close = daemon.requests().get(daemon.requests().size() - 1);
+        assertEquals(PiGpioCmd.I2CC, close.cmd);
+        assertEquals(firstConnection, close.connection);
+        assertEquals(0, close.p1);
+        assertEquals(secondConnection * 100, piGpio.i2cReadByteData(second, 0));
+    }
+}
@@ -0,0 +1,160 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketMonitorTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.PiGpioStateChangeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the notification listener of {@link PiGpioSocketMonitor} against a {@link FakePiGpiod}; the
+ * pool uses connection #0, so the monitor's listener socket is connection #1.
+ */
+public class PiGpioSocketMonitorTest {
+
+    private static final int TIMEOUT = 2000;
+    private static final int HANDLE = 7;
+
+    private FakePiGpiod daemon;
+    private PiGpioSocketImpl piGpio;
+    private volatile int levels = 0;
+    private final List<PiGpioStateChangeEvent> events = new CopyOnWriteArrayList<>();
+    private final PiGpioStateChangeListener listener = events::add;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        levels = 0;
+        events.clear();
+        daemon = new FakePiGpiod();
+        daemon.handler(request -> {
+            switch (request.cmd) {
+                case BR1: return levels;
+                case NOIB: return HANDLE;
+                default: return 0;
+            }
+        });
+        piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port(), 1);
+        piGpio.gpioInitialise();
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        piGpio.gpioTerminate();
+        daemon.close();
+    }
+
+    private static byte[] reports(int... levels) {
+        ByteBuffer buffer = ByteBuffer.allocate(levels.length * 12).order(ByteOrder.LITTLE_ENDIAN);
+        for (int index = 0; index < levels.length; index++) {
+            buffer.putShort((short) index).putShort((short) 0).putInt(index * 100).putInt(levels[index]);
+        }
+        return buffer.array();
+    }
+
+    /** Wait until the given command has been received on the given connection the given number of times. */
+    private void awaitRequest(PiGpioCmd cmd, int connection, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (System.currentTimeMillis() < deadline) {
+            long found = daemon.requests().stream()
+                .filter(request -> request.cmd == cmd && request.connection == connection).count();
+            if (found >= count) return;
+            Thread.sleep(10);
+        }
+        fail(cmd + " not received on connection #" + connection);
+    }
+
+    private void awaitEvents(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (events.size() < count && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertEquals(count, events.size(), events.toString());
+    }
+
+    private void assertEvent(int index, int pin, PiGpioState state) {
+        assertEquals(pin, events.get(index).pin());
+        assertEquals(state, events.get(index).state());
+    }
+
+    @Test
+    public void testReportsAreDecodedAcrossReads() throws Exception {
+        piGpio.addPinListener(4, listener);
+        awaitRequest(PiGpioCmd.NB, 1, 1);
+        // the listener is running; the monitored pins are updated on the pool connection
+        piGpio.addPinListener(5, listener);
+        awaitRequest(PiGpioCmd.NB, 0, 1);
+
+        // a burst of reports, split in the middle of the second report
+        byte[] burst = reports(1 << 4, (1 << 4) | (1 << 5) | (1 << 6), (1 << 4) | (1 << 5) | (1 << 6), 1 << 5);
+        daemon.send(1, Arrays.copyOfRange(burst, 0, 18));
+        Thread.sleep(50);
+        daemon.send(1, Arrays.copyOfRange(burst, 18, burst.length));
+
+        // one event per change of a monitored pin; pin 6 is not monitored and unchanged reports are skipped
+        awaitEvents(3);
+        assertEvent(0, 4, PiGpioState.HIGH);
+        assertEvent(1, 5, PiGpioState.HIGH);
+        assertEvent(2, 4, PiGpioState.LOW);
+        assertEquals(300, events.get(2).tick());
+    }
+
+    @Test
+    public void testMissedChangeIsReportedAfterReconnect() throws Exception {
+        piGpio.addPinListener(4, listener);
+        awaitRequest(PiGpioCmd.NB, 1, 1);
+
+        // pin 4 changes while the listener is disconnected
+        levels = 1 << 4;
+        daemon.drop(1);
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (daemon.connections() < 3 && System.currentTimeMillis() < deadline) {
+            piGpio.monitor.wake();
+            Thread.sleep(20);
+        }
+
+        // the listener reconnects, restores its pin notifications and reports the missed change
+        awaitRequest(PiGpioCmd.NB, 2, 1);
+        FakePiGpiod.Request restore = daemon.requests().stream()
+            .filter(request -> request.cmd == PiGpioCmd.NB && request.connection == 2).findFirst().get();
+        assertEquals(HANDLE, restore.p1);
+        assertEquals(1 << 4, restore.p2);
+        awaitEvents(1);
+        assertEvent(0, 4, PiGpioState.HIGH);
+    }
+}
@@ -0,0 +1,151 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketPoolTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the connection handling of {@link PiGpioSocketPool} against a {@link FakePiGpiod}, whose
+ * I2C handles identify the connection that opened them.
+ */
+public class PiGpioSocketPoolTest {
+
+    private static final int TIMEOUT = 2000;
+
+    private FakePiGpiod daemon;
+    private PiGpioSocketPool pool;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = new FakePiGpiod();
+        daemon.handler(request -> {
+            switch (request.cmd) {
+                case I2CO: return 100 + request.connection;
+                case I2CRB: return request.p1;     // echo the daemon handle the command was sent with
+                default: return 0;
+            }
+        });
+        pool = new PiGpioSocketPool(daemon.host(), daemon.port(), 2);
+        pool.timeout(TIMEOUT);
+        pool.connect();
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        pool.close();
+        daemon.close();
+    }
+
+    private int openI2C() throws Exception {
+        PiGpioPacket open = new PiGpioPacket(PiGpioCmd.I2CO, 1, 0x40, new byte[4]);
+        return pool.send(open).get(TIMEOUT, TimeUnit.MILLISECONDS).result();
+    }
+
+    private FakePiGpiod.Request lastRequest(PiGpioCmd cmd) {
+        FakePiGpiod.Request found = null;
+        for (FakePiGpiod.Request request : daemon.requests()) {
+            if (request.cmd == cmd) found = request;
+        }
+        return found;
+    }
+
+    private void awaitDisconnected() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (pool.isConnected() && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertFalse(pool.isConnected());
+    }
+
+    @Test
+    public void testDroppedConnectionIsReopenedWithItsHandles() throws Exception {
+        int handle = openI2C();
+        int owner = lastRequest(PiGpioCmd.I2CO).connection;
+        assertEquals(100 + owner, pool.send(new PiGpioPacket(PiGpioCmd.I2CRB, handle, 0)).get().result());
+
+        daemon.drop(owner);
+        awaitDisconnected();
+
+        // stateless commands are routed to the remaining connection; the handle's commands fail fast
+        for (int index = 0; index < 4; index++) {
+            assertEquals(0, pool.send(PiGpioCmd.READ, 4, 0).get(TIMEOUT, TimeUnit.MILLISECONDS).intValue());
+        }
+        CompletableFuture<PiGpioPacket> lost = pool.send(new PiGpioPacket(PiGpioCmd.I2CRB, handle, 0));
+        assertThrows(ExecutionException.class, () -> lost.get(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        // hold the response to the replayed open; the connection must not be used before it is answered
+        daemon.hold();
+        int requests = daemon.requests().size();
+        Thread reconnect = new Thread(pool::connect);
+        reconnect.start();
+        assertTrue(daemon.awaitRequests(requests + 1, TIMEOUT));
+        FakePiGpiod.Request reopen = lastRequest(PiGpioCmd.I2CO);
+        assertEquals(2, reopen.connection);
+        CompletableFuture<PiGpioPacket> early = pool.send(new PiGpioPacket(PiGpioCmd.I2CRB, handle, 0));
+        assertThrows(ExecutionException.class, () -> early.get(TIMEOUT, TimeUnit.MILLISECONDS));
+        daemon.release();
+        reconnect.join(TIMEOUT);
+        assertTrue(pool.isConnected());
+
+        // the handle number is unchanged, its commands carry the new daemon handle on the new connection
+        assertEquals(102, pool.send(new PiGpioPacket(PiGpioCmd.I2CRB, handle, 0)).get(TIMEOUT, TimeUnit.MILLISECONDS).result());
+        assertEquals(2, lastRequest(PiGpioCmd.I2CRB).connection);
+    }
+
+    @Test
+    public void testCallsContinueOnRemainingConnection() throws Exception {
+        PiGpioSocketImpl piGpio = (PiGpioSocketImpl) PiGpioSocketImpl.newInstance(daemon.host(), daemon.port(), 2);
+        try {
+            piGpio.gpioInitialise();
+            int connections = daemon.connections();
+            daemon.drop(connections - 1);
+
+            // wait until the loss is noticed (or already repaired by the background reconnect)
+            long deadline = System.currentTimeMillis() + TIMEOUT;
+            while (piGpio.pool.isConnected() && daemon.connections() == connections
+                    && System.currentTimeMillis() < deadline) Thread.sleep(5);
+
+            // no call is rejected because one of the pool connections is down
+            for (int index = 0; index < 20; index++) {
+                assertEquals(PiGpioState.LOW, piGpio.gpioRead(4));
+            }
+        } finally {
+            piGpio.gpioTerminate();
+        }
+    }
+}
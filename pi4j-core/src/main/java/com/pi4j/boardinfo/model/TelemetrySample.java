@@ -0,0 +1,101 @@
+package com.pi4j.boardinfo.model;
+
+/**
+ * A single numeric board telemetry sample, as recorded by
+ * {@link com.pi4j.boardinfo.util.TelemetrySampler}.
+ * Values that could not be read are NaN (or -1 for the throttling flags).
+ */
+public class TelemetrySample {
+
+    public static final int UNDER_VOLTAGE = 0x1;
+    public static final int FREQUENCY_CAPPED = 0x2;
+    public static final int THROTTLED = 0x4;
+    public static final int SOFT_TEMPERATURE_LIMIT = 0x8;
+    public static final int UNDER_VOLTAGE_OCCURRED = 0x10000;
+    public static final int FREQUENCY_CAPPED_OCCURRED = 0x20000;
+    public static final int THROTTLED_OCCURRED = 0x40000;
+    public static final int SOFT_TEMPERATURE_LIMIT_OCCURRED = 0x80000;
+
+    private final long timestamp;
+    private final double temperature;
+    private final double voltage;
+    private final int throttled;
+    private final double cpuLoad;
+    private final long jvmUsed;
+    private final long jvmTotal;
+
+    public TelemetrySample(long timestamp, double temperature, double voltage, int throttled, double cpuLoad,
+                           long jvmUsed, long jvmTotal) {
+        this.timestamp = timestamp;
+        this.temperature = temperature;
+        this.voltage = voltage;
+        this.throttled = throttled;
+        this.cpuLoad = cpuLoad;
+        this.jvmUsed = jvmUsed;
+        this.jvmTotal = jvmTotal;
+    }
+
+    /**
+     * @return sample time in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public double getTemperatureInCelsius() {
+        return temperature;
+    }
+
+    public double getTemperatureInFahrenheit() {
+        return (temperature * 1.8) + 32;
+    }
+
+    public double getVoltage() {
+        return voltage;
+    }
+
+    public int getThrottled() {
+        return throttled;
+    }
+
+    /**
+     * @return fraction of CPU time spent busy since the previous sample, between 0 and 1
+     */
+    public double getCpuLoad() {
+        return cpuLoad;
+    }
+
+    public long getJvmUsed() {
+        return jvmUsed;
+    }
+
+    public long getJvmTotal() {
+        return jvmTotal;
+    }
+
+    public boolean isUnderVoltage() {
+        return hasFlag(UNDER_VOLTAGE);
+    }
+
+    public boolean isFrequencyCapped() {
+        return hasFlag(FREQUENCY_CAPPED);
+    }
+
+    public boolean isThrottled() {
+        return hasFlag(THROTTLED);
+    }
+
+    public boolean isSoftTemperatureLimit() {
+        return hasFlag(SOFT_TEMPERATURE_LIMIT);
+    }
+
+    public boolean hasFlag(int flag) {
+        return throttled >= 0 && (throttled & flag) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Temperature: " + temperature + "°C, voltage: " + voltage + "V, throttled: 0x"
+            + Integer.toHexString(throttled) + ", CPU load: " + cpuLoad + ", JVM used: " + jvmUsed;
+    }
+}
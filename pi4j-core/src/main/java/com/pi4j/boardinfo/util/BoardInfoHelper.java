@@ -6,12 +6,30 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 public class BoardInfoHelper {
 
     private static final Logger logger = LoggerFactory.getLogger(BoardInfoHelper.class);
 
+    private static final SystemFile CPUINFO = new SystemFile("/proc/cpuinfo");
+    private static final SystemFile MODEL = new SystemFile("/proc/device-tree/model");
+    private static final SystemFile MEMINFO = new SystemFile("/proc/meminfo");
+    private static final SystemFile UPTIME = new SystemFile("/proc/uptime");
+    private static final SystemFile LOADAVG = new SystemFile("/proc/loadavg");
+    private static final SystemFile THERMAL = new SystemFile("/sys/class/thermal/thermal_zone0/temp");
+    private static final SystemFile THROTTLED = new SystemFile("/sys/devices/platform/soc/soc:firmware/get_throttled");
+    private static final SystemFile STAT = new SystemFile("/proc/stat");
+    private static final Command VCGENCMD = new Command("vcgencmd");
+
+    private static volatile String boardVersionCode;
+    private static volatile String boardName;
+
     private static final BoardInfoHelper instance;
     private final BoardInfo boardInfo;
 
@@ -77,21 +95,25 @@ public class BoardInfoHelper {
     }
 
     public static String getBoardVersionCode() {
-        var output = getCommandOutput("cat /proc/cpuinfo | grep 'Revision' | awk '{print $3}'");
-        if (output.isSuccess()) {
-            return output.getOutputMessage();
+        // the revision never changes while running; resolved once from /proc/cpuinfo
+        if (boardVersionCode == null) {
+            var cpuinfo = CPUINFO.read();
+            boardVersionCode = (cpuinfo == null) ? "" : parseRevision(cpuinfo);
+            if (boardVersionCode.isEmpty())
+                logger.debug("Could not get the board version code from {}", CPUINFO.path);
         }
-        logger.error("Could not get the board version code: {}", output.getErrorMessage());
-        return "";
+        return boardVersionCode;
     }
 
     public static String getBoardName() {
-        var output = getCommandOutput("cat /proc/device-tree/model");
-        if (output.isSuccess()) {
-            return output.getOutputMessage();
+        // the model never changes while running; resolved once from the device tree
+        if (boardName == null) {
+            var model = MODEL.read();
+            boardName = (model == null) ? "" : model.replace("\0", "").trim();
+            if (boardName.isEmpty())
+                logger.debug("Could not get the board name from {}", MODEL.path);
         }
-        logger.error("Could not get the board name: {}", output.getErrorMessage());
-        return "";
+        return boardName;
     }
 
     public static JvmMemory getJvmMemory() {
@@ -100,19 +122,300 @@ public class BoardInfoHelper {
 
     public static BoardReading getBoardReading() {
         return new BoardReading(
-            getCommandOutput("cat /proc/device-tree/model").getOutputMessage(),
+            getBoardName(),
             // https://raspberry-projects.com/pi/command-line/detect-rpi-hardware-version
-            getCommandOutput("cat /proc/cpuinfo | grep 'Revision' | awk '{print $3}'").getOutputMessage(),
-            // https://linuxhint.com/commands-for-hardware-information-raspberry-pi/
-             getCommandOutput("vcgencmd measure_temp").getOutputMessage(),
-            getCommandOutput("uptime").getOutputMessage(),
-            // https://linuxhint.com/find-hardware-information-raspberry-pi/
-            getCommandOutput("vcgencmd measure_volts").getOutputMessage(),
+            getBoardVersionCode(),
+            getTemperature(),
+            getUptime(),
+            // there is no procfs/sysfs source for the core voltage; vcgencmd is used when it is installed
+            VCGENCMD.available() ? getCommandOutput("vcgencmd measure_volts").getOutputMessage() : "",
             // https://www.baeldung.com/linux/total-physical-memory
-            getCommandOutput("cat /proc/meminfo | head -n 1").getOutputMessage()
+            firstLine(MEMINFO.read())
         );
     }
 
+    /**
+     * Reads the SoC temperature from the thermal zone, falling back to vcgencmd when the zone is unavailable.
+     *
+     * @return temperature in the vcgencmd format, e.g. "temp=42.8'C"; empty if it cannot be read
+     */
+    private static String getTemperature() {
+        long millidegrees = THERMAL.readLong(10);
+        if (millidegrees != Long.MIN_VALUE)
+            return formatTemperature(millidegrees);
+        return VCGENCMD.available() ? getCommandOutput("vcgencmd measure_temp").getOutputMessage() : "";
+    }
+
+    /**
+     * Builds an uptime summary similar to the uptime command from /proc/uptime and /proc/loadavg.
+     *
+     * @return uptime summary, e.g. "up 85 days, 9:43, load average: 0.00, 0.00, 0.00"; empty if unavailable
+     */
+    private static String getUptime() {
+        var uptime = UPTIME.read();
+        if (uptime == null || uptime.isBlank())
+            return "";
+        try {
+            long seconds = (long) Double.parseDouble(uptime.trim().split("\\s+")[0]);
+            return formatUptime(seconds, LOADAVG.read());
+        } catch (NumberFormatException e) {
+            logger.debug("Unexpected uptime value: {}", uptime);
+            return "";
+        }
+    }
+
+    /**
+     * Reads the SoC temperature without allocating, falling back to vcgencmd when there is no thermal zone.
+     *
+     * @return temperature in degrees Celsius, or NaN if it cannot be read
+     */
+    public static double getTemperatureCelsius() {
+        long millidegrees = THERMAL.readLong(10);
+        if (millidegrees != Long.MIN_VALUE)
+            return millidegrees / 1000.0;
+        if (VCGENCMD.available())
+            return parseCommandValue(getCommandOutput("vcgencmd measure_temp").getOutputMessage());
+        return Double.NaN;
+    }
+
+    /**
+     * Reads the firmware throttling state (bit 0 under-voltage, 1 frequency capped, 2 throttled, 3 soft
+     * temperature limit; the same bits shifted by 16 report that the condition has occurred since boot).
+     *
+     * @return the throttling flags, or -1 if they cannot be read
+     */
+    public static int getThrottledFlags() {
+        long flags = THROTTLED.readLong(16);
+        if (flags != Long.MIN_VALUE)
+            return (int) flags;
+        if (VCGENCMD.available()) {
+            var output = getCommandOutput("vcgencmd get_throttled").getOutputMessage();
+            int separator = output.indexOf('=');
+            try {
+                return Long.decode(output.substring(separator + 1).trim()).intValue();
+            } catch (NumberFormatException e) {
+                logger.debug("Unexpected throttled value: {}", output);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the core voltage. This is only available through vcgencmd, so every call forks a process.
+     *
+     * @return core voltage in volts, or NaN if it cannot be read
+     */
+    public static double getCoreVoltage() {
+        if (VCGENCMD.available())
+            return parseCommandValue(getCommandOutput("vcgencmd measure_volts").getOutputMessage());
+        return Double.NaN;
+    }
+
+    /**
+     * Reads the aggregate CPU counters from /proc/stat without allocating.
+     *
+     * @param ticks receives the busy ticks at index 0 and the total ticks at index 1
+     * @return false if the counters cannot be read
+     */
+    static boolean readCpuTicks(long[] ticks) {
+        return STAT.readCpuTicks(ticks);
+    }
+
+    static double parseCommandValue(String output) {
+        // e.g. "temp=42.8'C" or "volt=0.8563V"
+        int start = output.indexOf('=') + 1;
+        int end = start;
+        while (end < output.length() && (Character.isDigit(output.charAt(end)) || output.charAt(end) == '.'))
+            end++;
+        try {
+            return Double.parseDouble(output.substring(start, end));
+        } catch (NumberFormatException e) {
+            logger.debug("Unexpected vcgencmd value: {}", output);
+            return Double.NaN;
+        }
+    }
+
+    static String parseRevision(String cpuinfo) {
+        for (String line : cpuinfo.split("\n")) {
+            if (line.startsWith("Revision")) {
+                int separator = line.indexOf(':');
+                if (separator >= 0)
+                    return line.substring(separator + 1).trim();
+            }
+        }
+        return "";
+    }
+
+    static String formatTemperature(long millidegrees) {
+        return String.format(Locale.ROOT, "temp=%.1f'C", millidegrees / 1000.0);
+    }
+
+    static String formatUptime(long seconds, String loadavg) {
+        long days = TimeUnit.SECONDS.toDays(seconds);
+        long hours = TimeUnit.SECONDS.toHours(seconds) % 24;
+        long minutes = TimeUnit.SECONDS.toMinutes(seconds) % 60;
+        var sb = new StringBuilder("up ");
+        if (days > 0)
+            sb.append(days).append(days == 1 ? " day, " : " days, ");
+        sb.append(hours).append(':').append(String.format(Locale.ROOT, "%02d", minutes));
+        if (loadavg != null) {
+            var load = loadavg.trim().split("\\s+");
+            if (load.length >= 3)
+                sb.append(", load average: ").append(load[0]).append(", ").append(load[1]).append(", ").append(load[2]);
+        }
+        return sb.toString();
+    }
+
+    private static String firstLine(String content) {
+        if (content == null)
+            return "";
+        int end = content.indexOf('\n');
+        return (end < 0 ? content : content.substring(0, end)).trim();
+    }
+
+    /**
+     * A procfs/sysfs file kept open between reads. These pseudo files are regenerated on every read from
+     * offset zero, so re-reading a cached handle avoids both the open() and any process fork.
+     */
+    private static final class SystemFile {
+        private final String path;
+        private RandomAccessFile file;
+        private boolean missing = false;
+        private byte[] data = new byte[256];
+
+        private SystemFile(String path) {
+            this.path = path;
+        }
+
+        /**
+         * @return the current file content, or null if the file does not exist or cannot be read
+         */
+        private synchronized String read() {
+            int length = fill();
+            return (length < 0) ? null : new String(data, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @return the leading integer of the file content, or Long.MIN_VALUE if there is none
+         */
+        private synchronized long readLong(int radix) {
+            int length = fill();
+            if (length < 0)
+                return Long.MIN_VALUE;
+            int position = 0;
+            while (position < length && Character.isWhitespace(data[position]))
+                position++;
+            if (radix == 16 && position + 1 < length && data[position] == '0' && (data[position + 1] | 0x20) == 'x')
+                position += 2;
+            boolean negative = position < length && data[position] == '-';
+            if (negative)
+                position++;
+            long value = 0;
+            int digits = 0;
+            for (int digit; position < length && (digit = Character.digit(data[position], radix)) >= 0; position++, digits++)
+                value = value * radix + digit;
+            if (digits == 0)
+                return Long.MIN_VALUE;
+            return negative ? -value : value;
+        }
+
+        /**
+         * Parses "cpu user nice system idle iowait irq softirq steal ..." from the first line of /proc/stat.
+         */
+        private synchronized boolean readCpuTicks(long[] ticks) {
+            int length = fill();
+            if (length < 4 || data[0] != 'c' || data[1] != 'p' || data[2] != 'u' || data[3] != ' ')
+                return false;
+            long total = 0;
+            long idle = 0;
+            int field = 0;
+            for (int position = 4; position < length && data[position] != '\n' && field < 8; ) {
+                if (data[position] == ' ') {
+                    position++;
+                    continue;
+                }
+                long value = 0;
+                while (position < length && data[position] >= '0' && data[position] <= '9')
+                    value = value * 10 + (data[position++] - '0');
+                // idle and iowait are the 4th and 5th fields
+                if (field == 3 || field == 4)
+                    idle += value;
+                total += value;
+                field++;
+            }
+            if (field < 4)
+                return false;
+            ticks[0] = total - idle;
+            ticks[1] = total;
+            return true;
+        }
+
+        private int fill() {
+            if (missing)
+                return -1;
+            try {
+                if (file == null)
+                    file = new RandomAccessFile(path, "r");
+                file.seek(0);
+                int length = 0;
+                int read;
+                while ((read = file.read(data, length, data.length - length)) > 0) {
+                    length += read;
+                    if (length == data.length)
+                        data = Arrays.copyOf(data, data.length * 2);
+                }
+                return length;
+            } catch (FileNotFoundException e) {
+                // not a Linux/Raspberry Pi system (or no such sensor); don't try again
+                missing = true;
+                return -1;
+            } catch (IOException e) {
+                logger.debug("Could not read {}: {}", path, e.getMessage());
+                close();
+                return -1;
+            }
+        }
+
+        private void close() {
+            try {
+                if (file != null)
+                    file.close();
+            } catch (IOException ignored) {
+            } finally {
+                file = null;
+            }
+        }
+    }
+
+    /**
+     * Optional command line tool, looked up on the PATH once instead of being forked to find out it is missing.
+     */
+    private static final class Command {
+        private final String name;
+        private volatile Boolean available;
+
+        private Command(String name) {
+            this.name = name;
+        }
+
+        private boolean available() {
+            if (available == null) {
+                var path = System.getenv("PATH");
+                boolean found = false;
+                if (path != null) {
+                    for (String dir : path.split(File.pathSeparator)) {
+                        if (!dir.isEmpty() && Files.isExecutable(Paths.get(dir, name))) {
+                            found = true;
+                            break;
+                        }
+                    }
+                }
+                available = found;
+            }
+            return available;
+        }
+    }
+
     private static class CommandResult {
         private final boolean success;
         private final String outputMessage;
@@ -0,0 +1,12 @@
+package com.pi4j.boardinfo.util;
+
+import com.pi4j.boardinfo.model.TelemetrySample;
+
+/**
+ * Receives every sample recorded by a {@link TelemetrySampler}, on the sampler thread.
+ */
+@FunctionalInterface
+public interface TelemetryListener {
+
+    void onSample(TelemetrySample sample);
+}
@@ -0,0 +1,384 @@
+package com.pi4j.boardinfo.util;
+
+import com.pi4j.boardinfo.model.TelemetrySample;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples numeric board telemetry (SoC temperature, throttling flags, core voltage, CPU load and JVM memory)
+ * at a fixed rate into a fixed-size ring buffer of primitive arrays.
+ * <p>
+ * Sampling reads procfs/sysfs through the cached handles of {@link BoardInfoHelper} and does not allocate
+ * unless listeners are registered. The core voltage is only available through vcgencmd, so it is not
+ * sampled unless enabled with {@link #sampleVoltage(boolean)}.
+ * <p>
+ * The sampler of a context runs on the scheduled executor of the context's executor pool. A sampler created
+ * without an executor uses a thread of its own while it is running.
+ */
+public class TelemetrySampler implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetrySampler.class);
+
+    public static final int DEFAULT_CAPACITY = 600;
+    public static final long DEFAULT_INTERVAL_MILLIS = 1000;
+
+    private final int capacity;
+    private final long[] timestamps;
+    private final double[] temperatures;
+    private final double[] voltages;
+    private final int[] throttled;
+    private final double[] cpuLoads;
+    private final long[] jvmUsed;
+    private final long[] jvmTotal;
+    private int next = 0;
+    private long count = 0;
+
+    private final long[] cpuTicks = new long[2];
+    private final long[] previousCpuTicks = {-1, -1};
+
+    private final List<TelemetryListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean sampleVoltage = false;
+    private final ScheduledExecutorService executor;
+    private ScheduledExecutorService ownExecutor;
+    private ScheduledFuture<?> schedule;
+
+    public TelemetrySampler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity number of samples retained; older samples are overwritten
+     */
+    public TelemetrySampler(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * @param capacity number of samples retained; older samples are overwritten
+     * @param executor executor running the scheduled sampling; it is shared and never shut down by the sampler
+     */
+    public TelemetrySampler(int capacity, ScheduledExecutorService executor) {
+        this.executor = executor;
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be at least 1");
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+        this.temperatures = new double[capacity];
+        this.voltages = new double[capacity];
+        this.throttled = new int[capacity];
+        this.cpuLoads = new double[capacity];
+        this.jvmUsed = new long[capacity];
+        this.jvmTotal = new long[capacity];
+    }
+
+    /**
+     * Start sampling at the default interval of one second.
+     */
+    public TelemetrySampler start() {
+        return start(DEFAULT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Start sampling at the given interval, replacing any running schedule.
+     */
+    public synchronized TelemetrySampler start(long interval, TimeUnit unit) {
+        if (interval <= 0)
+            throw new IllegalArgumentException("interval must be positive");
+        stop();
+        ScheduledExecutorService scheduler = executor;
+        if (scheduler == null) {
+            scheduler = ownExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                var thread = new Thread(runnable, "Pi4J.TELEMETRY");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        schedule = scheduler.scheduleAtFixedRate(() -> {
+            try {
+                record();
+            } catch (Exception e) {
+                logger.warn("Telemetry sample failed: {}", e.getMessage(), e);
+            }
+        }, 0, interval, unit);
+        logger.debug("Telemetry sampling started every {} {}", interval, unit);
+        return this;
+    }
+
+    /**
+     * Stop sampling; retained samples stay available.
+     */
+    public synchronized TelemetrySampler stop() {
+        if (schedule != null) {
+            schedule.cancel(false);
+            schedule = null;
+            logger.debug("Telemetry sampling stopped");
+        }
+        if (ownExecutor != null) {
+            ownExecutor.shutdownNow();
+            ownExecutor = null;
+        }
+        return this;
+    }
+
+    public synchronized boolean isRunning() {
+        return schedule != null;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    /**
+     * Enable or disable reading the core voltage, which forks vcgencmd on every sample.
+     */
+    public TelemetrySampler sampleVoltage(boolean sampleVoltage) {
+        this.sampleVoltage = sampleVoltage;
+        return this;
+    }
+
+    public TelemetrySampler addListener(TelemetryListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    public TelemetrySampler removeListener(TelemetryListener listener) {
+        listeners.remove(listener);
+        return this;
+    }
+
+    /**
+     * Take a sample immediately, in addition to any scheduled sampling.
+     *
+     * @return the recorded sample
+     */
+    public TelemetrySample sample() {
+        int index = record();
+        synchronized (this) {
+            return toSample(index);
+        }
+    }
+
+    private int record() {
+        // read the sensors outside the lock; only the stores into the buffer are guarded
+        long timestamp = System.currentTimeMillis();
+        double temperature = BoardInfoHelper.getTemperatureCelsius();
+        double voltage = sampleVoltage ? BoardInfoHelper.getCoreVoltage() : Double.NaN;
+        int flags = BoardInfoHelper.getThrottledFlags();
+        var runtime = Runtime.getRuntime();
+        long total = runtime.totalMemory();
+        long used = total - runtime.freeMemory();
+
+        int index;
+        synchronized (this) {
+            double load = cpuLoad();
+            index = next;
+            timestamps[index] = timestamp;
+            temperatures[index] = temperature;
+            voltages[index] = voltage;
+            throttled[index] = flags;
+            cpuLoads[index] = load;
+            jvmUsed[index] = used;
+            jvmTotal[index] = total;
+            next = (index + 1) % capacity;
+            count++;
+        }
+
+        if (!listeners.isEmpty()) {
+            TelemetrySample sample;
+            synchronized (this) {
+                sample = toSample(index);
+            }
+            for (TelemetryListener listener : listeners) {
+                try {
+                    listener.onSample(sample);
+                } catch (Exception e) {
+                    logger.warn("Telemetry listener failed: {}", e.getMessage(), e);
+                }
+            }
+        }
+        return index;
+    }
+
+    // busy fraction since the previous sample; guarded by this
+    private double cpuLoad() {
+        if (!BoardInfoHelper.readCpuTicks(cpuTicks))
+            return Double.NaN;
+        double load = Double.NaN;
+        long elapsed = cpuTicks[1] - previousCpuTicks[1];
+        if (previousCpuTicks[1] >= 0 && elapsed > 0)
+            load = (double) (cpuTicks[0] - previousCpuTicks[0]) / elapsed;
+        previousCpuTicks[0] = cpuTicks[0];
+        previousCpuTicks[1] = cpuTicks[1];
+        return load;
+    }
+
+    private TelemetrySample toSample(int index) {
+        return new TelemetrySample(timestamps[index], temperatures[index], voltages[index], throttled[index],
+            cpuLoads[index], jvmUsed[index], jvmTotal[index]);
+    }
+
+    private int latestIndex() {
+        if (count == 0)
+            throw new IllegalStateException("No telemetry has been sampled yet");
+        return (next + capacity - 1) % capacity;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of samples currently retained
+     */
+    public synchronized int size() {
+        return (int) Math.min(count, capacity);
+    }
+
+    /**
+     * @return number of samples recorded since creation
+     */
+    public synchronized long count() {
+        return count;
+    }
+
+    /**
+     * @return the most recent sample, or null if nothing has been sampled yet
+     */
+    public synchronized TelemetrySample latest() {
+        return count == 0 ? null : toSample(latestIndex());
+    }
+
+    public synchronized double getTemperatureInCelsius() {
+        return temperatures[latestIndex()];
+    }
+
+    public synchronized double getVoltage() {
+        return voltages[latestIndex()];
+    }
+
+    public synchronized int getThrottled() {
+        return throttled[latestIndex()];
+    }
+
+    public synchronized double getCpuLoad() {
+        return cpuLoads[latestIndex()];
+    }
+
+    public synchronized long getJvmUsed() {
+        return jvmUsed[latestIndex()];
+    }
+
+    /**
+     * @return the highest temperature among the retained samples, or NaN if none could be read
+     */
+    public synchronized double getMaxTemperatureInCelsius() {
+        double max = Double.NaN;
+        for (int i = 0, size = size(); i < size; i++) {
+            double value = temperatures[i];
+            if (!Double.isNaN(value) && (Double.isNaN(max) || value > max))
+                max = value;
+        }
+        return max;
+    }
+
+    /**
+     * @return the mean CPU load over the retained samples, or NaN if none could be computed
+     */
+    public synchronized double getAverageCpuLoad() {
+        double sum = 0;
+        int values = 0;
+        for (int i = 0, size = size(); i < size; i++) {
+            if (!Double.isNaN(cpuLoads[i])) {
+                sum += cpuLoads[i];
+                values++;
+            }
+        }
+        return values == 0 ? Double.NaN : sum / values;
+    }
+
+    /**
+     * @return the throttling flags of all retained samples OR-ed together, or -1 if none could be read
+     */
+    public synchronized int getThrottledSeen() {
+        int flags = -1;
+        for (int i = 0, size = size(); i < size; i++) {
+            if (throttled[i] >= 0)
+                flags = (flags < 0) ? throttled[i] : flags | throttled[i];
+        }
+        return flags;
+    }
+
+    /**
+     * Copy the retained timestamps, oldest first, into the given array.
+     *
+     * @return number of values copied
+     */
+    public synchronized int timestamps(long[] into) {
+        int size = Math.min(size(), into.length);
+        int start = oldest(size);
+        for (int i = 0; i < size; i++)
+            into[i] = timestamps[(start + i) % capacity];
+        return size;
+    }
+
+    /**
+     * Copy the retained temperatures, oldest first, into the given array.
+     *
+     * @return number of values copied
+     */
+    public synchronized int temperatures(double[] into) {
+        return copy(temperatures, into);
+    }
+
+    /**
+     * Copy the retained voltages, oldest first, into the given array.
+     *
+     * @return number of values copied
+     */
+    public synchronized int voltages(double[] into) {
+        return copy(voltages, into);
+    }
+
+    /**
+     * Copy the retained CPU loads, oldest first, into the given array.
+     *
+     * @return number of values copied
+     */
+    public synchronized int cpuLoads(double[] into) {
+        return copy(cpuLoads, into);
+    }
+
+    /**
+     * Copy the retained throttling flags, oldest first, into the given array.
+     *
+     * @return number of values copied
+     */
+    public synchronized int throttled(int[] into) {
+        int size = Math.min(size(), into.length);
+        int start = oldest(size);
+        for (int i = 0; i < size; i++)
+            into[i] = throttled[(start + i) % capacity];
+        return size;
+    }
+
+    private int copy(double[] source, double[] into) {
+        int size = Math.min(size(), into.length);
+        int start = oldest(size);
+        for (int i = 0; i < size; i++)
+            into[i] = source[(start + i) % capacity];
+        return size;
+    }
+
+    // index of the oldest of the most recent 'size' samples
+    private int oldest(int size) {
+        return (next - size + capacity) % capacity;
+    }
+}
@@ -29,10 +29,12 @@ import com.pi4j.boardinfo.definition.BoardModel;
 import com.pi4j.boardinfo.model.BoardInfo;
 import com.pi4j.boardinfo.model.JavaInfo;
 import com.pi4j.boardinfo.model.OperatingSystem;
+import com.pi4j.boardinfo.util.TelemetrySampler;
 import com.pi4j.common.Describable;
 import com.pi4j.common.Descriptor;
 import com.pi4j.config.Config;
 import com.pi4j.config.ConfigBuilder;
+import com.pi4j.event.EventDispatcher;
 import com.pi4j.event.InitializedEventProducer;
 import com.pi4j.event.ShutdownEventProducer;
 import com.pi4j.exception.ShutdownException;
@@ -53,9 +55,13 @@ import com.pi4j.provider.Providers;
 import com.pi4j.provider.exception.ProviderInterfaceException;
 import com.pi4j.provider.exception.ProviderNotFoundException;
 import com.pi4j.registry.Registry;
+import com.pi4j.runtime.impl.ShutdownEngine;
 import com.pi4j.util.PropertiesUtil;
+import com.pi4j.util.StartupProfiler;
+import com.pi4j.util.TimerWheel;
 import com.pi4j.util.StringUtil;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Future;
 
@@ -103,6 +109,15 @@ public interface Context extends Describable, IOCreator, ProviderProvider, Initi
      */
     Platforms platforms();
 
+    /**
+     * <p>Default dispatcher used to deliver IO events to listeners and bindings.</p>
+     *
+     * @return a {@link com.pi4j.event.EventDispatcher} object.
+     */
+    default EventDispatcher eventDispatcher() {
+        return config().eventDispatcher();
+    }
+
     /**
      * Submits the given task for async execution
      *
@@ -112,6 +127,14 @@ public interface Context extends Describable, IOCreator, ProviderProvider, Initi
      */
     Future<?> submitTask(Runnable task);
 
+    /**
+     * Shared timer for short, non-blocking timed tasks, such as the transitions of asynchronous pulses
+     * and blinks; the tasks run on the timer thread and must not block
+     *
+     * @return the timer of this context
+     */
+    TimerWheel timer();
+
     /**
      * <p>shutdown.</p>
      *
@@ -321,6 +344,31 @@ public interface Context extends Describable, IOCreator, ProviderProvider, Initi
      */
     BoardInfo boardInfo();
 
+    /**
+     * <p>Timing tree recorded while this context was built: configuration, board detection, plugin
+     * scanning and the initialization of each plugin, provider and platform.</p>
+     *
+     * @return a {@link com.pi4j.util.StartupProfiler} object.
+     */
+    StartupProfiler startupProfile();
+
+    /**
+     * <p>Time spent shutting down each IO instance, platform, provider and plugin, including the items
+     * that failed or did not shut down before the deadline; empty until the context has been shut down.</p>
+     *
+     * @return a {@link java.util.List} object.
+     */
+    List<ShutdownEngine.Timing> shutdownTimings();
+
+    /**
+     * <p>Board telemetry sampler for this context. It is created on first access and only samples once
+     * started, or automatically at startup when the <code>pi4j.telemetry.interval</code> property (milliseconds)
+     * is set. It is stopped when the context shuts down.</p>
+     *
+     * @return a {@link com.pi4j.boardinfo.util.TelemetrySampler} object.
+     */
+    TelemetrySampler telemetry();
+
     // ------------------------------------------------------------------------
     // I/O INSTANCE ACCESSOR/CREATOR METHODS
     // ------------------------------------------------------------------------
@@ -27,8 +27,10 @@ package com.pi4j.context;
 
 import com.pi4j.config.Builder;
 import com.pi4j.context.impl.DefaultContextBuilder;
+import com.pi4j.event.EventDispatcher;
 import com.pi4j.platform.Platform;
 import com.pi4j.provider.Provider;
+import com.pi4j.util.ExecutionModel;
 
 import java.io.File;
 import java.io.IOException;
@@ -147,6 +149,33 @@ public interface ContextBuilder extends Builder<Context> {
             return noAutoInject();
     }
 
+    /**
+     * <p>Defer provider initialization until each provider is first looked up.</p>
+     *
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder lazyInitialization();
+
+    /**
+     * <p>Initialize all providers eagerly while the context is built (default).</p>
+     *
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder noLazyInitialization();
+
+    /**
+     * <p>setLazyInitialization.</p>
+     *
+     * @param lazyInitialization a boolean.
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    default ContextBuilder setLazyInitialization(boolean lazyInitialization){
+        if(lazyInitialization)
+            return lazyInitialization();
+        else
+            return noLazyInitialization();
+    }
+
     /**
      * <p>toConfig.</p>
      *
@@ -249,6 +278,24 @@ public interface ContextBuilder extends Builder<Context> {
         return defaultPlatform(platform);
     }
 
+    /**
+     * <p>Set the default dispatcher used to deliver IO events to listeners and bindings.
+     * The context closes this dispatcher when it is shut down.</p>
+     *
+     * @param dispatcher a {@link com.pi4j.event.EventDispatcher} object.
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder eventDispatcher(EventDispatcher dispatcher);
+
+    /**
+     * <p>Set the execution model of the runtime thread pools: bounded pools and queues, daemon threads,
+     * thread priority and virtual threads (Java 21 or later).</p>
+     *
+     * @param executionModel a {@link com.pi4j.util.ExecutionModel} object.
+     * @return a {@link com.pi4j.context.ContextBuilder} object.
+     */
+    ContextBuilder executionModel(ExecutionModel executionModel);
+
     /**
      * <p>property.</p>
      *
@@ -25,8 +25,10 @@ package com.pi4j.context;
  * #L%
  */
 
+import com.pi4j.event.EventDispatcher;
 import com.pi4j.platform.Platform;
 import com.pi4j.provider.Provider;
+import com.pi4j.util.ExecutionModel;
 
 import java.util.Collection;
 import java.util.Map;
@@ -155,6 +157,40 @@ public interface ContextConfig {
      */
     default boolean isAutoDetectProviders() { return autoDetectProviders(); };
 
+    /**
+     * <p>lazyInitialization; when enabled, providers are registered at startup but
+     * only initialized when they are first looked up.</p>
+     *
+     * @return a boolean.
+     */
+    default boolean lazyInitialization() { return false; }
+    /**
+     * <p>isLazyInitialization.</p>
+     *
+     * @return a boolean.
+     */
+    default boolean isLazyInitialization() { return lazyInitialization(); };
+
+    // **************************************************
+    // EVENTS
+    // **************************************************
+    /**
+     * <p>Default dispatcher used to deliver IO events to listeners and bindings.</p>
+     *
+     * @return a {@link com.pi4j.event.EventDispatcher} object.
+     */
+    default EventDispatcher eventDispatcher() { return EventDispatcher.synchronous(); }
+
+    // **************************************************
+    // EXECUTION
+    // **************************************************
+    /**
+     * <p>Execution model of the thread pools backing the runtime (asynchronous tasks, input monitors, shutdown).</p>
+     *
+     * @return a {@link com.pi4j.util.ExecutionModel} object.
+     */
+    default ExecutionModel executionModel() { return ExecutionModel.defaults(); }
+
     // **************************************************
     // PROPERTIES
     // **************************************************
@@ -27,6 +27,7 @@ package com.pi4j.context.impl;
 
 import com.pi4j.boardinfo.model.BoardInfo;
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.boardinfo.util.TelemetrySampler;
 import com.pi4j.context.Context;
 import com.pi4j.context.ContextConfig;
 import com.pi4j.context.ContextProperties;
@@ -43,10 +44,15 @@ import com.pi4j.registry.Registry;
 import com.pi4j.registry.impl.DefaultRegistry;
 import com.pi4j.runtime.Runtime;
 import com.pi4j.runtime.impl.DefaultRuntime;
+import com.pi4j.runtime.impl.ShutdownEngine;
+import com.pi4j.util.StartupProfiler;
+import com.pi4j.util.TimerWheel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>DefaultContext class.</p>
@@ -56,6 +62,13 @@ import java.util.concurrent.Future;
  */
 public class DefaultContext implements Context {
 
+    /** Property enabling the startup timing report at INFO level (it is always logged at DEBUG). */
+    public static final String STARTUP_PROFILE_PROPERTY = "startup.profile";
+    /** Property holding the telemetry sampling interval in milliseconds; sampling starts with the context when set. */
+    public static final String TELEMETRY_INTERVAL_PROPERTY = "telemetry.interval";
+    /** Property holding the number of telemetry samples retained. */
+    public static final String TELEMETRY_CAPACITY_PROPERTY = "telemetry.capacity";
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private Runtime runtime = null;
@@ -65,6 +78,8 @@ public class DefaultContext implements Context {
     private Platforms platforms = null;
     private Registry registry = null;
     private BoardInfo boardInfo = null;
+    private StartupProfiler startupProfile = null;
+    private volatile TelemetrySampler telemetry = null;
 
     /**
      * <p>newInstance.</p>
@@ -73,12 +88,24 @@ public class DefaultContext implements Context {
      * @return a {@link com.pi4j.context.Context} object.
      */
     public static Context newInstance(ContextConfig config) {
-        return new DefaultContext(config);
+        return new DefaultContext(config, new StartupProfiler("context"));
+    }
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param config a {@link com.pi4j.context.ContextConfig} object.
+     * @param startupProfile profiler already tracking the context build
+     * @return a {@link com.pi4j.context.Context} object.
+     */
+    public static Context newInstance(ContextConfig config, StartupProfiler startupProfile) {
+        return new DefaultContext(config, startupProfile);
     }
 
     // private constructor
-    private DefaultContext(ContextConfig config) {
+    private DefaultContext(ContextConfig config, StartupProfiler startupProfile) {
         logger.trace("new Pi4J runtime context initialized [config={}]", config);
+        this.startupProfile = startupProfile;
 
         // validate config object exists
         if(config == null) {
@@ -89,7 +116,9 @@ public class DefaultContext implements Context {
         this.config = config;
 
         // create internal runtime state instance  (READ-ONLY ACCESS OBJECT)
-        this.runtime = DefaultRuntime.newInstance(this);
+        try (var phase = startupProfile.phase("runtime")) {
+            this.runtime = DefaultRuntime.newInstance(this);
+        }
 
         // create API accessible properties instance  (READ-ONLY ACCESS OBJECT)
         this.properties = DefaultContextProperties.newInstance(this.runtime.properties());
@@ -104,13 +133,30 @@ public class DefaultContext implements Context {
         this.platforms = DefaultPlatforms.newInstance(this.runtime.platforms());
 
         // detect the board model
-        this.boardInfo = BoardInfoHelper.current();
+        try (var phase = startupProfile.phase("board-info")) {
+            this.boardInfo = BoardInfoHelper.current();
+        }
         logger.info("Detected board model: {}", boardInfo.getBoardModel().getLabel());
         logger.info("Running on: {}", boardInfo.getOperatingSystem());
         logger.info("With Java version: {}", boardInfo.getJavaInfo());
 
         // initialize runtime now
-        this.runtime.initialize();
+        try (var phase = startupProfile.phase("initialize")) {
+            this.runtime.initialize();
+        }
+
+        // start board telemetry sampling if configured
+        Integer telemetryInterval = properties.getInteger(TELEMETRY_INTERVAL_PROPERTY, null);
+        if (telemetryInterval != null && telemetryInterval > 0)
+            telemetry().start(telemetryInterval, TimeUnit.MILLISECONDS);
+
+        // stop recording and report where the startup time went
+        startupProfile.finish();
+        String report = startupProfile.report();
+        if (Boolean.parseBoolean(properties.get(STARTUP_PROFILE_PROPERTY, "false")))
+            logger.info("Pi4J startup profile:{}{}", System.lineSeparator(), report);
+        else
+            logger.debug("Pi4J startup profile:{}{}", System.lineSeparator(), report);
 
         logger.debug("Pi4J runtime context successfully created & initialized.'");
     }
@@ -141,12 +187,43 @@ public class DefaultContext implements Context {
     @Override
     public BoardInfo boardInfo() { return this.boardInfo; }
 
+    /** {@inheritDoc} */
+    @Override
+    public StartupProfiler startupProfile() { return this.startupProfile; }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ShutdownEngine.Timing> shutdownTimings() { return this.runtime.shutdownTimings(); }
+
+    /** {@inheritDoc} */
+    @Override
+    public TelemetrySampler telemetry() {
+        if (this.telemetry == null) {
+            synchronized (this) {
+                if (this.telemetry == null) {
+                    TelemetrySampler sampler = new TelemetrySampler(
+                        properties.getInteger(TELEMETRY_CAPACITY_PROPERTY, TelemetrySampler.DEFAULT_CAPACITY),
+                        this.runtime.executorPool().getScheduledExecutor("Pi4J.TELEMETRY"));
+                    this.runtime.addListener((ShutdownListener) event -> sampler.close());
+                    this.telemetry = sampler;
+                }
+            }
+        }
+        return this.telemetry;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Future<?> submitTask(Runnable task) {
         return this.runtime.submitTask(task);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel timer() {
+        return this.runtime.timer();
+    }
+
     /** {@inheritDoc} */
     @Override
     public Context shutdown() throws ShutdownException {
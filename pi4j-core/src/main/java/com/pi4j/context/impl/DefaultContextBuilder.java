@@ -28,9 +28,12 @@ package com.pi4j.context.impl;
 import com.pi4j.context.Context;
 import com.pi4j.context.ContextBuilder;
 import com.pi4j.context.ContextConfig;
+import com.pi4j.event.EventDispatcher;
 import com.pi4j.exception.Pi4JException;
 import com.pi4j.platform.Platform;
 import com.pi4j.provider.Provider;
+import com.pi4j.util.ExecutionModel;
+import com.pi4j.util.StartupProfiler;
 import com.pi4j.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +57,7 @@ public class DefaultContextBuilder implements ContextBuilder {
     protected boolean autoDetectPlatforms = false;
     protected boolean autoDetectProviders = false;
     protected boolean autoInject = false;
+    protected boolean lazyInitialization = false;
 
     // default platform identifier
     protected String defaultPlatformId = null;
@@ -62,6 +66,12 @@ public class DefaultContextBuilder implements ContextBuilder {
     protected Collection<Platform> platforms = Collections.synchronizedList(new ArrayList<>());
     protected Collection<Provider> providers = Collections.synchronizedList(new ArrayList<>());
 
+    // default event dispatcher
+    protected EventDispatcher eventDispatcher = EventDispatcher.synchronous();
+
+    // thread pool execution model
+    protected ExecutionModel executionModel = ExecutionModel.defaults();
+
     // properties
     protected Map<String,String> properties = Collections.synchronizedMap(new HashMap<>());
 
@@ -157,6 +167,34 @@ public class DefaultContextBuilder implements ContextBuilder {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder lazyInitialization() {
+        this.lazyInitialization = true;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder noLazyInitialization() {
+        this.lazyInitialization = false;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder eventDispatcher(EventDispatcher dispatcher) {
+        this.eventDispatcher = (dispatcher == null) ? EventDispatcher.synchronous() : dispatcher;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ContextBuilder executionModel(ExecutionModel executionModel) {
+        this.executionModel = (executionModel == null) ? ExecutionModel.defaults() : executionModel;
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public ContextBuilder property(String key, String value){
@@ -266,11 +304,24 @@ public class DefaultContextBuilder implements ContextBuilder {
             @Override
             public boolean autoInject() { return builder.autoInject; }
 
+            @Override
+            public boolean lazyInitialization() { return builder.lazyInitialization; }
+
             @Override
             public boolean autoDetectProviders() {
                 return builder.autoDetectProviders;
             }
 
+            @Override
+            public EventDispatcher eventDispatcher() {
+                return builder.eventDispatcher;
+            }
+
+            @Override
+            public ExecutionModel executionModel() {
+                return builder.executionModel;
+            }
+
             @Override
             public Map<String, String> properties() {
                 return Collections.unmodifiableMap(builder.properties);
@@ -283,8 +334,13 @@ public class DefaultContextBuilder implements ContextBuilder {
     public Context build() throws Pi4JException {
         logger.trace("invoked 'build()'");
 
-        // create new context
-        Context context = DefaultContext.newInstance(this.toConfig());
+        // create new context, timing the build from here on
+        StartupProfiler profiler = new StartupProfiler("context");
+        ContextConfig config;
+        try (var phase = profiler.phase("config")) {
+            config = this.toConfig();
+        }
+        Context context = DefaultContext.newInstance(config, profiler);
 
         // return the newly created context
         logger.debug("Pi4J successfully created and initialized a new runtime 'Context'.'");
@@ -0,0 +1,93 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventConflator.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Merges a high frequency event stream into a single pending notification holding
+ * only the latest event and a change count.</p>
+ *
+ * <p>{@link #offer(Object)} does a constant amount of work and allocates nothing, no
+ * matter how fast events arrive: it records the latest event, bumps the change count and
+ * reports whether a notification still needs to be scheduled.  Pushed notifications
+ * ({@link #take()}) and pulled snapshots ({@link #drain()}) are tracked independently, so
+ * listeners and polling consumers can be used side by side.</p>
+ *
+ * @param <EVENT_TYPE> event type
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class EventConflator<EVENT_TYPE> {
+
+    protected volatile EVENT_TYPE latest = null;
+    protected final AtomicLong changes = new AtomicLong();
+    protected final AtomicBoolean notificationPending = new AtomicBoolean();
+
+    /**
+     * <p>Record a new event.</p>
+     *
+     * @param event the event raised by the IO instance.
+     * @return true if the caller must schedule a notification; false if one is already pending.
+     */
+    public boolean offer(EVENT_TYPE event) {
+        this.latest = event;
+        this.changes.incrementAndGet();
+        return !notificationPending.get() && notificationPending.compareAndSet(false, true);
+    }
+
+    /**
+     * <p>Consume the pending notification and return the latest event.  Events offered
+     * after this call schedule a new notification.</p>
+     *
+     * @return the latest event.
+     */
+    public EVENT_TYPE take() {
+        notificationPending.set(false);
+        return latest;
+    }
+
+    /**
+     * <p>Take a snapshot of the latest event and the number of events raised since the
+     * previous snapshot.</p>
+     *
+     * @return a {@link com.pi4j.event.EventSnapshot} object.
+     */
+    public EventSnapshot<EVENT_TYPE> drain() {
+        long count = changes.getAndSet(0);
+        return new EventSnapshot<>(latest, count);
+    }
+
+    /**
+     * <p>The most recent event, or null if none has been raised yet.</p>
+     *
+     * @return a EVENT_TYPE object.
+     */
+    public EVENT_TYPE latest() {
+        return latest;
+    }
+}
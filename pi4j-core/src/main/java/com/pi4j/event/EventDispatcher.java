@@ -0,0 +1,97 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventDispatcher.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.event.impl.ExecutorEventDispatcher;
+import com.pi4j.event.impl.RingBufferEventDispatcher;
+import com.pi4j.event.impl.SynchronousEventDispatcher;
+
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Strategy used by {@link EventManager} and {@link com.pi4j.io.binding.BindingManager}
+ * to deliver events to their listeners and bindings.</p>
+ *
+ * <p>The default strategy is {@link #synchronous()}, which delivers on the thread that
+ * raised the event.  Asynchronous strategies hand the delivery off so that slow listeners
+ * do not stall the thread reading the hardware.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface EventDispatcher extends AutoCloseable {
+
+    /**
+     * <p>Deliver (or schedule the delivery of) an event.</p>
+     *
+     * @param key identifies the event stream the delivery belongs to; dispatchers that
+     *            coalesce pending deliveries only ever replace deliveries with the same key.
+     * @param delivery the task that invokes the listeners for a single event.
+     */
+    void dispatch(Object key, Runnable delivery);
+
+    /**
+     * <p>Release any threads owned by this dispatcher.  Deliveries still pending are
+     * flushed before the dispatcher stops.</p>
+     */
+    @Override
+    default void close() {
+        // nothing to release
+    }
+
+    /**
+     * <p>Dispatcher delivering every event on the calling thread.</p>
+     *
+     * @return a {@link com.pi4j.event.EventDispatcher} object.
+     */
+    static EventDispatcher synchronous() {
+        return SynchronousEventDispatcher.INSTANCE;
+    }
+
+    /**
+     * <p>Dispatcher handing each delivery to the given executor.  Deliveries are only
+     * ordered if the executor runs its tasks on a single thread.</p>
+     *
+     * @param executor a {@link java.util.concurrent.Executor} object.
+     * @return a {@link com.pi4j.event.EventDispatcher} object.
+     */
+    static EventDispatcher executor(Executor executor) {
+        return new ExecutorEventDispatcher(executor);
+    }
+
+    /**
+     * <p>Dispatcher queueing deliveries in a bounded ring buffer drained in order by a
+     * single daemon thread.</p>
+     *
+     * @param name name of the delivery thread.
+     * @param capacity maximum number of pending deliveries.
+     * @param policy what to do when the ring buffer is full.
+     * @return a {@link com.pi4j.event.EventDispatcher} object.
+     */
+    static EventDispatcher ringBuffer(String name, int capacity, EventOverflowPolicy policy) {
+        return new RingBufferEventDispatcher(name, capacity, policy);
+    }
+}
@@ -37,6 +37,7 @@ public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYP
     private final SOURCE_TYPE source;
     private final Set<LISTENER_TYPE> listeners = new CopyOnWriteArraySet<>();
     private final EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate;
+    private volatile EventDispatcher dispatcher = EventDispatcher.synchronous();
 
     public EventManager(SOURCE_TYPE source, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
         this.source = source;
@@ -58,19 +59,33 @@ public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYP
         return this.source;
     }
 
-    public SOURCE_TYPE dispatch(EVENT_TYPE event){
-        listeners.forEach(listener->{
-            try {
-                this.delegate.dispatch(listener, event);
-            }
-            catch (Exception e){
-                logger.error(e.getMessage(), e);
-            }
-        });
+    public EventDispatcher dispatcher(){
+        return this.dispatcher;
+    }
+
+    public SOURCE_TYPE dispatcher(EventDispatcher dispatcher){
+        this.dispatcher = (dispatcher == null) ? EventDispatcher.synchronous() : dispatcher;
         return this.source;
     }
 
+    public SOURCE_TYPE dispatch(EVENT_TYPE event){
+        return dispatch(event, this.delegate);
+    }
+
     public SOURCE_TYPE dispatch(EVENT_TYPE event, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
+        if(listeners.isEmpty()) return this.source;
+        // deliveries to different delegates are separate streams and must never replace each other
+        Object key = (delegate == this.delegate) ? this : new DelegateKey(this, delegate);
+        this.dispatcher.dispatch(key, () -> deliver(event, delegate));
+        return this.source;
+    }
+
+    public SOURCE_TYPE deliver(EVENT_TYPE event){
+        deliver(event, this.delegate);
+        return this.source;
+    }
+
+    private void deliver(EVENT_TYPE event, EventDelegate<LISTENER_TYPE,EVENT_TYPE> delegate){
         listeners.forEach(listener->{
             try {
                 delegate.dispatch(listener, event);
@@ -79,7 +94,29 @@ public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYP
                 logger.error(e.getMessage(), e);
             }
         });
-        return this.source;
     }
 
+    // dispatch key of the deliveries of an event manager to a delegate other than its default one
+    private static final class DelegateKey {
+        private final EventManager<?, ?, ?> manager;
+        private final EventDelegate<?, ?> delegate;
+
+        private DelegateKey(EventManager<?, ?, ?> manager, EventDelegate<?, ?> delegate) {
+            this.manager = manager;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DelegateKey)) return false;
+            DelegateKey that = (DelegateKey) o;
+            return manager == that.manager && delegate.equals(that.delegate);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(manager) + delegate.hashCode();
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventOverflowPolicy.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Behaviour of a bounded {@link EventDispatcher} when events are raised faster than they
+ * are delivered.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public enum EventOverflowPolicy {
+    /** Block the thread raising the event until space is available when the queue is full. */
+    BLOCK,
+    /** Discard the oldest pending delivery to make room for the new one when the queue is full. */
+    DROP_OLDEST,
+    /** Always replace a pending (not yet started) delivery from the same source with the new
+     * one, whether or not the queue is full; when the queue is full and there is nothing to
+     * replace, drop the oldest delivery. */
+    COALESCE
+}
@@ -0,0 +1,84 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventSnapshot.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * <p>Latest event of a conflated event stream together with the number of events
+ * merged into it since the previous snapshot was taken.</p>
+ *
+ * @param <EVENT_TYPE> event type
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class EventSnapshot<EVENT_TYPE> {
+
+    protected final EVENT_TYPE latest;
+    protected final long changes;
+
+    /**
+     * <p>Constructor for EventSnapshot.</p>
+     *
+     * @param latest the most recent event, or null if none has been raised yet.
+     * @param changes number of events raised since the previous snapshot.
+     */
+    public EventSnapshot(EVENT_TYPE latest, long changes) {
+        this.latest = latest;
+        this.changes = changes;
+    }
+
+    /**
+     * <p>The most recent event, or null if none has been raised yet.</p>
+     *
+     * @return a EVENT_TYPE object.
+     */
+    public EVENT_TYPE latest() {
+        return latest;
+    }
+
+    /**
+     * <p>Number of events raised since the previous snapshot.</p>
+     *
+     * @return a long.
+     */
+    public long changes() {
+        return changes;
+    }
+
+    /**
+     * <p>hasChanged.</p>
+     *
+     * @return true if at least one event was raised since the previous snapshot.
+     */
+    public boolean hasChanged() {
+        return changes > 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "<<SNAPSHOT>> changes=" + changes + "; latest=" + latest;
+    }
+}
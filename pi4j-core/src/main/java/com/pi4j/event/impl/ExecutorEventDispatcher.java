@@ -0,0 +1,70 @@
+package com.pi4j.event.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  ExecutorEventDispatcher.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.event.EventDispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * <p>Dispatcher handing every delivery to an {@link Executor}.</p>
+ *
+ * <p>The executor is owned by the caller and is not shut down by {@link #close()}.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class ExecutorEventDispatcher implements EventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorEventDispatcher.class);
+
+    protected final Executor executor;
+
+    /**
+     * <p>Constructor for ExecutorEventDispatcher.</p>
+     *
+     * @param executor a {@link java.util.concurrent.Executor} object.
+     */
+    public ExecutorEventDispatcher(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void dispatch(Object key, Runnable delivery) {
+        try {
+            executor.execute(delivery);
+        } catch (RejectedExecutionException e) {
+            // executor already shut down; deliver on the calling thread rather than lose the event
+            logger.debug("event executor rejected delivery, dispatching synchronously");
+            delivery.run();
+        }
+    }
+}
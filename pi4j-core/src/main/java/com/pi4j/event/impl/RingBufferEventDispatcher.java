@@ -0,0 +1,258 @@
+package com.pi4j.event.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  RingBufferEventDispatcher.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.event.EventDispatcher;
+import com.pi4j.event.EventOverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>Dispatcher queueing deliveries in a fixed size ring buffer that is drained, in order,
+ * by a single daemon thread.</p>
+ *
+ * <p>The configured {@link EventOverflowPolicy} decides whether the producer blocks or the
+ * oldest delivery is dropped when the ring buffer is full, or whether a pending delivery for
+ * the same key is replaced by the newer one.  Deliveries raised from a listener running on the
+ * delivery thread itself are never blocked; they run inline instead.</p>
+ *
+ * <p>After {@link #close()} the delivery thread keeps draining the ring buffer, and deliveries
+ * raised meanwhile are still queued behind it, so the order per key is preserved during
+ * shutdown.  Only once the delivery thread has ended do deliveries run on the calling thread.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class RingBufferEventDispatcher implements EventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RingBufferEventDispatcher.class);
+
+    protected final EventOverflowPolicy policy;
+    protected final int capacity;
+    protected final Runnable[] deliveries;
+    protected final Object[] keys;
+
+    // sequence number of the oldest pending delivery and number of pending deliveries
+    protected long head = 0;
+    protected int count = 0;
+
+    // sequence number of the pending delivery for each key (COALESCE only)
+    protected final Map<Object, Long> pending = new HashMap<>();
+
+    protected final ReentrantLock lock = new ReentrantLock();
+    protected final Condition notEmpty = lock.newCondition();
+    protected final Condition notFull = lock.newCondition();
+
+    protected final Thread consumer;
+    protected volatile boolean closed = false;
+    // set (under the lock) once the delivery thread has ended
+    protected boolean drained = false;
+    protected long dropped = 0;
+
+    /**
+     * <p>Constructor for RingBufferEventDispatcher.</p>
+     *
+     * @param name name of the delivery thread.
+     * @param capacity maximum number of pending deliveries.
+     * @param policy what to do when the ring buffer is full.
+     */
+    public RingBufferEventDispatcher(String name, int capacity, EventOverflowPolicy policy) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Event ring buffer capacity must be at least 1; (" + capacity + ")");
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.capacity = capacity;
+        this.deliveries = new Runnable[capacity];
+        this.keys = new Object[capacity];
+        this.consumer = new Thread(this::drain, name);
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void dispatch(Object key, Runnable delivery) {
+        // re-entrant deliveries run on the calling thread
+        if (Thread.currentThread() == consumer) {
+            delivery.run();
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (policy == EventOverflowPolicy.COALESCE && !drained) {
+                Long sequence = pending.get(key);
+                if (sequence != null) {
+                    deliveries[slot(sequence)] = delivery;
+                    return;
+                }
+            }
+
+            while (count == capacity && !drained) {
+                if (policy == EventOverflowPolicy.BLOCK) {
+                    notFull.await();
+                } else {
+                    poll();
+                    dropped++;
+                }
+            }
+
+            if (!drained) {
+                enqueue(key, delivery);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            lock.unlock();
+        }
+
+        // the delivery thread has ended
+        delivery.run();
+    }
+
+    // append a delivery to the ring buffer; caller must hold the lock and ensure count < capacity
+    private void enqueue(Object key, Runnable delivery) {
+        long sequence = head + count;
+        deliveries[slot(sequence)] = delivery;
+        keys[slot(sequence)] = key;
+        if (policy == EventOverflowPolicy.COALESCE) {
+            pending.put(key, sequence);
+        }
+        count++;
+        notEmpty.signal();
+    }
+
+    /**
+     * <p>Number of deliveries discarded because the ring buffer was full.</p>
+     *
+     * @return a long.
+     */
+    public long dropped() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * <p>Number of deliveries waiting to be run.</p>
+     *
+     * @return an int.
+     */
+    public int pending() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (Thread.currentThread() != consumer) {
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    // remove the oldest pending delivery; caller must hold the lock and ensure count > 0
+    private Runnable poll() {
+        int index = slot(head);
+        Runnable delivery = deliveries[index];
+        Object key = keys[index];
+        if (policy == EventOverflowPolicy.COALESCE) {
+            pending.remove(key, head);
+        }
+        deliveries[index] = null;
+        keys[index] = null;
+        head++;
+        count--;
+        notFull.signal();
+        return delivery;
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                Runnable delivery;
+                lock.lock();
+                try {
+                    while (count == 0 && !closed) {
+                        notEmpty.awaitUninterruptibly();
+                    }
+                    if (count == 0) {
+                        return;
+                    }
+                    delivery = poll();
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    delivery.run();
+                } catch (Throwable e) {
+                    // a failing listener must not end the delivery thread (blocked producers would wait forever)
+                    logger.error(e.getMessage(), e);
+                }
+            }
+        } finally {
+            // release any producer still waiting for space; later deliveries run on the calling thread
+            lock.lock();
+            try {
+                drained = true;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ package com.pi4j.io.binding;
  * #L%
  */
 
+import com.pi4j.event.EventDispatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +38,7 @@ public class BindingManager<SOURCE_TYPE, BINDING_TYPE extends Binding, EVENT_TYP
     private final SOURCE_TYPE source;
     protected Set<BINDING_TYPE> bindings = new CopyOnWriteArraySet();
     protected final BindingDelegate<BINDING_TYPE,EVENT_TYPE> delegate;
+    protected volatile EventDispatcher dispatcher = EventDispatcher.synchronous();
 
     public BindingManager(SOURCE_TYPE source, BindingDelegate<BINDING_TYPE,EVENT_TYPE> delegate){
         this.source = source;
@@ -48,7 +50,22 @@ public class BindingManager<SOURCE_TYPE, BINDING_TYPE extends Binding, EVENT_TYP
         return this.source;
     }
 
+    public EventDispatcher dispatcher(){
+        return this.dispatcher;
+    }
+
+    public SOURCE_TYPE dispatcher(EventDispatcher dispatcher){
+        this.dispatcher = (dispatcher == null) ? EventDispatcher.synchronous() : dispatcher;
+        return this.source;
+    }
+
     public SOURCE_TYPE process(EVENT_TYPE event){
+        if(bindings.isEmpty()) return this.source;
+        this.dispatcher.dispatch(this, () -> deliver(event));
+        return this.source;
+    }
+
+    public SOURCE_TYPE deliver(EVENT_TYPE event){
         bindings.forEach(binding->{
             try {
                 delegate.process(binding, event);
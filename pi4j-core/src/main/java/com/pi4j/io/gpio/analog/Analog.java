@@ -26,6 +26,8 @@ package com.pi4j.io.gpio.analog;
  */
 
 
+import com.pi4j.event.EventDispatcher;
+import com.pi4j.event.EventSnapshot;
 import com.pi4j.io.binding.AnalogBinding;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.gpio.Gpio;
@@ -65,6 +67,47 @@ public interface Analog<ANALOG_TYPE
      */
     ANALOG_TYPE removeListener(AnalogValueChangeListener... listener);
 
+    /**
+     * <p>Set the dispatcher used to deliver value change events to this instance's
+     * listeners and bindings.  When not set, the context's default
+     * {@link com.pi4j.context.Context#eventDispatcher()} is used.</p>
+     *
+     * @param dispatcher a {@link com.pi4j.event.EventDispatcher} object.
+     * @return a ANALOG_TYPE object.
+     */
+    ANALOG_TYPE eventDispatcher(EventDispatcher dispatcher);
+
+    /**
+     * <p>Enable or disable conflation of value change events.  While conflating, events
+     * raised faster than they can be delivered are merged: listeners and bindings receive
+     * only the latest event of each burst, and {@link #drainChanges()} reports how many
+     * changes occurred since it was last called.</p>
+     *
+     * <p>Events are only merged when they are delivered asynchronously, e.g. by an
+     * {@link com.pi4j.event.EventDispatcher#ringBuffer} dispatcher.  The default synchronous
+     * dispatcher delivers each event on the raising thread before the next one is raised, so it
+     * merges nothing; {@link #drainChanges()} still counts every change.</p>
+     *
+     * @param enabled true to conflate events.
+     * @return a ANALOG_TYPE object.
+     */
+    ANALOG_TYPE conflate(boolean enabled);
+
+    /**
+     * <p>isConflating.</p>
+     *
+     * @return true if value change events are conflated.
+     */
+    boolean isConflating();
+
+    /**
+     * <p>Latest value change event and the number of changes since the previous call.</p>
+     *
+     * @return a {@link com.pi4j.event.EventSnapshot} object.
+     * @throws java.lang.IllegalStateException if conflation is not enabled.
+     */
+    EventSnapshot<AnalogValueChangeEvent> drainChanges();
+
     /**
      * <p>equals.</p>
      *
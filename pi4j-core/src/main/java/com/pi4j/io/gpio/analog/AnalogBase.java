@@ -26,8 +26,12 @@ package com.pi4j.io.gpio.analog;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.EventConflator;
 import com.pi4j.event.EventDelegate;
+import com.pi4j.event.EventDispatcher;
 import com.pi4j.event.EventManager;
+import com.pi4j.event.EventSnapshot;
+import com.pi4j.exception.InitializeException;
 import com.pi4j.io.binding.AnalogBinding;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.binding.BindingDelegate;
@@ -54,6 +58,12 @@ public abstract class AnalogBase<ANALOG_TYPE
     // internal bindings collection
     protected BindingManager<ANALOG_TYPE, AnalogBinding, AnalogValueChangeEvent> bindings;
 
+    // dispatcher explicitly set on this instance (overrides the context default)
+    protected EventDispatcher eventDispatcher = null;
+
+    // merges pending events while conflation is enabled (null when disabled)
+    protected volatile EventConflator<AnalogValueChangeEvent> conflator = null;
+
     /**
      * <p>Constructor for AnalogBase.</p>
      *
@@ -90,6 +100,54 @@ public abstract class AnalogBase<ANALOG_TYPE
         return (ANALOG_TYPE) this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ANALOG_TYPE eventDispatcher(EventDispatcher dispatcher) {
+        this.eventDispatcher = dispatcher;
+        valueChangeEventManager.dispatcher(dispatcher);
+        bindings.dispatcher(dispatcher);
+        return (ANALOG_TYPE) this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ANALOG_TYPE conflate(boolean enabled) {
+        if(enabled && this.conflator == null) {
+            this.conflator = new EventConflator<>();
+        } else if(!enabled) {
+            this.conflator = null;
+        }
+        return (ANALOG_TYPE) this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConflating() {
+        return this.conflator != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EventSnapshot<AnalogValueChangeEvent> drainChanges() {
+        EventConflator<AnalogValueChangeEvent> conflator = this.conflator;
+        if(conflator == null)
+            throw new IllegalStateException("Event conflation is not enabled for IO instance [" + id() + "]");
+        return conflator.drain();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ANALOG_TYPE initialize(Context context) throws InitializeException {
+        super.initialize(context);
+
+        // fall back to the context's default dispatcher unless one was set on this instance
+        if(this.eventDispatcher == null && context != null) {
+            valueChangeEventManager.dispatcher(context.eventDispatcher());
+            bindings.dispatcher(context.eventDispatcher());
+        }
+        return (ANALOG_TYPE) this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public ANALOG_TYPE bind(AnalogBinding... binding) {
@@ -108,8 +166,21 @@ public abstract class AnalogBase<ANALOG_TYPE
      * @param event AnalogInputEvent
      */
     protected void dispatch(AnalogValueChangeEvent event){
-        valueChangeEventManager.dispatch(event);
-        bindings.process(event);
+        EventConflator<AnalogValueChangeEvent> conflator = this.conflator;
+        if(conflator == null) {
+            valueChangeEventManager.dispatch(event);
+            bindings.process(event);
+            return;
+        }
+
+        // schedule at most one pending notification; it delivers whatever event is latest when it runs
+        if(conflator.offer(event)) {
+            valueChangeEventManager.dispatcher().dispatch(conflator, () -> {
+                AnalogValueChangeEvent latest = conflator.take();
+                valueChangeEventManager.deliver(latest);
+                bindings.deliver(latest);
+            });
+        }
     }
 
     /** {@inheritDoc} */
@@ -25,6 +25,8 @@ package com.pi4j.io.gpio.digital;
  * #L%
  */
 
+import com.pi4j.event.EventDispatcher;
+import com.pi4j.event.EventSnapshot;
 import com.pi4j.io.OnOffRead;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.binding.DigitalBinding;
@@ -66,6 +68,47 @@ public interface Digital<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CONFIG_TYPE,
      */
     DIGITAL_TYPE removeListener(DigitalStateChangeListener... listener);
 
+    /**
+     * <p>Set the dispatcher used to deliver state change events to this instance's
+     * listeners and bindings.  When not set, the context's default
+     * {@link com.pi4j.context.Context#eventDispatcher()} is used.</p>
+     *
+     * @param dispatcher a {@link com.pi4j.event.EventDispatcher} object.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE eventDispatcher(EventDispatcher dispatcher);
+
+    /**
+     * <p>Enable or disable conflation of state change events.  While conflating, events
+     * raised faster than they can be delivered are merged: listeners and bindings receive
+     * only the latest event of each burst, and {@link #drainChanges()} reports how many
+     * changes occurred since it was last called.</p>
+     *
+     * <p>Events are only merged when they are delivered asynchronously, e.g. by an
+     * {@link com.pi4j.event.EventDispatcher#ringBuffer} dispatcher.  The default synchronous
+     * dispatcher delivers each event on the raising thread before the next one is raised, so it
+     * merges nothing; {@link #drainChanges()} still counts every change.</p>
+     *
+     * @param enabled true to conflate events.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE conflate(boolean enabled);
+
+    /**
+     * <p>isConflating.</p>
+     *
+     * @return true if state change events are conflated.
+     */
+    boolean isConflating();
+
+    /**
+     * <p>Latest state change event and the number of changes since the previous call.</p>
+     *
+     * @return a {@link com.pi4j.event.EventSnapshot} object.
+     * @throws java.lang.IllegalStateException if conflation is not enabled.
+     */
+    EventSnapshot<DigitalStateChangeEvent> drainChanges();
+
     /**
      * <p>equals.</p>
      *
@@ -26,8 +26,12 @@ package com.pi4j.io.gpio.digital;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.EventConflator;
 import com.pi4j.event.EventDelegate;
+import com.pi4j.event.EventDispatcher;
 import com.pi4j.event.EventManager;
+import com.pi4j.event.EventSnapshot;
+import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.binding.BindingDelegate;
@@ -54,6 +58,12 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
     // internal bindings collection
     protected BindingManager<DIGITAL_TYPE, DigitalBinding, DigitalStateChangeEvent> bindings;
 
+    // dispatcher explicitly set on this instance (overrides the context default)
+    protected EventDispatcher eventDispatcher = null;
+
+    // merges pending events while conflation is enabled (null when disabled)
+    protected volatile EventConflator<DigitalStateChangeEvent> conflator = null;
+
     /**
      * <p>Constructor for DigitalBase.</p>
      *
@@ -87,6 +97,54 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
         return (DIGITAL_TYPE)this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE eventDispatcher(EventDispatcher dispatcher) {
+        this.eventDispatcher = dispatcher;
+        stateChangeEventManager.dispatcher(dispatcher);
+        bindings.dispatcher(dispatcher);
+        return (DIGITAL_TYPE) this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE conflate(boolean enabled) {
+        if(enabled && this.conflator == null) {
+            this.conflator = new EventConflator<>();
+        } else if(!enabled) {
+            this.conflator = null;
+        }
+        return (DIGITAL_TYPE) this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConflating() {
+        return this.conflator != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EventSnapshot<DigitalStateChangeEvent> drainChanges() {
+        EventConflator<DigitalStateChangeEvent> conflator = this.conflator;
+        if(conflator == null)
+            throw new IllegalStateException("Event conflation is not enabled for IO instance [" + id() + "]");
+        return conflator.drain();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE initialize(Context context) throws InitializeException {
+        super.initialize(context);
+
+        // fall back to the context's default dispatcher unless one was set on this instance
+        if(this.eventDispatcher == null && context != null) {
+            stateChangeEventManager.dispatcher(context.eventDispatcher());
+            bindings.dispatcher(context.eventDispatcher());
+        }
+        return (DIGITAL_TYPE) this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DIGITAL_TYPE bind(DigitalBinding ... binding) {
@@ -110,8 +168,21 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
      * @param event DigitalChangeEvent
      */
     protected void dispatch(DigitalStateChangeEvent event){
-        stateChangeEventManager.dispatch(event);
-        bindings.process(event);
+        EventConflator<DigitalStateChangeEvent> conflator = this.conflator;
+        if(conflator == null) {
+            stateChangeEventManager.dispatch(event);
+            bindings.process(event);
+            return;
+        }
+
+        // schedule at most one pending notification; it delivers whatever event is latest when it runs
+        if(conflator.offer(event)) {
+            stateChangeEventManager.dispatcher().dispatch(conflator, () -> {
+                DigitalStateChangeEvent latest = conflator.take();
+                stateChangeEventManager.deliver(latest);
+                bindings.deliver(latest);
+            });
+        }
     }
 
     /** {@inheritDoc} */
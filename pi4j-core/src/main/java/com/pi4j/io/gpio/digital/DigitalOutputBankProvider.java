@@ -0,0 +1,58 @@
+package com.pi4j.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalOutputBankProvider.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+
+import java.util.Map;
+
+/**
+ * <p>DigitalOutputBankProvider interface.</p>
+ *
+ * Optional extension of a {@link com.pi4j.io.gpio.digital.DigitalOutputProvider} for providers that can
+ * change the state of several of their digital outputs with a single (atomic) hardware transaction,
+ * for example by writing a whole GPIO bank at once.  Groups of outputs (such as an
+ * {@link com.pi4j.io.group.OnOffGroup}) use this interface to switch all outputs of the same provider
+ * together instead of one after another.
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public interface DigitalOutputBankProvider {
+
+    /**
+     * Set the state of several digital outputs created by this provider.  The provider is
+     * responsible for updating the state of each output instance (including dispatching any
+     * state change events); outputs it is unable to write as part of a bank are set individually.
+     *
+     * A bank write is not atomic: providers typically drive the outputs to be set HIGH first and
+     * those to be cleared LOW afterwards, so observers may briefly see the intermediate state.
+     *
+     * @param states the new state for each digital output.
+     * @throws com.pi4j.io.exception.IOException if the outputs could not be written.
+     */
+    void state(Map<DigitalOutput, DigitalState> states) throws IOException;
+}
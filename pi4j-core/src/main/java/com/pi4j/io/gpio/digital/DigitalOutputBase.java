@@ -29,10 +29,14 @@ import com.pi4j.context.Context;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.exception.IOException;
+import com.pi4j.util.TimerWheel;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 
 /**
@@ -86,14 +90,14 @@ public abstract class DigitalOutputBase extends DigitalBase<DigitalOutput, Digit
     @Override
     public DigitalOutput pulse(int interval, TimeUnit unit, DigitalState state, Callable<Void> callback) throws IOException {
 
-        long millis = validateArguments(interval, unit);
+        long nanos = validateArguments(interval, unit);
 
         // start the pulse state
         this.state(state);
 
         // block the current thread for the pulse duration
         try {
-            Thread.sleep(millis);
+            sleep(nanos);
         }
         catch (InterruptedException e) {
             throw new RuntimeException("Pulse blocking thread interrupted.", e);
@@ -119,8 +123,17 @@ public abstract class DigitalOutputBase extends DigitalBase<DigitalOutput, Digit
     /** {@inheritDoc} */
     @Override
     public Future<?> pulseAsync(int interval, TimeUnit unit, DigitalState state, Callable<Void> callback) {
-        validateArguments(interval, unit);
-        return context().submitTask(() -> pulse(interval, unit, state, callback));
+        long nanos = validateArguments(interval, unit);
+
+        // start the pulse state now; the shared timer ends it without holding a thread for the duration
+        TimedToggle pulse = new TimedToggle(nanos, 1, callback, "pulseAsync");
+        try {
+            this.state(state);
+        } catch (IOException e) {
+            pulse.completeExceptionally(e);
+            return pulse;
+        }
+        return pulse.start();
     }
 
     /**
@@ -172,7 +185,7 @@ public abstract class DigitalOutputBase extends DigitalBase<DigitalOutput, Digit
     @Override
     public DigitalOutput blink(int delay, int duration, TimeUnit unit, DigitalState state, Callable<Void> callback) {
 
-        long millis = validateArguments(delay, duration, unit);
+        long nanos = validateArguments(delay, duration, unit);
 
         this.state(state);
 
@@ -180,7 +193,7 @@ public abstract class DigitalOutputBase extends DigitalBase<DigitalOutput, Digit
             // block the current thread for the pulse duration
             // if you don't want a blocking call, pls. use the blinkAsync() method instead.
             try {
-                Thread.sleep(millis);
+                sleep(nanos);
             }
             catch (InterruptedException e) {
                 throw new RuntimeException("Pulse blocking thread interrupted. Exception message: [" + e.getMessage() + "].");
@@ -219,8 +232,17 @@ public abstract class DigitalOutputBase extends DigitalBase<DigitalOutput, Digit
      */
     @Override
     public Future<?> blinkAsync(int delay, int duration, TimeUnit unit, DigitalState state, Callable<Void> callback) {
-        validateArguments(delay, duration, unit);
-        return context().submitTask(() -> blink(delay,  duration,  unit,  state, callback));
+        long nanos = validateArguments(delay, duration, unit);
+
+        // set the initial state now; the shared timer performs the remaining toggles
+        TimedToggle blink = new TimedToggle(nanos, (duration * 2) - 1, callback, "blinkAsync");
+        try {
+            this.state(state);
+        } catch (IOException e) {
+            blink.completeExceptionally(e);
+            return blink;
+        }
+        return blink.start();
     }
 
     /** {@inheritDoc} */
@@ -286,7 +308,7 @@ public abstract class DigitalOutputBase extends DigitalBase<DigitalOutput, Digit
      *
      * @param interval The output change interval.
      * @param unit A time unit.
-     * @return Number of milliseconds.
+     * @return Number of nanoseconds.
      */
     private long validateArguments(int interval, TimeUnit unit) {
 
@@ -305,7 +327,7 @@ public abstract class DigitalOutputBase extends DigitalBase<DigitalOutput, Digit
      * @param interval The output change interval.
      * @param duration The amount of times the output toggles.
      * @param unit A time unit.
-     * @return Number of milliseconds.
+     * @return Number of nanoseconds.
      */
     private long validateArguments(int interval, int duration, TimeUnit unit) {
 
@@ -325,27 +347,125 @@ public abstract class DigitalOutputBase extends DigitalBase<DigitalOutput, Digit
      * This method verifies the time unit given.
      * When an unsupported unit is encountered, an IllegalArgumentException is thrown.
      * Unsupported time units are:
-     * - TimeUnit.NANOSECONDS
-     * - TimeUnit.MICROSECONDS
      * - TimeUnit.DAYS
+     * <p>
+     * Sub-millisecond intervals are only accepted down to the minimum interval of the provider (see
+     * {@link DigitalOutputProvider#minimumIntervalNanos()}); shorter intervals throw an IllegalArgumentException.
+     * Blocking calls wait with nanosecond precision, asynchronous calls are rounded up to the resolution of the
+     * context timer (see {@link Context#timer()}).
      *
      * @param unit A time unit.
-     * @return Number of milliseconds.
+     * @return Number of nanoseconds.
      */
     private long validateTimeUnit(int interval, TimeUnit unit) {
-        long millis;
-        switch (unit) {
-            case NANOSECONDS:
-                throw new IllegalArgumentException("TimeUnit.NANOSECONDS is not supported.");
-            case MICROSECONDS:
-                throw new IllegalArgumentException("TimeUnit.MICROSECONDS is not supported.");
-            case DAYS:
-                throw new IllegalArgumentException("TimeUnit.DAYS is not supported.");
-            default:
-                millis = unit.toMillis(interval);
-                break;
+        if (unit == TimeUnit.DAYS) {
+            throw new IllegalArgumentException("TimeUnit.DAYS is not supported.");
+        }
+        long nanos = unit.toNanos(interval);
+        long minimum = (provider() == null) ? DigitalOutputProvider.DEFAULT_MINIMUM_INTERVAL_NANOS
+            : provider().minimumIntervalNanos();
+        if (nanos < minimum) {
+            throw new IllegalArgumentException("A time interval of " + nanos + " ns is shorter than the minimum of "
+                + minimum + " ns supported by this output's provider.");
+        }
+        return nanos;
+    }
+
+    /**
+     * Block the current thread for the given number of nanoseconds; unlike {@link Thread#sleep(long, int)}
+     * this does not round sub-millisecond waits up to a whole millisecond.
+     */
+    private static void sleep(long nanos) throws InterruptedException {
+        long deadline = System.nanoTime() + nanos;
+        for (long remaining = nanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted())
+                throw new InterruptedException();
+        }
+    }
+
+    /**
+     * A sequence of timed toggles driven by the context timer: toggle number <i>n</i> is due <i>n</i> periods
+     * after the start, so timer latency does not accumulate. Only the scheduling runs on the timer thread;
+     * each toggle (provider I/O and listener dispatch) runs on the context executor, and the next toggle is
+     * only scheduled once the previous one has completed. Cancelling the future cancels the pending toggle.
+     */
+    private class TimedToggle extends CompletableFuture<Void> implements Runnable {
+        private final long period;
+        private final int toggles;
+        private final Callable<Void> callback;
+        private final String method;
+        private final long start = System.nanoTime();
+        private int toggled = 0;
+        private volatile TimerWheel.Timeout timeout;
+
+        private TimedToggle(long period, int toggles, Callable<Void> callback, String method) {
+            this.period = period;
+            this.toggles = toggles;
+            this.callback = callback;
+            this.method = method;
         }
 
-        return millis;
+        private TimedToggle start() {
+            scheduleNext();
+            return this;
+        }
+
+        private void scheduleNext() {
+            long delay = start + (toggled + 1) * period - System.nanoTime();
+            try {
+                timeout = context().timer().schedule(this, delay, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                completeExceptionally(e);
+                return;
+            }
+            // cancelled while scheduling
+            if (isDone())
+                timeout.cancel();
+        }
+
+        @Override
+        public void run() {
+            if (isDone())
+                return;
+            // the toggle and the callback may block, so they must not run on the timer thread
+            try {
+                context().submitTask(this::transition);
+            } catch (RejectedExecutionException e) {
+                transition();
+            }
+        }
+
+        private void transition() {
+            if (isDone())
+                return;
+            try {
+                toggle();
+            } catch (Exception e) {
+                completeExceptionally(e);
+                return;
+            }
+            if (++toggled < toggles) {
+                scheduleNext();
+                return;
+            }
+            if (callback != null) {
+                try {
+                    logger.info("Calling callback from non-blocking {}() method", method);
+                    callback.call();
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                }
+            }
+            complete(null);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            TimerWheel.Timeout pending = timeout;
+            if (pending != null)
+                pending.cancel();
+            return super.cancel(mayInterruptIfRunning);
+        }
     }
-}
\ No newline at end of file
+}
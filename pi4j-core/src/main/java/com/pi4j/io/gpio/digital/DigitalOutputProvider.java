@@ -24,6 +24,9 @@ package com.pi4j.io.gpio.digital;
  * limitations under the License.
  * #L%
  */
+
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>DigitalOutputProvider interface.</p>
  *
@@ -32,6 +35,20 @@ package com.pi4j.io.gpio.digital;
  */
 public interface DigitalOutputProvider extends DigitalProvider<DigitalOutputProvider, DigitalOutput, DigitalOutputConfig> {
 
+    /** Shortest pulse and blink interval of providers that do not declare their own; one millisecond. */
+    long DEFAULT_MINIMUM_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * <p>Shortest interval, in nanoseconds, that the pulse and blink methods accept for outputs of this
+     * provider.  Providers whose state changes complete well within a millisecond override the default of
+     * {@link #DEFAULT_MINIMUM_INTERVAL_NANOS} to allow sub-millisecond timing.</p>
+     *
+     * @return the minimum interval in nanoseconds.
+     */
+    default long minimumIntervalNanos() {
+        return DEFAULT_MINIMUM_INTERVAL_NANOS;
+    }
+
     /**
      * <p>create.</p>
      *
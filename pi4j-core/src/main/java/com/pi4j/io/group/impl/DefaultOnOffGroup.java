@@ -27,10 +27,16 @@ package com.pi4j.io.group.impl;
 
 import com.pi4j.io.OnOff;
 import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputBankProvider;
+import com.pi4j.io.gpio.digital.DigitalState;
 import com.pi4j.io.group.OnOffGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 
 public class DefaultOnOffGroup extends GroupBase<OnOffGroup, OnOff> implements OnOffGroup {
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -60,7 +66,15 @@ public class DefaultOnOffGroup extends GroupBase<OnOffGroup, OnOff> implements O
     }
 
     private void sync(boolean state) throws IOException {
+        // digital outputs of providers supporting bank writes are switched together (per provider)
+        Map<DigitalOutputBankProvider, Map<DigitalOutput, DigitalState>> banks = new LinkedHashMap<>();
         members.forEach(m->{
+            if (m instanceof DigitalOutput && ((DigitalOutput) m).provider() instanceof DigitalOutputBankProvider) {
+                DigitalOutput output = (DigitalOutput) m;
+                banks.computeIfAbsent((DigitalOutputBankProvider) output.provider(), p -> new LinkedHashMap<>())
+                        .put(output, state ? onState(output) : DigitalState.getInverseState(onState(output)));
+                return;
+            }
             try {
                 if (state)
                     m.on();
@@ -71,5 +85,19 @@ public class DefaultOnOffGroup extends GroupBase<OnOffGroup, OnOff> implements O
                 logger.error(e.getMessage(), e);
             }
         });
+        banks.forEach((provider, states)->{
+            try {
+                provider.state(states);
+            }
+            catch (IOException e){
+                logger.error(e.getMessage(), e);
+            }
+        });
+    }
+
+    private static DigitalState onState(DigitalOutput output) {
+        // the default ON state is HIGH
+        DigitalState onState = output.config().onState();
+        return (onState != null) ? onState : DigitalState.HIGH;
     }
 }
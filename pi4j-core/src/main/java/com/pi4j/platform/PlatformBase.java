@@ -116,7 +116,7 @@ public abstract class PlatformBase<PLATFORM extends Platform>
 
         for (Provider p : providers.values()) {
             if (providerClass.isAssignableFrom(p.getClass()))
-                return (T) p;
+                return activate((T) p);
         }
 
         if (providerClass.isInterface()) {
@@ -126,6 +126,37 @@ public abstract class PlatformBase<PLATFORM extends Platform>
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T provider(IOType ioType) throws ProviderNotFoundException {
+        return activate(Platform.super.provider(ioType));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T provider(String providerId, Class<T> providerClass) throws ProviderNotFoundException {
+        return activate(Platform.super.provider(providerId, providerClass));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T provider(String providerId) throws ProviderNotFoundException {
+        return activate(Platform.super.provider(providerId));
+    }
+
+    /**
+     * <p>Ensure a provider referenced by this platform has been initialized before it is handed out;
+     * providers may be registered lazily and only initialized on first use.</p>
+     *
+     * @param provider the provider resolved from this platform
+     * @param <T> provider type
+     * @return the same provider instance, initialized
+     */
+    protected <T extends Provider> T activate(T provider) {
+        if(context == null) return provider;
+        return context.providers().activate(provider);
+    }
+
     /** {@inheritDoc} */
     @Override
     public <I extends IO>I create(IOConfig config, IOType ioType) {
@@ -278,7 +309,9 @@ public abstract class PlatformBase<PLATFORM extends Platform>
      * @throws com.pi4j.provider.exception.ProviderException if any.
      */
     protected void addProvider(Context context, String providerId) throws ProviderException {
-        var provider = context.providers().get(providerId);
+        // resolve the registered instance without forcing a deferred provider initialization
+        Provider provider = context.providers().all().get(providerId);
+        if(provider == null) provider = context.providers().get(providerId);
         this.providers.put(IOType.getByProviderClass(provider.getClass()), provider);
     }
 }
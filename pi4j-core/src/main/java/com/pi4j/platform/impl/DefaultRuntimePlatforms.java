@@ -292,7 +292,9 @@ public class DefaultRuntimePlatforms implements RuntimePlatforms {
         try {
             logger.trace("calling 'initialize' platform [id={}; name={}; class={}]",
                     platform.id(), platform.name(), platform.getClass().getName());
-            platform.initialize(runtime.context());
+            try (var phase = runtime.context().startupProfile().phase("platform:" + platform.id())) {
+                platform.initialize(runtime.context());
+            }
         } catch (Exception e) {
             logger.error("unable to 'initialize()' platform: [id={}; name={}]; {}",
                     platform.id(), platform.name(), e.getMessage());
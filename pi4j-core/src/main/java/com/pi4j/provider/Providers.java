@@ -40,6 +40,7 @@ import com.pi4j.io.serial.SerialProvider;
 import com.pi4j.io.spi.SpiProvider;
 import com.pi4j.provider.exception.ProviderException;
 import com.pi4j.provider.exception.ProviderIOTypeException;
+import com.pi4j.provider.exception.ProviderInitializeException;
 import com.pi4j.provider.exception.ProviderNotFoundException;
 import com.pi4j.provider.exception.ProviderTypeException;
 import org.slf4j.LoggerFactory;
@@ -133,6 +134,19 @@ public interface Providers extends Describable {
      */
     <T extends Provider> Map<String, T> all(IOType ioType) throws ProviderNotFoundException;
 
+    /**
+     * <p>Ensure the given provider has been initialized before it is used to create IO instances.
+     * Providers registered while lazy initialization is enabled are initialized on first use.</p>
+     *
+     * @param provider a provider managed by this collection.
+     * @param <T> providers extending the {@link com.pi4j.provider.Provider} interface
+     * @return the initialized provider.
+     * @throws com.pi4j.provider.exception.ProviderInitializeException if the deferred initialization fails.
+     */
+    default <T extends Provider> T activate(T provider) throws ProviderInitializeException {
+        return provider;
+    }
+
     /**
      * <p>exists.</p>
      *
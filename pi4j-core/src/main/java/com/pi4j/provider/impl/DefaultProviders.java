@@ -37,6 +37,7 @@ import com.pi4j.io.spi.SpiProvider;
 import com.pi4j.provider.Provider;
 import com.pi4j.provider.ProviderGroup;
 import com.pi4j.provider.Providers;
+import com.pi4j.provider.exception.ProviderInitializeException;
 import com.pi4j.provider.exception.ProviderNotFoundException;
 
 import java.util.Map;
@@ -146,4 +147,22 @@ public class DefaultProviders implements Providers {
     public <T extends Provider> T get(String providerId) throws ProviderNotFoundException {
         return providers.get(providerId);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T get(Class<T> providerClass) throws ProviderNotFoundException {
+        return providers.get(providerClass);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T get(IOType ioType) throws ProviderNotFoundException {
+        return providers.get(ioType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T activate(T provider) throws ProviderInitializeException {
+        return providers.activate(provider);
+    }
 }
@@ -51,6 +51,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -71,6 +72,10 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
     // all detected/available providers
     private Map<String, Provider> providers = new ConcurrentHashMap<>();
 
+    // ids of registered providers whose initialization is deferred until first use
+    private final Set<String> uninitialized = ConcurrentHashMap.newKeySet();
+    private boolean lazy = false;
+
     private ProviderGroup<AnalogInputProvider> _analogInput = new ProviderGroup<>(this, IOType.ANALOG_INPUT);
     private ProviderGroup<AnalogOutputProvider> _analogOutput = new ProviderGroup<>(this, IOType.ANALOG_OUTPUT);
     private ProviderGroup<DigitalInputProvider> _digitalInput = new ProviderGroup<>(this, IOType.DIGITAL_INPUT);
@@ -208,7 +213,7 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
 
         // return the io instance from the managed io map that contains the given io-id
         if(providers.containsKey(providerId)){
-            return providers.get(providerId);
+            return activate(providers.get(providerId));
         }
 
         // additionally attempt to resolve the provider by its class name
@@ -217,7 +222,7 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
             if (providerClass != null && Provider.class.isAssignableFrom(providerClass)) {
                 for(Provider provider : providers.values()){
                     if(providerClass.isInstance(provider)) {
-                        return provider;
+                        return activate(provider);
                     }
                 }
             }
@@ -227,6 +232,42 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
         throw new ProviderNotFoundException(providerId);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T get(Class<T> providerClass) throws ProviderNotFoundException {
+        return activate(RuntimeProviders.super.get(providerClass));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T get(IOType ioType) throws ProviderNotFoundException {
+        return activate(RuntimeProviders.super.get(ioType));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Provider> T activate(T provider) throws ProviderInitializeException {
+        if(provider == null || !uninitialized.contains(provider.id())) return provider;
+
+        // first use of a lazily registered provider; initialize it exactly once
+        synchronized (provider) {
+            if(uninitialized.contains(provider.id())) {
+                logger.debug("initializing deferred provider on first use [id={}; name={}; class={}]",
+                        provider.id(), provider.name(), provider.getClass().getName());
+                try {
+                    initializeProvider(provider);
+                } catch (ProviderInitializeException e) {
+                    // an unusable provider is dropped, as it would have been at startup
+                    providers.remove(provider.id());
+                    throw e;
+                } finally {
+                    uninitialized.remove(provider.id());
+                }
+            }
+        }
+        return provider;
+    }
+
     private <T extends Provider> Providers add(T ... provider) throws ProviderInitializeException, ProviderAlreadyExistsException {
         return add(Arrays.asList(provider));
     }
@@ -247,8 +288,12 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
 				throw new ProviderAlreadyExistsException(providerInstance.id());
 			}
 
-			// attempt to initialize the new io instance
-			initializeProvider(providerInstance);
+			// attempt to initialize the new io instance (unless deferred until first use)
+			if (lazy) {
+				uninitialized.add(providerInstance.id());
+			} else {
+				initializeProvider(providerInstance);
+			}
 
 			//                logger.info("INTERFACES :: " + ReflectionUtil.getAllInterfaces(providerInstance));
 			//                logger.info("CLASSES :: " + ReflectionUtil.getAllClasses(providerInstance));
@@ -272,7 +317,9 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
         try {
             logger.trace("initializing provider [id={}; name={}; class={}]",
                     provider.id(), provider.name(), provider.getClass().getName());
-            provider.initialize(runtime.context());
+            try (var phase = runtime.context().startupProfile().phase("provider:" + provider.id())) {
+                provider.initialize(runtime.context());
+            }
         } catch (Exception e) {
             logger.error("unable to 'initialize()' provider: [id={}; name={}]; {}",
                     provider.id(), provider.name(), e.getMessage());
@@ -302,11 +349,13 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
     private <T extends Provider> void remove(String providerId) throws ProviderNotFoundException, ShutdownException {
         logger.trace("invoked 'remove() provider' [id={}]", providerId);
 
-        // get existing io instance
-        var oldProvider = get(providerId);
+        // get existing io instance (without triggering a deferred initialization)
+        var oldProvider = providers.get(providerId);
+        if(oldProvider == null) throw new ProviderNotFoundException(providerId);
 
-        // attempt to shutdown old io instance
-        shutdownProvider(oldProvider);
+        // attempt to shutdown old io instance (providers never used were never initialized)
+        if(!uninitialized.remove(oldProvider.id()))
+            shutdownProvider(oldProvider);
 
         // remove from managed set
         var removedProvider = providers.remove(providerId);
@@ -343,6 +392,13 @@ public class DefaultRuntimeProviders implements RuntimeProviders {
     /** {@inheritDoc} */
     @Override
     public RuntimeProviders initialize(Collection<Provider> providers) throws InitializeException {
+        return initialize(providers, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RuntimeProviders initialize(Collection<Provider> providers, boolean lazy) throws InitializeException {
+        this.lazy = lazy;
 
         // iterate over all defined platforms and initialize each
         if(providers != null && !providers.isEmpty()) {
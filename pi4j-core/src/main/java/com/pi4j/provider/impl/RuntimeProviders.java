@@ -59,4 +59,15 @@ public interface RuntimeProviders extends Providers {
      * @throws com.pi4j.exception.InitializeException if any.
      */
     RuntimeProviders initialize(Collection<Provider> providers) throws InitializeException;
+    /**
+     * <p>initialize.</p>
+     *
+     * @param providers a {@link java.util.Collection} object.
+     * @param lazy if true, providers are registered now but only initialized on first use.
+     * @return a {@link com.pi4j.provider.impl.RuntimeProviders} object.
+     * @throws com.pi4j.exception.InitializeException if any.
+     */
+    default RuntimeProviders initialize(Collection<Provider> providers, boolean lazy) throws InitializeException {
+        return initialize(providers);
+    }
 }
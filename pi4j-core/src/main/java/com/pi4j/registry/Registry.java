@@ -58,11 +58,26 @@ public interface Registry extends Describable {
     /**
      * <p>exists.</p>
      *
+     * <p>Checks whether any IO instance, of any type and on any bus, uses the given address.</p>
+     *
      * @param address an int.
      * @return a boolean.
      */
     boolean exists(int address);
 
+    /**
+     * <p>exists.</p>
+     *
+     * <p>Digital inputs, digital outputs and PWM share the GPIO pin address space; every
+     * other IO type has an address space of its own, per bus.</p>
+     *
+     * @param ioType a {@link com.pi4j.io.IOType} object.
+     * @param bus bus number, or 0 for IO types without a bus.
+     * @param address an int.
+     * @return a boolean.
+     */
+    boolean exists(IOType ioType, int bus, int address);
+
     /**
      * <p>all.</p>
      *
@@ -188,6 +203,36 @@ public interface Registry extends Describable {
      */
     <T extends IO> T remove(String id) throws IONotFoundException, IOInvalidIDException, IOShutdownException;
 
+    /**
+     * <p>claim.</p>
+     *
+     * <p>Claims addresses for an owner that is not a registered IO instance, such as a group of
+     * lines requested together.  Claimed addresses are in use for {@link #exists(IOType, int, int)},
+     * and IO instances added on them are rejected.  Either all addresses are claimed or none.</p>
+     *
+     * @param owner identifies the owner when the addresses are released.
+     * @param ioType a {@link com.pi4j.io.IOType} object.
+     * @param bus bus number, or 0 for IO types without a bus.
+     * @param addresses the addresses to claim.
+     * @return this
+     * @throws com.pi4j.io.exception.IOAlreadyExistsException if an address is already in use.
+     */
+    Registry claim(String owner, IOType ioType, int bus, int... addresses) throws IOAlreadyExistsException;
+
+    /**
+     * <p>release.</p>
+     *
+     * <p>Releases addresses claimed by the given owner with {@link #claim(String, IOType, int, int...)};
+     * addresses used by anyone else are left alone.</p>
+     *
+     * @param owner the owner passed when the addresses were claimed.
+     * @param ioType a {@link com.pi4j.io.IOType} object.
+     * @param bus bus number, or 0 for IO types without a bus.
+     * @param addresses the addresses to release.
+     * @return this
+     */
+    Registry release(String owner, IOType ioType, int bus, int... addresses);
+
     /**
      * <p>describe.</p>
      *
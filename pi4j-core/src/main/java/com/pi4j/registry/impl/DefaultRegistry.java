@@ -26,10 +26,12 @@ package com.pi4j.registry.impl;
  */
 
 import com.pi4j.io.IO;
+import com.pi4j.io.IOType;
 import com.pi4j.io.exception.IOAlreadyExistsException;
 import com.pi4j.io.exception.IOInvalidIDException;
 import com.pi4j.io.exception.IONotFoundException;
 import com.pi4j.io.exception.IOShutdownException;
+import com.pi4j.provider.Provider;
 import com.pi4j.registry.Registry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,12 +76,24 @@ public class DefaultRegistry implements Registry {
         return registry.exists(address);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean exists(IOType ioType, int bus, int address) {
+        return registry.exists(ioType, bus, address);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Map<String, ? extends IO> all() {
         return registry.all();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <P extends Provider> Map<String, ? extends IO> allByIoType(IOType ioType) {
+        return registry.allByIoType(ioType);
+    }
+
     /** {@inheritDoc} */
     @Override
     public <T extends IO> T get(String id) throws IOInvalidIDException, IONotFoundException {
@@ -101,4 +115,18 @@ public class DefaultRegistry implements Registry {
     public <T extends IO> T remove(String id) throws IONotFoundException, IOInvalidIDException, IOShutdownException {
         return this.registry.remove(id);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Registry claim(String owner, IOType ioType, int bus, int... addresses) throws IOAlreadyExistsException {
+        this.registry.claim(owner, ioType, bus, addresses);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Registry release(String owner, IOType ioType, int bus, int... addresses) {
+        this.registry.release(owner, ioType, bus, addresses);
+        return this;
+    }
 }
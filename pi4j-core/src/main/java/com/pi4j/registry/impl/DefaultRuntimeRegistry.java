@@ -29,19 +29,28 @@ import com.pi4j.config.AddressConfig;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.LifecycleException;
 import com.pi4j.io.IO;
+import com.pi4j.io.IOType;
 import com.pi4j.io.exception.*;
+import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.io.spi.SpiConfig;
+import com.pi4j.provider.Provider;
 import com.pi4j.runtime.Runtime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>DefaultRuntimeRegistry class.</p>
  *
+ * <p>Reads never block: instances are held in concurrent maps with secondary indexes per
+ * {@link com.pi4j.io.IOType} and per (address space, bus, address).  Registration claims its
+ * id and address atomically up front, so the (possibly slow) initialization and shutdown of an
+ * IO instance run without holding any lock.</p>
+ *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
@@ -49,8 +58,18 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultRuntimeRegistry.class);
     private Runtime runtime;
-    private final Map<String, IO> instances;
-    private final Set<Integer> usedAddresses;
+
+    // initialized instances, visible to lookups
+    private final Map<String, IO> instances = new ConcurrentHashMap<>();
+
+    // claimed ids, including instances still being initialized or shut down
+    private final Map<String, IO> claimedIds = new ConcurrentHashMap<>();
+
+    // secondary indexes
+    private final Map<IOType, Map<String, IO>> instancesByType = new ConcurrentHashMap<>();
+    private final Map<AddressKey, String> usedAddresses = new ConcurrentHashMap<>();
+    // number of claims per address across all address spaces and buses, for exists(int)
+    private final Map<Integer, Integer> addressClaims = new ConcurrentHashMap<>();
 
     // static singleton instance
 
@@ -68,40 +87,41 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
     // private constructor
     private DefaultRuntimeRegistry(Runtime runtime) {
         // set local runtime reference
-        this.instances = new HashMap<>();
-        this.usedAddresses = new HashSet<>();
         this.runtime = runtime;
     }
 
     @Override
-    public synchronized RuntimeRegistry add(IO instance) throws IOInvalidIDException, IOAlreadyExistsException {
+    public RuntimeRegistry add(IO instance) throws IOInvalidIDException, IOAlreadyExistsException {
 
         // validate target I/O instance id
         String _id = validateId(instance.id());
 
-        // first test to make sure this id does not already exist in the registry
-        if (instances.containsKey(_id))
+        // claim the id; fails if this id already exists (or is being added) in the registry
+        if (claimedIds.putIfAbsent(_id, instance) != null)
             throw new IOAlreadyExistsException(_id);
-        if (instance.config() instanceof AddressConfig<?>) {
-            AddressConfig<?> addressConfig = (AddressConfig<?>) instance.config();
-            if (exists(addressConfig.address())) {
-                throw new IOAlreadyExistsException(addressConfig.address());
-            }
-            this.usedAddresses.add(addressConfig.address());
+
+        // claim the address within the instance's address space and bus
+        AddressKey addressKey = AddressKey.of(instance);
+        if (addressKey != null && !claimAddress(addressKey, _id)) {
+            claimedIds.remove(_id);
+            throw new IOAlreadyExistsException(addressKey.address);
         }
 
         // add instance to collection
         try {
             instance.initialize(this.runtime.context());
-            instances.put(_id, instance);
         } catch (InitializeException e) {
-            if (instance.config() instanceof AddressConfig<?>) {
-                AddressConfig<?> addressConfig = (AddressConfig<?>) instance.config();
-                this.usedAddresses.remove(addressConfig.address());
-            }
+            if (addressKey != null)
+                releaseAddress(addressKey, _id);
+            claimedIds.remove(_id);
             throw new IllegalStateException("Failed to initialize IO " + instance.getId(), e);
         }
 
+        IOType type = instance.type();
+        if (type != null)
+            instancesByType.computeIfAbsent(type, t -> new ConcurrentHashMap<>()).put(_id, instance);
+        instances.put(_id, instance);
+
         return this;
     }
 
@@ -109,62 +129,65 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
      * {@inheritDoc}
      */
     @Override
-    public synchronized <T extends IO> T get(String id, Class<T> type)
+    public <T extends IO> T get(String id, Class<T> type)
         throws IOInvalidIDException, IONotFoundException {
-        String _id = validateId(id);
-
-        // first test to make sure this id is included in the registry
-        if (!instances.containsKey(_id))
-            throw new IONotFoundException(_id);
-        return (T) instances.get(_id);
+        return get(id);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized <T extends IO> T get(String id) throws IOInvalidIDException, IONotFoundException {
+    public <T extends IO> T get(String id) throws IOInvalidIDException, IONotFoundException {
         String _id = validateId(id);
 
         // first test to make sure this id is included in the registry
-        if (!instances.containsKey(_id))
+        IO instance = instances.get(_id);
+        if (instance == null)
             throw new IONotFoundException(_id);
 
-        return (T) instances.get(_id);
+        return (T) instance;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized <T extends IO> T remove(String id)
+    public <T extends IO> T remove(String id)
         throws IONotFoundException, IOInvalidIDException, IOShutdownException {
         String _id = validateId(id);
-        IO shutdownInstance = null;
 
-        // first test to make sure this id is included in the registry
-        if (!exists(_id))
+        // atomically take the instance out of the registry; only one caller can win
+        IO shutdownInstance = instances.remove(_id);
+        if (shutdownInstance == null)
             throw new IONotFoundException(_id);
+        IOType type = shutdownInstance.type();
+        if (type != null)
+            instancesByType.getOrDefault(type, Collections.emptyMap()).remove(_id);
 
         // shutdown instance
+        boolean registered = false;
         try {
-            long start = System.currentTimeMillis();
-            shutdownInstance = instances.get(_id);
             shutdownInstance.shutdown(runtime.context());
-            long took = System.currentTimeMillis() - start;
-            if (took > 10)
-                logger.warn("Shutting down of IO " + shutdownInstance.getId() + " took " + took + "ms");
         } catch (LifecycleException e) {
             logger.error(e.getMessage(), e);
-            throw new IOShutdownException(shutdownInstance, e);
-        }
 
-        // remove the shutdown instance from the registry
-        if (shutdownInstance.config() instanceof AddressConfig<?>) {
-            AddressConfig<?> addressConfig = (AddressConfig<?>) shutdownInstance.config();
-            this.usedAddresses.remove(addressConfig.address());
+            // shutdown failed; the instance remains registered
+            if (type != null)
+                instancesByType.computeIfAbsent(type, t -> new ConcurrentHashMap<>()).put(_id, shutdownInstance);
+            instances.put(_id, shutdownInstance);
+            registered = true;
+            throw new IOShutdownException(shutdownInstance, e);
+        } finally {
+            // release the address and id claimed by the shutdown instance, also when its
+            // shutdown failed unexpectedly (the instance is no longer reachable)
+            if (!registered) {
+                AddressKey addressKey = AddressKey.of(shutdownInstance);
+                if (addressKey != null)
+                    releaseAddress(addressKey, _id);
+                claimedIds.remove(_id, shutdownInstance);
+            }
         }
-        this.instances.remove(_id);
 
         // return the shutdown I/O provider instances
         return (T) shutdownInstance;
@@ -174,7 +197,33 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
      * {@inheritDoc}
      */
     @Override
-    public synchronized boolean exists(String id) {
+    public RuntimeRegistry claim(String owner, IOType ioType, int bus, int... addresses) throws IOAlreadyExistsException {
+        for (int i = 0; i < addresses.length; i++) {
+            if (!claimAddress(new AddressKey(AddressKey.space(ioType), bus, addresses[i]), owner)) {
+                // roll back the addresses claimed so far
+                for (int j = 0; j < i; j++)
+                    releaseAddress(new AddressKey(AddressKey.space(ioType), bus, addresses[j]), owner);
+                throw new IOAlreadyExistsException(addresses[i]);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RuntimeRegistry release(String owner, IOType ioType, int bus, int... addresses) {
+        for (int address : addresses)
+            releaseAddress(new AddressKey(AddressKey.space(ioType), bus, address), owner);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean exists(String id) {
         String _id = null;
         try {
             _id = validateId(id);
@@ -186,17 +235,52 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public synchronized boolean exists(int address) {
-        return usedAddresses.contains(address);
+    public boolean exists(int address) {
+        return addressClaims.containsKey(address);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized Map<String, ? extends IO> all() {
-        return new HashMap<>(this.instances);
+    public boolean exists(IOType ioType, int bus, int address) {
+        return usedAddresses.containsKey(new AddressKey(AddressKey.space(ioType), bus, address));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned map is an unmodifiable live view; iterating it never blocks writers and
+     * never throws {@link java.util.ConcurrentModificationException}.</p>
+     */
+    @Override
+    public Map<String, ? extends IO> all() {
+        return Collections.unmodifiableMap(this.instances);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <P extends Provider> Map<String, ? extends IO> allByIoType(IOType ioType) {
+        Map<String, IO> typed = instancesByType.get(ioType);
+        return (typed == null) ? Collections.emptyMap() : Collections.unmodifiableMap(typed);
+    }
+
+    private boolean claimAddress(AddressKey key, String owner) {
+        if (usedAddresses.putIfAbsent(key, owner) != null)
+            return false;
+        addressClaims.merge(key.address, 1, Integer::sum);
+        return true;
+    }
+
+    private void releaseAddress(AddressKey key, String owner) {
+        if (usedAddresses.remove(key, owner))
+            addressClaims.computeIfPresent(key.address, (address, claims) -> (claims == 1) ? null : claims - 1);
     }
 
     private String validateId(String id) throws IOInvalidIDException {
@@ -212,10 +296,12 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
      * {@inheritDoc}
      */
     @Override
-    public synchronized RuntimeRegistry shutdown() {
-        all().values().forEach(instance -> {
+    public RuntimeRegistry shutdown() {
+        instances.keySet().forEach(id -> {
             try {
-                remove(instance.id());
+                remove(id);
+            } catch (IONotFoundException e) {
+                // already removed by another thread
             } catch (IOException e) {
                 logger.error(e.getMessage(), e);
             }
@@ -231,4 +317,65 @@ public class DefaultRuntimeRegistry implements RuntimeRegistry {
         // NOTHING TO INITIALIZE
         return this;
     }
+
+    /**
+     * Address claimed by an IO instance.  Digital and PWM instances share the GPIO pin
+     * address space; all other IO types have an address space of their own, split by bus
+     * where the IO type has one.
+     */
+    private static final class AddressKey {
+        private final String space;
+        private final int bus;
+        private final int address;
+
+        private AddressKey(String space, int bus, int address) {
+            this.space = space;
+            this.bus = bus;
+            this.address = address;
+        }
+
+        private static AddressKey of(IO instance) {
+            Object config = instance.config();
+            if (!(config instanceof AddressConfig<?>))
+                return null;
+            Integer address = ((AddressConfig<?>) config).address();
+            if (address == null)
+                return null;
+            return new AddressKey(space(instance.type()), bus(config), address);
+        }
+
+        private static String space(IOType type) {
+            if (type == null)
+                return "IO";
+            switch (type) {
+                case DIGITAL_INPUT:
+                case DIGITAL_OUTPUT:
+                case PWM:
+                    return "GPIO";
+                default:
+                    return type.name();
+            }
+        }
+
+        private static int bus(Object config) {
+            if (config instanceof I2CConfig && ((I2CConfig) config).bus() != null)
+                return ((I2CConfig) config).bus();
+            if (config instanceof SpiConfig && ((SpiConfig) config).bus() != null)
+                return ((SpiConfig) config).bus().getBus();
+            return 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof AddressKey)) return false;
+            AddressKey that = (AddressKey) o;
+            return bus == that.bus && address == that.address && space.equals(that.space);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(space, bus, address);
+        }
+    }
 }
@@ -33,7 +33,11 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.platform.impl.RuntimePlatforms;
 import com.pi4j.provider.impl.RuntimeProviders;
 import com.pi4j.registry.impl.RuntimeRegistry;
+import com.pi4j.runtime.impl.ShutdownEngine;
+import com.pi4j.util.ExecutorPool;
+import com.pi4j.util.TimerWheel;
 
+import java.util.List;
 import java.util.concurrent.Future;
 
 /**
@@ -80,6 +84,20 @@ public interface Runtime extends InitializedEventProducer<Runtime>, ShutdownEven
 
     Future<?> submitTask(Runnable task);
 
+    /**
+     * <p>Shared timer for short, non-blocking timed tasks such as asynchronous pulse and blink transitions.</p>
+     *
+     * @return a {@link com.pi4j.util.TimerWheel} object.
+     */
+    TimerWheel timer();
+
+    /**
+     * <p>Executor pool of this runtime; its threads follow the execution model of the context.</p>
+     *
+     * @return a {@link com.pi4j.util.ExecutorPool} object.
+     */
+    ExecutorPool executorPool();
+
     /**
      * <p>shutdown.</p>
      *
@@ -96,6 +114,14 @@ public interface Runtime extends InitializedEventProducer<Runtime>, ShutdownEven
      */
     boolean isShutdown();
 
+    /**
+     * <p>Time spent shutting down each IO instance, platform, provider and plugin; empty until
+     * the runtime has been shut down.</p>
+     *
+     * @return a {@link java.util.List} object.
+     */
+    List<ShutdownEngine.Timing> shutdownTimings();
+
     /**
      * <p>initialize.</p>
      *
@@ -33,6 +33,7 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.extension.Plugin;
 import com.pi4j.extension.impl.DefaultPluginService;
 import com.pi4j.extension.impl.PluginStore;
+import com.pi4j.io.IO;
 import com.pi4j.io.IOType;
 import com.pi4j.platform.Platform;
 import com.pi4j.platform.impl.DefaultRuntimePlatforms;
@@ -46,6 +47,8 @@ import com.pi4j.runtime.Runtime;
 import com.pi4j.runtime.RuntimeProperties;
 import com.pi4j.util.ExecutorPool;
 import com.pi4j.util.PropertiesUtil;
+import com.pi4j.util.StartupProfiler;
+import com.pi4j.util.TimerWheel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +56,7 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>DefaultRuntime class.</p>
@@ -62,6 +66,16 @@ import java.util.concurrent.Future;
  */
 public class DefaultRuntime implements Runtime {
 
+    /** Property holding the shutdown deadline in milliseconds. */
+    public static final String SHUTDOWN_TIMEOUT_PROPERTY = "shutdown.timeout";
+    /** Default shutdown deadline in milliseconds. */
+    public static final int DEFAULT_SHUTDOWN_TIMEOUT = 10000;
+    /** Property holding the resolution of the shared timer in microseconds. */
+    public static final String TIMER_TICK_PROPERTY = "timer.tick";
+    /** Order in which IO instances are shut down: outputs first, then inputs, then buses. */
+    public static final List<IOType> SHUTDOWN_ORDER = List.of(IOType.DIGITAL_OUTPUT, IOType.PWM,
+        IOType.ANALOG_OUTPUT, IOType.DIGITAL_INPUT, IOType.ANALOG_INPUT, IOType.SERIAL, IOType.SPI, IOType.I2C);
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final Context context;
     private final RuntimeRegistry registry;
@@ -74,6 +88,8 @@ public class DefaultRuntime implements Runtime {
     private final EventManager<Runtime, InitializedListener, InitializedEvent> initializedEventManager;
     private final ExecutorPool executorPool;
     private final ExecutorService runtimeExecutor;
+    private volatile TimerWheel timer;
+    private volatile List<ShutdownEngine.Timing> shutdownTimings = Collections.emptyList();
 
     /**
      * <p>newInstance.</p>
@@ -103,7 +119,7 @@ public class DefaultRuntime implements Runtime {
             (EventDelegate<InitializedListener, InitializedEvent>) (listener, event) -> listener.onInitialized(event));
 
         // initialize executor pool and runtime executor
-        this.executorPool = new ExecutorPool();
+        this.executorPool = new ExecutorPool(context.config().executionModel());
         this.runtimeExecutor = this.executorPool.getExecutor("Pi4J.RUNTIME");
 
         logger.debug("Pi4J runtime context successfully created & initialized.'");
@@ -166,6 +182,28 @@ public class DefaultRuntime implements Runtime {
         return this.runtimeExecutor.submit(task);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel timer() {
+        if (this.timer == null) {
+            synchronized (this) {
+                if (this.timer == null) {
+                    long tick = this.context.properties().getInteger(TIMER_TICK_PROPERTY,
+                        (int) TimeUnit.NANOSECONDS.toMicros(TimerWheel.DEFAULT_TICK_NANOS));
+                    this.timer = new TimerWheel("Pi4J.TIMER", tick, TimeUnit.MICROSECONDS,
+                        TimerWheel.DEFAULT_WHEEL_SIZE);
+                }
+            }
+        }
+        return this.timer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ExecutorPool executorPool() {
+        return this.executorPool;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -182,38 +220,59 @@ public class DefaultRuntime implements Runtime {
         // notify before shutdown event listeners (requires custom delegate to invoke appropriate listener method)
         shutdownEventManager.dispatch(new ShutdownEvent(this.context), ShutdownListener::beforeShutdown);
 
-        try {
+        // stop IO instances, platforms, providers and plugins (in that order) under one deadline;
+        // the items within each stage are independent of each other and shut down in parallel
+        long timeout = this.context.properties().getInteger(SHUTDOWN_TIMEOUT_PROPERTY, DEFAULT_SHUTDOWN_TIMEOUT);
+        ShutdownEngine engine = new ShutdownEngine(this.executorPool.getExecutor("Pi4J.SHUTDOWN"),
+            timeout, TimeUnit.MILLISECONDS);
+
+        // cancel pending timed transitions before the outputs are put into their shutdown state
+        if (this.timer != null)
+            engine.stage("timer", step -> this.timer.close());
+
+        // remove all I/O instances; one stage per IO type, so outputs reach their shutdown state
+        // before inputs are released, and buses are closed last
+        Map<IOType, Map<String, IO>> ios = new EnumMap<>(IOType.class);
+        Map<String, IO> untyped = new LinkedHashMap<>();
+        this.registry.all().forEach((id, io) -> {
+            if (io.type() == null) untyped.put(id, io);
+            else ios.computeIfAbsent(io.type(), type -> new LinkedHashMap<>()).put(id, io);
+        });
+        for (IOType type : SHUTDOWN_ORDER) {
+            if (ios.containsKey(type))
+                engine.stage("io:" + type, ios.remove(type), io -> this.registry.remove(io.id()));
+        }
+        ios.values().forEach(untyped::putAll);
+        if (!untyped.isEmpty())
+            engine.stage("io", untyped, io -> this.registry.remove(io.id()));
+        engine.stage("registry", step -> this.registry.shutdown());
 
-            // remove shutdown monitoring thread
-            //java.lang.Runtime.getRuntime().removeShutdownHook(this.shutdownThread);
+        // shutdown platforms
+        engine.stage("platforms", step -> this.platforms.shutdown());
 
-            // remove all I/O instances
-            this.registry.shutdown();
+        // shutdown all providers
+        engine.stage("providers", step -> this.providers.shutdown());
 
-            // shutdown platforms
-            this.platforms.shutdown();
+        // shutdown all plugins
+        Map<String, Plugin> plugins = new LinkedHashMap<>();
+        this.plugins.forEach(plugin -> plugins.put(plugin.getClass().getName(), plugin));
+        engine.stage("plugins", plugins, plugin -> plugin.shutdown(this.context));
 
-            // shutdown all providers
-            this.providers.shutdown();
+        // flush and stop the default event dispatcher
+        engine.stage("events", step -> this.context.eventDispatcher().close());
 
-            // shutdown all plugins
-            for (Plugin plugin : this.plugins) {
-                try {
-                    plugin.shutdown(this.context);
-                } catch (Exception e) {
-                    logger.error(e.getMessage(), e);
-                }
-            }
+        engine.report();
+        this.shutdownTimings = engine.timings();
 
-            // shutdown executor pool
-            this.executorPool.destroy();
+        // shutdown executor pool (interrupts anything still running past the deadline)
+        this.executorPool.destroy();
 
-        } catch (Exception e) {
-            logger.error("failed to 'shutdown(); '", e);
-            throw new ShutdownException(e);
-        }
-
-        logger.info("Pi4J context/runtime successfully shutdown. Dispatching shutdown event.");
+        // a failed or timed out item does not stop the sequence; the listeners are notified regardless
+        Exception failure = engine.failure();
+        if (failure == null)
+            logger.info("Pi4J context/runtime successfully shutdown. Dispatching shutdown event.");
+        else
+            logger.error("Pi4J context/runtime shutdown completed with failures. Dispatching shutdown event.", failure);
 
         // notify shutdown event listeners
         shutdownEventManager.dispatch(new ShutdownEvent(this.context));
@@ -221,6 +280,10 @@ public class DefaultRuntime implements Runtime {
         // remove all shutdown event listeners
         this.shutdownEventManager.clear();
 
+        // surface the first failure only once the shutdown sequence has been completed
+        if (failure != null)
+            throw new ShutdownException(failure);
+
         return this;
     }
 
@@ -241,6 +304,12 @@ public class DefaultRuntime implements Runtime {
         return isShutdown;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<ShutdownEngine.Timing> shutdownTimings() {
+        return shutdownTimings;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -255,46 +324,50 @@ public class DefaultRuntime implements Runtime {
             Set<Platform> platforms = new HashSet<>();
             Map<IOType, Provider> providers = new HashMap<>();
 
+            StartupProfiler profiler = context.startupProfile();
+
             // only attempt to load platforms and providers from the classpath if an auto detect option is enabled
             ContextConfig config = context.config();
-            if (config.autoDetectPlatforms() || config.autoDetectProviders()) {
-
-                // detect available Pi4J Plugins by scanning the classpath looking for plugin instances
-                ServiceLoader<Plugin> plugins = ServiceLoader.load(Plugin.class);
-                for (Plugin plugin : plugins) {
-                    if (plugin == null)
-                        continue;
+            try (var pluginsPhase = profiler.phase("plugins")) {
+                if (config.autoDetectPlatforms() || config.autoDetectProviders()) {
+
+                    // detect available Pi4J Plugins by scanning the classpath looking for plugin instances
+                    ServiceLoader<Plugin> plugins = ServiceLoader.load(Plugin.class);
+                    for (Plugin plugin : plugins) {
+                        if (plugin == null)
+                            continue;
+
+                        if (!config.autoDetectMockPlugins() && plugin.isMock()) {
+                            logger.trace("Ignoring mock plugin: [{}] in classpath", plugin.getClass().getName());
+                            continue;
+                        }
 
-                    if (!config.autoDetectMockPlugins() && plugin.isMock()) {
-                        logger.trace("Ignoring mock plugin: [{}] in classpath", plugin.getClass().getName());
-                        continue;
-                    }
+                        logger.trace("detected plugin: [{}] in classpath; calling 'initialize()'",
+                            plugin.getClass().getName());
+                        try (var phase = profiler.phase("plugin:" + plugin.getClass().getSimpleName())) {
+                            // add plugin to internal cache
+                            this.plugins.add(plugin);
 
-                    logger.trace("detected plugin: [{}] in classpath; calling 'initialize()'",
-                        plugin.getClass().getName());
-                    try {
-                        // add plugin to internal cache
-                        this.plugins.add(plugin);
+                            PluginStore store = new PluginStore();
+                            plugin.initialize(DefaultPluginService.newInstance(this.context(), store));
 
-                        PluginStore store = new PluginStore();
-                        plugin.initialize(DefaultPluginService.newInstance(this.context(), store));
+                            // if auto-detect providers is enabled,
+                            // then add any detected providers to the collection to load
+                            if (config.autoDetectProviders()) {
+                                store.providers.forEach(provider -> addProvider(provider, providers));
+                            }
 
-                        // if auto-detect providers is enabled,
-                        // then add any detected providers to the collection to load
-                        if (config.autoDetectProviders()) {
-                            store.providers.forEach(provider -> addProvider(provider, providers));
-                        }
+                            // if auto-detect platforms is enabled,
+                            // then add any detected platforms to the collection to load
+                            if (config.autoDetectPlatforms()) {
+                                platforms.addAll(store.platforms);
+                            }
 
-                        // if auto-detect platforms is enabled,
-                        // then add any detected platforms to the collection to load
-                        if (config.autoDetectPlatforms()) {
-                            platforms.addAll(store.platforms);
+                        } catch (Exception ex) {
+                            // unable to initialize this provider instance
+                            logger.error("unable to 'initialize()' plugin: [{}]; {}", plugin.getClass().getName(),
+                                ex.getMessage(), ex);
                         }
-
-                    } catch (Exception ex) {
-                        // unable to initialize this provider instance
-                        logger.error("unable to 'initialize()' plugin: [{}]; {}", plugin.getClass().getName(),
-                            ex.getMessage(), ex);
                     }
                 }
             }
@@ -313,13 +386,17 @@ public class DefaultRuntime implements Runtime {
             this.registry.initialize();
 
             // initialize all providers
-            this.providers.initialize(providers.values());
+            try (var phase = profiler.phase("providers")) {
+                this.providers.initialize(providers.values(), this.context.config().lazyInitialization());
+            }
 
             // initialize all platforms
-            this.platforms.initialize(platforms);
+            try (var phase = profiler.phase("platforms")) {
+                this.platforms.initialize(platforms);
+            }
 
             // now auto-load any defined I/O injection instances available in the context config
-            try {
+            try (var phase = profiler.phase("auto-inject")) {
                 // ensure that the auto-injection option is enabled for this context
                 if (this.context().config().autoInject()) {
 
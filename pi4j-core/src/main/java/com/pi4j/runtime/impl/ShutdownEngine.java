@@ -0,0 +1,283 @@
+package com.pi4j.runtime.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  ShutdownEngine.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Runs the runtime shutdown as a sequence of stages under one global deadline.</p>
+ *
+ * <p>Stages run in the order they are invoked (IO instances, then platforms, providers and
+ * plugins); the items of a stage are independent of each other and are shut down in
+ * parallel.  Stages are first given the global timeout minus a small reserve; items still
+ * running when that passes are interrupted and reported as timed out, and the stages that
+ * follow share the reserve.  The shutdown as a whole therefore never waits past the global
+ * deadline.  The time spent on each item is recorded and reported once the shutdown
+ * completes.</p>
+ *
+ * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
+ * @version $Id: $Id
+ */
+public class ShutdownEngine {
+
+    /** Items that take longer than this are listed in the shutdown report. */
+    public static final long SLOW_THRESHOLD_MILLIS = 10;
+
+    /** Part of the global timeout (at most a quarter of it) held back for the stages that start after the others overran. */
+    public static final long GRACE_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private static final Logger logger = LoggerFactory.getLogger(ShutdownEngine.class);
+
+    protected final ExecutorService executor;
+    protected final long started;
+    protected final long deadline;
+    protected final long softDeadline;
+    protected final List<Timing> timings = Collections.synchronizedList(new ArrayList<>());
+    protected Exception failure = null;
+
+    /**
+     * <p>Task shutting down a single item of a stage.</p>
+     *
+     * @param <T> item type
+     */
+    @FunctionalInterface
+    public interface Task<T> {
+        void shutdown(T item) throws Exception;
+    }
+
+    /**
+     * <p>Outcome of shutting down a single item.</p>
+     */
+    public enum Outcome { COMPLETED, FAILED, TIMED_OUT }
+
+    /**
+     * <p>Time spent shutting down a single item.</p>
+     */
+    public static final class Timing {
+        private final String stage;
+        private final String id;
+        private final long nanos;
+        private final Outcome outcome;
+
+        private Timing(String stage, String id, long nanos, Outcome outcome) {
+            this.stage = stage;
+            this.id = id;
+            this.nanos = nanos;
+            this.outcome = outcome;
+        }
+
+        public String stage() { return stage; }
+        public String id() { return id; }
+        public long millis() { return TimeUnit.NANOSECONDS.toMillis(nanos); }
+        public Outcome outcome() { return outcome; }
+
+        @Override
+        public String toString() {
+            return stage + ":" + id + "=" + millis() + "ms" + (outcome == Outcome.COMPLETED ? "" : " (" + outcome + ")");
+        }
+    }
+
+    /**
+     * <p>Constructor for ShutdownEngine.</p>
+     *
+     * @param executor executor running the shutdown tasks; must not be shut down by any stage.
+     * @param timeout global deadline for the whole shutdown.
+     * @param unit unit of {@code timeout}.
+     */
+    public ShutdownEngine(ExecutorService executor, long timeout, TimeUnit unit) {
+        this.executor = executor;
+        this.started = System.nanoTime();
+        this.deadline = this.started + unit.toNanos(timeout);
+        this.softDeadline = this.deadline - Math.min(GRACE_PERIOD_NANOS, unit.toNanos(timeout) / 4);
+    }
+
+    /**
+     * <p>Shut down the items of a stage in parallel and wait for them until the deadline.</p>
+     *
+     * @param stage name of the stage, used in the report.
+     * @param items items to shut down, keyed by id.
+     * @param task shutdown task invoked once per item.
+     * @param <T> item type
+     * @return true if every item completed (successfully or not) before the deadline.
+     */
+    public <T> boolean stage(String stage, Map<String, T> items, Task<T> task) {
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
+        Map<String, Tracker> trackers = new LinkedHashMap<>();
+
+        for (Map.Entry<String, T> item : items.entrySet()) {
+            Tracker tracker = new Tracker(stage, item.getKey());
+            trackers.put(item.getKey(), tracker);
+            Runnable runnable = () -> {
+                tracker.start.set(System.nanoTime());
+                try {
+                    task.shutdown(item.getValue());
+                    tracker.record(Outcome.COMPLETED);
+                } catch (Exception e) {
+                    // an item interrupted after timing out has already been reported
+                    if (tracker.record(Outcome.FAILED))
+                        fail(stage, item.getKey(), e);
+                }
+            };
+            try {
+                futures.put(item.getKey(), executor.submit(runnable));
+            } catch (RejectedExecutionException e) {
+                // no executor available; shut the item down on the calling thread
+                runnable.run();
+            }
+        }
+
+        // once an earlier stage overran, the remaining stages share the reserve up to the global deadline
+        long stageDeadline = (System.nanoTime() - softDeadline < 0) ? softDeadline : deadline;
+        boolean completed = true;
+        for (Map.Entry<String, Future<?>> future : futures.entrySet()) {
+            try {
+                future.getValue().get(Math.max(0, stageDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                completed = false;
+                if (trackers.get(future.getKey()).record(Outcome.TIMED_OUT))
+                    timedOut(stage, future.getKey());
+                future.getValue().cancel(true);
+            } catch (ExecutionException e) {
+                fail(stage, future.getKey(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * <p>Run a single shutdown step under the deadline.</p>
+     *
+     * @param stage name of the stage, used in the report.
+     * @param step the shutdown step.
+     * @return true if the step completed before the deadline.
+     */
+    public boolean stage(String stage, Task<String> step) {
+        return stage(stage, Map.of(stage, stage), step);
+    }
+
+    /**
+     * <p>Check whether the global deadline has passed.</p>
+     *
+     * @return a boolean.
+     */
+    public boolean expired() {
+        return System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * <p>First failure raised by a shutdown task, or a {@link TimeoutException} for the first item that did not
+     * shut down before the deadline; null if every item completed successfully.</p>
+     *
+     * @return a {@link java.lang.Exception} object.
+     */
+    public synchronized Exception failure() {
+        return failure;
+    }
+
+    /**
+     * <p>Time spent on every item shut down so far.</p>
+     *
+     * @return a {@link java.util.List} object.
+     */
+    public List<Timing> timings() {
+        synchronized (timings) {
+            return new ArrayList<>(timings);
+        }
+    }
+
+    /**
+     * <p>Log the total shutdown time and the items that were slow, failed or timed out.</p>
+     */
+    public void report() {
+        List<Timing> all = timings();
+        long total = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        List<Timing> notable = new ArrayList<>();
+        for (Timing timing : all) {
+            if (timing.outcome != Outcome.COMPLETED || timing.millis() > SLOW_THRESHOLD_MILLIS)
+                notable.add(timing);
+        }
+        notable.sort(Comparator.comparingLong((Timing t) -> t.nanos).reversed());
+
+        logger.info("[SHUTDOWN] {} items shut down in {} ms{}", all.size(), total,
+            notable.isEmpty() ? "" : "; slowest: " + notable);
+        if (logger.isDebugEnabled()) {
+            all.forEach(timing -> logger.debug("[SHUTDOWN] {}", timing));
+        }
+    }
+
+    // records the outcome of a single item exactly once
+    private final class Tracker {
+        private final String stage;
+        private final String id;
+        private final AtomicLong start = new AtomicLong();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private Tracker(String stage, String id) {
+            this.stage = stage;
+            this.id = id;
+        }
+
+        private boolean record(Outcome outcome) {
+            if (!recorded.compareAndSet(false, true))
+                return false;
+            long begin = start.get();
+            timings.add(new Timing(stage, id, (begin == 0) ? 0 : System.nanoTime() - begin, outcome));
+            return true;
+        }
+    }
+
+    private synchronized void fail(String stage, String id, Exception e) {
+        logger.error("[SHUTDOWN] {} '{}' failed to shut down; {}", stage, id, e.getMessage(), e);
+        if (failure == null)
+            failure = e;
+    }
+
+    private synchronized void timedOut(String stage, String id) {
+        logger.error("[SHUTDOWN] {} '{}' did not shut down before the deadline", stage, id);
+        if (failure == null)
+            failure = new TimeoutException(stage + " '" + id + "' did not shut down before the deadline");
+    }
+}
@@ -0,0 +1,162 @@
+package com.pi4j.util;
+
+/**
+ * Describes how the {@link ExecutorPool} creates its threads: pool bounds, queue limits, daemon flag, thread
+ * priority and whether virtual threads are used.
+ * <p>
+ * The default model matches the historical behaviour: unbounded cached pools of non-daemon platform threads
+ * and scheduled pools of four threads.
+ * <p>
+ * Long running tasks, such as digital input monitors, occupy a pool thread for their whole lifetime and
+ * therefore count against {@link Builder#maxThreads(int)}; a submission that finds both the pool and its queue
+ * full is rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+ */
+public class ExecutionModel {
+
+    private static final ExecutionModel DEFAULTS = newBuilder().build();
+
+    private final int maxThreads;
+    private final int queueCapacity;
+    private final int scheduledThreads;
+    private final boolean daemon;
+    private final int priority;
+    private final boolean virtualThreads;
+
+    private ExecutionModel(Builder builder) {
+        this.maxThreads = builder.maxThreads;
+        this.queueCapacity = builder.queueCapacity;
+        this.scheduledThreads = builder.scheduledThreads;
+        this.daemon = builder.daemon;
+        this.priority = builder.priority;
+        this.virtualThreads = builder.virtualThreads;
+    }
+
+    /**
+     * @return the default execution model: unbounded, non-daemon platform threads
+     */
+    public static ExecutionModel defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return maximum number of threads per pool; 0 for unbounded
+     */
+    public int maxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * @return maximum number of queued tasks per bounded pool; 0 for unbounded
+     */
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return number of threads per scheduled pool
+     */
+    public int scheduledThreads() {
+        return scheduledThreads;
+    }
+
+    public boolean daemon() {
+        return daemon;
+    }
+
+    public int priority() {
+        return priority;
+    }
+
+    /**
+     * @return true if virtual threads were requested; they are only used when the runtime supports them
+     */
+    public boolean virtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @return true if virtual threads were requested and the running JVM (Java 21 or later) supports them
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads && VirtualThreads.isSupported();
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionModel{maxThreads=" + maxThreads + ", queueCapacity=" + queueCapacity
+            + ", scheduledThreads=" + scheduledThreads + ", daemon=" + daemon + ", priority=" + priority
+            + ", virtualThreads=" + virtualThreads + "}";
+    }
+
+    public static class Builder {
+        private int maxThreads = 0;
+        private int queueCapacity = 0;
+        private int scheduledThreads = 4;
+        private boolean daemon = false;
+        private int priority = Thread.NORM_PRIORITY;
+        private boolean virtualThreads = false;
+
+        private Builder() {
+        }
+
+        /**
+         * Bound each pool to the given number of threads; 0 (the default) leaves pools unbounded.
+         */
+        public Builder maxThreads(int maxThreads) {
+            if (maxThreads < 0)
+                throw new IllegalArgumentException("maxThreads must not be negative");
+            this.maxThreads = maxThreads;
+            return this;
+        }
+
+        /**
+         * Limit the number of tasks waiting for a thread of a bounded pool; 0 (the default) leaves it unbounded.
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity < 0)
+                throw new IllegalArgumentException("queueCapacity must not be negative");
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder scheduledThreads(int scheduledThreads) {
+            if (scheduledThreads < 1)
+                throw new IllegalArgumentException("scheduledThreads must be at least 1");
+            this.scheduledThreads = scheduledThreads;
+            return this;
+        }
+
+        /**
+         * Create daemon threads, which do not keep the JVM alive.
+         */
+        public Builder daemon(boolean daemon) {
+            this.daemon = daemon;
+            return this;
+        }
+
+        public Builder priority(int priority) {
+            if (priority < Thread.MIN_PRIORITY || priority > Thread.MAX_PRIORITY)
+                throw new IllegalArgumentException("priority must be between " + Thread.MIN_PRIORITY + " and "
+                    + Thread.MAX_PRIORITY);
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * Run pooled tasks on virtual threads when the JVM supports them (Java 21 or later); ignored otherwise.
+         * Virtual threads are always daemon threads and are not bounded by {@link #maxThreads(int)}.
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        public ExecutionModel build() {
+            return new ExecutionModel(this);
+        }
+    }
+}
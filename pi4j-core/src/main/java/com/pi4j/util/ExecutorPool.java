@@ -14,31 +14,66 @@ public class ExecutorPool {
 
     private static final Logger logger = LoggerFactory.getLogger(ExecutorPool.class);
 
+    private final ExecutionModel model;
     private final Map<String, ExecutorService> executors;
     private final Map<String, ScheduledExecutorService> scheduledExecutors;
 
     public ExecutorPool() {
+        this(ExecutionModel.defaults());
+    }
+
+    public ExecutorPool(ExecutionModel model) {
+        this.model = (model == null) ? ExecutionModel.defaults() : model;
         this.executors = new ConcurrentHashMap<>();
         this.scheduledExecutors = new ConcurrentHashMap<>();
+        if (this.model.virtualThreads() && !this.model.usesVirtualThreads())
+            logger.warn("Virtual threads requested but not supported by this Java runtime; using platform threads");
+        logger.debug("Executor pool created with {}", this.model);
+    }
+
+    public ExecutionModel getExecutionModel() {
+        return this.model;
     }
 
     public ExecutorService getExecutor(String poolName) {
         if (poolName == null || poolName.isEmpty())
             throw new IllegalStateException("poolName must be set!");
-        return this.executors.computeIfAbsent(poolName, p -> newCachedThreadPool(new NamedThreadPoolFactory(p)));
+        return this.executors.computeIfAbsent(poolName, p -> newExecutor(p, this.model.maxThreads()));
     }
 
     public ExecutorService getSingleThreadExecutor(String poolName) {
         if (poolName == null || poolName.isEmpty())
             throw new IllegalStateException("poolName must be set!");
-        return this.executors.computeIfAbsent(poolName, p -> newSingleThreadExecutor(new NamedThreadPoolFactory(p)));
+        return this.executors.computeIfAbsent(poolName, p -> newExecutor(p, 1));
     }
 
     public ScheduledExecutorService getScheduledExecutor(String poolName) {
         if (poolName == null || poolName.isEmpty())
             throw new IllegalStateException("poolName must be set!");
         return this.scheduledExecutors.computeIfAbsent(poolName,
-            p -> newScheduledThreadPool(4, new NamedThreadPoolFactory(p)));
+            p -> newScheduledThreadPool(this.model.scheduledThreads(), new NamedThreadPoolFactory(p, this.model)));
+    }
+
+    private ExecutorService newExecutor(String poolName, int maxThreads) {
+        // a single thread executor must keep running its tasks in submission order, so it never goes virtual
+        if (this.model.usesVirtualThreads() && maxThreads != 1)
+            return VirtualThreads.newThreadPerTaskExecutor(poolName + "-");
+
+        ThreadFactory threadFactory = new NamedThreadPoolFactory(poolName, this.model);
+        if (maxThreads <= 0)
+            return newCachedThreadPool(threadFactory);
+
+        BlockingQueue<Runnable> queue = (this.model.queueCapacity() > 0)
+            ? new ArrayBlockingQueue<>(this.model.queueCapacity())
+            : new LinkedBlockingQueue<>();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS, queue,
+            threadFactory, (task, pool) -> {
+                throw new RejectedExecutionException("Executor " + poolName + " is saturated ["
+                    + pool.getActiveCount() + " threads busy, " + pool.getQueue().size() + " tasks queued]");
+            });
+        // idle threads are released so a bounded pool does not pin its maximum
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     public void destroy() {
@@ -68,19 +103,23 @@ public class ExecutorPool {
         private final ThreadGroup group;
         private final AtomicInteger threadNumber = new AtomicInteger(1);
         private final String poolName;
+        private final boolean daemon;
+        private final int priority;
 
-        public NamedThreadPoolFactory(String poolName) {
+        public NamedThreadPoolFactory(String poolName, ExecutionModel model) {
             this.group = Thread.currentThread().getThreadGroup();
             this.poolName = poolName + "-";
+            this.daemon = model.daemon();
+            this.priority = model.priority();
         }
 
         @Override
         public Thread newThread(Runnable r) {
             Thread t = new Thread(this.group, r, this.poolName + this.threadNumber.getAndIncrement(), 0);
-            if (t.isDaemon())
-                t.setDaemon(false);
-            if (t.getPriority() != Thread.NORM_PRIORITY)
-                t.setPriority(Thread.NORM_PRIORITY);
+            if (t.isDaemon() != this.daemon)
+                t.setDaemon(this.daemon);
+            if (t.getPriority() != this.priority)
+                t.setPriority(this.priority);
             return t;
         }
     }
@@ -0,0 +1,222 @@
+package com.pi4j.util;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  StartupProfiler.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Records a tree of named, nested startup phases and their wall clock durations.</p>
+ *
+ * <p>Phases are opened and closed on the thread that created the profiler; once {@link #finish()} has
+ * been called, or when invoked from any other thread, {@link #phase(String)} returns a no-op phase so
+ * that code shared with the steady-state runtime (such as lazy provider initialization) can be
+ * instrumented unconditionally.</p>
+ */
+public class StartupProfiler {
+
+    private final Thread owner = Thread.currentThread();
+    private final Deque<Phase> open = new ArrayDeque<>();
+    private final Phase root;
+    private volatile boolean finished = false;
+
+    /**
+     * <p>Create a profiler and start its root phase.</p>
+     *
+     * @param name name of the root phase
+     */
+    public StartupProfiler(String name) {
+        this.root = new Phase(this, name);
+        this.open.push(root);
+    }
+
+    /**
+     * <p>Start a new phase nested under the innermost open phase.</p>
+     *
+     * @param name phase name
+     * @return the phase; close it (try-with-resources) to record its duration
+     */
+    public Phase phase(String name) {
+        if (finished || Thread.currentThread() != owner) return Phase.NOOP;
+        Phase phase = new Phase(this, name);
+        open.peek().children.add(phase);
+        open.push(phase);
+        return phase;
+    }
+
+    /**
+     * <p>Run the given task as a named phase.</p>
+     *
+     * @param name phase name
+     * @param task task to time
+     */
+    public void time(String name, Runnable task) {
+        try (Phase ignored = phase(name)) {
+            task.run();
+        }
+    }
+
+    /**
+     * <p>Close any phases left open and stop recording.</p>
+     *
+     * @return this profiler
+     */
+    public StartupProfiler finish() {
+        if (finished || Thread.currentThread() != owner) return this;
+        while (!open.isEmpty()) open.peek().close();
+        finished = true;
+        return this;
+    }
+
+    /**
+     * <p>isFinished.</p>
+     *
+     * @return true once the root phase has been closed
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * <p>The root of the timing tree.</p>
+     *
+     * @return a {@link Phase} object.
+     */
+    public Phase root() {
+        return root;
+    }
+
+    /**
+     * <p>Render the timing tree, one phase per line, children indented below their parent.</p>
+     *
+     * @return a multi-line report
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        append(sb, root, 0);
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, Phase phase, int depth) {
+        String label = "  ".repeat(depth) + phase.name();
+        sb.append(String.format("%-56s %9.3f ms%s%n", label, phase.duration(TimeUnit.MICROSECONDS) / 1000.0,
+            phase.isRunning() ? " (running)" : ""));
+        for (Phase child : phase.children()) append(sb, child, depth + 1);
+    }
+
+    private void close(Phase phase) {
+        if (finished || Thread.currentThread() != owner || !open.contains(phase)) return;
+        // closing an outer phase implicitly closes anything still open inside it
+        Phase top;
+        do {
+            top = open.pop();
+            top.end = System.nanoTime();
+        } while (top != phase);
+        if (phase == root) finished = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return report();
+    }
+
+    /**
+     * <p>A single timed phase.</p>
+     */
+    public static final class Phase implements AutoCloseable {
+
+        static final Phase NOOP = new Phase(null, "");
+
+        private final StartupProfiler profiler;
+        private final String name;
+        private final long start = System.nanoTime();
+        private volatile long end = -1;
+        private final List<Phase> children = Collections.synchronizedList(new ArrayList<>());
+
+        private Phase(StartupProfiler profiler, String name) {
+            this.profiler = profiler;
+            this.name = name;
+        }
+
+        /**
+         * <p>name.</p>
+         *
+         * @return the phase name
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * <p>Duration of this phase; elapsed time so far while it is still running.</p>
+         *
+         * @param unit time unit
+         * @return the duration in the given unit
+         */
+        public long duration(TimeUnit unit) {
+            long stop = end < 0 ? System.nanoTime() : end;
+            return unit.convert(stop - start, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * <p>isRunning.</p>
+         *
+         * @return true while the phase has not been closed
+         */
+        public boolean isRunning() {
+            return end < 0;
+        }
+
+        /**
+         * <p>children.</p>
+         *
+         * @return the nested phases, in start order
+         */
+        public List<Phase> children() {
+            synchronized (children) {
+                return List.copyOf(children);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            if (profiler != null) profiler.close(this);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return name + " " + duration(TimeUnit.MILLISECONDS) + " ms";
+        }
+    }
+}
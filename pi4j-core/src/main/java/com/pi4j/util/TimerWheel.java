@@ -0,0 +1,249 @@
+package com.pi4j.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timer wheel: a single thread expires any number of short, non-blocking timed tasks (such as the
+ * state transitions of a pulsing or blinking output) without dedicating a thread to each of them.
+ * <p>
+ * Deadlines are rounded up to the tick duration. The worker thread is started on the first
+ * {@link #schedule(Runnable, long, TimeUnit)} and parks without ticking while nothing is scheduled.
+ * Tasks run on the worker thread and must not block; slow follow-up work belongs on an executor.
+ */
+public class TimerWheel implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimerWheel.class);
+
+    public static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    public static final long MINIMUM_TICK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final String name;
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayDeque<Timeout>[] wheel;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduled = new AtomicInteger();
+
+    private volatile Thread worker;
+    private volatile boolean idle = false;
+    private volatile boolean closed = false;
+    private long startTime;
+    private long tick;
+
+    public TimerWheel(String name) {
+        this(name, DEFAULT_TICK_NANOS, TimeUnit.NANOSECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @param name name of the worker thread
+     * @param tickDuration timer resolution; at least 50 microseconds
+     * @param unit unit of the tick duration
+     * @param wheelSize number of buckets, rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(String name, long tickDuration, TimeUnit unit, int wheelSize) {
+        if (wheelSize < 1)
+            throw new IllegalArgumentException("wheelSize must be at least 1");
+        this.name = name;
+        this.tickNanos = Math.max(MINIMUM_TICK_NANOS, unit.toNanos(tickDuration));
+        int size = 1;
+        while (size < wheelSize)
+            size <<= 1;
+        this.mask = size - 1;
+        this.wheel = new ArrayDeque[size];
+        for (int i = 0; i < size; i++)
+            this.wheel[i] = new ArrayDeque<>();
+    }
+
+    /**
+     * @return the timer resolution in nanoseconds
+     */
+    public long tickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * @return number of tasks scheduled and neither expired nor cancelled
+     */
+    public int size() {
+        return scheduled.get();
+    }
+
+    /**
+     * Run a task once the given delay has elapsed.
+     *
+     * @return a handle with which the task can be cancelled
+     * @throws RejectedExecutionException if the timer has been closed
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (closed)
+            throw new RejectedExecutionException("Timer " + name + " has been closed");
+        var timeout = new Timeout(this, task, System.nanoTime() + Math.max(0, unit.toNanos(delay)));
+        scheduled.incrementAndGet();
+        pending.add(timeout);
+        start();
+        if (idle)
+            LockSupport.unpark(worker);
+        return timeout;
+    }
+
+    /**
+     * Cancel all scheduled tasks and stop the worker thread.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (Timeout timeout; (timeout = pending.poll()) != null; )
+            timeout.cancel();
+        logger.debug("Timer {} closed", name);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void start() {
+        if (worker != null)
+            return;
+        synchronized (this) {
+            if (worker != null)
+                return;
+            startTime = System.nanoTime();
+            var thread = new Thread(this::run, name);
+            thread.setDaemon(true);
+            worker = thread;
+            thread.start();
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            if (scheduled.get() == 0) {
+                // nothing to expire; sleep until the next schedule() instead of ticking
+                idle = true;
+                if (scheduled.get() == 0 && !closed)
+                    LockSupport.park(this);
+                idle = false;
+                // skip the ticks that passed while idle; every bucket is empty
+                tick = (System.nanoTime() - startTime) / tickNanos;
+                continue;
+            }
+
+            long deadline = startTime + (tick + 1) * tickNanos;
+            for (long sleep; (sleep = deadline - System.nanoTime()) > 0 && !closed; )
+                LockSupport.parkNanos(this, sleep);
+            if (closed)
+                break;
+
+            transferPending();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+        // drop anything left in the wheel
+        for (ArrayDeque<Timeout> bucket : wheel) {
+            for (Timeout timeout : bucket)
+                timeout.cancel();
+            bucket.clear();
+        }
+    }
+
+    private void transferPending() {
+        for (Timeout timeout; (timeout = pending.poll()) != null; ) {
+            if (timeout.isCancelled())
+                continue;
+            // ceil so a task never runs before its deadline
+            long target = Math.max(tick, (timeout.deadline - startTime + tickNanos - 1) / tickNanos);
+            timeout.rounds = (target - tick) / wheel.length;
+            wheel[(int) (target & mask)].add(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout> bucket) {
+        for (Iterator<Timeout> iterator = bucket.iterator(); iterator.hasNext(); ) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.rounds <= 0) {
+                iterator.remove();
+                timeout.expire();
+            } else {
+                timeout.rounds--;
+            }
+        }
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public static final class Timeout {
+
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final TimerWheel timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long rounds;
+
+        private Timeout(TimerWheel timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancel the task if it has not run yet.
+         *
+         * @return true if this call cancelled the task
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(WAITING, CANCELLED))
+                return false;
+            timer.scheduled.decrementAndGet();
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(WAITING, EXPIRED))
+                return;
+            timer.scheduled.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                logger.warn("Timer task failed: {}", t.getMessage(), t);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.pi4j.boardinfo.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BoardInfoParsingTest {
+
+    @Test
+    void testSystemFileParsing() {
+        var cpuinfo = "processor\t: 0\nHardware\t: BCM2835\nRevision\t: c03111\nSerial\t\t: 10000000\n";
+
+        assertAll(
+                () -> assertEquals("c03111", BoardInfoHelper.parseRevision(cpuinfo)),
+                () -> assertEquals("", BoardInfoHelper.parseRevision("processor\t: 0\n")),
+                () -> assertEquals("temp=42.8'C", BoardInfoHelper.formatTemperature(42842)),
+                () -> assertEquals("up 85 days, 9:43, load average: 0.00, 0.01, 0.05",
+                        BoardInfoHelper.formatUptime(85 * 86400 + 9 * 3600 + 43 * 60 + 12, "0.00 0.01 0.05 1/123 4567\n")),
+                () -> assertEquals("up 0:05", BoardInfoHelper.formatUptime(300, null))
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package com.pi4j.boardinfo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TelemetrySamplerTest {
+
+    @Test
+    void testRingBufferKeepsMostRecentSamples() {
+        var sampler = new TelemetrySampler(3);
+        assertNull(sampler.latest());
+
+        for (int i = 0; i < 5; i++) {
+            sampler.sample();
+        }
+
+        var timestamps = new long[5];
+        var loads = new double[5];
+        assertAll(
+                () -> assertEquals(3, sampler.size()),
+                () -> assertEquals(5, sampler.count()),
+                () -> assertEquals(3, sampler.timestamps(timestamps)),
+                () -> assertEquals(3, sampler.cpuLoads(loads)),
+                () -> assertTrue(timestamps[0] <= timestamps[1] && timestamps[1] <= timestamps[2]),
+                () -> assertEquals(timestamps[2], sampler.latest().getTimestamp()),
+                () -> assertTrue(sampler.getJvmUsed() > 0)
+        );
+    }
+
+    @Test
+    void testScheduledSamplingNotifiesListeners() throws InterruptedException {
+        var samples = new AtomicInteger();
+        var latch = new CountDownLatch(3);
+        try (var sampler = new TelemetrySampler(10)) {
+            sampler.addListener(sample -> {
+                samples.incrementAndGet();
+                latch.countDown();
+            });
+            sampler.start(10, TimeUnit.MILLISECONDS);
+            assertTrue(sampler.isRunning());
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            sampler.stop();
+            assertFalse(sampler.isRunning());
+            assertTrue(sampler.count() >= samples.get());
+        }
+    }
+
+    @Test
+    void testSharedExecutorIsNotShutDown() throws InterruptedException {
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            var latch = new CountDownLatch(2);
+            var sampler = new TelemetrySampler(10, executor);
+            sampler.addListener(sample -> latch.countDown());
+            sampler.start(10, TimeUnit.MILLISECONDS);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            sampler.close();
+
+            // stopping the sampler only cancels its schedule
+            assertFalse(sampler.isRunning());
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
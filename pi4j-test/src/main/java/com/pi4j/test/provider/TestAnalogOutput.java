@@ -27,6 +27,8 @@ package com.pi4j.test.provider;
 
 import com.pi4j.common.Metadata;
 import com.pi4j.context.Context;
+import com.pi4j.event.EventDispatcher;
+import com.pi4j.event.EventSnapshot;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.binding.AnalogBinding;
@@ -35,6 +37,7 @@ import com.pi4j.io.exception.IOIllegalValueException;
 import com.pi4j.io.gpio.analog.AnalogOutput;
 import com.pi4j.io.gpio.analog.AnalogOutputConfig;
 import com.pi4j.io.gpio.analog.AnalogOutputProvider;
+import com.pi4j.io.gpio.analog.AnalogValueChangeEvent;
 import com.pi4j.io.gpio.analog.AnalogValueChangeListener;
 
 /**
@@ -87,6 +90,30 @@ public class TestAnalogOutput implements AnalogOutput {
         return null;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public AnalogOutput eventDispatcher(EventDispatcher dispatcher) {
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AnalogOutput conflate(boolean enabled) {
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isConflating() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EventSnapshot<AnalogValueChangeEvent> drainChanges() {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override
     public AnalogOutput bind(AnalogBinding... binding) {
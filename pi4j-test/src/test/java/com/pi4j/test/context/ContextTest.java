@@ -25,11 +25,16 @@ package com.pi4j.test.context;
  * #L%
  */
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.pi4j.Pi4J;
 import com.pi4j.context.Context;
 import com.pi4j.exception.Pi4JException;
+import com.pi4j.util.StartupProfiler;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -69,4 +74,17 @@ public class ContextTest {
         logger.info("-------------------------------------------------");
         pi4j.describe().print(System.out);
     }
+
+    @Test
+    public void testStartupProfile() {
+        StartupProfiler profile = pi4j.startupProfile();
+        assertNotNull(profile);
+        assertTrue(profile.isFinished());
+        assertFalse(profile.root().isRunning());
+
+        List<String> phases = profile.root().children().stream()
+            .map(StartupProfiler.Phase::name).collect(Collectors.toList());
+        assertTrue(phases.containsAll(List.of("config", "runtime", "board-info", "initialize")));
+        logger.info("Pi4J startup profile:\n{}", profile.report());
+    }
 }
@@ -0,0 +1,235 @@
+package com.pi4j.test.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  EventDispatcherTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.event.EventDispatcher;
+import com.pi4j.event.EventManager;
+import com.pi4j.event.EventOverflowPolicy;
+import com.pi4j.event.ShutdownEvent;
+import com.pi4j.event.ShutdownListener;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class EventDispatcherTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital input provider and an asynchronous event dispatcher
+        pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalInputProvider.newInstance())
+            .eventDispatcher(EventDispatcher.ringBuffer("pi4j-test-events", 16, EventOverflowPolicy.BLOCK))
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testContextDispatcherDeliversOnDispatchThread() throws Exception {
+        var input = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j).id("test-input").address(1).build());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        input.addListener(event -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        });
+
+        ((MockDigitalInput) input).mockState(DigitalState.HIGH);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("pi4j-test-events"), threads);
+    }
+
+    @Test
+    public void testInstanceDispatcherOverridesContext() {
+        var input = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j).id("test-input").address(1).build());
+        input.eventDispatcher(EventDispatcher.synchronous());
+
+        List<String> threads = new ArrayList<>();
+        input.addListener(event -> threads.add(Thread.currentThread().getName()));
+
+        ((MockDigitalInput) input).mockState(DigitalState.HIGH);
+
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    public void testConflatedInputCountsEveryChange() throws Exception {
+        var input = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j).id("test-input").address(1).build());
+        input.conflate(true);
+
+        // the listener is held on its first notification while the input keeps changing
+        CountDownLatch gate = new CountDownLatch(1);
+        List<DigitalState> delivered = Collections.synchronizedList(new ArrayList<>());
+        input.addListener(event -> {
+            delivered.add(event.state());
+            try { gate.await(); } catch (InterruptedException e) { /* do nothing */ }
+        });
+
+        // toggle the input far faster than the listener is notified
+        for (int i = 0; i < 1000; i++) {
+            ((MockDigitalInput) input).mockState(i % 2 == 0 ? DigitalState.HIGH : DigitalState.LOW);
+        }
+
+        var snapshot = input.drainChanges();
+        assertEquals(1000L, snapshot.changes());
+        assertEquals(DigitalState.LOW, snapshot.latest().state());
+        assertEquals(0L, input.drainChanges().changes());
+        gate.countDown();
+
+        // the changes raised while the listener was held are merged into a single notification of the latest state
+        long deadline = System.currentTimeMillis() + 5000;
+        while (delivered.isEmpty() || delivered.get(delivered.size() - 1) != DigitalState.LOW) {
+            assertTrue(System.currentTimeMillis() < deadline, "latest state was not delivered");
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        assertTrue(delivered.size() < 1000, "conflation merged nothing; " + delivered.size() + " deliveries");
+        assertTrue(delivered.size() <= 2, "expected at most two deliveries; got " + delivered.size());
+        assertEquals(DigitalState.LOW, delivered.get(delivered.size() - 1));
+    }
+
+    @Test
+    public void testCoalesceKeepsLatestPerKey() throws Exception {
+        EventDispatcher dispatcher = EventDispatcher.ringBuffer("coalesce", 4, EventOverflowPolicy.COALESCE);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+
+        // hold the delivery thread so the following deliveries queue up
+        dispatcher.dispatch("gate", () -> {
+            try { gate.await(); } catch (InterruptedException e) { /* do nothing */ }
+        });
+        Thread.sleep(50);
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            dispatcher.dispatch(i % 2 == 0 ? "even" : "odd", () -> delivered.add(value));
+        }
+        gate.countDown();
+        dispatcher.close();
+
+        assertEquals(List.of(8, 9), delivered);
+    }
+
+    @Test
+    public void testCoalesceKeepsDeliveriesToEachDelegate() throws Exception {
+        EventDispatcher dispatcher = EventDispatcher.ringBuffer("coalesce", 4, EventOverflowPolicy.COALESCE);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        EventManager<Object, ShutdownListener, ShutdownEvent> manager =
+            new EventManager<>(this, ShutdownListener::onShutdown);
+        manager.dispatcher(dispatcher);
+        manager.add(new ShutdownListener() {
+            @Override
+            public void beforeShutdown(ShutdownEvent event) {
+                delivered.add("before");
+            }
+
+            @Override
+            public void onShutdown(ShutdownEvent event) {
+                delivered.add("on");
+            }
+        });
+
+        // hold the delivery thread so the following deliveries queue up
+        dispatcher.dispatch("gate", () -> {
+            try { gate.await(); } catch (InterruptedException e) { /* do nothing */ }
+        });
+        Thread.sleep(50);
+        manager.dispatch(new ShutdownEvent(pi4j), ShutdownListener::beforeShutdown);
+        manager.dispatch(new ShutdownEvent(pi4j));
+        gate.countDown();
+        dispatcher.close();
+
+        // the deliveries share the event manager, but go to different delegates
+        assertEquals(List.of("before", "on"), delivered);
+    }
+
+    @Test
+    public void testDeliveryThreadSurvivesError() throws Exception {
+        EventDispatcher dispatcher = EventDispatcher.ringBuffer("error", 1, EventOverflowPolicy.BLOCK);
+        CountDownLatch latch = new CountDownLatch(3);
+        try {
+            dispatcher.dispatch("key", () -> { throw new Error("listener failure"); });
+            dispatcher.dispatch("key", latch::countDown);
+            dispatcher.dispatch("key", latch::countDown);
+            dispatcher.dispatch("key", latch::countDown);
+
+            // the producers did not block forever and all later deliveries were run
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            dispatcher.close();
+        }
+    }
+
+    @Test
+    public void testDeliveriesDuringCloseKeepOrder() throws Exception {
+        EventDispatcher dispatcher = EventDispatcher.ringBuffer("closing", 4, EventOverflowPolicy.BLOCK);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+
+        // hold the delivery thread while it still has queued deliveries
+        dispatcher.dispatch("key", () -> {
+            try { gate.await(); } catch (InterruptedException e) { /* do nothing */ }
+        });
+        dispatcher.dispatch("key", () -> delivered.add(1));
+        Thread closing = new Thread(dispatcher::close);
+        closing.start();
+        Thread.sleep(50);
+
+        // raised after close while the ring buffer is being drained; must not overtake the queued delivery
+        dispatcher.dispatch("key", () -> delivered.add(2));
+        gate.countDown();
+        closing.join();
+
+        assertEquals(List.of(1, 2), delivered);
+    }
+}
@@ -0,0 +1,149 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalOutputTimingTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalOutputTimingTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        // Initialize Pi4J with MOCK digital output provider
+        pi4j = Pi4J.newContextBuilder().add(MockDigitalOutputProvider.newInstance()).build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    @Test
+    public void testBlinkAsyncManyOutputs() throws Exception {
+        List<Future<?>> blinks = new ArrayList<>();
+        List<AtomicInteger> changes = new ArrayList<>();
+        for (int address = 0; address < 50; address++) {
+            DigitalOutput output = pi4j.dout().create(address);
+            AtomicInteger count = new AtomicInteger();
+            output.addListener(event -> count.incrementAndGet());
+            changes.add(count);
+            blinks.add(output.blinkAsync(2, 3, TimeUnit.MILLISECONDS, DigitalState.HIGH, null));
+        }
+
+        for (Future<?> blink : blinks) {
+            blink.get(5, TimeUnit.SECONDS);
+        }
+
+        // initial HIGH plus five toggles, ending LOW
+        for (AtomicInteger count : changes) {
+            assertEquals(6, count.get());
+        }
+        assertEquals(0, pi4j.timer().size());
+    }
+
+    @Test
+    public void testPulseAsyncCallbackAndSubMillisecondInterval() throws Exception {
+        DigitalOutput output = pi4j.dout().create(1);
+        AtomicInteger callbacks = new AtomicInteger();
+        List<DigitalState> states = Collections.synchronizedList(new ArrayList<>());
+        output.addListener(event -> states.add(event.state()));
+
+        // the pulse may already have ended when pulseAsync() returns, so its states are observed by a listener
+        Future<?> pulse = output.pulseAsync(500, TimeUnit.MICROSECONDS, DigitalState.HIGH, () -> {
+            callbacks.incrementAndGet();
+            return null;
+        });
+
+        pulse.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW), states);
+        assertEquals(DigitalState.LOW, output.state());
+        assertEquals(1, callbacks.get());
+    }
+
+    @Test
+    public void testIntervalBelowProviderMinimumIsRejected() {
+        DigitalOutput output = pi4j.dout().create(1);
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(1), output.provider().minimumIntervalNanos());
+
+        assertThrows(IllegalArgumentException.class, () -> output.pulse(500, TimeUnit.NANOSECONDS, DigitalState.HIGH));
+        assertThrows(IllegalArgumentException.class,
+            () -> output.blinkAsync(500, 2, TimeUnit.NANOSECONDS, DigitalState.HIGH, null));
+        assertEquals(0, pi4j.timer().size());
+    }
+
+    @Test
+    public void testBlinkAsyncCancel() throws Exception {
+        DigitalOutput output = pi4j.dout().create(1);
+
+        Future<?> blink = output.blinkAsync(1, 10, TimeUnit.SECONDS, DigitalState.HIGH, null);
+        assertEquals(DigitalState.HIGH, output.state());
+
+        assertTrue(blink.cancel(true));
+        assertTrue(blink.isCancelled());
+        assertEquals(0, pi4j.timer().size());
+        assertEquals(DigitalState.HIGH, output.state());
+    }
+
+    @Test
+    public void testBlinkAsyncTogglesOffTimerThread() throws Exception {
+        DigitalOutput output = pi4j.dout().create(1);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        output.addListener(event -> threads.add(Thread.currentThread().getName()));
+        Future<?> blink = output.blinkAsync(1, 3, TimeUnit.MILLISECONDS, DigitalState.HIGH, null);
+
+        blink.get(5, TimeUnit.SECONDS);
+
+        // initial HIGH (on the calling thread) plus five toggles; the timer thread only schedules,
+        // the transitions and their listeners run on the context executor
+        assertEquals(6, threads.size());
+        for (String thread : threads) {
+            assertFalse(thread.startsWith("Pi4J.TIMER"), thread);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  OnOffGroupBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputBankProvider;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.group.OnOffGroup;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProviderImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class OnOffGroupBankTest {
+
+    /**
+     * Mock digital output provider recording each bank write.
+     */
+    public static class BankProvider extends MockDigitalOutputProviderImpl implements DigitalOutputBankProvider {
+        final List<Map<DigitalOutput, DigitalState>> banks = new ArrayList<>();
+
+        @Override
+        public void state(Map<DigitalOutput, DigitalState> states) throws IOException {
+            banks.add(new LinkedHashMap<>(states));
+            for (Map.Entry<DigitalOutput, DigitalState> entry : states.entrySet()) {
+                entry.getKey().state(entry.getValue());
+            }
+        }
+    }
+
+    private Context pi4j;
+    private BankProvider provider;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        provider = new BankProvider();
+        pi4j = Pi4J.newContextBuilder().add(provider).build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private DigitalOutput output(int address, DigitalState onState) {
+        return pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+            .id("test-output-" + address)
+            .address(address)
+            .onState(onState)
+            .build());
+    }
+
+    @Test
+    public void testOnWritesOneBank() {
+        DigitalOutput a = output(1, DigitalState.HIGH);
+        DigitalOutput b = output(2, DigitalState.HIGH);
+        DigitalOutput c = output(3, DigitalState.LOW);
+
+        OnOffGroup group = OnOffGroup.newInstance(a, b, c);
+        group.on();
+
+        // all outputs of the provider are written with a single bank call
+        assertEquals(1, provider.banks.size());
+        Map<DigitalOutput, DigitalState> bank = provider.banks.get(0);
+        assertEquals(3, bank.size());
+        assertEquals(DigitalState.HIGH, bank.get(a));
+        assertEquals(DigitalState.HIGH, bank.get(b));
+        assertEquals(DigitalState.LOW, bank.get(c));
+
+        assertTrue(group.isOn());
+        assertTrue(a.isOn());
+        assertTrue(b.isOn());
+        assertTrue(c.isOn());
+    }
+
+    @Test
+    public void testOffWritesInverseOnState() {
+        DigitalOutput a = output(1, DigitalState.HIGH);
+        DigitalOutput b = output(2, DigitalState.LOW);
+
+        OnOffGroup group = OnOffGroup.newInstance(a, b);
+        group.on();
+        group.off();
+
+        assertEquals(2, provider.banks.size());
+        Map<DigitalOutput, DigitalState> bank = provider.banks.get(1);
+        assertEquals(DigitalState.LOW, bank.get(a));
+        assertEquals(DigitalState.HIGH, bank.get(b));
+
+        assertFalse(group.isOn());
+        assertTrue(a.isOff());
+        assertTrue(b.isOff());
+    }
+}
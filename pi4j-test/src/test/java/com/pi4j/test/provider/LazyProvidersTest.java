@@ -0,0 +1,81 @@
+package com.pi4j.test.provider;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LazyProvidersTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.InitializeException;
+import com.pi4j.io.pwm.PwmProvider;
+import com.pi4j.test.provider.impl.TestPwmProviderImpl;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class LazyProvidersTest {
+
+    private static class CountingPwmProvider extends TestPwmProviderImpl {
+        final AtomicInteger initialized = new AtomicInteger();
+
+        CountingPwmProvider() { super("counting-pwm", "Counting PWM Provider"); }
+
+        @Override
+        public PwmProvider initialize(Context context) throws InitializeException {
+            initialized.incrementAndGet();
+            return super.initialize(context);
+        }
+    }
+
+    @Test
+    public void testProviderInitializedOnFirstLookup() {
+        CountingPwmProvider provider = new CountingPwmProvider();
+        Context pi4j = Pi4J.newContextBuilder().add(provider).lazyInitialization().build();
+
+        // registered, but not yet initialized
+        assertEquals(1, pi4j.providers().all().size());
+        assertEquals(0, provider.initialized.get());
+
+        // the first lookup initializes the provider exactly once
+        assertSame(provider, pi4j.providers().get(PwmProvider.class));
+        assertSame(provider, pi4j.provider("counting-pwm"));
+        assertEquals(1, provider.initialized.get());
+
+        pi4j.shutdown();
+    }
+
+    @Test
+    public void testProviderInitializedEagerlyByDefault() {
+        CountingPwmProvider provider = new CountingPwmProvider();
+        Context pi4j = Pi4J.newContextBuilder().add(provider).build();
+
+        assertEquals(1, provider.initialized.get());
+        pi4j.providers().get(PwmProvider.class);
+        assertEquals(1, provider.initialized.get());
+
+        pi4j.shutdown();
+    }
+}
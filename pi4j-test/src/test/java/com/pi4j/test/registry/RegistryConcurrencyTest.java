@@ -0,0 +1,249 @@
+package com.pi4j.test.registry;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  RegistryConcurrencyTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.event.ShutdownEvent;
+import com.pi4j.event.ShutdownListener;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.IOType;
+import com.pi4j.io.exception.IOAlreadyExistsException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProviderImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class RegistryConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    /**
+     * Mock digital output provider whose outputs with an id starting with "failing" throw an
+     * unexpected exception on shutdown.
+     */
+    public static class FailingProvider extends MockDigitalOutputProviderImpl {
+        @Override
+        public DigitalOutput create(DigitalOutputConfig config) {
+            MockDigitalOutput output = new MockDigitalOutput(this, config) {
+                @Override
+                public DigitalOutput shutdown(Context context) throws ShutdownException {
+                    if (id().startsWith("failing")) throw new IllegalStateException("unexpected shutdown failure");
+                    return super.shutdown(context);
+                }
+            };
+            this.context.registry().add(output);
+            return output;
+        }
+    }
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newContextBuilder()
+            .add(new FailingProvider())
+            .add(MockDigitalInputProvider.newInstance())
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private DigitalOutput output(String id, int address) {
+        return pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j).id(id).address(address).build());
+    }
+
+    @Test
+    public void testClaimedAddresses() {
+        output("output-1", 3);
+
+        // a claim is all or nothing
+        assertThrows(IOAlreadyExistsException.class, () -> pi4j.registry().claim("group", IOType.DIGITAL_OUTPUT, 0, 1, 2, 3));
+        assertFalse(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 1));
+        assertThrows(IOAlreadyExistsException.class, () -> pi4j.registry().claim("group", IOType.DIGITAL_OUTPUT, 0, 1, 1));
+        assertFalse(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 1));
+
+        // claimed addresses are in use for IO instances of the same address space
+        pi4j.registry().claim("group", IOType.DIGITAL_OUTPUT, 0, 1, 2);
+        assertTrue(pi4j.registry().exists(1));
+        assertTrue(pi4j.registry().exists(IOType.DIGITAL_INPUT, 0, 2));
+        assertThrows(IOAlreadyExistsException.class, () -> output("output-2", 2));
+        assertThrows(IOAlreadyExistsException.class,
+            () -> pi4j.din().create(DigitalInput.newConfigBuilder(pi4j).id("input-1").address(1).build()));
+
+        // only the owner releases its claim
+        pi4j.registry().release("other", IOType.DIGITAL_OUTPUT, 0, 1, 2, 3);
+        assertTrue(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 1));
+        assertTrue(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 3));
+        pi4j.registry().release("group", IOType.DIGITAL_OUTPUT, 0, 1, 2, 3);
+        assertFalse(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 1));
+        assertTrue(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 3));
+        assertFalse(pi4j.registry().exists(1));
+        assertTrue(pi4j.registry().exists(3));
+        output("output-2", 2);
+    }
+
+    @Test
+    public void testAddressCollision() {
+        output("output-1", 1);
+        assertTrue(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 1));
+
+        // digital inputs and outputs share the GPIO address space
+        assertTrue(pi4j.registry().exists(IOType.DIGITAL_INPUT, 0, 1));
+        assertThrows(IOAlreadyExistsException.class, () -> output("output-2", 1));
+        assertThrows(IOAlreadyExistsException.class,
+            () -> pi4j.din().create(DigitalInput.newConfigBuilder(pi4j).id("input-1").address(1).build()));
+
+        // a duplicate id does not claim the address of the existing instance
+        assertThrows(IOAlreadyExistsException.class, () -> output("output-1", 2));
+        assertFalse(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 2));
+
+        // the address is released by shutting down the instance holding it
+        pi4j.shutdown("output-1");
+        assertFalse(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 1));
+        output("output-2", 1);
+        assertTrue(pi4j.registry().exists("output-2"));
+    }
+
+    @Test
+    public void testUnexpectedShutdownFailureReleasesClaims() {
+        output("failing-output", 3);
+        assertThrows(IllegalStateException.class, () -> pi4j.shutdown("failing-output"));
+
+        // neither the id nor the address remain claimed
+        assertFalse(pi4j.registry().exists("failing-output"));
+        assertFalse(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 3));
+        output("replacement-output", 3);
+        assertTrue(pi4j.registry().exists("replacement-output"));
+    }
+
+    @Test
+    public void testShutdownCompletesDespiteFailure() {
+        output("failing-output", 3);
+        output("output-1", 4);
+        AtomicInteger notified = new AtomicInteger();
+        pi4j.addListener(new ShutdownListener() {
+            @Override
+            public void onShutdown(ShutdownEvent event) {
+                notified.incrementAndGet();
+            }
+        });
+
+        // the failure is surfaced only after the remaining instances are shut down and the listeners notified
+        assertThrows(ShutdownException.class, () -> pi4j.shutdown());
+        assertFalse(pi4j.registry().exists("output-1"));
+        assertEquals(1, notified.get());
+    }
+
+    @Test
+    public void testConcurrentAddRemove() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        String id = "output-" + thread + "-" + i;
+                        output(id, 10 + thread);
+                        assertTrue(pi4j.registry().exists(id));
+                        pi4j.shutdown(id);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // every instance was removed and released its address
+        assertTrue(pi4j.registry().all().isEmpty());
+        for (int t = 0; t < THREADS; t++)
+            assertFalse(pi4j.registry().exists(IOType.DIGITAL_OUTPUT, 0, 10 + t));
+    }
+
+    @Test
+    public void testConcurrentAddressClaim() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        output("claim-" + thread, 40);
+                        created.incrementAndGet();
+                    } catch (IOAlreadyExistsException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // exactly one thread claimed the address
+        assertEquals(1, created.get());
+        assertEquals(THREADS - 1, rejected.get());
+        assertEquals(1, pi4j.registry().all().size());
+    }
+}
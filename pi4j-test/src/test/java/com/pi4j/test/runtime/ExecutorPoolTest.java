@@ -0,0 +1,97 @@
+package com.pi4j.test.runtime;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  ExecutorPoolTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.util.ExecutionModel;
+import com.pi4j.util.ExecutorPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExecutorPoolTest {
+
+    @Test
+    public void testBoundedPoolRejectsWhenSaturated() throws Exception {
+        ExecutorPool pool = new ExecutorPool(ExecutionModel.newBuilder().maxThreads(2).queueCapacity(1).build());
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            ExecutorService executor = pool.getExecutor("test");
+            Runnable blocker = () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) { }
+            };
+            // two running, one queued
+            executor.submit(blocker);
+            executor.submit(blocker);
+            executor.submit(blocker);
+            assertThrows(RejectedExecutionException.class, () -> executor.submit(blocker));
+        } finally {
+            release.countDown();
+            pool.destroy();
+        }
+    }
+
+    @Test
+    public void testThreadsUseConfiguredFlags() throws Exception {
+        ExecutorPool pool = new ExecutorPool(ExecutionModel.newBuilder()
+            .daemon(true).priority(Thread.MAX_PRIORITY).build());
+        try {
+            AtomicReference<Thread> thread = new AtomicReference<>();
+            pool.getExecutor("test").submit(() -> thread.set(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+            assertTrue(thread.get().isDaemon());
+            assertEquals(Thread.MAX_PRIORITY, thread.get().getPriority());
+            assertTrue(thread.get().getName().startsWith("test-"));
+        } finally {
+            pool.destroy();
+        }
+    }
+
+    @Test
+    public void testContextExecutionModel() throws Exception {
+        ExecutionModel model = ExecutionModel.newBuilder().maxThreads(4).daemon(true).virtualThreads(true).build();
+        Context pi4j = Pi4J.newContextBuilder().executionModel(model).build();
+        try {
+            assertEquals(model, pi4j.config().executionModel());
+            AtomicReference<Thread> thread = new AtomicReference<>();
+            pi4j.submitTask(() -> thread.set(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+            // virtual threads are daemon threads as well; on older JVMs the flag falls back to platform threads
+            assertTrue(thread.get().isDaemon());
+        } finally {
+            pi4j.shutdown();
+        }
+    }
+}
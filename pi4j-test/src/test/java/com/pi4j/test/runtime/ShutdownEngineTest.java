@@ -0,0 +1,153 @@
+package com.pi4j.test.runtime;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  ShutdownEngineTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProvider;
+import com.pi4j.runtime.impl.ShutdownEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShutdownEngineTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void beforeTest() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        executor.shutdownNow();
+    }
+
+    private static Map<String, Integer> items(int count) {
+        Map<String, Integer> items = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) items.put("item-" + i, i);
+        return items;
+    }
+
+    @Test
+    public void testItemsOfStageRunInParallel() {
+        ShutdownEngine engine = new ShutdownEngine(executor, 5, TimeUnit.SECONDS);
+
+        // every item waits for all others; only completes if they run at the same time
+        CountDownLatch running = new CountDownLatch(4);
+        assertTrue(engine.stage("parallel", items(4), item -> {
+            running.countDown();
+            assertTrue(running.await(2, TimeUnit.SECONDS));
+        }));
+
+        assertNull(engine.failure());
+        assertEquals(4, engine.timings().size());
+        engine.timings().forEach(timing -> {
+            assertEquals("parallel", timing.stage());
+            assertEquals(ShutdownEngine.Outcome.COMPLETED, timing.outcome());
+        });
+    }
+
+    @Test
+    public void testStagesRunInOrder() {
+        ShutdownEngine engine = new ShutdownEngine(executor, 5, TimeUnit.SECONDS);
+        List<String> order = new ArrayList<>();
+        engine.stage("first", step -> order.add(step));
+        engine.stage("second", step -> order.add(step));
+        engine.stage("third", step -> order.add(step));
+        assertEquals(List.of("first", "second", "third"), order);
+    }
+
+    @Test
+    public void testFailureIsRecorded() {
+        ShutdownEngine engine = new ShutdownEngine(executor, 5, TimeUnit.SECONDS);
+        assertTrue(engine.stage("failing", items(3), item -> {
+            if (item == 1) throw new IllegalStateException("failure of item 1");
+        }));
+
+        assertNotNull(engine.failure());
+        assertEquals("failure of item 1", engine.failure().getMessage());
+        for (ShutdownEngine.Timing timing : engine.timings()) {
+            assertEquals(timing.id().equals("item-1") ? ShutdownEngine.Outcome.FAILED : ShutdownEngine.Outcome.COMPLETED,
+                timing.outcome());
+        }
+    }
+
+    @Test
+    public void testLateStagesDoNotOvershootDeadline() {
+        ShutdownEngine engine = new ShutdownEngine(executor, 1000, TimeUnit.MILLISECONDS);
+        ShutdownEngine.Task<String> hang = step -> Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+
+        long start = System.nanoTime();
+        assertFalse(engine.stage("first", hang));
+        assertFalse(engine.stage("second", hang));
+        assertFalse(engine.stage("third", hang));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // the stages following the overrun share the reserve instead of each adding a grace period
+        assertTrue(elapsed < 1200, "shutdown took " + elapsed + " ms");
+        assertTrue(engine.expired());
+        assertTrue(engine.failure() instanceof TimeoutException);
+        engine.timings().forEach(timing -> assertEquals(ShutdownEngine.Outcome.TIMED_OUT, timing.outcome()));
+    }
+
+    @Test
+    public void testContextExposesShutdownTimings() throws Exception {
+        Context pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalOutputProvider.newInstance())
+            .add(MockDigitalInputProvider.newInstance())
+            .build();
+        pi4j.din().create(DigitalInput.newConfigBuilder(pi4j).id("test-input").address(1).build());
+        pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j).id("test-output").address(2).build());
+        assertTrue(pi4j.shutdownTimings().isEmpty());
+
+        pi4j.shutdown();
+
+        // outputs are shut down in a stage before inputs
+        List<String> stages = new ArrayList<>();
+        pi4j.shutdownTimings().forEach(timing -> stages.add(timing.stage() + ":" + timing.id()));
+        int output = stages.indexOf("io:DIGITAL_OUTPUT:test-output");
+        int input = stages.indexOf("io:DIGITAL_INPUT:test-input");
+        assertTrue(output >= 0, stages.toString());
+        assertTrue(input > output, stages.toString());
+    }
+}
@@ -8,8 +8,6 @@ import com.pi4j.library.gpiod.internal.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.Future;
-
 /**
  * <p>PiGpioDigitalOutput class.</p>
  *
@@ -18,12 +16,10 @@ import java.util.concurrent.Future;
  */
 public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput {
     private static final Logger logger = LoggerFactory.getLogger(GpioDDigitalInput.class);
-    private static final long inputMaxWaitNs = 10 * 1000 * 1000; // 10 ms
     private final GpioLine line;
     private final long debounceNs;
-    private volatile boolean inputListenerRun;
-    private volatile boolean inputListenerActive;
-    private Future<?> inputListener;
+    // only touched on the GpioD line event monitor thread
+    private DigitalState lastState;
 
     /**
      * <p>Constructor for GpioDDigitalInput.</p>
@@ -65,94 +61,33 @@ public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput
         }
         super.initialize(context);
 
-        this.inputListenerRun = true;
-        this.inputListener = context.submitTask(this::monitorLineEvents);
+        // edges are picked up by the monitor thread shared by all GpioD inputs
+        try {
+            GpioDContext.getInstance().addLineEventListener(this.line, this.debounceNs, this::onLineEvent);
+        } catch (GpioDException e) {
+            throw new InitializeException("Failed to monitor input " + this.id, e);
+        }
         return this;
     }
 
     @Override
     public DigitalInput shutdown(Context context) throws ShutdownException {
         super.shutdown(context);
-        if (this.inputListener != null)
-            shutdownInputListener();
+        GpioDContext.getInstance().removeLineEventListener(this.line);
         return this;
     }
 
-    private void shutdownInputListener() {
-        this.inputListenerRun = true;
-        if (!this.inputListenerActive)
-            return;
-        if (this.inputListener.isDone())
-            return;
-
-        if (!this.inputListener.cancel(true))
-            logger.error("Failed to cancel input listener!");
-
-        long start = System.currentTimeMillis();
-        while (this.inputListenerActive) {
-            if (System.currentTimeMillis() - start > 5000L)
-                throw new IllegalArgumentException("Input listener didn't stop in 5s");
-            try {
-                Thread.sleep(0L, 500);
-            } catch (InterruptedException e) {
-                logger.warn("Interrupted, while waiting for input listener to stop");
-            }
-        }
-
-        logger.info("Shutdown input listener for " + this.id);
-    }
-
     @Override
     public DigitalState state() {
         return DigitalState.getState(this.line.getValue());
     }
 
-    private void monitorLineEvents() {
-        this.inputListenerActive = true;
-        GpioDContext gpioDContext = GpioDContext.getInstance();
-        DigitalState lastState = null;
-        GpioLineEvent lineEvent = GpioDContext.getInstance().openLineEvent();
-
-        try {
-            while (this.inputListenerRun && this.inputListener != null && !this.inputListener.isCancelled()) {
-                long debounceNs = this.debounceNs;
-                // We have to use this function before calling eventRead() directly, since native methods can't be interrupted.
-                // eventRead() is blocking and prevents thread interrupt while running
-                while (!this.line.eventWait(inputMaxWaitNs)) {
-                    if (!this.inputListenerRun || this.inputListener == null || this.inputListener.isCancelled())
-                        return;
-                }
-
-                this.line.eventRead(lineEvent);
-                long currentTime = System.nanoTime();
-
-                // Perform debouncing
-                // If the event is too new to be sure that it is debounced then ...
-                while (lineEvent.getTimeNs() + debounceNs >= currentTime) {
-                    if (!this.inputListenerRun || this.inputListener == null || this.inputListener.isCancelled())
-                        return;
-
-                    // ... wait for remaining debounce time and watch out for new event(s)
-                    if (this.line.eventWait(
-                        Math.min(inputMaxWaitNs, lineEvent.getTimeNs() + debounceNs - currentTime))) {
-                        // Repeat if a second event occurred withing debounce interval
-                        this.line.eventRead(lineEvent);
-                    }
-
-                    currentTime = System.nanoTime();
-                }
-
-                // Apply event only if the new state is not the same as the last state.
-                DigitalState newState = DigitalState.getState(lineEvent.getType() == LineEvent.RISING_EDGE);
-                if (lastState != newState) {
-                    lastState = newState;
-                    this.dispatch(new DigitalStateChangeEvent<>(this, newState));
-                }
-            }
-        } finally {
-            if (lineEvent != null)
-                gpioDContext.closeLineEvent(lineEvent);
-            this.inputListenerActive = false;
+    private void onLineEvent(GpioLine line, LineEvent event) {
+        // Apply event only if the new state is not the same as the last state.
+        DigitalState newState = DigitalState.getState(event == LineEvent.RISING_EDGE);
+        if (this.lastState != newState) {
+            this.lastState = newState;
+            this.dispatch(new DigitalStateChangeEvent<>(this, newState));
         }
     }
 }
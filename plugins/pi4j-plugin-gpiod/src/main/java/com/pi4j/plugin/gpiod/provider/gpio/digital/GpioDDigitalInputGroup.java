@@ -0,0 +1,127 @@
+package com.pi4j.plugin.gpiod.provider.gpio.digital;
+
+import com.pi4j.io.IOType;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.library.gpiod.internal.GpioDException;
+import com.pi4j.library.gpiod.internal.GpioLineBulk;
+import com.pi4j.library.gpiod.internal.LineRequestFlag;
+import com.pi4j.registry.Registry;
+
+import java.util.Arrays;
+
+/**
+ * <p>A group of GPIO input lines sampled together with a single ioctl, so the value of a parallel bus is read
+ * consistently.</p>
+ *
+ * <p>Bit <code>i</code> of a read value holds the line at <code>addresses()[i]</code>. Create groups with
+ * {@link GpioDDigitalInputProvider#createGroup(String, PullResistance, int...)}; a group holds up to
+ * {@value GpioLineBulk#MAX_LINES} lines. The addresses of a group are claimed in the registry until it is closed,
+ * so they can neither be used by an IO instance nor by another group.</p>
+ */
+public class GpioDDigitalInputGroup implements AutoCloseable {
+
+    private final Registry registry;
+    private final String id;
+    private final int[] addresses;
+    private final GpioLineBulk bulk;
+    private final int[] values;
+    private boolean closed = false;
+
+    GpioDDigitalInputGroup(Registry registry, String id, PullResistance pull, int[] addresses) {
+        GpioDLineGroups.checkAddresses(addresses);
+        this.registry = registry;
+        this.id = id;
+        this.addresses = addresses.clone();
+        this.values = new int[addresses.length];
+
+        int flags;
+        switch (pull) {
+            case PULL_UP:
+                flags = LineRequestFlag.BIAS_PULL_UP.getVal();
+                break;
+            case PULL_DOWN:
+                flags = LineRequestFlag.BIAS_PULL_DOWN.getVal();
+                break;
+            default:
+                flags = LineRequestFlag.BIAS_DISABLE.getVal();
+                break;
+        }
+
+        // fails if an address is used by an IO instance or another group
+        registry.claim(id, IOType.DIGITAL_INPUT, 0, this.addresses);
+        try {
+            this.bulk = new GpioLineBulk(GpioDLineGroups.openLines(this.addresses));
+            this.bulk.requestInputFlags(id, flags);
+        } catch (RuntimeException e) {
+            // the lines are left unrequested, so they can be used once the claim is released
+            registry.release(id, IOType.DIGITAL_INPUT, 0, this.addresses);
+            throw e;
+        }
+    }
+
+    public String id() {
+        return this.id;
+    }
+
+    /**
+     * @return the line offsets, in bit order
+     */
+    public int[] addresses() {
+        return this.addresses.clone();
+    }
+
+    public int size() {
+        return this.addresses.length;
+    }
+
+    /**
+     * Read all lines with a single ioctl.
+     *
+     * @return the line values; bit <code>i</code> holds line <code>i</code>
+     */
+    public synchronized long read() {
+        if (this.closed)
+            throw new IllegalStateException("Input group " + this.id + " is closed");
+        try {
+            this.bulk.getValues(this.values);
+        } catch (GpioDException e) {
+            throw new IOException("Failed to read input group " + this.id, e);
+        }
+        return GpioDLineGroups.toBits(this.values);
+    }
+
+    /**
+     * Read all lines with a single ioctl.
+     *
+     * @return the state of each line, in line order
+     */
+    public DigitalState[] states() {
+        return GpioDLineGroups.toStates(read(), this.addresses.length);
+    }
+
+    public synchronized boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Release the lines and their addresses; the group cannot be read afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.closed)
+            return;
+        this.closed = true;
+        try {
+            this.bulk.release();
+        } finally {
+            this.registry.release(this.id, IOType.DIGITAL_INPUT, 0, this.addresses);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GpioDDigitalInputGroup{id=" + this.id + ", addresses=" + Arrays.toString(this.addresses) + "}";
+    }
+}
@@ -1,6 +1,7 @@
 package com.pi4j.plugin.gpiod.provider.gpio.digital;
 
 import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.io.gpio.digital.PullResistance;
 import com.pi4j.plugin.gpiod.GpioDPlugin;
 
 /**
@@ -23,4 +24,16 @@ public interface GpioDDigitalInputProvider extends DigitalInputProvider  {
     static GpioDDigitalInputProvider newInstance() {
         return new GpioDDigitalInputProviderImpl();
     }
+
+    /**
+     * <p>Request a group of input lines that are read together with a single ioctl.</p>
+     *
+     * @param id        consumer name of the lines
+     * @param pull      bias applied to every line
+     * @param addresses line offsets; bit <code>i</code> of a read value holds <code>addresses[i]</code>
+     * @return a {@link GpioDDigitalInputGroup}; released on provider shutdown
+     * @throws IllegalArgumentException unless there are 1 to 64 distinct addresses
+     * @throws com.pi4j.io.exception.IOAlreadyExistsException if an address is already in use
+     */
+    GpioDDigitalInputGroup createGroup(String id, PullResistance pull, int... addresses);
 }
@@ -9,11 +9,19 @@ import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.PullResistance;
 import com.pi4j.library.gpiod.internal.GpioDContext;
+import com.pi4j.library.gpiod.internal.GpioDException;
 import com.pi4j.library.gpiod.internal.GpioLine;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class GpioDDigitalInputProviderImpl extends DigitalInputProviderBase implements GpioDDigitalInputProvider {
 
+    private final List<GpioDDigitalInputGroup> groups = new ArrayList<>();
+
     /**
      * <p>Constructor for GpioDDigitalInputProviderImpl.</p>
      */
@@ -34,6 +42,22 @@ public class GpioDDigitalInputProviderImpl extends DigitalInputProviderBase impl
         return digitalInput;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized GpioDDigitalInputGroup createGroup(String id, PullResistance pull, int... addresses) {
+        try {
+            GpioDDigitalInputGroup group = new GpioDDigitalInputGroup(this.context.registry(), id, pull, addresses);
+            // drop the groups closed by their users
+            this.groups.removeIf(GpioDDigitalInputGroup::isClosed);
+            this.groups.add(group);
+            return group;
+        } catch (GpioDException e) {
+            throw new IOException("Failed to request input group " + id, e);
+        }
+    }
+
     @Override
     public int getPriority() {
         // the gpioD driver should be higher priority always
@@ -52,6 +76,11 @@ public class GpioDDigitalInputProviderImpl extends DigitalInputProviderBase impl
 
     @Override
     public DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        synchronized (this) {
+            for (GpioDDigitalInputGroup group : this.groups)
+                group.close();
+            this.groups.clear();
+        }
         GpioDContext.getInstance().close();
         return super.shutdown(context);
     }
@@ -0,0 +1,145 @@
+package com.pi4j.plugin.gpiod.provider.gpio.digital;
+
+import com.pi4j.io.IOType;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.library.gpiod.internal.GpioDException;
+import com.pi4j.library.gpiod.internal.GpioLineBulk;
+import com.pi4j.registry.Registry;
+
+import java.util.Arrays;
+
+/**
+ * <p>A group of GPIO output lines written together with a single ioctl, so every line of a parallel bus (e.g.
+ * the data lines of an LCD or LED matrix) changes at the same time.</p>
+ *
+ * <p>Bit <code>i</code> of a written value drives the line at <code>addresses()[i]</code>. Create groups with
+ * {@link GpioDDigitalOutputProvider#createGroup(String, int...)}; a group holds up to
+ * {@value GpioLineBulk#MAX_LINES} lines. The addresses of a group are claimed in the registry until it is closed,
+ * so they can neither be used by an IO instance nor by another group.</p>
+ */
+public class GpioDDigitalOutputGroup implements AutoCloseable {
+
+    private final Registry registry;
+    private final String id;
+    private final int[] addresses;
+    private final GpioLineBulk bulk;
+    private final int[] values;
+    private long state;
+    private boolean closed = false;
+
+    GpioDDigitalOutputGroup(Registry registry, String id, int[] addresses, long initialState) {
+        GpioDLineGroups.checkAddresses(addresses);
+        this.registry = registry;
+        this.id = id;
+        this.addresses = addresses.clone();
+        this.values = new int[addresses.length];
+
+        // fails if an address is used by an IO instance or another group
+        registry.claim(id, IOType.DIGITAL_OUTPUT, 0, this.addresses);
+        try {
+            this.bulk = new GpioLineBulk(GpioDLineGroups.openLines(this.addresses));
+            GpioDLineGroups.toValues(initialState, this.values);
+            this.bulk.requestOutputFlags(id, 0, this.values);
+        } catch (RuntimeException e) {
+            // the lines are left unrequested, so they can be used once the claim is released
+            registry.release(id, IOType.DIGITAL_OUTPUT, 0, this.addresses);
+            throw e;
+        }
+        this.state = initialState;
+    }
+
+    public String id() {
+        return this.id;
+    }
+
+    /**
+     * @return the line offsets, in bit order
+     */
+    public int[] addresses() {
+        return this.addresses.clone();
+    }
+
+    public int size() {
+        return this.addresses.length;
+    }
+
+    /**
+     * Set all lines at once; bit <code>i</code> drives line <code>i</code>.
+     *
+     * @param bits the new line values
+     * @return this group
+     */
+    public synchronized GpioDDigitalOutputGroup write(long bits) {
+        checkOpen();
+        GpioDLineGroups.toValues(bits, this.values);
+        try {
+            this.bulk.setValues(this.values);
+        } catch (GpioDException e) {
+            throw new IOException("Failed to set state for output group " + this.id + " to " + Long.toBinaryString(bits), e);
+        }
+        this.state = bits;
+        return this;
+    }
+
+    /**
+     * Set all lines at once.
+     *
+     * @param states the new state of each line, in line order
+     * @return this group
+     */
+    public GpioDDigitalOutputGroup write(DigitalState... states) {
+        return write(GpioDLineGroups.toBits(states, this.addresses.length));
+    }
+
+    /**
+     * @return the last written value
+     */
+    public synchronized long state() {
+        return this.state;
+    }
+
+    /**
+     * Read back all lines with a single ioctl.
+     *
+     * @return the line values; bit <code>i</code> holds line <code>i</code>
+     */
+    public synchronized long read() {
+        checkOpen();
+        try {
+            this.bulk.getValues(this.values);
+        } catch (GpioDException e) {
+            throw new IOException("Failed to read output group " + this.id, e);
+        }
+        return GpioDLineGroups.toBits(this.values);
+    }
+
+    public synchronized boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Release the lines and their addresses; the group cannot be written or read afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.closed)
+            return;
+        this.closed = true;
+        try {
+            this.bulk.release();
+        } finally {
+            this.registry.release(this.id, IOType.DIGITAL_OUTPUT, 0, this.addresses);
+        }
+    }
+
+    private void checkOpen() {
+        if (this.closed)
+            throw new IllegalStateException("Output group " + this.id + " is closed");
+    }
+
+    @Override
+    public String toString() {
+        return "GpioDDigitalOutputGroup{id=" + this.id + ", addresses=" + Arrays.toString(this.addresses) + "}";
+    }
+}
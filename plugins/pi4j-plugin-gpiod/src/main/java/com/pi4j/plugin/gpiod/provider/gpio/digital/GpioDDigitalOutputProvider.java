@@ -50,4 +50,15 @@ public interface GpioDDigitalOutputProvider extends DigitalOutputProvider {
     static GpioDDigitalOutputProvider newInstance() {
         return new GpioDDigitalOutputProviderImpl();
     }
+
+    /**
+     * <p>Request a group of output lines that are written together with a single ioctl.</p>
+     *
+     * @param id        consumer name of the lines
+     * @param addresses line offsets; bit <code>i</code> of a written value drives <code>addresses[i]</code>
+     * @return a {@link GpioDDigitalOutputGroup} with all lines low; released on provider shutdown
+     * @throws IllegalArgumentException unless there are 1 to 64 distinct addresses
+     * @throws com.pi4j.io.exception.IOAlreadyExistsException if an address is already in use
+     */
+    GpioDDigitalOutputGroup createGroup(String id, int... addresses);
 }
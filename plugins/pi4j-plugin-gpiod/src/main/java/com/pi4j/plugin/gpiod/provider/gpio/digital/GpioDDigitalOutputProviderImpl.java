@@ -35,9 +35,15 @@ import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProvider;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.io.exception.IOException;
 import com.pi4j.library.gpiod.internal.GpioDContext;
+import com.pi4j.library.gpiod.internal.GpioDException;
 import com.pi4j.library.gpiod.internal.GpioLine;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>PiGpioDigitalOutputProviderImpl class.</p>
  *
@@ -46,6 +52,8 @@ import com.pi4j.library.gpiod.internal.GpioLine;
  */
 public class GpioDDigitalOutputProviderImpl extends DigitalOutputProviderBase implements GpioDDigitalOutputProvider {
 
+    private final List<GpioDDigitalOutputGroup> groups = new ArrayList<>();
+
     /**
      * <p>Constructor for PiGpioDigitalOutputProviderImpl.</p>
      */
@@ -54,6 +62,16 @@ public class GpioDDigitalOutputProviderImpl extends DigitalOutputProviderBase im
         this.name = NAME;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A line value is set with a single ioctl on the line handle.
+     */
+    @Override
+    public long minimumIntervalNanos() {
+        return TimeUnit.MICROSECONDS.toNanos(10);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -66,6 +84,22 @@ public class GpioDDigitalOutputProviderImpl extends DigitalOutputProviderBase im
         return digitalOutput;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized GpioDDigitalOutputGroup createGroup(String id, int... addresses) {
+        try {
+            GpioDDigitalOutputGroup group = new GpioDDigitalOutputGroup(this.context.registry(), id, addresses, 0);
+            // drop the groups closed by their users
+            this.groups.removeIf(GpioDDigitalOutputGroup::isClosed);
+            this.groups.add(group);
+            return group;
+        } catch (GpioDException e) {
+            throw new IOException("Failed to request output group " + id, e);
+        }
+    }
+
     @Override
     public int getPriority() {
         // the gpioD driver should be higher priority always
@@ -81,6 +115,11 @@ public class GpioDDigitalOutputProviderImpl extends DigitalOutputProviderBase im
 
     @Override
     public DigitalOutputProvider shutdown(Context context) throws ShutdownException {
+        synchronized (this) {
+            for (GpioDDigitalOutputGroup group : this.groups)
+                group.close();
+            this.groups.clear();
+        }
         GpioDContext.getInstance().close();
         return super.shutdown(context);
     }
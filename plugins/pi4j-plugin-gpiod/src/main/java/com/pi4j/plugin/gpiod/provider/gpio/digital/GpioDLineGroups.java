@@ -0,0 +1,83 @@
+package com.pi4j.plugin.gpiod.provider.gpio.digital;
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.library.gpiod.internal.GpioDContext;
+import com.pi4j.library.gpiod.internal.GpioLine;
+import com.pi4j.library.gpiod.internal.GpioLineBulk;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>Address validation, line lookup and bit packing shared by {@link GpioDDigitalOutputGroup} and
+ * {@link GpioDDigitalInputGroup}; bit <code>i</code> of a group value always maps to line <code>i</code>.</p>
+ */
+final class GpioDLineGroups {
+
+    private GpioDLineGroups() {
+    }
+
+    /**
+     * @param addresses line offsets of a group
+     * @throws IllegalArgumentException unless there are 1 to {@value GpioLineBulk#MAX_LINES} distinct addresses
+     */
+    static void checkAddresses(int[] addresses) {
+        if (addresses == null || addresses.length < 1 || addresses.length > GpioLineBulk.MAX_LINES)
+            throw new IllegalArgumentException("A group holds 1 to " + GpioLineBulk.MAX_LINES + " lines, got "
+                + (addresses == null ? 0 : addresses.length));
+        Set<Integer> seen = new HashSet<>();
+        for (int address : addresses) {
+            if (!seen.add(address))
+                throw new IllegalArgumentException("Address " + address + " is listed more than once");
+        }
+    }
+
+    /**
+     * Open the lines of a group. The caller must have claimed the addresses in the registry, so a line that is
+     * still requested is left over from an IO instance that was shut down and is released.
+     */
+    static GpioLine[] openLines(int[] addresses) {
+        GpioLine[] lines = new GpioLine[addresses.length];
+        for (int i = 0; i < addresses.length; i++) {
+            lines[i] = GpioDContext.getInstance().getOrOpenLine(addresses[i]);
+            if (lines[i].isRequested())
+                GpioDContext.getInstance().closeLine(lines[i]);
+        }
+        return lines;
+    }
+
+    static long toBits(int[] values) {
+        long bits = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != 0)
+                bits |= 1L << i;
+        }
+        return bits;
+    }
+
+    static void toValues(long bits, int[] values) {
+        for (int i = 0; i < values.length; i++)
+            values[i] = (int) ((bits >>> i) & 1);
+    }
+
+    /**
+     * @throws IllegalArgumentException unless there is exactly one state per line
+     */
+    static long toBits(DigitalState[] states, int size) {
+        if (states.length != size)
+            throw new IllegalArgumentException("Expected " + size + " states, got " + states.length);
+        long bits = 0;
+        for (int i = 0; i < states.length; i++) {
+            if (states[i].isHigh())
+                bits |= 1L << i;
+        }
+        return bits;
+    }
+
+    static DigitalState[] toStates(long bits, int size) {
+        DigitalState[] states = new DigitalState[size];
+        for (int i = 0; i < size; i++)
+            states[i] = DigitalState.getState(((bits >>> i) & 1) != 0);
+        return states;
+    }
+}
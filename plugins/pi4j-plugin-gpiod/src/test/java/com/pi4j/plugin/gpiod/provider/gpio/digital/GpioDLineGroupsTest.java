@@ -0,0 +1,59 @@
+package com.pi4j.plugin.gpiod.provider.gpio.digital;
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Address validation and bit mapping of the GpioD line groups.
+ */
+class GpioDLineGroupsTest {
+
+    @Test
+    void testAddresses() {
+        assertThrows(IllegalArgumentException.class, () -> GpioDLineGroups.checkAddresses(null));
+        assertThrows(IllegalArgumentException.class, () -> GpioDLineGroups.checkAddresses(new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> GpioDLineGroups.checkAddresses(new int[65]));
+        assertThrows(IllegalArgumentException.class, () -> GpioDLineGroups.checkAddresses(new int[] { 4, 5, 4 }));
+
+        GpioDLineGroups.checkAddresses(new int[] { 4 });
+        int[] addresses = new int[64];
+        for (int i = 0; i < addresses.length; i++)
+            addresses[i] = i;
+        GpioDLineGroups.checkAddresses(addresses);
+    }
+
+    @Test
+    void testValues() {
+        int[] values = new int[4];
+        GpioDLineGroups.toValues(0b1010L, values);
+        assertArrayEquals(new int[] { 0, 1, 0, 1 }, values);
+        assertEquals(0b1010L, GpioDLineGroups.toBits(values));
+
+        // bits beyond the group are ignored; any non-zero line value is high
+        GpioDLineGroups.toValues(0xF1L, values);
+        assertArrayEquals(new int[] { 1, 0, 0, 0 }, values);
+        assertEquals(0b0101L, GpioDLineGroups.toBits(new int[] { 1, 0, 7, 0 }));
+
+        // bit 63 maps to the last of 64 lines
+        int[] wide = new int[64];
+        GpioDLineGroups.toValues(Long.MIN_VALUE, wide);
+        assertEquals(1, wide[63]);
+        assertEquals(Long.MIN_VALUE, GpioDLineGroups.toBits(wide));
+    }
+
+    @Test
+    void testStates() {
+        assertEquals(0b110L, GpioDLineGroups.toBits(
+            new DigitalState[] { DigitalState.LOW, DigitalState.HIGH, DigitalState.HIGH }, 3));
+        assertArrayEquals(new DigitalState[] { DigitalState.LOW, DigitalState.HIGH, DigitalState.HIGH },
+            GpioDLineGroups.toStates(0b110L, 3));
+
+        // exactly one state per line
+        assertThrows(IllegalArgumentException.class,
+            () -> GpioDLineGroups.toBits(new DigitalState[] { DigitalState.HIGH }, 2));
+        assertThrows(IllegalArgumentException.class,
+            () -> GpioDLineGroups.toBits(new DigitalState[] { DigitalState.HIGH, DigitalState.LOW, DigitalState.LOW }, 2));
+    }
+}
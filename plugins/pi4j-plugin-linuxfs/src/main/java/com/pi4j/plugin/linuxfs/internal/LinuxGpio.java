@@ -30,12 +30,24 @@ package com.pi4j.plugin.linuxfs.internal;
 import com.pi4j.io.gpio.digital.DigitalState;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * <p>LinuxGpio class.</p>
  *
+ * <p>The <code>value</code> and <code>direction</code> attributes are accessed through file channels that are
+ * opened on first use and kept open until {@link #close()} or {@link #unexport()}; reads are positional
+ * (<code>pread</code> at offset zero) into a reusable buffer and writes are a single positional write, so a
+ * state change costs one system call.  An attribute that this user may only read is opened read-only; writing
+ * it fails with an {@link java.nio.file.AccessDeniedException}.</p>
+ *
  * @see "https://www.kernel.org/doc/Documentation/gpio/sysfs.txt"
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
@@ -49,6 +61,15 @@ public class LinuxGpio {
     protected final int address;
     protected final String pinPath;
 
+    private static final byte[] HIGH = { '1' };
+    private static final byte[] LOW = { '0' };
+
+    private final Attribute value;
+    private final Attribute direction;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(16);
+    private final ByteBuffer highBuffer = ByteBuffer.wrap(HIGH);
+    private final ByteBuffer lowBuffer = ByteBuffer.wrap(LOW);
+
     public enum Direction{
         IN,
         OUT,
@@ -73,6 +94,8 @@ public class LinuxGpio {
         this.address = address;
         this.systemPath = systemPath;
         this.pinPath = Paths.get(systemPath, String.format("gpio%d", address)).toString();
+        this.value = new Attribute(Paths.get(pinPath, "value"));
+        this.direction = new Attribute(Paths.get(pinPath, "direction"));
     }
 
     /**
@@ -100,6 +123,7 @@ public class LinuxGpio {
      * @throws java.io.IOException if any.
      */
     public void unexport() throws IOException {
+        close();
         var path = Paths.get(systemPath, "unexport");
         Files.writeString(path, Integer.toString(address));
     }
@@ -139,9 +163,16 @@ public class LinuxGpio {
      * @param direction a {@link LinuxGpio.Direction} object.
      * @throws java.io.IOException if any.
      */
-    public void setDirection(Direction direction) throws IOException {
-        var path = Paths.get(pinPath, "direction");
-        Files.writeString(path, direction.name().toLowerCase());
+    public synchronized void setDirection(Direction direction) throws IOException {
+        var value = ByteBuffer.wrap(direction.name().toLowerCase().getBytes(StandardCharsets.US_ASCII));
+        try {
+            this.direction.channel(true).write(value, 0);
+        } catch (IOException e) {
+            // the pin may have been re-exported behind our back; retry once on a fresh channel
+            this.direction.close();
+            value.rewind();
+            this.direction.channel(true).write(value, 0);
+        }
     }
 
     /**
@@ -159,13 +190,17 @@ public class LinuxGpio {
      * @return a {@link LinuxGpio.Direction} object.
      * @throws java.io.IOException if any.
      */
-    public Direction getDirection() throws IOException {
-        var path = Paths.get(pinPath, "direction");
-        switch(Files.readString(path).trim().toLowerCase()){
-            case "in": return Direction.IN;
-            case "out": return Direction.OUT;
-            default: return Direction.UNKNOWN;
+    public synchronized Direction getDirection() throws IOException {
+        int length;
+        try {
+            length = read(direction.channel(false));
+        } catch (IOException e) {
+            direction.close();
+            length = read(direction.channel(false));
         }
+        if (length >= 2 && readBuffer.get(0) == 'i' && readBuffer.get(1) == 'n') return Direction.IN;
+        if (length >= 3 && readBuffer.get(0) == 'o' && readBuffer.get(1) == 'u' && readBuffer.get(2) == 't') return Direction.OUT;
+        return Direction.UNKNOWN;
     }
 
     /**
@@ -183,9 +218,17 @@ public class LinuxGpio {
      * @param state a {@link com.pi4j.io.gpio.digital.DigitalState} object.
      * @throws java.io.IOException if any.
      */
-    public void setState(DigitalState state) throws IOException {
-        var path = Paths.get(pinPath,"value");
-        Files.writeString(path, (state.isHigh() ? "1" : "0"));
+    public synchronized void setState(DigitalState state) throws IOException {
+        ByteBuffer value = state.isHigh() ? highBuffer : lowBuffer;
+        value.rewind();
+        try {
+            this.value.channel(true).write(value, 0);
+        } catch (IOException e) {
+            // the pin may have been re-exported behind our back; retry once on a fresh channel
+            this.value.close();
+            value.rewind();
+            this.value.channel(true).write(value, 0);
+        }
     }
 
     /**
@@ -203,9 +246,20 @@ public class LinuxGpio {
      * @return a {@link com.pi4j.io.gpio.digital.DigitalState} object.
      * @throws java.io.IOException if any.
      */
-    public DigitalState getState() throws IOException {
-        var path = Paths.get(pinPath,"value");
-        return DigitalState.parse(Files.readString(path).trim());
+    public synchronized DigitalState getState() throws IOException {
+        int length;
+        try {
+            length = read(value.channel(false));
+        } catch (IOException e) {
+            value.close();
+            length = read(value.channel(false));
+        }
+        if (length < 1) return DigitalState.UNKNOWN;
+        switch (readBuffer.get(0)) {
+            case '1': return DigitalState.HIGH;
+            case '0': return DigitalState.LOW;
+            default: return DigitalState.UNKNOWN;
+        }
     }
 
     /**
@@ -296,6 +350,63 @@ public class LinuxGpio {
         return Files.readString(path).trim().equalsIgnoreCase("1");
     }
 
+    /**
+     * Close the cached <code>value</code> and <code>direction</code> channels; they are reopened on next use.
+     */
+    public synchronized void close() {
+        value.close();
+        direction.close();
+    }
+
+    private int read(FileChannel channel) throws IOException {
+        readBuffer.clear();
+        int length = channel.read(readBuffer, 0);
+        return Math.max(length, 0);
+    }
+
+    /**
+     * A sysfs attribute file kept open between accesses, together with whether it was opened for writing.
+     */
+    private static final class Attribute {
+        private final Path path;
+        private FileChannel channel;
+        private boolean writable;
+
+        private Attribute(Path path) {
+            this.path = path;
+        }
+
+        /**
+         * Get the open channel, (re)opening it when it is closed or when a write needs a channel that was
+         * opened read-only; a write to an attribute this user may only read fails with AccessDeniedException.
+         */
+        private FileChannel channel(boolean write) throws IOException {
+            if (channel != null && channel.isOpen() && (writable || !write))
+                return channel;
+            close();
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                writable = true;
+            } catch (AccessDeniedException e) {
+                if (write) throw e;
+                // e.g. the value attribute of an input pin that is only readable by this user
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+                writable = false;
+            }
+            return channel;
+        }
+
+        private void close() {
+            if (channel == null) return;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // nothing useful to do; the channel is discarded either way
+            }
+            channel = null;
+        }
+    }
+
     /**
      * Get Linux File System path for GPIO
      * @return Linux File System path for GPIO
@@ -36,12 +36,23 @@ import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.pi4j.library.linuxfs.LinuxEventLoop;
+import com.pi4j.library.linuxfs.LinuxFile;
+import com.pi4j.library.linuxfs.LinuxWakeup;
+
+import java.nio.ByteBuffer;
 import java.nio.file.*;
 import java.util.concurrent.Future;
 
 /**
  * <p>LinuxFsDigitalInput class.</p>
  *
+ * <p>An input with interrupt support is watched by an event loop shared with other inputs of the provider.
+ * State changes are handed to the input's {@link com.pi4j.event.EventDispatcher}; with the default synchronous
+ * dispatcher the listeners run on the shared loop thread, so a slow listener delays the edges of every input on
+ * that loop. Set an asynchronous dispatcher on the context or with {@link #eventDispatcher(com.pi4j.event.EventDispatcher)} to keep slow
+ * listeners off the loop.</p>
+ *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
@@ -51,6 +62,30 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
     private Logger logger = LoggerFactory.getLogger(this.getClass());
     protected DigitalState state = DigitalState.UNKNOWN;
     private Future<?> inputListener;
+    private final LinuxEventLoop eventLoop;
+    private LinuxFile valueFile;
+    private final ByteBuffer valueBuffer = ByteBuffer.allocateDirect(8);
+
+    // ends the wait of the monitor thread on shutdown; created and closed by the monitor thread
+    private final Object monitorLock = new Object();
+    private LinuxWakeup wakeup;
+    private volatile boolean stopping = false;
+
+    /**
+     * How often the monitor samples the value of a pin without interrupt support; a pin with interrupt support
+     * is not woken up until it changes or shuts down.
+     */
+    protected static final int SAMPLE_INTERVAL_MILLIS = 100;
+
+    /**
+     * Delay before the monitor reopens the value file after polling it failed.
+     */
+    protected static final int RETRY_DELAY_MILLIS = 1000;
+
+    /**
+     * Consecutive polling failures after which the monitor falls back to watching the pin directory.
+     */
+    protected static final int MAX_POLL_FAILURES = 3;
 
     /**
      * <p>Constructor for LinuxFsDigitalInput.</p>
@@ -60,8 +95,22 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
      * @param config a {@link com.pi4j.io.gpio.digital.DigitalInputConfig} object.
      */
     public LinuxFsDigitalInput(LinuxGpio gpio, DigitalInputProvider provider, DigitalInputConfig config){
+        this(gpio, null, provider, config);
+    }
+
+    /**
+     * <p>Constructor for LinuxFsDigitalInput.</p>
+     *
+     * @param gpio a {@link LinuxGpio} linux file system GPIO object.
+     * @param eventLoop a shared {@link LinuxEventLoop} to watch the GPIO value with, or null to use a
+     *                  dedicated monitor thread.
+     * @param provider a {@link com.pi4j.io.gpio.digital.DigitalInputProvider} object.
+     * @param config a {@link com.pi4j.io.gpio.digital.DigitalInputConfig} object.
+     */
+    public LinuxFsDigitalInput(LinuxGpio gpio, LinuxEventLoop eventLoop, DigitalInputProvider provider, DigitalInputConfig config){
         super(provider, config);
         this.gpio = gpio;
+        this.eventLoop = eventLoop;
     }
 
     @Override
@@ -120,50 +169,206 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
         // [INITIALIZE] perform any further initialization on GPIO  via superclass impl
         super.initialize(context);
 
-        // [MONITOR] start background monitoring thread for GPIO state changes
+        // [MONITOR] register with the shared event loop when the pin raises interrupts
+        if (this.eventLoop != null) {
+            try {
+                if (gpio.isInterruptSupported()) {
+                    registerValue();
+                    return this;
+                }
+            } catch (java.io.IOException e) {
+                logger.warn("Unable to register GPIO [" + config.address() + "] with event loop; " + e.getMessage());
+                closeValue();
+            }
+        }
+
+        // [MONITOR] otherwise start background monitoring thread for GPIO state changes
         logger.trace("start monitoring thread for GPIO [" + this.config.address() + "]; " + gpio.getPinPath());
         Runnable monitorTask = () -> {
-			try {
-				// create file system watcher
-				logger.trace("monitoring thread watching GPIO [" + LinuxFsDigitalInput.this.config.address() + "]; " + gpio.getPinPath());
-				WatchService watchService = FileSystems.getDefault().newWatchService();
-				WatchKey key;
-
-				// create GPIO path to monitor
-				Path path = Paths.get(gpio.getPinPath());
-
-				// only watch for modified files in this path
-				path.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY);
-
-				// dispatch value change event
-				while ((key = watchService.take()) != null) {
-					for (WatchEvent<?> event : key.pollEvents()) {
-						if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
-							if (event.context().toString().equalsIgnoreCase("value")) {
-								// filter out any redundant event notifications for same state
-								DigitalState newState = LinuxFsDigitalInput.this.gpio.state();
-								if (newState != LinuxFsDigitalInput.this.state) {
-									LinuxFsDigitalInput.this.state = newState;
-									LinuxFsDigitalInput.this.dispatch(
-										new DigitalStateChangeEvent(LinuxFsDigitalInput.this, newState));
-								}
-							}
-						}
-					}
-					key.reset();
-				}
-			} catch (java.io.IOException e) {
-				logger.error(e.getMessage(), e);
-			} catch (InterruptedException e) {
-				// thread interrupted; likely exiting on shutdown
-			}
-		};
+            try {
+                if (pollValue()) return;
+                logger.warn("polling GPIO [" + this.config.address() + "] keeps failing, falling back to file watching");
+            } catch (UnsatisfiedLinkError | NoClassDefFoundError e) {
+                // the native LinuxFS library is unavailable; fall back to watching the pin directory
+                logger.warn("native poll unavailable for GPIO [" + this.config.address() + "], falling back to file watching; " + e.getMessage());
+            }
+            watchValue();
+        };
         this.inputListener = context.submitTask(monitorTask);
 
         // return this I/O instance
         return this;
     }
 
+    private void registerValue() throws java.io.IOException {
+        logger.trace("registering GPIO [" + this.config.address() + "] with event loop; " + gpio.getPinPath());
+        this.valueFile = new LinuxFile(Paths.get(gpio.getPinPath(), "value").toString(), "r");
+        // the initial read arms the notification; edge-triggered so an unread change cannot spin the loop
+        readValue();
+        this.eventLoop.register(this.valueFile, LinuxEventLoop.EPOLLPRI | LinuxEventLoop.EPOLLERR | LinuxEventLoop.EPOLLET,
+            events -> {
+                try {
+                    readValue();
+                } catch (java.io.IOException e) {
+                    logger.error(e.getMessage(), e);
+                }
+            });
+        // catch a change between the initial read and the registration
+        readValue();
+    }
+
+    // runs on the event loop thread, and on the initializing thread during registration
+    private synchronized void readValue() throws java.io.IOException {
+        // the input may be shutting down while the loop still delivers an event for it
+        if (this.valueFile == null) return;
+        readValue(this.valueFile, valueBuffer);
+    }
+
+    private void readValue(LinuxFile file, ByteBuffer buffer) throws java.io.IOException {
+        buffer.clear();
+        if (file.pread(buffer, 0) > 0) {
+            switch (buffer.get(0)) {
+                case '1': update(DigitalState.HIGH); break;
+                case '0': update(DigitalState.LOW); break;
+                default: break;
+            }
+        }
+    }
+
+    private synchronized void closeValue() {
+        if (this.valueFile == null) return;
+        try {
+            this.eventLoop.unregister(this.valueFile);
+        } catch (java.io.IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+        try {
+            this.valueFile.close();
+        } catch (java.io.IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+        this.valueFile = null;
+    }
+
+    /**
+     * Wait for edges with poll(2) on the <code>value</code> attribute, as the sysfs GPIO interface intends: the
+     * kernel raises POLLPRI|POLLERR when the configured interrupt edge occurs, and the value is then re-read
+     * with pread(2) into a direct buffer, which also re-arms the notification. Pins without interrupt support
+     * are sampled every {@link #SAMPLE_INTERVAL_MILLIS} instead. Shutdown ends the wait through a
+     * {@link LinuxWakeup}. When polling fails, the value file is reopened after {@link #RETRY_DELAY_MILLIS}.
+     *
+     * @return true when the monitor stopped on shutdown, false when it gave up after
+     *     {@link #MAX_POLL_FAILURES} consecutive failures
+     */
+    private boolean pollValue() {
+        logger.trace("monitoring thread polling GPIO [" + this.config.address() + "]; " + gpio.getPinPath());
+        LinuxWakeup wakeup;
+        int timeout;
+        try {
+            wakeup = openWakeup();
+            if (wakeup == null) return true;
+            timeout = gpio.isInterruptSupported() ? -1 : SAMPLE_INTERVAL_MILLIS;
+        } catch (java.io.IOException e) {
+            logger.error(e.getMessage(), e);
+            closeWakeup();
+            return false;
+        }
+
+        var buffer = ByteBuffer.allocateDirect(8);
+        int failures = 0;
+        try {
+            while (!isStopping()) {
+                try (var value = new LinuxFile(Paths.get(gpio.getPinPath(), "value").toString(), "r")) {
+                    // the initial read arms the notification
+                    readValue(value, buffer);
+                    while (!isStopping()) {
+                        value.poll(LinuxFile.POLLPRI | LinuxFile.POLLERR, timeout, wakeup);
+                        if (isStopping()) break;
+                        readValue(value, buffer);
+                        failures = 0;
+                    }
+                } catch (java.io.IOException e) {
+                    if (++failures >= MAX_POLL_FAILURES) {
+                        logger.error(e.getMessage(), e);
+                        return false;
+                    }
+                    logger.warn("polling GPIO [" + this.config.address() + "] failed, retrying; " + e.getMessage());
+                    try {
+                        Thread.sleep(RETRY_DELAY_MILLIS);
+                    } catch (InterruptedException ie) {
+                        // thread interrupted; exiting on shutdown
+                        return true;
+                    }
+                }
+            }
+            return true;
+        } finally {
+            closeWakeup();
+        }
+    }
+
+    private LinuxWakeup openWakeup() throws java.io.IOException {
+        synchronized (monitorLock) {
+            if (stopping) return null;
+            this.wakeup = new LinuxWakeup();
+            return this.wakeup;
+        }
+    }
+
+    private void closeWakeup() {
+        synchronized (monitorLock) {
+            if (this.wakeup != null) this.wakeup.close();
+            this.wakeup = null;
+        }
+    }
+
+    private boolean isStopping() {
+        return stopping || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Fallback monitor watching the pin directory for modifications; sysfs raises no inotify events for
+     * hardware changes, so this only notices changes made through the file system.
+     */
+    private void watchValue() {
+        try {
+            // create file system watcher
+            logger.trace("monitoring thread watching GPIO [" + this.config.address() + "]; " + gpio.getPinPath());
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            WatchKey key;
+
+            // create GPIO path to monitor
+            Path path = Paths.get(gpio.getPinPath());
+
+            // only watch for modified files in this path
+            path.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY);
+
+            // dispatch value change event
+            while ((key = watchService.take()) != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
+                        if (event.context().toString().equalsIgnoreCase("value")) {
+                            update(this.gpio.state());
+                        }
+                    }
+                }
+                key.reset();
+            }
+        } catch (java.io.IOException e) {
+            logger.error(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            // thread interrupted; likely exiting on shutdown
+        }
+    }
+
+    private void update(DigitalState newState) {
+        // filter out any redundant event notifications for same state
+        if (newState != this.state) {
+            this.state = newState;
+            this.dispatch(new DigitalStateChangeEvent(this, newState));
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public DigitalInput shutdown(Context context) throws ShutdownException {
@@ -171,10 +376,15 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
 
         // this line will execute immediately, not waiting for your task to complete
         logger.trace("shutdown monitoring thread for GPIO [" + this.config.address() + "]; " + gpio.getPinPath());
+        synchronized (monitorLock) {
+            this.stopping = true;
+            if (this.wakeup != null) this.wakeup.signal();
+        }
         if (this.inputListener != null) {
             if (!this.inputListener.cancel(true))
                 logger.error("Failed to cancel input listener!");
         }
+        closeValue();
 
         // perform any shutdown cleanup via superclass
         super.shutdown(context);
@@ -29,9 +29,13 @@ package com.pi4j.plugin.linuxfs.provider.gpio.digital;
 
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.library.linuxfs.LinuxEventLoop;
 import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
 
 /**
@@ -42,8 +46,18 @@ import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
  */
 public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase implements LinuxFsDigitalInputProvider {
 
+    /**
+     * Context property with the number of epoll event-loop threads shared by all inputs of this provider;
+     * defaults to one. Inputs using the synchronous event dispatcher notify their listeners on these threads.
+     */
+    public static final String EVENT_THREADS_PROPERTY = "linux.gpio.event.threads";
+
     final String gpioFileSystemPath;
 
+    private LinuxEventLoop[] eventLoops;
+    private int nextEventLoop = 0;
+    private boolean eventLoopsUnavailable = false;
+
     /**
      * <p>Constructor for LinuxFsDigitalInputProviderImpl.</p>
      */
@@ -66,8 +80,51 @@ public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase im
     public DigitalInput create(DigitalInputConfig config) {
         // create filesystem based GPIO instance using instance address (GPIO NUMBER)
         LinuxGpio gpio = new LinuxGpio(this.gpioFileSystemPath, config.address());
-        LinuxFsDigitalInput digitalInput = new LinuxFsDigitalInput(gpio, this, config);
+        LinuxFsDigitalInput digitalInput = new LinuxFsDigitalInput(gpio, eventLoop(), this, config);
         this.context.registry().add(digitalInput);
         return digitalInput;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        // shut down the inputs first; they unregister from the event loops
+        super.shutdown(context);
+        synchronized (this) {
+            if (eventLoops != null) {
+                for (LinuxEventLoop eventLoop : eventLoops)
+                    eventLoop.close();
+                eventLoops = null;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Get the event loop for the next input; inputs are spread round-robin over the configured number of
+     * loops, which are started on first use.
+     *
+     * @return an event loop, or null if the native LinuxFS library is unavailable
+     */
+    protected synchronized LinuxEventLoop eventLoop() {
+        if (eventLoopsUnavailable)
+            return null;
+        if (eventLoops == null) {
+            int threads = Math.max(1, this.context.properties().getInteger(EVENT_THREADS_PROPERTY, 1));
+            var loops = new LinuxEventLoop[threads];
+            try {
+                for (int i = 0; i < threads; i++)
+                    loops[i] = new LinuxEventLoop("Pi4J.LINUXFS-EVENTS-" + i);
+            } catch (java.io.IOException | LinkageError e) {
+                logger.warn("LinuxFS event loop unavailable; each input will use its own monitor thread; " + e.getMessage());
+                for (LinuxEventLoop loop : loops) {
+                    if (loop != null) loop.close();
+                }
+                eventLoopsUnavailable = true;
+                return null;
+            }
+            eventLoops = loops;
+        }
+        return eventLoops[nextEventLoop++ % eventLoops.length];
+    }
 }
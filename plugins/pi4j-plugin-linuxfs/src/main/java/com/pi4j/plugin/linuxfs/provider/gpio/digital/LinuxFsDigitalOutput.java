@@ -124,7 +124,10 @@ public class LinuxFsDigitalOutput extends DigitalOutputBase implements DigitalOu
 
         // set pin state to shutdown state if a shutdown state is configured
         if(config().shutdownState() != null && config().shutdownState() != DigitalState.UNKNOWN){
-            return super.shutdown(context);
+            super.shutdown(context);
+            // the pin stays exported; only release the cached value/direction file handles
+            gpio.close();
+            return this;
         }
 
         // otherwise ... un-export the GPIO pin from the Linux file system impl
@@ -34,6 +34,8 @@ import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
 import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>LinuxFsDigitalOutputProviderImpl class.</p>
  *
@@ -60,6 +62,16 @@ public class LinuxFsDigitalOutputProviderImpl extends DigitalOutputProviderBase
         return BoardInfoHelper.usesRP1() ? 100 : 50;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * A state change is a write to the sysfs <code>value</code> attribute.
+     */
+    @Override
+    public long minimumIntervalNanos() {
+        return TimeUnit.MICROSECONDS.toNanos(100);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,160 @@
+package com.pi4j.plugin.linuxfs.internal;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxGpioTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Tests of the sysfs attribute access of {@link LinuxGpio}, using regular files in a temporary
+ * directory in place of <code>/sys/class/gpio</code>.
+ */
+public class LinuxGpioTest {
+
+    private static final int ADDRESS = 17;
+
+    private Path systemPath;
+    private Path pinPath;
+    private LinuxGpio gpio;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        systemPath = Files.createTempDirectory("pi4j-gpio");
+        pinPath = Files.createDirectory(systemPath.resolve("gpio" + ADDRESS));
+        Files.writeString(pinPath.resolve("value"), "0\n");
+        Files.writeString(pinPath.resolve("direction"), "in\n");
+        Files.writeString(pinPath.resolve("edge"), "none\n");
+        Files.writeString(pinPath.resolve("active_low"), "0\n");
+        gpio = new LinuxGpio(systemPath.toString(), ADDRESS);
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        gpio.close();
+        try (Stream<Path> files = Files.walk(systemPath)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testPaths() throws IOException {
+        assertEquals(systemPath.toString(), gpio.systemPath());
+        assertEquals(pinPath.toString(), gpio.pinPath());
+        assertTrue(gpio.isExported());
+        assertTrue(gpio.isInterruptSupported());
+    }
+
+    @Test
+    public void testState() throws IOException {
+        assertEquals(DigitalState.LOW, gpio.getState());
+
+        gpio.setState(DigitalState.HIGH);
+        assertEquals('1', Files.readString(pinPath.resolve("value")).charAt(0));
+        assertEquals(DigitalState.HIGH, gpio.getState());
+
+        gpio.setState(DigitalState.LOW);
+        assertEquals(DigitalState.LOW, gpio.getState());
+
+        // the value written by another process is read through the cached channel
+        Files.writeString(pinPath.resolve("value"), "1\n");
+        assertEquals(DigitalState.HIGH, gpio.getState());
+
+        Files.writeString(pinPath.resolve("value"), "x\n");
+        assertEquals(DigitalState.UNKNOWN, gpio.getState());
+    }
+
+    @Test
+    public void testDirection() throws IOException {
+        assertEquals(LinuxGpio.Direction.IN, gpio.getDirection());
+
+        gpio.setDirection(LinuxGpio.Direction.OUT);
+        assertEquals("out", Files.readString(pinPath.resolve("direction")).trim());
+        assertEquals(LinuxGpio.Direction.OUT, gpio.getDirection());
+
+        Files.writeString(pinPath.resolve("direction"), "???\n");
+        assertEquals(LinuxGpio.Direction.UNKNOWN, gpio.getDirection());
+    }
+
+    @Test
+    public void testReopenAfterClose() throws IOException {
+        assertEquals(LinuxGpio.Direction.IN, gpio.getDirection());
+        assertEquals(DigitalState.LOW, gpio.getState());
+        gpio.close();
+
+        // the pin was re-exported: its attribute files were replaced
+        Files.delete(pinPath.resolve("value"));
+        Files.writeString(pinPath.resolve("value"), "1\n");
+        assertEquals(DigitalState.HIGH, gpio.getState());
+    }
+
+    @Test
+    public void testMissingAttributeFails() throws IOException {
+        Files.delete(pinPath.resolve("value"));
+        assertThrows(IOException.class, () -> gpio.getState());
+        assertThrows(IOException.class, () -> gpio.setState(DigitalState.HIGH));
+    }
+
+    @Test
+    public void testReadOnlyValue() throws IOException {
+        Path value = pinPath.resolve("value");
+        assertTrue(value.toFile().setWritable(false, false));
+        assumeFalse(Files.isWritable(value), "file permissions are not enforced for this user");
+
+        // the value of a read-only attribute can be read, but writing it fails with a checked IOException
+        assertEquals(DigitalState.LOW, gpio.getState());
+        assertThrows(AccessDeniedException.class, () -> gpio.setState(DigitalState.HIGH));
+
+        // once writable, the read-only channel is replaced on the next write
+        assertTrue(value.toFile().setWritable(true, false));
+        gpio.setState(DigitalState.HIGH);
+        assertEquals(DigitalState.HIGH, gpio.getState());
+    }
+
+    @Test
+    public void testEdgeAndActiveLow() throws IOException {
+        gpio.setInterruptEdge(LinuxGpio.Edge.BOTH);
+        assertEquals(LinuxGpio.Edge.BOTH, gpio.getInterruptEdge());
+
+        gpio.setActiveLow(true);
+        assertTrue(gpio.getActiveLow());
+        gpio.setActiveLow(false);
+        assertFalse(gpio.getActiveLow());
+    }
+}
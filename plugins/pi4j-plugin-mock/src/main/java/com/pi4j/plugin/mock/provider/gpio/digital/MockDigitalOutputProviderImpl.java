@@ -32,6 +32,8 @@ import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>MockDigitalOutputProviderImpl class.</p>
  *
@@ -54,6 +56,16 @@ public class MockDigitalOutputProviderImpl extends DigitalOutputProviderBase imp
         return 1000;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Mock outputs change state in memory.
+     */
+    @Override
+    public long minimumIntervalNanos() {
+        return TimeUnit.MICROSECONDS.toNanos(1);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -33,6 +33,7 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.extension.Plugin;
 import com.pi4j.extension.PluginService;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioNotificationMode;
 import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider;
 import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalOutputProvider;
 import com.pi4j.plugin.pigpio.provider.i2c.PiGpioI2CProvider;
@@ -104,10 +105,18 @@ public class PiGpioPlugin implements Plugin {
     public static String PIGPIO_HOST_PROPERTY = "pi4j.pigpio.host";
     /** Constant <code>PIGPIO_PORT_PROPERTY="pi4j.pigpio.port"</code> */
     public static String PIGPIO_PORT_PROPERTY = "pi4j.pigpio.port";
+    /** Constant <code>PIGPIO_CONNECTIONS_PROPERTY="pi4j.pigpio.connections"</code> */
+    public static String PIGPIO_CONNECTIONS_PROPERTY = "pi4j.pigpio.connections";
+    /** Constant <code>PIGPIO_NOTIFICATIONS_PROPERTY="pi4j.pigpio.notifications"</code> */
+    public static String PIGPIO_NOTIFICATIONS_PROPERTY = "pi4j.pigpio.notifications";
     /** Constant <code>DEFAULT_PIGPIO_HOST="127.0.0.1"</code> */
     public static String DEFAULT_PIGPIO_HOST = "127.0.0.1";
     /** Constant <code>DEFAULT_PIGPIO_PORT</code> */
     public static Integer DEFAULT_PIGPIO_PORT = 8888;
+    /** Constant <code>DEFAULT_PIGPIO_CONNECTIONS</code> */
+    public static Integer DEFAULT_PIGPIO_CONNECTIONS = 1;
+    /** Constant <code>DEFAULT_PIGPIO_NOTIFICATIONS</code> */
+    public static PiGpioNotificationMode DEFAULT_PIGPIO_NOTIFICATIONS = PiGpioNotificationMode.CALLBACK;
     /** Constant <code>DEFAULT_PIGPIO_REMOTE</code> */
     public static Boolean DEFAULT_PIGPIO_REMOTE = false;
 
@@ -119,6 +128,7 @@ public class PiGpioPlugin implements Plugin {
         Boolean remote = DEFAULT_PIGPIO_REMOTE;
         String host = DEFAULT_PIGPIO_HOST;
         int port = DEFAULT_PIGPIO_PORT;
+        int connections = DEFAULT_PIGPIO_CONNECTIONS;
 
         // get the universal 'remote' setting for Pi4J context
         if(service.context().properties().has("remote")){
@@ -152,11 +162,22 @@ public class PiGpioPlugin implements Plugin {
                 port = Integer.parseInt(service.context().properties().get("pipgio.port",Integer.toString(port)));
             }
 
+            // get the number of pooled socket connections to the PIGPIO daemon
+            if(service.context().properties().has("pigpio.connections")){
+                connections = Integer.parseInt(service.context().properties().get("pigpio.connections",Integer.toString(connections)));
+            }
+
             // create remote socket connected instance of PIGPIO
-            piGpio = PiGpio.newSocketInstance(host, port);
+            piGpio = PiGpio.newSocketInstance(host, port, connections);
         } else {
+            // get the notification mode ('callback' or 'pipe') of the native PIGPIO library
+            PiGpioNotificationMode notifications = DEFAULT_PIGPIO_NOTIFICATIONS;
+            if(service.context().properties().has("pigpio.notifications")){
+                notifications = PiGpioNotificationMode.from(service.context().properties().get("pigpio.notifications", notifications.name()));
+            }
+
             // create a local/native binding instance of PIGPIO
-            piGpio = PiGpio.newNativeInstance();
+            piGpio = PiGpio.newNativeInstance(notifications);
         }
 
         // create new instances of the PIGPIO plugin I/O providers using the newly created PIGPIO lib reference
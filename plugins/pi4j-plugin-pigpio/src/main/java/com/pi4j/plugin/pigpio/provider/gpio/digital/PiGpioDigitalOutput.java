@@ -88,4 +88,24 @@ public class PiGpioDigitalOutput extends DigitalOutputBase implements DigitalOut
         }
         return super.state(state);
     }
+
+    /**
+     * <p>pin.</p>
+     *
+     * @return the BCM pin number of this digital output.
+     */
+    protected int pin() {
+        return pin;
+    }
+
+    /**
+     * Update the state of this digital output after it has been written by the
+     * provider as part of a GPIO bank (without writing the pin again).
+     *
+     * @param state a {@link com.pi4j.io.gpio.digital.DigitalState} object.
+     * @throws com.pi4j.io.exception.IOException if any.
+     */
+    protected void updateState(DigitalState state) throws IOException {
+        super.state(state);
+    }
 }
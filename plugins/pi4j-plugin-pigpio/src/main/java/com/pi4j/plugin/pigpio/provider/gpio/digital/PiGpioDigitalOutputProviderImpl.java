@@ -29,10 +29,17 @@ package com.pi4j.plugin.pigpio.provider.gpio.digital;
 
 
 import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.io.exception.IOException;
 import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputBankProvider;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalState;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>PiGpioDigitalOutputProviderImpl class.</p>
@@ -40,7 +47,7 @@ import com.pi4j.library.pigpio.PiGpio;
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
-public class PiGpioDigitalOutputProviderImpl extends DigitalOutputProviderBase implements PiGpioDigitalOutputProvider {
+public class PiGpioDigitalOutputProviderImpl extends DigitalOutputProviderBase implements PiGpioDigitalOutputProvider, DigitalOutputBankProvider {
 
     protected final PiGpio piGpio;
 
@@ -61,6 +68,16 @@ public class PiGpioDigitalOutputProviderImpl extends DigitalOutputProviderBase i
         return BoardInfoHelper.usesRP1() ? 50 : 100;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Leaves room for a round trip to the pigpio daemon when the library is used over its socket interface.
+     */
+    @Override
+    public long minimumIntervalNanos() {
+        return TimeUnit.MICROSECONDS.toNanos(100);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -77,4 +94,41 @@ public class PiGpioDigitalOutputProviderImpl extends DigitalOutputProviderBase i
             return digitalOutput;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Outputs on GPIO 0-31 are written with a single bank set command followed by a single bank
+     * clear command; the outputs being set change before the outputs being cleared.
+     */
+    @Override
+    public void state(Map<DigitalOutput, DigitalState> states) throws IOException {
+        int set = 0;
+        int clear = 0;
+        for (Map.Entry<DigitalOutput, DigitalState> entry : states.entrySet()) {
+            DigitalOutput output = entry.getKey();
+            if (output instanceof PiGpioDigitalOutput && ((PiGpioDigitalOutput) output).pin() < 32) {
+                int bit = 1 << ((PiGpioDigitalOutput) output).pin();
+                if (entry.getValue().isHigh()) set |= bit;
+                else if (entry.getValue().isLow()) clear |= bit;
+            } else {
+                output.state(entry.getValue());
+            }
+        }
+
+        // write the GPIO bank
+        try {
+            if (set != 0) piGpio.gpioWrite_Bits_0_31_Set(set);
+            if (clear != 0) piGpio.gpioWrite_Bits_0_31_Clear(clear);
+        } catch (PiGpioException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        // update the state of the outputs written as part of the bank
+        for (Map.Entry<DigitalOutput, DigitalState> entry : states.entrySet()) {
+            if (entry.getKey() instanceof PiGpioDigitalOutput && ((PiGpioDigitalOutput) entry.getKey()).pin() < 32) {
+                ((PiGpioDigitalOutput) entry.getKey()).updateState(entry.getValue());
+            }
+        }
+    }
 }